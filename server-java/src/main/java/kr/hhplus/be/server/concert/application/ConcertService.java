@@ -2,12 +2,13 @@ package kr.hhplus.be.server.concert.application;
 
 import kr.hhplus.be.server.concert.application.response.ConcertResponse;
 import kr.hhplus.be.server.concert.application.response.ConcertScheduleResponse;
+import kr.hhplus.be.server.concert.application.response.SeatMapDeltaResponse;
 import kr.hhplus.be.server.concert.application.response.SeatResponse;
 import kr.hhplus.be.server.concert.domain.ConcertSchedule;
-import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.SeatLayout;
+import kr.hhplus.be.server.concert.domain.SeatMapChanges;
 import kr.hhplus.be.server.concert.domain.repository.ConcertRepository;
 import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
-import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
 import kr.hhplus.be.server.concert.infrastructure.redis.ConcertRankingRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import java.time.LocalDate;
 
@@ -28,8 +30,8 @@ public class ConcertService {
 
     private final ConcertRepository concertRepository;
     private final ConcertScheduleRepository scheduleRepository;
-    private final ScheduleSeatRepository seatRepository;
     private final ConcertRankingRedisRepository rankingRedisRepository;
+    private final SeatMapCache seatMapCache;
 
     /**
      * 예약 가능한 콘서트 일정 조회
@@ -50,17 +52,57 @@ public class ConcertService {
 
     /**
      * 예약 가능한 좌석 조회
+     * - 좌석 배치(장기 캐시) + 예약 가능 비트맵(짧은 TTL)을 조합해 응답 생성
      *
      * @param scheduleId 일정 ID
      * @return 예약 가능한 좌석 목록
      */
-    @Cacheable(cacheNames = "cache:seat:available", key = "#scheduleId", sync = true)
     public List<SeatResponse> getAvailableSeats(Long scheduleId) {
-        return seatRepository.findByScheduleId(scheduleId)
-            .stream()
-            .filter(ScheduleSeat::isAvailable)
-            .map(SeatResponse::from)
+        SeatMapCache.SeatMap seatMap = seatMapCache.get(scheduleId);
+        SeatLayout layout = seatMap.layout();
+        return IntStream.range(0, layout.size())
+            .filter(index -> seatMap.availability().isAvailable(layout.venueSeatId(index)))
+            .mapToObj(index -> SeatResponse.available(scheduleId, layout, index))
+            .toList();
+    }
+
+    /**
+     * 좌석 맵 버전 (조건부 조회용)
+     * - Redis 카운터 하나만 읽으므로 좌석 맵을 만들지 않고 변경 여부를 판단할 수 있음
+     *
+     * @param scheduleId 일정 ID
+     * @return 현재 버전 (알 수 없으면 -1)
+     */
+    public long getSeatMapVersion(Long scheduleId) {
+        return seatMapCache.version(scheduleId);
+    }
+
+    /**
+     * sinceVersion 이후 상태가 바뀐 좌석 조회
+     * - 변경 내역이 온전히 남아 있으면 바뀐 좌석만 응답
+     * - 변경 로그가 잘렸거나 무효화가 끼어 있으면 예약 가능 좌석 전체로 대체
+     *
+     * @param scheduleId 일정 ID
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @return 좌석 변경분 응답
+     */
+    public SeatMapDeltaResponse getSeatChanges(Long scheduleId, long sinceVersion) {
+        SeatMapChanges changes = seatMapCache.changesSince(scheduleId, sinceVersion).orElse(null);
+        if (changes == null || !changes.complete()) {
+            // 전체 응답은 버전을 먼저 읽고 좌석 맵을 조회하므로 응답 내용이 해당 버전 이상임을 보장
+            Long version = changes != null ? changes.version() : null;
+            return SeatMapDeltaResponse.full(scheduleId, version, getAvailableSeats(scheduleId));
+        }
+        if (changes.statuses().isEmpty()) {
+            return SeatMapDeltaResponse.delta(scheduleId, changes.version(), List.of());
+        }
+
+        SeatLayout layout = seatMapCache.getLayout(scheduleId);
+        List<SeatResponse> seats = changes.statuses().entrySet().stream()
+            .filter(change -> layout.indexOf(change.getKey()) >= 0)
+            .map(change -> SeatResponse.of(scheduleId, layout, layout.indexOf(change.getKey()), change.getValue()))
             .toList();
+        return SeatMapDeltaResponse.delta(scheduleId, changes.version(), seats);
     }
 
     /**
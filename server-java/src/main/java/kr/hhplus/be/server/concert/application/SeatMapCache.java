@@ -0,0 +1,199 @@
+package kr.hhplus.be.server.concert.application;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.SeatAvailability;
+import kr.hhplus.be.server.concert.domain.SeatLayout;
+import kr.hhplus.be.server.concert.domain.SeatMapChanges;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.concert.infrastructure.redis.SeatAvailabilityRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 맵 캐시 (배치 + 예약 가능 비트맵)
+ *
+ * - 배치/가격표(SeatLayout): cache:seat:layout (장기 캐시, 좌석 구성은 바뀌지 않음)
+ * - 예약 가능 비트맵(SeatAvailability): seat:{schedule:ID}:available (예약/해제 시 좌석 비트만 패치)
+ *
+ * 조회마다 오가는 데이터는 비트맵(수 KB)뿐이고, 배치는 캐시 미스 때만 조회합니다.
+ * 좌석 상태가 바뀌어도 비트맵을 지우지 않으므로 판매 중에도 캐시가 유지됩니다.
+ * 같은 서버에서 같은 일정의 캐시 미스가 겹치면 DB 조회는 한 번만 수행합니다.
+ * 좌석 맵 버전은 조건부 조회(ETag)와 변경분 조회(sinceVersion)에 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapCache {
+
+    static final String LAYOUT_CACHE_NAME = "cache:seat:layout";
+
+    private final ScheduleSeatRepository seatRepository;
+    private final SeatAvailabilityRedisRepository seatAvailabilityRedisRepository;
+    private final CacheManager cacheManager;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<SeatMap>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 일정의 좌석 배치와 예약 가능 비트맵
+     */
+    public record SeatMap(SeatLayout layout, SeatAvailability availability) {
+    }
+
+    public SeatMap get(Long scheduleId) {
+        SeatLayout layout = findLayout(scheduleId);
+        Optional<SeatAvailability> availability = findAvailability(scheduleId);
+        if (layout != null && availability.isPresent()) {
+            return new SeatMap(layout, availability.get());
+        }
+        return load(scheduleId);
+    }
+
+    /**
+     * 좌석 배치만 조회 (변경분 응답 구성용, 비트맵은 읽지 않음)
+     */
+    public SeatLayout getLayout(Long scheduleId) {
+        SeatLayout layout = findLayout(scheduleId);
+        return layout != null ? layout : load(scheduleId).layout();
+    }
+
+    /**
+     * 좌석 맵 현재 버전 (ETag 비교용, 비트맵은 읽지 않음)
+     *
+     * @return 버전 (Redis 장애로 알 수 없으면 -1)
+     */
+    public long version(Long scheduleId) {
+        return findVersion(scheduleId);
+    }
+
+    /**
+     * sinceVersion 이후 좌석 변경 내역 (Redis 장애 시 empty)
+     */
+    public Optional<SeatMapChanges> changesSince(Long scheduleId, long sinceVersion) {
+        try {
+            return Optional.of(seatAvailabilityRedisRepository.findChangesSince(scheduleId, sinceVersion));
+        } catch (DataAccessException e) {
+            log.warn("좌석 변경 내역 조회 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 좌석을 읽어 배치/비트맵을 다시 만듦 (서버 내 single-flight)
+     */
+    private SeatMap load(Long scheduleId) {
+        CompletableFuture<SeatMap> mine = new CompletableFuture<>();
+        CompletableFuture<SeatMap> inFlight = loading.putIfAbsent(scheduleId, mine);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            // DB 조회 전 버전 - 조회 도중 패치가 적용되면 비트맵을 저장하지 않음
+            long version = findVersion(scheduleId);
+            List<ScheduleSeat> seats = seatRepository.findByScheduleId(scheduleId);
+            SeatMap seatMap = new SeatMap(SeatLayout.from(seats), SeatAvailability.of(seats));
+            saveLayout(scheduleId, seatMap.layout());
+            saveAvailability(scheduleId, seatMap.availability(), version);
+            mine.complete(seatMap);
+            return seatMap;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(scheduleId, mine);
+        }
+    }
+
+    /**
+     * 좌석 상태 변경을 비트맵에 반영 (커밋 후 호출)
+     * - AVAILABLE → 비트 1, RESERVED/SOLD → 비트 0
+     * - 패치 실패 시 비트맵 삭제 (다음 조회에서 재생성)
+     */
+    public void apply(SeatStatusChangedEvent event) {
+        if (event.venueSeatIds().isEmpty()) {
+            return;
+        }
+        try {
+            seatAvailabilityRedisRepository.patch(event.scheduleId(), event.venueSeatIds(), event.status());
+        } catch (DataAccessException e) {
+            log.warn("좌석 비트맵 패치 실패, 무효화로 대체 - scheduleId: {}, {}", event.scheduleId(), e.getMessage());
+            evict(event.scheduleId());
+        }
+    }
+
+    /**
+     * 비트맵 무효화 (다음 조회에서 DB로 재생성)
+     */
+    public void evict(Long scheduleId) {
+        try {
+            seatAvailabilityRedisRepository.evict(scheduleId);
+        } catch (DataAccessException e) {
+            log.error("좌석 비트맵 무효화 실패 (TTL 만료 후 재생성) - scheduleId: {}, {}", scheduleId, e.getMessage());
+        }
+    }
+
+    private SeatLayout findLayout(Long scheduleId) {
+        Cache cache = cacheManager.getCache(LAYOUT_CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        try {
+            return cache.get(scheduleId, SeatLayout.class);
+        } catch (RuntimeException e) {
+            log.warn("좌석 배치 캐시 조회 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveLayout(Long scheduleId, SeatLayout layout) {
+        Cache cache = cacheManager.getCache(LAYOUT_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(scheduleId, layout);
+        } catch (RuntimeException e) {
+            log.warn("좌석 배치 캐시 저장 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+        }
+    }
+
+    private Optional<SeatAvailability> findAvailability(Long scheduleId) {
+        try {
+            return seatAvailabilityRedisRepository.find(scheduleId);
+        } catch (DataAccessException e) {
+            log.warn("좌석 비트맵 조회 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long findVersion(Long scheduleId) {
+        try {
+            return seatAvailabilityRedisRepository.findVersion(scheduleId);
+        } catch (DataAccessException e) {
+            // 버전을 모르면 저장하지 않도록 음수 반환
+            log.warn("좌석 맵 버전 조회 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+            return -1;
+        }
+    }
+
+    private void saveAvailability(Long scheduleId, SeatAvailability availability, long version) {
+        if (version < 0) {
+            return;
+        }
+        try {
+            seatAvailabilityRedisRepository.saveIfUnchanged(scheduleId, availability, version);
+        } catch (DataAccessException e) {
+            log.warn("좌석 비트맵 저장 실패 - scheduleId: {}, {}", scheduleId, e.getMessage());
+        }
+    }
+}
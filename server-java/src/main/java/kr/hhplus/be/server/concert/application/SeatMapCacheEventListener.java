@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.concert.application;
+
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌석 맵 캐시 갱신 이벤트 리스너
+ * 좌석 상태 변경 트랜잭션이 커밋된 뒤에만 비트맵을 패치 (롤백된 변경이 캐시에 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapCacheEventListener {
+
+    private final SeatMapCache seatMapCache;
+
+    /**
+     * 좌석 상태 변경 이벤트 처리
+     *
+     * @param event 좌석 상태 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        try {
+            seatMapCache.apply(event);
+        } catch (Exception e) {
+            // 캐시 갱신 실패가 예약/결제에 영향을 주면 안 됨 (TTL 만료 후 재생성)
+            log.error("좌석 맵 캐시 갱신 실패 - scheduleId: {}, status: {}", event.scheduleId(), event.status(), e);
+        }
+    }
+}
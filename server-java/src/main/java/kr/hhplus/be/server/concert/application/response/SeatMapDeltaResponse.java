@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.concert.application.response;
+
+import java.util.List;
+
+/**
+ * 좌석 변경분 응답 DTO (sinceVersion 조회)
+ *
+ * - full=false: sinceVersion 이후 상태가 바뀐 좌석만 포함 (AVAILABLE / RESERVED / SOLD)
+ * - full=true: 변경 내역을 알 수 없어 예약 가능 좌석 전체를 포함 (기존 좌석 목록을 교체)
+ * - version: 다음 조회 시 sinceVersion / If-None-Match 로 보낼 버전 (알 수 없으면 null)
+ */
+public record SeatMapDeltaResponse(
+    Long scheduleId,
+    Long version,
+    boolean full,
+    List<SeatResponse> seats
+) {
+
+    public static SeatMapDeltaResponse delta(Long scheduleId, long version, List<SeatResponse> seats) {
+        return new SeatMapDeltaResponse(scheduleId, version, false, seats);
+    }
+
+    public static SeatMapDeltaResponse full(Long scheduleId, Long version, List<SeatResponse> seats) {
+        return new SeatMapDeltaResponse(scheduleId, version, true, seats);
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.concert.application.response;
 
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.SeatLayout;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
 
 import java.io.Serializable;
@@ -31,4 +32,35 @@ public record SeatResponse(
             seat.getStatus()
         );
     }
+
+    /**
+     * 좌석 배치의 예약 가능 좌석을 DTO로 변환
+     *
+     * @param scheduleId 일정 ID
+     * @param layout 좌석 배치
+     * @param index 배치 내 좌석 인덱스
+     * @return 좌석 응답 DTO (AVAILABLE)
+     */
+    public static SeatResponse available(Long scheduleId, SeatLayout layout, int index) {
+        return of(scheduleId, layout, index, SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * 좌석 배치의 좌석을 지정한 상태로 DTO 변환 (변경분 응답용)
+     *
+     * @param scheduleId 일정 ID
+     * @param layout 좌석 배치
+     * @param index 배치 내 좌석 인덱스
+     * @param status 좌석 상태
+     * @return 좌석 응답 DTO
+     */
+    public static SeatResponse of(Long scheduleId, SeatLayout layout, int index, SeatStatus status) {
+        return new SeatResponse(
+            layout.seatId(index),
+            scheduleId,
+            layout.venueSeatId(index),
+            layout.price(index),
+            status
+        );
+    }
 }
@@ -11,6 +11,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -20,6 +21,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ScheduleSeat {
 
+    /**
+     * 예약 후 좌석 점유 시간 (예약 만료 시간과 동일)
+     */
+    public static final Duration RESERVATION_HOLD = Duration.ofMinutes(10);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -52,7 +58,7 @@ public class ScheduleSeat {
             throw new IllegalStateException("예약 가능 상태가 아닙니다.");
         }
         this.status = SeatStatus.RESERVED;
-        this.reservedUntil = LocalDateTime.now().plusMinutes(10);
+        this.reservedUntil = LocalDateTime.now().plus(RESERVATION_HOLD);
     }
 
     public void confirm() {
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.concert.domain;
+
+import java.util.List;
+
+/**
+ * 일정별 좌석 예약 가능 여부 비트맵
+ *
+ * bit offset = venueSeatId, 1 = 예약 가능 (AVAILABLE)
+ * Redis 비트맵(SETBIT/GETBIT)과 같은 비트 순서 (바이트 내 최상위 비트가 offset 0)
+ * - 5만 석 기준 약 6KB
+ */
+public record SeatAvailability(byte[] bitmap) {
+
+    /**
+     * 좌석 목록으로 비트맵 생성 (AVAILABLE 좌석만 1)
+     */
+    public static SeatAvailability of(List<ScheduleSeat> seats) {
+        long maxOffset = seats.stream()
+            .filter(ScheduleSeat::isAvailable)
+            .mapToLong(ScheduleSeat::getVenueSeatId)
+            .max()
+            .orElse(-1);
+
+        byte[] bitmap = new byte[(int) ((maxOffset >> 3) + 1)];
+        for (ScheduleSeat seat : seats) {
+            if (seat.isAvailable()) {
+                long offset = seat.getVenueSeatId();
+                bitmap[(int) (offset >> 3)] |= (byte) (0x80 >>> (offset & 7));
+            }
+        }
+        return new SeatAvailability(bitmap);
+    }
+
+    public boolean isAvailable(long venueSeatId) {
+        int index = (int) (venueSeatId >> 3);
+        if (venueSeatId < 0 || index >= bitmap.length) {
+            return false;
+        }
+        return (bitmap[index] & (0x80 >>> (venueSeatId & 7))) != 0;
+    }
+}
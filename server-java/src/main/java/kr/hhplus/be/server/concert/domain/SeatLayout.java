@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.concert.domain;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정별 좌석 배치/가격표 (정적 정보, 장기 캐시 대상)
+ *
+ * 좌석마다 객체를 두지 않고 venueSeatId 오름차순의 병렬 배열로 보관합니다.
+ * - 가격은 가격표(prices) + 좌석별 가격 인덱스로 중복 제거 (등급 수만큼만 BigDecimal 보관)
+ * - 좌석 상태는 포함하지 않음 → SeatAvailability(비트맵)와 조합해 응답 생성
+ */
+public record SeatLayout(
+    long[] seatIds,
+    long[] venueSeatIds,
+    int[] priceIndexes,
+    BigDecimal[] prices
+) implements Serializable {
+
+    /**
+     * 좌석 목록으로 배치 생성 (상태 무관, 전체 좌석)
+     */
+    public static SeatLayout from(List<ScheduleSeat> seats) {
+        List<ScheduleSeat> sorted = seats.stream()
+            .sorted(Comparator.comparing(ScheduleSeat::getVenueSeatId))
+            .toList();
+
+        long[] seatIds = new long[sorted.size()];
+        long[] venueSeatIds = new long[sorted.size()];
+        int[] priceIndexes = new int[sorted.size()];
+        List<BigDecimal> prices = new ArrayList<>();
+        Map<BigDecimal, Integer> priceTable = new HashMap<>();
+
+        for (int i = 0; i < sorted.size(); i++) {
+            ScheduleSeat seat = sorted.get(i);
+            seatIds[i] = seat.getId();
+            venueSeatIds[i] = seat.getVenueSeatId();
+            priceIndexes[i] = priceTable.computeIfAbsent(seat.getPrice(), price -> {
+                prices.add(price);
+                return prices.size() - 1;
+            });
+        }
+        return new SeatLayout(seatIds, venueSeatIds, priceIndexes, prices.toArray(BigDecimal[]::new));
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    public long seatId(int index) {
+        return seatIds[index];
+    }
+
+    public long venueSeatId(int index) {
+        return venueSeatIds[index];
+    }
+
+    public BigDecimal price(int index) {
+        return prices[priceIndexes[index]];
+    }
+
+    /**
+     * venueSeatId의 배치 내 인덱스 (venueSeatId 오름차순 이진 탐색, 없으면 음수)
+     */
+    public int indexOf(long venueSeatId) {
+        return Arrays.binarySearch(venueSeatIds, venueSeatId);
+    }
+}
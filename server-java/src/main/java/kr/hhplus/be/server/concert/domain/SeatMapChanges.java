@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.concert.domain;
+
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+
+import java.util.Map;
+
+/**
+ * 일정 좌석 맵의 특정 버전 이후 변경 내역
+ *
+ * - version: 현재 버전
+ * - complete: (sinceVersion, version] 사이의 변경이 모두 남아 있는지 여부
+ *   (변경 로그가 잘렸거나 무효화로 버전만 증가한 경우 false → 전체 좌석 맵을 다시 내려야 함)
+ * - statuses: venueSeatId → 마지막 상태 (complete=true 일 때만 의미 있음)
+ */
+public record SeatMapChanges(
+    long version,
+    boolean complete,
+    Map<Long, SeatStatus> statuses
+) {
+
+    public static SeatMapChanges incomplete(long version) {
+        return new SeatMapChanges(version, false, Map.of());
+    }
+}
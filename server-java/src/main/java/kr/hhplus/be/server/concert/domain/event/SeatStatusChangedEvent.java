@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.concert.domain.event;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 이벤트
+ * 예약(RESERVED)/해제(AVAILABLE)/판매(SOLD) 트랜잭션 커밋 후 좌석 맵 캐시를 좌석 단위로 갱신
+ *
+ * 리스너:
+ * - SeatMapCacheEventListener: 예약 가능 비트맵 패치
+ *
+ * @param scheduleId   일정 ID
+ * @param venueSeatIds 상태가 바뀐 좌석 (비트맵 offset)
+ * @param status       변경된 상태
+ */
+public record SeatStatusChangedEvent(
+    Long scheduleId,
+    List<Long> venueSeatIds,
+    SeatStatus status
+) {
+
+    /**
+     * 같은 일정의 좌석들로 이벤트 생성
+     */
+    public static SeatStatusChangedEvent of(Long scheduleId, List<ScheduleSeat> seats, SeatStatus status) {
+        return new SeatStatusChangedEvent(
+            scheduleId,
+            seats.stream().map(ScheduleSeat::getVenueSeatId).toList(),
+            status
+        );
+    }
+}
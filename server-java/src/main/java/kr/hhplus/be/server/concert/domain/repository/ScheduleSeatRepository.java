@@ -2,6 +2,7 @@ package kr.hhplus.be.server.concert.domain.repository;
 
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,16 @@ public interface ScheduleSeatRepository {
      */
     List<ScheduleSeat> findAvailableByScheduleIdAndIdWithLock(Long scheduleId, List<Long> ids);
 
+    /**
+     * 조건부 UPDATE: 일정의 좌석들을 AVAILABLE 상태일 때만 RESERVED로 변경 (락 조회 없이 한 문장으로 선점)
+     * - 영향받은 행 수가 요청 좌석 수와 다르면 일부 좌석은 이미 예약된 것
+     * @param scheduleId 스케줄 ID
+     * @param ids 좌석 ID 목록
+     * @param reservedUntil 좌석 점유 만료 시각
+     * @return 업데이트된 좌석 수
+     */
+    int reserveIfAvailable(Long scheduleId, List<Long> ids, LocalDateTime reservedUntil);
+
     /**
      * 만료된 예약 좌석 조회
      * - RESERVED 상태이면서 reservedUntil이 현재 시각보다 이전인 좌석
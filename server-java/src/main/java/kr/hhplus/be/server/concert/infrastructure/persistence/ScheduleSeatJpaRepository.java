@@ -48,6 +48,24 @@ public interface ScheduleSeatJpaRepository extends JpaRepository<ScheduleSeat, L
         @Param("ids") List<Long> ids
     );
 
+    /**
+     * 조건부 UPDATE: AVAILABLE 좌석만 RESERVED로 변경 (compare-and-set)
+     * - SELECT ... FOR UPDATE 없이 한 문장으로 선점, 행 락은 이 UPDATE부터 커밋까지만 유지
+     * - 벌크 UPDATE는 @Version을 올리지 않으므로 직접 증가 (엔티티로 수정하는 경로와 충돌 감지)
+     * - 영속성 컨텍스트를 비워 이후 조회에서 변경된 상태를 읽도록 함
+     * @param scheduleId 스케줄 ID
+     * @param ids 좌석 ID 목록
+     * @param reservedUntil 좌석 점유 만료 시각
+     * @return 업데이트된 좌석 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ScheduleSeat s SET s.status = 'RESERVED', s.reservedUntil = :reservedUntil, " +
+           "s.version = s.version + 1 " +
+           "WHERE s.scheduleId = :scheduleId AND s.id IN :ids AND s.status = 'AVAILABLE'")
+    int reserveIfAvailable(@Param("scheduleId") Long scheduleId,
+                           @Param("ids") List<Long> ids,
+                           @Param("reservedUntil") LocalDateTime reservedUntil);
+
     /**
      * 만료된 예약 좌석 조회
      * - RESERVED 상태이면서 reservedUntil이 현재 시각보다 이전
@@ -45,6 +45,11 @@ public class ScheduleSeatRepositoryImpl implements ScheduleSeatRepository {
         return jpaRepository.findAvailableByScheduleIdAndIdWithLock(scheduleId, ids);
     }
 
+    @Override
+    public int reserveIfAvailable(Long scheduleId, List<Long> ids, LocalDateTime reservedUntil) {
+        return jpaRepository.reserveIfAvailable(scheduleId, ids, reservedUntil);
+    }
+
     @Override
     public List<ScheduleSeat> findExpiredReservedSeats() {
         return jpaRepository.findExpiredReservedSeats(LocalDateTime.now());
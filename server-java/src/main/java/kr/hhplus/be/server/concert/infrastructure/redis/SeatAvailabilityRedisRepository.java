@@ -0,0 +1,230 @@
+package kr.hhplus.be.server.concert.infrastructure.redis;
+
+import kr.hhplus.be.server.concert.domain.SeatAvailability;
+import kr.hhplus.be.server.concert.domain.SeatMapChanges;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 좌석 예약 가능 비트맵 Redis Repository
+ *
+ * 데이터 구조 (일정별 해시 태그로 같은 슬롯 배치):
+ * - seat:{schedule:1}:available (String 비트맵): offset = venueSeatId, 1 = 예약 가능
+ * - seat:{schedule:1}:version (String 카운터): 좌석 상태가 바뀔 때마다 증가 (TTL 없음)
+ * - seat:{schedule:1}:changes (ZSet 변경 로그): score = 버전, member = "버전:상태:venueSeatId,..." (최근 256건)
+ *
+ * 좌석 상태 변경은 비트맵 전체를 지우지 않고 해당 비트만 패치합니다.
+ * 버전은 처음 증가할 때 현재 시각(ms)에서 시작하므로 키가 유실된 뒤에도 이전에 내려준 버전과 겹치지 않습니다.
+ * 비트맵 재생성(DB 조회)은 조회 시작 시점의 버전이 그대로일 때만 저장하여
+ * 재생성 도중 적용된 패치를 오래된 데이터로 덮어쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatAvailabilityRedisRepository {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration CHANGES_TTL = Duration.ofHours(1);
+    private static final int CHANGES_LIMIT = 256;
+
+    /**
+     * 버전 증가 + (비트맵이 있으면) 비트 패치 + 변경 로그 기록
+     * KEYS[1]: 비트맵, KEYS[2]: 버전, KEYS[3]: 변경 로그
+     * ARGV[1]: 비트 값(0/1), ARGV[2]: 상태, ARGV[3]: 버전 시작값, ARGV[4]: 로그 보관 건수, ARGV[5]: 로그 TTL(ms), ARGV[6..]: offset
+     */
+    private static final String PATCH_SCRIPT = """
+        if redis.call('EXISTS', KEYS[2]) == 0 then
+            redis.call('SET', KEYS[2], ARGV[3])
+        end
+        local version = redis.call('INCR', KEYS[2])
+        local offsets = {}
+        local bitmapExists = redis.call('EXISTS', KEYS[1]) == 1
+        for i = 6, #ARGV do
+            if bitmapExists then
+                redis.call('SETBIT', KEYS[1], ARGV[i], ARGV[1])
+            end
+            offsets[#offsets + 1] = ARGV[i]
+        end
+        redis.call('ZADD', KEYS[3], version, version .. ':' .. ARGV[2] .. ':' .. table.concat(offsets, ','))
+        redis.call('ZREMRANGEBYRANK', KEYS[3], 0, -(tonumber(ARGV[4]) + 1))
+        redis.call('PEXPIRE', KEYS[3], ARGV[5])
+        return version
+        """;
+
+    /**
+     * 버전이 그대로일 때만 비트맵 저장
+     * KEYS[1]: 비트맵, KEYS[2]: 버전, ARGV[1]: 조회 시작 시 버전, ARGV[2]: 비트맵, ARGV[3]: TTL(ms)
+     */
+    private static final String SAVE_SCRIPT = """
+        local current = redis.call('GET', KEYS[2]) or '0'
+        if current ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """;
+
+    /**
+     * 버전 증가 + 비트맵 삭제 (패치할 수 없을 때의 대체 경로)
+     * - 변경 로그는 남기지 않으므로 이 버전을 건너는 변경 조회는 전체 좌석 맵으로 대체됨
+     * KEYS[1]: 비트맵, KEYS[2]: 버전, ARGV[1]: 버전 시작값
+     */
+    private static final String EVICT_SCRIPT = """
+        if redis.call('EXISTS', KEYS[2]) == 0 then
+            redis.call('SET', KEYS[2], ARGV[1])
+        end
+        local version = redis.call('INCR', KEYS[2])
+        redis.call('DEL', KEYS[1])
+        return version
+        """;
+
+    /**
+     * sinceVersion 이후 변경 로그 조회
+     * - 로그 건수가 버전 차이와 같을 때만 완전한 변경 내역 ({version, 1, member...})
+     * - 그 외 ({version, 0}): 로그가 잘렸거나 무효화로 버전만 증가했거나 클라이언트 버전이 더 큼
+     * KEYS[1]: 버전, KEYS[2]: 변경 로그, ARGV[1]: sinceVersion
+     */
+    private static final String CHANGES_SCRIPT = """
+        local version = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local since = tonumber(ARGV[1])
+        if since > version then
+            return {version, 0}
+        end
+        local entries = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. since, version)
+        if #entries ~= version - since then
+            return {version, 0}
+        end
+        local result = {version, 1}
+        for i = 1, #entries do
+            result[#result + 1] = entries[i]
+        end
+        return result
+        """;
+
+    private static final DefaultRedisScript<Long> PATCH = new DefaultRedisScript<>(PATCH_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> SAVE = new DefaultRedisScript<>(SAVE_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> EVICT = new DefaultRedisScript<>(EVICT_SCRIPT, Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CHANGES = new DefaultRedisScript<>(CHANGES_SCRIPT, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<SeatAvailability> find(Long scheduleId) {
+        byte[] key = availableKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.stringCommands().get(key));
+        return Optional.ofNullable(bitmap).map(SeatAvailability::new);
+    }
+
+    /**
+     * 현재 버전 (한 번도 변경되지 않았으면 0)
+     */
+    public long findVersion(Long scheduleId) {
+        String version = redisTemplate.opsForValue().get(versionKey(scheduleId));
+        return version != null ? Long.parseLong(version) : 0;
+    }
+
+    /**
+     * 비트맵 저장 (expectedVersion 이후 패치가 있었으면 저장하지 않음)
+     *
+     * @return 저장 여부
+     */
+    public boolean saveIfUnchanged(Long scheduleId, SeatAvailability availability, long expectedVersion) {
+        Long saved = redisTemplate.execute(SAVE, RedisSerializer.byteArray(),
+            new GenericToStringSerializer<>(Long.class), keys(scheduleId),
+            bytes(String.valueOf(expectedVersion)), availability.bitmap(), bytes(String.valueOf(TTL.toMillis())));
+        return saved != null && saved == 1;
+    }
+
+    /**
+     * 좌석 비트 패치 + 변경 로그 기록
+     *
+     * @param status AVAILABLE이면 예약 가능(1), 그 외 예약 불가(0)
+     * @return 패치 후 버전
+     */
+    public long patch(Long scheduleId, List<Long> venueSeatIds, SeatStatus status) {
+        List<String> args = new ArrayList<>(venueSeatIds.size() + 5);
+        args.add(status == SeatStatus.AVAILABLE ? "1" : "0");
+        args.add(status.name());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(CHANGES_LIMIT));
+        args.add(String.valueOf(CHANGES_TTL.toMillis()));
+        venueSeatIds.forEach(venueSeatId -> args.add(String.valueOf(venueSeatId)));
+        Long version = redisTemplate.execute(PATCH,
+            List.of(availableKey(scheduleId), versionKey(scheduleId), changesKey(scheduleId)), args.toArray());
+        return version != null ? version : 0;
+    }
+
+    /**
+     * 비트맵 삭제 (다음 조회 시 DB에서 재생성)
+     *
+     * @return 삭제 후 버전
+     */
+    public long evict(Long scheduleId) {
+        Long version = redisTemplate.execute(EVICT, keys(scheduleId), String.valueOf(System.currentTimeMillis()));
+        return version != null ? version : 0;
+    }
+
+    /**
+     * sinceVersion 이후 좌석별 마지막 상태
+     * - 같은 좌석이 여러 번 바뀌었으면 가장 최근 상태만 남김
+     */
+    public SeatMapChanges findChangesSince(Long scheduleId, long sinceVersion) {
+        List<?> result = redisTemplate.execute(CHANGES,
+            List.of(versionKey(scheduleId), changesKey(scheduleId)), String.valueOf(sinceVersion));
+        if (result == null || result.size() < 2) {
+            return SeatMapChanges.incomplete(0);
+        }
+
+        long version = ((Number) result.get(0)).longValue();
+        if (((Number) result.get(1)).longValue() != 1) {
+            return SeatMapChanges.incomplete(version);
+        }
+
+        Map<Long, SeatStatus> statuses = new LinkedHashMap<>();
+        for (Object entry : result.subList(2, result.size())) {
+            // "버전:상태:offset,offset,..."
+            String[] parts = entry.toString().split(":", 3);
+            SeatStatus status = SeatStatus.valueOf(parts[1]);
+            for (String offset : parts[2].split(",")) {
+                if (!offset.isEmpty()) {
+                    statuses.put(Long.parseLong(offset), status);
+                }
+            }
+        }
+        return new SeatMapChanges(version, true, statuses);
+    }
+
+    private List<String> keys(Long scheduleId) {
+        return List.of(availableKey(scheduleId), versionKey(scheduleId));
+    }
+
+    private String availableKey(Long scheduleId) {
+        return "seat:{schedule:" + scheduleId + "}:available";
+    }
+
+    private String versionKey(Long scheduleId) {
+        return "seat:{schedule:" + scheduleId + "}:version";
+    }
+
+    private String changesKey(Long scheduleId) {
+        return "seat:{schedule:" + scheduleId + "}:changes";
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,11 +3,13 @@ package kr.hhplus.be.server.concert.interfaces;
 import kr.hhplus.be.server.concert.application.ConcertService;
 import kr.hhplus.be.server.concert.application.response.ConcertResponse;
 import kr.hhplus.be.server.concert.application.response.ConcertScheduleResponse;
+import kr.hhplus.be.server.concert.application.response.SeatMapDeltaResponse;
 import kr.hhplus.be.server.concert.application.response.SeatResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -42,10 +44,29 @@ public class ConcertController {
         return ResponseEntity.ok(concertService.getAvailableSchedules(concertId, from, to));
     }
 
-    // 시나리오 4: 좌석 조회 (캐시 TTL 10초) - 핵심 테스트
+    // 시나리오 4: 좌석 조회 (비트맵 캐시, 좌석 단위 패치) - 핵심 테스트
+    // If-None-Match 가 현재 버전과 같으면 좌석 맵을 읽지 않고 304 응답
     @GetMapping("/schedules/{scheduleId}/seats")
-    public ResponseEntity<List<SeatResponse>> getSeats(@PathVariable Long scheduleId) {
-        return ResponseEntity.ok(concertService.getAvailableSeats(scheduleId));
+    public ResponseEntity<List<SeatResponse>> getSeats(@PathVariable Long scheduleId, WebRequest request) {
+        String eTag = seatMapETag(concertService.getSeatMapVersion(scheduleId));
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        return withETag(eTag).body(concertService.getAvailableSeats(scheduleId));
+    }
+
+    // 시나리오 4-1: 좌석 변경분 조회 (sinceVersion 이후 바뀐 좌석만)
+    @GetMapping(value = "/schedules/{scheduleId}/seats", params = "sinceVersion")
+    public ResponseEntity<SeatMapDeltaResponse> getSeatChanges(
+            @PathVariable Long scheduleId,
+            @RequestParam long sinceVersion,
+            WebRequest request) {
+        String eTag = seatMapETag(concertService.getSeatMapVersion(scheduleId));
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        SeatMapDeltaResponse response = concertService.getSeatChanges(scheduleId, sinceVersion);
+        return withETag(seatMapETag(response.version() != null ? response.version() : -1)).body(response);
     }
 
     // 시나리오 5: 콘서트 랭킹 조회
@@ -55,4 +76,13 @@ public class ConcertController {
             @RequestParam(defaultValue = "10") int limit) {
         return ResponseEntity.ok(concertService.getTopRankedConcerts(period, limit));
     }
+
+    private String seatMapETag(long version) {
+        return version >= 0 ? "\"" + version + "\"" : null;
+    }
+
+    private ResponseEntity.BodyBuilder withETag(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
 }
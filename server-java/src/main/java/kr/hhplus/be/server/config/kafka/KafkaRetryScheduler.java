@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.config.kafka;
 
+import kr.hhplus.be.server.config.scheduler.PartitionLeaseManager;
 import kr.hhplus.be.server.payment.infrastructure.kafka.PaymentKafkaProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Component;
 /**
  * Kafka 재시도 스케줄러
  * 재시도 큐에 있는 메시지를 주기적으로 재발행
+ * 결제 ID 기준 파티션을 서버마다 나누어 재발행 (같은 메시지를 여러 서버가 동시에 재발행하지 않도록)
  */
 @Slf4j
 @Component
@@ -17,24 +19,36 @@ public class KafkaRetryScheduler {
 
     private final KafkaRetryService kafkaRetryService;
     private final PaymentKafkaProducer paymentKafkaProducer;
+    private final PartitionLeaseManager partitionLeaseManager;
 
     /**
      * 10초마다 재시도 큐 확인 및 재발행
+     * - 현재 서버가 임대한 파티션의 큐만 처리
      */
     @Scheduled(fixedDelay = 10000)
     public void processRetryQueue() {
-        Long queueSize = kafkaRetryService.getQueueSize();
-        if (queueSize == null || queueSize == 0) {
+        for (int partition : partitionLeaseManager.ownedPartitions()) {
+            try {
+                processPartition(partition);
+            } catch (Exception e) {
+                log.warn("[KafkaRetryScheduler] 재시도 큐 처리 실패 - partition: {}, {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    private void processPartition(int partition) {
+        long queueSize = kafkaRetryService.getQueueSize(partition);
+        if (queueSize == 0) {
             return;
         }
 
-        log.info("[KafkaRetryScheduler] 재시도 큐 처리 시작 - queueSize: {}", queueSize);
+        log.info("[KafkaRetryScheduler] 재시도 큐 처리 시작 - partition: {}, queueSize: {}", partition, queueSize);
 
         int processedCount = 0;
-        int maxProcessPerRun = 100;  // 한 번에 최대 100개 처리
+        int maxProcessPerRun = 100;  // 파티션당 한 번에 최대 100개 처리
 
         while (processedCount < maxProcessPerRun) {
-            KafkaRetryMessage retryMessage = kafkaRetryService.dequeue();
+            KafkaRetryMessage retryMessage = kafkaRetryService.dequeue(partition);
             if (retryMessage == null) {
                 break;
             }
@@ -43,7 +57,7 @@ public class KafkaRetryScheduler {
             processedCount++;
         }
 
-        log.info("[KafkaRetryScheduler] 재시도 큐 처리 완료 - processedCount: {}", processedCount);
+        log.info("[KafkaRetryScheduler] 재시도 큐 처리 완료 - partition: {}, processedCount: {}", partition, processedCount);
     }
 
     private void processRetryMessage(KafkaRetryMessage retryMessage) {
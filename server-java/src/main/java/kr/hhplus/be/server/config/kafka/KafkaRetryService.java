@@ -2,6 +2,7 @@ package kr.hhplus.be.server.config.kafka;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.config.scheduler.SchedulerPartitionProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -10,6 +11,11 @@ import org.springframework.stereotype.Service;
 /**
  * Kafka 재시도 큐 관리 서비스
  * Redis List를 사용하여 발행 실패 메시지를 관리
+ *
+ * 결제 ID 기준으로 파티션별 List에 나누어 저장합니다.
+ * - 키: kafka:retry:payment-completed:{partition}
+ * - 파티션을 임대한 서버만 해당 List를 재발행 (PartitionLeaseManager)
+ * - 이전 버전의 단일 List(kafka:retry:payment-completed)는 0번 파티션 담당 서버가 함께 비움
  */
 @Slf4j
 @Service
@@ -21,6 +27,7 @@ public class KafkaRetryService {
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final SchedulerPartitionProperties partitionProperties;
 
     /**
      * 재시도 큐에 메시지 등록
@@ -28,7 +35,7 @@ public class KafkaRetryService {
     public void enqueue(KafkaRetryMessage retryMessage) {
         try {
             String json = objectMapper.writeValueAsString(retryMessage);
-            redisTemplate.opsForList().rightPush(RETRY_QUEUE_KEY, json);
+            redisTemplate.opsForList().rightPush(queueKey(partitionOf(retryMessage)), json);
             log.info("[KafkaRetryService] 재시도 큐 등록 - paymentId: {}, retryCount: {}",
                 retryMessage.message().paymentId(), retryMessage.retryCount());
         } catch (JsonProcessingException e) {
@@ -37,10 +44,17 @@ public class KafkaRetryService {
     }
 
     /**
-     * 재시도 큐에서 메시지 가져오기 (LPOP)
+     * 파티션 재시도 큐에서 메시지 가져오기 (LPOP)
+     * - 0번 파티션은 이전 버전 단일 큐에 남은 메시지를 먼저 가져옴
      */
-    public KafkaRetryMessage dequeue() {
-        String json = redisTemplate.opsForList().leftPop(RETRY_QUEUE_KEY);
+    public KafkaRetryMessage dequeue(int partition) {
+        String json = null;
+        if (partition == 0) {
+            json = redisTemplate.opsForList().leftPop(RETRY_QUEUE_KEY);
+        }
+        if (json == null) {
+            json = redisTemplate.opsForList().leftPop(queueKey(partition));
+        }
         if (json == null) {
             return null;
         }
@@ -69,9 +83,27 @@ public class KafkaRetryService {
     }
 
     /**
-     * 재시도 큐 크기 조회
+     * 파티션 재시도 큐 크기 조회 (0번 파티션은 이전 버전 단일 큐 포함)
      */
-    public Long getQueueSize() {
-        return redisTemplate.opsForList().size(RETRY_QUEUE_KEY);
+    public long getQueueSize(int partition) {
+        long size = sizeOf(queueKey(partition));
+        if (partition == 0) {
+            size += sizeOf(RETRY_QUEUE_KEY);
+        }
+        return size;
+    }
+
+    private int partitionOf(KafkaRetryMessage retryMessage) {
+        Long paymentId = retryMessage.message().paymentId();
+        return paymentId != null ? partitionProperties.partitionOf(paymentId) : 0;
+    }
+
+    private String queueKey(int partition) {
+        return RETRY_QUEUE_KEY + ":" + partition;
+    }
+
+    private long sizeOf(String key) {
+        Long size = redisTemplate.opsForList().size(key);
+        return size != null ? size : 0;
     }
 }
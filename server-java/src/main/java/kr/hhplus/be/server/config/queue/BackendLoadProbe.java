@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.config.queue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 대기열 수용 인원 조정에 사용할 백엔드 부하 측정 지점
+ *
+ * 활성 유저가 호출하는 예약/결제 메서드에 선언하면 응답 시간과 서버 오류 여부를 기록합니다.
+ * (queue.capacity.adaptive=true 일 때 QueueCapacityController의 입력으로 사용)
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ * @BackendLoadProbe
+ * public Reservation createReservation(Long userId, Long scheduleId, List<Long> seatIds) {
+ *     // 비즈니스 로직
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BackendLoadProbe {
+}
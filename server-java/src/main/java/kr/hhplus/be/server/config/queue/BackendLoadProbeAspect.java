@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.config.queue;
+
+import kr.hhplus.be.server.config.redis.LockAcquisitionException;
+import kr.hhplus.be.server.token.application.BackendLoadSampler;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * 백엔드 부하 측정 AOP
+ *
+ * Order=0으로 분산락/트랜잭션보다 바깥에서 실행하여 락 대기와 커밋 시간까지 포함해 측정합니다.
+ * DB/트랜잭션/락 획득 실패만 서버 오류로 보고, 좌석 선점 실패 같은 비즈니스 예외는 제외합니다.
+ */
+@Aspect
+@Order(0)
+@Component
+@RequiredArgsConstructor
+public class BackendLoadProbeAspect {
+
+    private final BackendLoadSampler backendLoadSampler;
+
+    @Around("@annotation(backendLoadProbe)")
+    public Object measure(ProceedingJoinPoint joinPoint, BackendLoadProbe backendLoadProbe) throws Throwable {
+        long startedAt = System.nanoTime();
+        boolean failed = false;
+        try {
+            return joinPoint.proceed();
+        } catch (DataAccessException | TransactionException | LockAcquisitionException e) {
+            failed = true;
+            throw e;
+        } finally {
+            backendLoadSampler.record(System.nanoTime() - startedAt, failed);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.config.queue;
+
+import kr.hhplus.be.server.token.domain.QueueScope;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 대기열 입장(활성화) 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   admission:
+ *     capacity: 100           # 동시 활성 유저 최대 수
+ *     rate-per-second: 20     # 초당 입장 허용 인원
+ *     burst: 20               # 한 번에 입장 가능한 최대 인원 (토큰 버킷 크기)
+ *     tick-interval-ms: 200   # 활성화 스케줄러 실행 간격
+ *     token-expiry-minutes: 10
+ *     scopes:                 # 콘서트/일정별 대기열 설정 (미지정 항목은 위 값을 사용)
+ *       - scope: concert:1
+ *         capacity: 300
+ *         rate-per-second: 50
+ *       - scope: schedule:10
+ *         capacity: 50
+ *         token-expiry-minutes: 5
+ * </pre>
+ *
+ * 값을 지정하지 않으면 기본값을 사용합니다.
+ */
+@ConfigurationProperties(prefix = "queue.admission")
+public record QueueAdmissionProperties(
+    Integer capacity,
+    Double ratePerSecond,
+    Integer burst,
+    Long tickIntervalMs,
+    Integer tokenExpiryMinutes,
+    List<ScopeLimits> scopes
+) {
+
+    private static final int DEFAULT_CAPACITY = 100;
+    private static final double DEFAULT_RATE_PER_SECOND = 20.0;
+    private static final long DEFAULT_TICK_INTERVAL_MS = 200L;
+    private static final int DEFAULT_TOKEN_EXPIRY_MINUTES = 10;
+
+    public QueueAdmissionProperties {
+        capacity = capacity != null && capacity > 0 ? capacity : DEFAULT_CAPACITY;
+        ratePerSecond = ratePerSecond != null && ratePerSecond > 0 ? ratePerSecond : DEFAULT_RATE_PER_SECOND;
+        // 버킷 크기 기본값: 1초 분량의 입장 인원
+        burst = burst != null && burst > 0 ? burst : (int) Math.max(1, Math.ceil(ratePerSecond));
+        tickIntervalMs = tickIntervalMs != null && tickIntervalMs > 0 ? tickIntervalMs : DEFAULT_TICK_INTERVAL_MS;
+        tokenExpiryMinutes = tokenExpiryMinutes != null && tokenExpiryMinutes > 0
+            ? tokenExpiryMinutes : DEFAULT_TOKEN_EXPIRY_MINUTES;
+        scopes = scopes != null ? List.copyOf(scopes) : List.of();
+    }
+
+    /**
+     * 범위별 설정
+     *
+     * @param scope 범위 키 (concert:1, schedule:10)
+     */
+    public record ScopeLimits(
+        String scope,
+        Integer capacity,
+        Double ratePerSecond,
+        Integer burst,
+        Integer tokenExpiryMinutes
+    ) {
+    }
+
+    /**
+     * 기본값으로 생성 (테스트용)
+     */
+    public static QueueAdmissionProperties defaults() {
+        return new QueueAdmissionProperties(null, null, null, null, null, null);
+    }
+
+    /**
+     * 토큰 유효 시간 (ms)
+     */
+    public long tokenExpiryMillis() {
+        return tokenExpiryMinutes * 60 * 1000L;
+    }
+
+    /**
+     * 범위별 동시 활성 유저 최대 수
+     */
+    public int capacityOf(QueueScope scope) {
+        ScopeLimits limits = limitsOf(scope);
+        return limits != null && limits.capacity() != null && limits.capacity() > 0
+            ? limits.capacity() : capacity;
+    }
+
+    /**
+     * 범위별 초당 입장 허용 인원
+     */
+    public double ratePerSecondOf(QueueScope scope) {
+        ScopeLimits limits = limitsOf(scope);
+        return limits != null && limits.ratePerSecond() != null && limits.ratePerSecond() > 0
+            ? limits.ratePerSecond() : ratePerSecond;
+    }
+
+    /**
+     * 범위별 토큰 버킷 크기
+     * - 범위에 입장 속도만 지정한 경우 해당 속도의 1초 분량
+     */
+    public int burstOf(QueueScope scope) {
+        ScopeLimits limits = limitsOf(scope);
+        if (limits == null) {
+            return burst;
+        }
+        if (limits.burst() != null && limits.burst() > 0) {
+            return limits.burst();
+        }
+        return limits.ratePerSecond() != null && limits.ratePerSecond() > 0
+            ? (int) Math.max(1, Math.ceil(limits.ratePerSecond())) : burst;
+    }
+
+    /**
+     * 범위별 토큰 유효 시간 (ms)
+     */
+    public long tokenExpiryMillisOf(QueueScope scope) {
+        ScopeLimits limits = limitsOf(scope);
+        int minutes = limits != null && limits.tokenExpiryMinutes() != null && limits.tokenExpiryMinutes() > 0
+            ? limits.tokenExpiryMinutes() : tokenExpiryMinutes;
+        return minutes * 60 * 1000L;
+    }
+
+    private ScopeLimits limitsOf(QueueScope scope) {
+        if (scope.isGlobal()) {
+            return null;
+        }
+        String key = scope.key();
+        return scopes.stream()
+            .filter(limits -> key.equals(limits.scope()))
+            .findFirst()
+            .orElse(null);
+    }
+}
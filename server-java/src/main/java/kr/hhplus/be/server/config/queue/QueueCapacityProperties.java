@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적응형 활성 유저 수용 인원 설정 (AIMD)
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   capacity:
+ *     adaptive: true
+ *     floor: 20                    # 최소 수용 인원
+ *     ceiling: 1000                # 최대 수용 인원
+ *     latency-target-ms: 500       # 예약/결제 p99 목표 (초과 시 축소)
+ *     error-rate-threshold: 0.05   # 예약/결제 서버 오류율 한계 (초과 시 축소)
+ *     pool-wait-target-ms: 50      # 커넥션 풀 평균 대기 시간 한계 (초과 시 축소)
+ *     increase-step: 10            # 여유가 있을 때 주기마다 늘리는 인원 (가산)
+ *     decrease-factor: 0.8         # 과부하 시 곱하는 비율 (승산)
+ *     min-samples: 20              # 늘리기 위해 필요한 최소 요청 수 (트래픽이 없으면 유지)
+ *     adjust-interval-ms: 5000     # 측정/조정 주기
+ * </pre>
+ *
+ * 비활성화 시 queue.admission.capacity(범위별 설정 포함)를 그대로 사용합니다.
+ */
+@ConfigurationProperties(prefix = "queue.capacity")
+public record QueueCapacityProperties(
+    Boolean adaptive,
+    Integer floor,
+    Integer ceiling,
+    Long latencyTargetMs,
+    Double errorRateThreshold,
+    Long poolWaitTargetMs,
+    Integer increaseStep,
+    Double decreaseFactor,
+    Integer minSamples,
+    Long adjustIntervalMs
+) {
+
+    private static final int DEFAULT_FLOOR = 20;
+    private static final int DEFAULT_CEILING = 1_000;
+    private static final long DEFAULT_LATENCY_TARGET_MS = 500L;
+    private static final double DEFAULT_ERROR_RATE_THRESHOLD = 0.05;
+    private static final long DEFAULT_POOL_WAIT_TARGET_MS = 50L;
+    private static final int DEFAULT_INCREASE_STEP = 10;
+    private static final double DEFAULT_DECREASE_FACTOR = 0.8;
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+    private static final long DEFAULT_ADJUST_INTERVAL_MS = 5_000L;
+
+    public QueueCapacityProperties {
+        adaptive = adaptive != null && adaptive;
+        floor = floor != null && floor > 0 ? floor : DEFAULT_FLOOR;
+        ceiling = ceiling != null && ceiling >= floor ? ceiling : Math.max(floor, DEFAULT_CEILING);
+        latencyTargetMs = latencyTargetMs != null && latencyTargetMs > 0 ? latencyTargetMs : DEFAULT_LATENCY_TARGET_MS;
+        errorRateThreshold = errorRateThreshold != null && errorRateThreshold > 0
+            ? errorRateThreshold : DEFAULT_ERROR_RATE_THRESHOLD;
+        poolWaitTargetMs = poolWaitTargetMs != null && poolWaitTargetMs > 0
+            ? poolWaitTargetMs : DEFAULT_POOL_WAIT_TARGET_MS;
+        increaseStep = increaseStep != null && increaseStep > 0 ? increaseStep : DEFAULT_INCREASE_STEP;
+        decreaseFactor = decreaseFactor != null && decreaseFactor > 0 && decreaseFactor < 1
+            ? decreaseFactor : DEFAULT_DECREASE_FACTOR;
+        minSamples = minSamples != null && minSamples > 0 ? minSamples : DEFAULT_MIN_SAMPLES;
+        adjustIntervalMs = adjustIntervalMs != null && adjustIntervalMs > 0
+            ? adjustIntervalMs : DEFAULT_ADJUST_INTERVAL_MS;
+    }
+
+    /**
+     * 적응형 조정 비활성화 (설정된 수용 인원 고정)
+     */
+    public static QueueCapacityProperties disabled() {
+        return new QueueCapacityProperties(false, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 최소/최대 범위로 제한
+     */
+    public int clamp(long limit) {
+        return (int) Math.max(floor, Math.min(ceiling, limit));
+    }
+
+    /**
+     * 서버별 측정값을 유효하게 보는 시간 (조정 주기의 3배, 멈춘 서버의 측정값 제외)
+     */
+    public long signalMaxAgeMs() {
+        return adjustIntervalMs * 3;
+    }
+}
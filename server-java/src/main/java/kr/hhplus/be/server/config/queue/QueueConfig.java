@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.config.queue;
+
+import kr.hhplus.be.server.token.infrastructure.redis.ActiveUserNearCache;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 대기열 설정
+ * - queue.* 프로퍼티 바인딩 활성화
+ * - 활성 큐 변경 알림 구독 (로컬 캐시 무효화)
+ */
+@Configuration
+@EnableConfigurationProperties({
+    QueueAdmissionProperties.class,
+    QueueShardingProperties.class,
+    QueueTokenProperties.class,
+    QueueNearCacheProperties.class,
+    QueuePositionProperties.class,
+    QueueLivenessProperties.class,
+    QueueCapacityProperties.class
+})
+public class QueueConfig {
+
+    /**
+     * queue:active:changed 채널 구독 → ActiveUserNearCache 무효화
+     */
+    @Bean
+    public RedisMessageListenerContainer queueMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       ActiveUserNearCache activeUserNearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(activeUserNearCache,
+                new ChannelTopic(QueueRedisRepository.ACTIVE_CHANGED_CHANNEL));
+        return container;
+    }
+}
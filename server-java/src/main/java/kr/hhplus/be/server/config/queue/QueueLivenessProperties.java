@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대기자/활성 유저 생존 확인 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   liveness:
+ *     enabled: true
+ *     heartbeat-timeout-ms: 180000  # 이 시간 동안 상태 조회/SSE가 없던 대기자는 활성화하지 않고 제거
+ *     activation-grace-ms: 60000    # 활성화 후 이 시간 안에 보호 API 호출이 없으면 슬롯 회수 (0이면 사용 안 함)
+ *     flush-interval-ms: 1000       # 로컬에 모은 하트비트를 Redis에 기록하는 주기
+ * </pre>
+ *
+ * heartbeat-timeout-ms는 클라이언트의 최대 조회 간격(nextPollAfterMs 최대 60초)보다 충분히 길어야 합니다.
+ */
+@ConfigurationProperties(prefix = "queue.liveness")
+public record QueueLivenessProperties(
+    Boolean enabled,
+    Long heartbeatTimeoutMs,
+    Long activationGraceMs,
+    Long flushIntervalMs
+) {
+
+    private static final long DEFAULT_HEARTBEAT_TIMEOUT_MS = 180_000L;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 1_000L;
+
+    public QueueLivenessProperties {
+        enabled = enabled != null && enabled;
+        heartbeatTimeoutMs = heartbeatTimeoutMs != null && heartbeatTimeoutMs > 0
+            ? heartbeatTimeoutMs : DEFAULT_HEARTBEAT_TIMEOUT_MS;
+        activationGraceMs = activationGraceMs != null && activationGraceMs > 0 ? activationGraceMs : 0L;
+        flushIntervalMs = flushIntervalMs != null && flushIntervalMs > 0 ? flushIntervalMs : DEFAULT_FLUSH_INTERVAL_MS;
+    }
+
+    /**
+     * 생존 확인 비활성화 (하트비트와 관계없이 모두 활성화)
+     */
+    public static QueueLivenessProperties disabled() {
+        return new QueueLivenessProperties(false, null, null, null);
+    }
+
+    /**
+     * 이 시각 이전의 하트비트는 끊긴 것으로 봄 (비활성화 시 0)
+     */
+    public long heartbeatStaleBefore(long now) {
+        return enabled ? now - heartbeatTimeoutMs : 0L;
+    }
+
+    /**
+     * 활성화 후 보호 API 미호출 유저 회수 사용 여부
+     */
+    public boolean isIdleActivationExpiryEnabled() {
+        return enabled && activationGraceMs > 0;
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 활성 유저 로컬 캐시(near-cache) 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   near-cache:
+ *     enabled: true
+ *     ttl-ms: 5000       # 무효화 메시지를 놓쳤을 때 최대 지연 시간 (평소 무효화는 pub/sub으로 즉시 반영)
+ *     max-size: 100000   # 서버당 최대 캐시 항목 수
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "queue.near-cache")
+public record QueueNearCacheProperties(
+    Boolean enabled,
+    Long ttlMs,
+    Integer maxSize
+) {
+
+    private static final long DEFAULT_TTL_MS = 5_000L;
+    private static final int DEFAULT_MAX_SIZE = 100_000;
+
+    public QueueNearCacheProperties {
+        enabled = enabled == null || enabled;
+        ttlMs = ttlMs != null && ttlMs > 0 ? ttlMs : DEFAULT_TTL_MS;
+        maxSize = maxSize != null && maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+    }
+
+    /**
+     * 로컬 캐시 비활성화 (테스트용 - 항상 Redis 조회)
+     */
+    public static QueueNearCacheProperties disabled() {
+        return new QueueNearCacheProperties(false, null, null);
+    }
+}
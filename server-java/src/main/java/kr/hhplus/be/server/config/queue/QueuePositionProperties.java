@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 근사 대기 순번 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   position:
+ *     approximate: true      # 스냅샷 기반 근사 순번 사용 (뒤쪽 유저는 Redis 조회 없음)
+ *     samples: 100           # 스냅샷에 담는 점수→순번 샘플 수
+ *     exact-threshold: 1000  # 이 순번 이내로 추정되면 ZRANK로 정확한 순번 조회
+ *     snapshot-interval-ms: 1000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "queue.position")
+public record QueuePositionProperties(
+    Boolean approximate,
+    Integer samples,
+    Long exactThreshold,
+    Long snapshotIntervalMs
+) {
+
+    private static final int DEFAULT_SAMPLES = 100;
+    private static final long DEFAULT_EXACT_THRESHOLD = 1_000L;
+    private static final long DEFAULT_SNAPSHOT_INTERVAL_MS = 1_000L;
+
+    public QueuePositionProperties {
+        approximate = approximate != null && approximate;
+        samples = samples != null && samples >= 2 ? samples : DEFAULT_SAMPLES;
+        exactThreshold = exactThreshold != null && exactThreshold >= 0 ? exactThreshold : DEFAULT_EXACT_THRESHOLD;
+        snapshotIntervalMs = snapshotIntervalMs != null && snapshotIntervalMs > 0
+            ? snapshotIntervalMs : DEFAULT_SNAPSHOT_INTERVAL_MS;
+    }
+
+    /**
+     * 근사 순번 비활성화 (항상 ZRANK)
+     */
+    public static QueuePositionProperties disabled() {
+        return new QueuePositionProperties(false, null, null, null);
+    }
+
+    /**
+     * 스냅샷을 사용하지 않고 버리는 기준 (발행 주기의 5배)
+     */
+    public long snapshotMaxAgeMs() {
+        return snapshotIntervalMs * 5;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대기열 샤딩 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   sharding:
+ *     enabled: true   # 대기열을 여러 ZSet으로 분산
+ *     shards: 16      # 샤드 수 (유저 ID 해시로 배정)
+ * </pre>
+ *
+ * 대기 유저가 남아 있는 상태에서 모드/샤드 수를 변경하면 기존 대기 유저를 찾을 수 없으므로
+ * 대기열이 비어 있을 때 변경해야 합니다.
+ */
+@ConfigurationProperties(prefix = "queue.sharding")
+public record QueueShardingProperties(
+    Boolean enabled,
+    Integer shards
+) {
+
+    private static final int DEFAULT_SHARDS = 16;
+
+    public QueueShardingProperties {
+        enabled = enabled != null && enabled;
+        shards = shards != null && shards > 0 ? shards : DEFAULT_SHARDS;
+    }
+
+    /**
+     * 샤딩 비활성화 (단일 대기열)
+     */
+    public static QueueShardingProperties disabled() {
+        return new QueueShardingProperties(false, null);
+    }
+
+    /**
+     * 샤딩 활성화 (테스트용)
+     */
+    public static QueueShardingProperties of(int shards) {
+        return new QueueShardingProperties(true, shards);
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.config.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 서명 토큰 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * queue:
+ *   token:
+ *     signed: true                   # 활성화 시 HMAC 서명 토큰 발급 (DB 조회 없이 검증)
+ *     secret: ${QUEUE_TOKEN_SECRET}  # 모든 서버가 같은 값을 사용해야 함 (32바이트 이상)
+ *     revocation-refresh-ms: 1000    # Redis 폐기 목록을 로컬로 가져오는 주기
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "queue.token")
+public record QueueTokenProperties(
+    Boolean signed,
+    String secret,
+    Long revocationRefreshMs
+) {
+
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final long DEFAULT_REVOCATION_REFRESH_MS = 1_000L;
+
+    public QueueTokenProperties {
+        signed = signed != null && signed;
+        revocationRefreshMs = revocationRefreshMs != null && revocationRefreshMs > 0
+            ? revocationRefreshMs : DEFAULT_REVOCATION_REFRESH_MS;
+        if (signed && (secret == null || secret.length() < MIN_SECRET_LENGTH)) {
+            throw new IllegalStateException("queue.token.secret은 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 서명 토큰 비활성화 (테스트용)
+     */
+    public static QueueTokenProperties disabled() {
+        return new QueueTokenProperties(false, null, null);
+    }
+}
@@ -26,7 +26,9 @@ import java.util.Map;
  * 1. 콘서트 목록 조회 (5분)
  * 2. 콘서트 상세 조회 (10분)
  * 3. 콘서트 스케줄 조회 (3분)
- * 4. 좌석 상태 조회 (10초)
+ * 4. 좌석 배치/가격표 조회 (1일)
+ *
+ * 좌석 예약 가능 여부는 Spring 캐시가 아닌 Redis 비트맵으로 관리 (SeatAvailabilityRedisRepository)
  */
 @Slf4j
 @Configuration
@@ -64,9 +66,9 @@ public class CacheConfig {
         cacheConfigurations.put("cache:schedule:list",
                 defaultConfig.entryTtl(Duration.ofMinutes(3)));
 
-        // 시나리오 4: 좌석 상태 (10초)
-        cacheConfigurations.put("cache:seat:available",
-                defaultConfig.entryTtl(Duration.ofSeconds(10)));
+        // 시나리오 4: 좌석 배치/가격표 (1일) - 좌석 구성은 공연 일정 생성 후 바뀌지 않음
+        cacheConfigurations.put("cache:seat:layout",
+                defaultConfig.entryTtl(Duration.ofDays(1)));
 
         RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
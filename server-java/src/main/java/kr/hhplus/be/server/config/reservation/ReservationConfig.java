@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.config.reservation;
+
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.reservation.application.strategy.ConditionalUpdateSeatReservationStrategy;
+import kr.hhplus.be.server.reservation.application.strategy.PessimisticSeatReservationStrategy;
+import kr.hhplus.be.server.reservation.application.strategy.SeatReservationStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 예약 설정
+ * - reservation.* 프로퍼티 바인딩 활성화
+ * - 좌석 선점 전략 선택 (reservation.seat-reservation.strategy)
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({
+    SeatHoldProperties.class,
+    ReservationExpiryProperties.class,
+    SeatReservationProperties.class,
+    ReservationSequencerProperties.class,
+    ReservationTicketProperties.class
+})
+public class ReservationConfig {
+
+    @Bean
+    public SeatReservationStrategy seatReservationStrategy(SeatReservationProperties properties,
+                                                           ScheduleSeatRepository seatRepository) {
+        log.info("좌석 선점 전략: {}", properties.strategy());
+        return switch (properties.strategy()) {
+            case PESSIMISTIC -> new PessimisticSeatReservationStrategy(seatRepository);
+            case CONDITIONAL_UPDATE -> new ConditionalUpdateSeatReservationStrategy(seatRepository);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.config.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예약 만료 처리 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * reservation:
+ *   expiry:
+ *     deadline-enabled: true     # 만료 기한 인덱스(Redis ZSet)로 만료 직후 좌석 해제
+ *     poll-interval-ms: 1000     # 만료 기한 인덱스 조회 주기
+ *     batch-size: 500            # 파티션당 한 번에 처리할 예약 수
+ *     sweep-interval-ms: 300000  # DB 전체 스캔 주기 (생략 시 인덱스 사용 여부에 따라 결정)
+ *     sweep-chunk-size: 500      # DB 스캔 시 한 트랜잭션에서 처리할 예약 수 (id 기준 keyset 페이지)
+ * </pre>
+ *
+ * 만료 기한 인덱스 등록에 실패하거나 Redis 데이터가 유실된 예약은 DB 스캔이 처리합니다.
+ * sweep-interval-ms 기본값:
+ * - deadline-enabled=true: 5분 (인덱스가 만료를 처리하므로 DB 스캔은 안전망)
+ * - deadline-enabled=false: 1분 (DB 스캔이 유일한 만료 경로)
+ */
+@ConfigurationProperties(prefix = "reservation.expiry")
+public record ReservationExpiryProperties(
+    Boolean deadlineEnabled,
+    Long pollIntervalMs,
+    Integer batchSize,
+    Long sweepIntervalMs,
+    Integer sweepChunkSize
+) {
+
+    private static final long DEFAULT_POLL_INTERVAL_MS = 1_000L;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_SWEEP_INTERVAL_MS = 300_000L;
+    private static final long DEFAULT_SWEEP_INTERVAL_WITHOUT_DEADLINE_MS = 60_000L;
+    private static final int DEFAULT_SWEEP_CHUNK_SIZE = 500;
+
+    public ReservationExpiryProperties {
+        deadlineEnabled = deadlineEnabled == null || deadlineEnabled;
+        pollIntervalMs = pollIntervalMs != null && pollIntervalMs > 0 ? pollIntervalMs : DEFAULT_POLL_INTERVAL_MS;
+        batchSize = batchSize != null && batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        sweepIntervalMs = sweepIntervalMs != null && sweepIntervalMs > 0 ? sweepIntervalMs
+            : deadlineEnabled ? DEFAULT_SWEEP_INTERVAL_MS : DEFAULT_SWEEP_INTERVAL_WITHOUT_DEADLINE_MS;
+        sweepChunkSize = sweepChunkSize != null && sweepChunkSize > 0 ? sweepChunkSize : DEFAULT_SWEEP_CHUNK_SIZE;
+    }
+
+    /**
+     * 만료 기한 인덱스 비활성화 (DB 스캔만 사용)
+     */
+    public static ReservationExpiryProperties disabled() {
+        return new ReservationExpiryProperties(false, null, null, null, null);
+    }
+}
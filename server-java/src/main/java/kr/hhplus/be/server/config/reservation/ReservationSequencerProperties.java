@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.config.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일정별 예약 시퀀서(single-writer lane + group commit) 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * reservation:
+ *   sequencer:
+ *     enabled: true
+ *     lanes: 4               # 레인(전용 스레드) 수, 일정 ID 해시로 배정 (같은 일정은 항상 같은 레인)
+ *     batch-window-ms: 5     # 첫 요청 도착 후 배치로 모으는 시간
+ *     max-batch-size: 64     # 한 트랜잭션에서 처리할 최대 요청 수
+ *     queue-capacity: 1000   # 레인별 대기 요청 상한 (초과 시 즉시 실패)
+ * </pre>
+ *
+ * 비활성화 시 레인 스레드를 만들지 않으며 ReservationService.createReservation 만 사용합니다.
+ */
+@ConfigurationProperties(prefix = "reservation.sequencer")
+public record ReservationSequencerProperties(
+    Boolean enabled,
+    Integer lanes,
+    Long batchWindowMs,
+    Integer maxBatchSize,
+    Integer queueCapacity
+) {
+
+    private static final int DEFAULT_LANES = 4;
+    private static final long DEFAULT_BATCH_WINDOW_MS = 5L;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    public ReservationSequencerProperties {
+        enabled = enabled != null && enabled;
+        lanes = lanes != null && lanes > 0 ? lanes : DEFAULT_LANES;
+        batchWindowMs = batchWindowMs != null && batchWindowMs >= 0 ? batchWindowMs : DEFAULT_BATCH_WINDOW_MS;
+        maxBatchSize = maxBatchSize != null && maxBatchSize > 0 ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE;
+        queueCapacity = queueCapacity != null && queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * 시퀀서 비활성화
+     */
+    public static ReservationSequencerProperties disabled() {
+        return new ReservationSequencerProperties(false, null, null, null, null);
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.config.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 예약 접수(티켓) 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * reservation:
+ *   ticket:
+ *     workers: 8                     # 작업 큐에서 요청을 꺼내 처리하는 스레드 수
+ *     queue-capacity: 1000           # 일정별 대기 요청 상한 (초과 시 접수 거절)
+ *     drain-batch-size: 32           # 작업 스레드가 한 일정에서 한 번에 꺼내는 요청 수
+ *     max-in-flight-per-schedule: 64 # 일정별 동시 처리 중 요청 상한 (처리 속도 제한)
+ *     result-ttl-ms: 600000          # 티켓 결과 보관 시간
+ * </pre>
+ *
+ * 한 일정의 대기 요청은 한 번에 한 작업 스레드만 꺼내고, 여러 일정은 돌아가며 꺼냅니다.
+ * 예약 시퀀서가 켜져 있으면 꺼낸 요청을 기다리지 않고 모두 시퀀서에 넘겨 한 배치로 저장되게 하고,
+ * 일정별 처리 중 요청이 max-in-flight-per-schedule에 닿으면 결과가 돌아올 때까지 더 꺼내지 않습니다.
+ */
+@ConfigurationProperties(prefix = "reservation.ticket")
+public record ReservationTicketProperties(
+    Integer workers,
+    Integer queueCapacity,
+    Integer drainBatchSize,
+    Integer maxInFlightPerSchedule,
+    Long resultTtlMs
+) {
+
+    private static final int DEFAULT_WORKERS = 8;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_DRAIN_BATCH_SIZE = 32;
+    private static final int DEFAULT_MAX_IN_FLIGHT_PER_SCHEDULE = 64;
+    private static final long DEFAULT_RESULT_TTL_MS = 600_000L;
+
+    public ReservationTicketProperties {
+        workers = workers != null && workers > 0 ? workers : DEFAULT_WORKERS;
+        queueCapacity = queueCapacity != null && queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+        drainBatchSize = drainBatchSize != null && drainBatchSize > 0 ? drainBatchSize : DEFAULT_DRAIN_BATCH_SIZE;
+        maxInFlightPerSchedule = maxInFlightPerSchedule != null && maxInFlightPerSchedule > 0
+            ? maxInFlightPerSchedule : DEFAULT_MAX_IN_FLIGHT_PER_SCHEDULE;
+        resultTtlMs = resultTtlMs != null && resultTtlMs > 0 ? resultTtlMs : DEFAULT_RESULT_TTL_MS;
+    }
+
+    /**
+     * 기본 설정
+     */
+    public static ReservationTicketProperties defaults() {
+        return new ReservationTicketProperties(null, null, null, null, null);
+    }
+}
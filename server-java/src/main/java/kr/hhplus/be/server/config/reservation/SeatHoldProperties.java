@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.config.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 좌석 선점(hold) 엔진 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * reservation:
+ *   seat-hold:
+ *     enabled: true
+ *     hold-ttl-ms: 600000          # 좌석 선점 유지 시간 (예약 만료 시간과 동일하게)
+ *     flush-interval-ms: 200       # 선점 → MySQL 저장(write-behind) 주기
+ *     batch-size: 200              # 한 번에 저장할 선점 수
+ *     inflight-timeout-ms: 30000   # 저장 중 서버가 죽은 선점을 다시 저장 대기로 되돌리는 기준
+ * </pre>
+ *
+ * 활성화 시 예약 API(POST /api/reservations)가 좌석 선점으로 처리되고,
+ * DB 예약 경로(ReservationService.createReservation, ReservationSequencer)는 선점된 좌석을 거절합니다.
+ * 비활성화 시 기존 예약 티켓 경로(ReservationTicketService)만 사용합니다.
+ */
+@ConfigurationProperties(prefix = "reservation.seat-hold")
+public record SeatHoldProperties(
+    Boolean enabled,
+    Long holdTtlMs,
+    Long flushIntervalMs,
+    Integer batchSize,
+    Long inflightTimeoutMs
+) {
+
+    private static final long DEFAULT_HOLD_TTL_MS = 600_000L;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 200L;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final long DEFAULT_INFLIGHT_TIMEOUT_MS = 30_000L;
+
+    public SeatHoldProperties {
+        enabled = enabled != null && enabled;
+        holdTtlMs = holdTtlMs != null && holdTtlMs > 0 ? holdTtlMs : DEFAULT_HOLD_TTL_MS;
+        flushIntervalMs = flushIntervalMs != null && flushIntervalMs > 0 ? flushIntervalMs : DEFAULT_FLUSH_INTERVAL_MS;
+        batchSize = batchSize != null && batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        inflightTimeoutMs = inflightTimeoutMs != null && inflightTimeoutMs > 0
+            ? inflightTimeoutMs : DEFAULT_INFLIGHT_TIMEOUT_MS;
+    }
+
+    /**
+     * 좌석 선점 엔진 비활성화
+     */
+    public static SeatHoldProperties disabled() {
+        return new SeatHoldProperties(false, null, null, null, null);
+    }
+
+    /**
+     * 선점 결과(확정된 예약 ID, 실패 여부) 보관 시간
+     * - 선점 유지 시간 + 저장 지연을 넉넉히 포함
+     */
+    public long resultTtlMs() {
+        return holdTtlMs + inflightTimeoutMs * 2;
+    }
+}
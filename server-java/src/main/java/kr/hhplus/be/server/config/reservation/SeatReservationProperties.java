@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.config.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 좌석 선점 전략 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * reservation:
+ *   seat-reservation:
+ *     strategy: pessimistic   # pessimistic | conditional-update
+ * </pre>
+ *
+ * - pessimistic: SELECT ... FOR UPDATE 로 좌석을 잠근 뒤 예약 (기본값)
+ * - conditional-update: 조건부 UPDATE 한 문장으로 선점하고 영향받은 행 수로 성공 여부 판단
+ */
+@ConfigurationProperties(prefix = "reservation.seat-reservation")
+public record SeatReservationProperties(
+    Strategy strategy
+) {
+
+    public enum Strategy {
+        PESSIMISTIC,
+        CONDITIONAL_UPDATE
+    }
+
+    public SeatReservationProperties {
+        strategy = strategy != null ? strategy : Strategy.PESSIMISTIC;
+    }
+
+    /**
+     * 기본 전략 (비관적 락)
+     */
+    public static SeatReservationProperties defaults() {
+        return new SeatReservationProperties(null);
+    }
+}
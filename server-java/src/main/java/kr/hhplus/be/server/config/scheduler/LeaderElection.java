@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 임대(lease) 기반 스케줄러 리더 선출
+ *
+ * 데이터 구조:
+ * - scheduler:leader (String): 리더 서버 ID (TTL = lease-ms)
+ *
+ * 동작:
+ * - 전용 스레드가 renew-interval-ms마다 실행 (스케줄러 스레드 풀과 독립된 워치독)
+ *   - 자신이 리더면 TTL 연장, 리더가 없으면 획득, 다른 서버가 리더면 대기 (Lua - 원자적)
+ * - 정상 종료 시 임대를 즉시 반납하여 다음 갱신 주기 안에 다른 서버가 이어받음
+ * - 비정상 종료 시 임대 만료(lease-ms) 후 이어받음
+ * - 갱신에 실패하면 로컬 임대(lease - renew-interval)가 끝나는 시점에 스스로 리더에서 물러남
+ */
+@Slf4j
+@Component
+public class LeaderElection {
+
+    private static final String LEADER_KEY = "scheduler:leader";
+
+    private static final String ACQUIRE_OR_RENEW_SCRIPT = """
+        local current = redis.call('GET', KEYS[1])
+        if current == ARGV[1] then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+        end
+        if not current then
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+        end
+        return 0
+        """;
+
+    private static final String RELEASE_SCRIPT = """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerLeaderProperties properties;
+    private final DefaultRedisScript<Long> acquireOrRenewScript =
+        new DefaultRedisScript<>(ACQUIRE_OR_RENEW_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile long leaderUntil;
+    private ScheduledExecutorService watchdog;
+
+    public LeaderElection(StringRedisTemplate redisTemplate, SchedulerLeaderProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-leader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 기동 직후 스케줄러 첫 실행 전에 리더 여부를 결정
+        renewOrAcquire();
+        watchdog.scheduleWithFixedDelay(this::renewOrAcquire, properties.renewIntervalMs(),
+            properties.renewIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        if (properties.enabled() && isLeader()) {
+            leaderUntil = 0;
+            try {
+                redisTemplate.execute(releaseScript, List.of(LEADER_KEY), nodeId);
+                log.info("스케줄러 리더 반납: node={}", nodeId);
+            } catch (DataAccessException e) {
+                log.warn("스케줄러 리더 반납 실패 (임대 만료 후 이어받음): {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 현재 서버가 리더인지 여부 (선출 비활성화 시 항상 true)
+     */
+    public boolean isLeader() {
+        return !properties.enabled() || System.currentTimeMillis() < leaderUntil;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 임대 갱신 또는 리더 획득 시도 (워치독 1회 실행)
+     */
+    void renewOrAcquire() {
+        long now = System.currentTimeMillis();
+        boolean wasLeader = now < leaderUntil;
+        try {
+            Long result = redisTemplate.execute(acquireOrRenewScript, List.of(LEADER_KEY), nodeId,
+                String.valueOf(properties.leaseMs()));
+            boolean leader = result != null && result == 1;
+            if (leader) {
+                leaderUntil = now + properties.localLeaseMs();
+                if (!wasLeader) {
+                    log.info("스케줄러 리더 획득: node={}", nodeId);
+                }
+            } else if (wasLeader) {
+                leaderUntil = 0;
+                log.warn("스케줄러 리더 상실: node={}", nodeId);
+            }
+        } catch (DataAccessException e) {
+            // 갱신 실패 시 로컬 임대가 끝날 때까지만 리더 유지
+            log.warn("스케줄러 리더 임대 갱신 실패: node={}, {}", nodeId, e.getMessage());
+        }
+    }
+}
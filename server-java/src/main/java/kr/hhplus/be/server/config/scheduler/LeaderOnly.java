@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리더 서버에서만 실행하는 스케줄러 작업
+ *
+ * 리더가 아닌 서버에서는 메서드를 실행하지 않고 바로 반환합니다 (락 대기 없음).
+ * 리더는 매 실행마다 락을 다시 획득하지 않고 연속으로 실행합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ * @LeaderOnly
+ * @Scheduled(fixedDelay = 10_000)
+ * public void cleanupExpiredUsers() {
+ *     // 비즈니스 로직
+ * }
+ * }
+ * </pre>
+ *
+ * 반환 타입이 void가 아니면 건너뛸 때 null(기본형은 0/false)을 반환합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LeaderOnly {
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리더 전용 작업 AOP
+ *
+ * Order=0으로 분산락/트랜잭션보다 먼저 실행하여 리더가 아니면 아무것도 시작하지 않습니다.
+ */
+@Aspect
+@Order(0)
+@Component
+@RequiredArgsConstructor
+public class LeaderOnlyAspect {
+
+    private final LeaderElection leaderElection;
+
+    @Around("@annotation(leaderOnly)")
+    public Object runOnLeader(ProceedingJoinPoint joinPoint, LeaderOnly leaderOnly) throws Throwable {
+        if (leaderElection.isLeader()) {
+            return joinPoint.proceed();
+        }
+        return skippedValue(((MethodSignature) joinPoint.getSignature()).getReturnType());
+    }
+
+    private Object skippedValue(Class<?> returnType) {
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,205 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Redis 임대 기반 백그라운드 작업 파티션 분배
+ *
+ * 작업마다 처리 대상 키(일정 ID, 결제 ID, 대기열 범위)를 count개 파티션으로 나누고,
+ * 각 서버는 임대한 파티션의 키만 처리합니다. 서버 수가 늘면 처리량도 함께 늘어납니다.
+ *
+ * 데이터 구조 (해시 태그로 같은 슬롯 배치 - 한 번의 Lua 실행으로 재분배):
+ * - scheduler:{partitions}:nodes (ZSet): 살아 있는 서버 (score = 마지막 갱신 시각)
+ * - scheduler:{partitions}:0 ... (String): 파티션을 임대한 서버 ID (TTL = lease-ms)
+ *
+ * 재분배 (renew-interval-ms마다, 전용 스레드):
+ * - 서버 몫 = ceil(파티션 수 / 살아 있는 서버 수)
+ * - 보유 파티션은 몫만큼 임대 연장하고 초과분은 반납 (새 서버 합류 시)
+ * - 몫보다 적으면 비어 있는 파티션을 임대 (서버 이탈/임대 만료 시)
+ * - 정상 종료 시 보유 파티션을 즉시 반납
+ */
+@Slf4j
+@Component
+public class PartitionLeaseManager {
+
+    private static final String KEY_PREFIX = "scheduler:{partitions}:";
+    private static final String NODES_KEY = KEY_PREFIX + "nodes";
+
+    private static final String REBALANCE_SCRIPT = """
+        local nodeId = ARGV[1]
+        local now = tonumber(ARGV[2])
+        local lease = tonumber(ARGV[3])
+        local offset = tonumber(ARGV[4])
+        local count = #KEYS - 1
+
+        redis.call('ZADD', KEYS[1], now, nodeId)
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - lease)
+        redis.call('PEXPIRE', KEYS[1], lease * 3)
+        local share = math.ceil(count / redis.call('ZCARD', KEYS[1]))
+
+        local owned = {}
+        for i = 2, #KEYS do
+            if redis.call('GET', KEYS[i]) == nodeId then
+                if #owned < share then
+                    redis.call('PEXPIRE', KEYS[i], lease)
+                    table.insert(owned, i - 2)
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+        end
+
+        for step = 0, count - 1 do
+            if #owned >= share then
+                break
+            end
+            local partition = (offset + step) % count
+            if redis.call('SET', KEYS[partition + 2], nodeId, 'NX', 'PX', lease) then
+                table.insert(owned, partition)
+            end
+        end
+        return owned
+        """;
+
+    private static final String RELEASE_SCRIPT = """
+        redis.call('ZREM', KEYS[1], ARGV[1])
+        for i = 2, #KEYS do
+            if redis.call('GET', KEYS[i]) == ARGV[1] then
+                redis.call('DEL', KEYS[i])
+            end
+        end
+        return 1
+        """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerPartitionProperties properties;
+    private final DefaultRedisScript<List> rebalanceScript = new DefaultRedisScript<>(REBALANCE_SCRIPT, List.class);
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<String> keys;
+    private final Set<Integer> allPartitions;
+
+    private volatile Set<Integer> owned = Set.of();
+    private volatile long ownedUntil;
+    private ScheduledExecutorService watchdog;
+
+    public PartitionLeaseManager(StringRedisTemplate redisTemplate, SchedulerPartitionProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+
+        List<String> partitionKeys = new ArrayList<>(properties.count() + 1);
+        partitionKeys.add(NODES_KEY);
+        IntStream.range(0, properties.count()).forEach(partition -> partitionKeys.add(KEY_PREFIX + partition));
+        this.keys = List.copyOf(partitionKeys);
+        this.allPartitions = IntStream.range(0, properties.count()).boxed().collect(Collectors.toUnmodifiableSet());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 기동 직후 스케줄러 첫 실행 전에 파티션을 배정받음
+        rebalance();
+        watchdog.scheduleWithFixedDelay(this::rebalance, properties.renewIntervalMs(),
+            properties.renewIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        if (!properties.enabled()) {
+            return;
+        }
+        owned = Set.of();
+        ownedUntil = 0;
+        try {
+            redisTemplate.execute(releaseScript, keys, nodeId);
+            log.info("작업 파티션 반납: node={}", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("작업 파티션 반납 실패 (임대 만료 후 재분배): {}", e.getMessage());
+        }
+    }
+
+    public int getPartitionCount() {
+        return properties.count();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 현재 서버가 처리할 파티션 (분배 비활성화 시 전체)
+     */
+    public Set<Integer> ownedPartitions() {
+        if (!properties.enabled()) {
+            return allPartitions;
+        }
+        return System.currentTimeMillis() < ownedUntil ? owned : Set.of();
+    }
+
+    /**
+     * ID가 현재 서버가 처리할 파티션에 속하는지 여부
+     */
+    public boolean owns(long id) {
+        return ownedPartitions().contains(properties.partitionOf(id));
+    }
+
+    /**
+     * 문자열 키가 현재 서버가 처리할 파티션에 속하는지 여부
+     */
+    public boolean owns(String key) {
+        return ownedPartitions().contains(properties.partitionOf(key));
+    }
+
+    /**
+     * 임대 갱신 + 재분배 (워치독 1회 실행)
+     */
+    @SuppressWarnings("unchecked")
+    void rebalance() {
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> result = redisTemplate.execute(rebalanceScript, keys, nodeId, String.valueOf(now),
+                String.valueOf(properties.leaseMs()), String.valueOf(properties.partitionOf(nodeId)));
+
+            Set<Integer> partitions = new TreeSet<>();
+            if (result != null) {
+                result.forEach(partition -> partitions.add(Integer.parseInt(partition.toString())));
+            }
+            if (!partitions.equals(owned)) {
+                log.info("작업 파티션 재분배: node={}, {} → {}", nodeId, owned, partitions);
+            }
+            owned = Collections.unmodifiableSet(partitions);
+            ownedUntil = now + properties.localLeaseMs();
+        } catch (DataAccessException e) {
+            // 갱신 실패 시 로컬 임대가 끝날 때까지만 보유 파티션 유지
+            log.warn("작업 파티션 임대 갱신 실패: node={}, {}", nodeId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스케줄러 설정
+ * - scheduler.* 프로퍼티 바인딩 활성화
+ */
+@Configuration
+@EnableConfigurationProperties({
+    SchedulerLeaderProperties.class,
+    SchedulerPartitionProperties.class
+})
+public class SchedulerConfig {
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 스케줄러 리더 선출 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * scheduler:
+ *   leader:
+ *     enabled: true
+ *     lease-ms: 10000          # 리더 임대 시간 (리더가 죽으면 최대 이 시간 후 다른 서버가 이어받음)
+ *     renew-interval-ms: 3000  # 임대 갱신(워치독)/리더 획득 시도 주기
+ * </pre>
+ *
+ * 비활성화 시 모든 서버가 자신을 리더로 보고 @LeaderOnly 작업을 실행합니다 (단일 서버 환경).
+ */
+@ConfigurationProperties(prefix = "scheduler.leader")
+public record SchedulerLeaderProperties(
+    Boolean enabled,
+    Long leaseMs,
+    Long renewIntervalMs
+) {
+
+    private static final long DEFAULT_LEASE_MS = 10_000L;
+    private static final long DEFAULT_RENEW_INTERVAL_MS = 3_000L;
+
+    public SchedulerLeaderProperties {
+        enabled = enabled == null || enabled;
+        leaseMs = leaseMs != null && leaseMs > 0 ? leaseMs : DEFAULT_LEASE_MS;
+        // 임대가 끝나기 전에 최소 두 번은 갱신을 시도하도록 제한
+        renewIntervalMs = renewIntervalMs != null && renewIntervalMs > 0
+            ? Math.min(renewIntervalMs, leaseMs / 3) : Math.min(DEFAULT_RENEW_INTERVAL_MS, leaseMs / 3);
+    }
+
+    /**
+     * 리더 선출 비활성화 (단일 서버, 테스트용)
+     */
+    public static SchedulerLeaderProperties disabled() {
+        return new SchedulerLeaderProperties(false, null, null);
+    }
+
+    /**
+     * 로컬에서 리더로 인정하는 시간
+     * - Redis 임대보다 갱신 주기 하나만큼 먼저 끝나도록 하여, 갱신에 실패한 리더가
+     *   다른 서버가 리더가 된 뒤에도 작업을 계속하는 일이 없도록 함
+     */
+    public long localLeaseMs() {
+        return leaseMs - renewIntervalMs;
+    }
+}
@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백그라운드 작업 파티션 분배 설정
+ *
+ * 설정 예시 (application.yml):
+ * <pre>
+ * scheduler:
+ *   partitions:
+ *     enabled: true
+ *     count: 16                # 파티션 수 (서버 수보다 충분히 크게)
+ *     lease-ms: 10000          # 파티션 임대 시간 (서버가 죽으면 최대 이 시간 후 재분배)
+ *     renew-interval-ms: 3000  # 임대 갱신/재분배 주기
+ * </pre>
+ *
+ * 파티션 수를 바꾸면 작업별 키 → 파티션 배정이 모두 바뀌므로 전체 서버를 함께 재시작해야 합니다.
+ * 비활성화 시 모든 서버가 모든 파티션을 처리합니다 (단일 서버 환경).
+ */
+@ConfigurationProperties(prefix = "scheduler.partitions")
+public record SchedulerPartitionProperties(
+    Boolean enabled,
+    Integer count,
+    Long leaseMs,
+    Long renewIntervalMs
+) {
+
+    private static final int DEFAULT_COUNT = 16;
+    private static final long DEFAULT_LEASE_MS = 10_000L;
+    private static final long DEFAULT_RENEW_INTERVAL_MS = 3_000L;
+
+    public SchedulerPartitionProperties {
+        enabled = enabled == null || enabled;
+        count = count != null && count > 0 ? count : DEFAULT_COUNT;
+        leaseMs = leaseMs != null && leaseMs > 0 ? leaseMs : DEFAULT_LEASE_MS;
+        renewIntervalMs = renewIntervalMs != null && renewIntervalMs > 0
+            ? Math.min(renewIntervalMs, leaseMs / 3) : Math.min(DEFAULT_RENEW_INTERVAL_MS, leaseMs / 3);
+    }
+
+    /**
+     * 파티션 분배 비활성화 (단일 서버, 테스트용)
+     */
+    public static SchedulerPartitionProperties disabled() {
+        return new SchedulerPartitionProperties(false, null, null, null);
+    }
+
+    /**
+     * 로컬에서 파티션을 소유한 것으로 인정하는 시간 (Redis 임대보다 갱신 주기 하나만큼 짧게)
+     */
+    public long localLeaseMs() {
+        return leaseMs - renewIntervalMs;
+    }
+
+    /**
+     * ID 기반 파티션 번호 (SQL의 MOD(id, count)와 같은 값)
+     */
+    public int partitionOf(long id) {
+        return (int) Math.floorMod(id, (long) count);
+    }
+
+    /**
+     * 문자열 키 기반 파티션 번호
+     */
+    public int partitionOf(String key) {
+        return Math.floorMod(key.hashCode(), count);
+    }
+}
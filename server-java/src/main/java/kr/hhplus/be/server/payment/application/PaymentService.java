@@ -2,8 +2,11 @@ package kr.hhplus.be.server.payment.application;
 
 import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
 import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
 import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.queue.BackendLoadProbe;
 import kr.hhplus.be.server.payment.domain.event.PaymentCompletedEvent;
 import kr.hhplus.be.server.payment.domain.model.Payment;
 import kr.hhplus.be.server.payment.domain.repository.PaymentRepository;
@@ -15,8 +18,6 @@ import kr.hhplus.be.server.user.domain.UserBalance;
 import kr.hhplus.be.server.user.domain.repository.UserBalanceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,17 +34,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PaymentService {
 
-    private static final String SEAT_CACHE_NAME = "cache:seat:available";
-
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationDetailRepository reservationDetailRepository;
     private final UserBalanceRepository userBalanceRepository;
     private final ScheduleSeatRepository scheduleSeatRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
-    private final CacheManager cacheManager;
     private final ApplicationEventPublisher eventPublisher;
 
+    @BackendLoadProbe
     @Transactional
     public Payment processPayment(Long reservationId, Long userId) {
 
@@ -71,8 +70,8 @@ public class PaymentService {
 
         seats.forEach(ScheduleSeat::confirm);
 
-        // 좌석 캐시 무효화 (결제 완료 시 좌석 상태 변경)
-        evictSeatCache(reservation.getScheduleId());
+        // 좌석 맵 캐시 패치 (커밋 후 판매된 좌석만 반영)
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(reservation.getScheduleId(), seats, SeatStatus.SOLD));
 
         Payment payment = Payment.complete(reservationId, userId, reservation.getTotalAmount());
         Payment savedPayment = paymentRepository.save(payment);
@@ -110,17 +109,4 @@ public class PaymentService {
         return paymentRepository.findByReservationId(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 예약의 결제 정보를 찾을 수 없습니다."));
     }
-
-    /**
-     * 좌석 캐시 무효화
-     *
-     * @param scheduleId 스케줄 ID
-     */
-    private void evictSeatCache(Long scheduleId) {
-        Cache cache = cacheManager.getCache(SEAT_CACHE_NAME);
-        if (cache != null) {
-            cache.evict(scheduleId);
-            log.debug("좌석 캐시 무효화 - scheduleId: {}", scheduleId);
-        }
-    }
 }
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.config.reservation.ReservationExpiryProperties;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.infrastructure.redis.ReservationDeadlineRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 만료 기한 등록 이벤트 리스너
+ * 예약이 커밋된 뒤에만 만료 기한 인덱스에 등록 (롤백된 예약이 인덱스에 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationDeadlineEventListener {
+
+    private final ReservationDeadlineRedisRepository deadlineRepository;
+    private final ReservationExpiryProperties expiryProperties;
+
+    /**
+     * 예약 생성 이벤트 처리
+     *
+     * @param event 예약 생성 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        if (!expiryProperties.deadlineEnabled()) {
+            return;
+        }
+        try {
+            deadlineRepository.add(event.reservationId(), event.scheduleId(), event.expiresAt());
+        } catch (Exception e) {
+            // 등록 실패 시 DB 스캔(안전망)이 만료 처리
+            log.error("예약 만료 기한 등록 실패 - reservationId: {}", event.reservationId(), e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 만료 처리 메트릭
+ * - Micrometer 기반 (Actuator /actuator/metrics 로 노출)
+ *
+ * 메트릭:
+ * - reservation.expiry.chunk: 청크(한 트랜잭션) 처리 소요 시간
+ * - reservation.expiry.chunk.size: 청크당 조회한 예약 수
+ * - reservation.expiry.expired: 만료 처리된 예약 수
+ * - reservation.expiry.seats.released: 해제된 좌석 수
+ */
+@Component
+public class ReservationExpiryMetrics {
+
+    private final Timer chunkDuration;
+    private final DistributionSummary chunkSize;
+    private final Counter expired;
+    private final Counter seatsReleased;
+
+    public ReservationExpiryMetrics(MeterRegistry meterRegistry) {
+        this.chunkDuration = Timer.builder("reservation.expiry.chunk")
+            .description("예약 만료 청크 처리 소요 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.chunkSize = DistributionSummary.builder("reservation.expiry.chunk.size")
+            .description("예약 만료 청크당 조회한 예약 수")
+            .register(meterRegistry);
+        this.expired = Counter.builder("reservation.expiry.expired")
+            .description("만료 처리된 예약 수")
+            .register(meterRegistry);
+        this.seatsReleased = Counter.builder("reservation.expiry.seats.released")
+            .description("예약 만료로 해제된 좌석 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 청크 처리 기록
+     *
+     * @param size          조회한 예약 수
+     * @param expiredCount  만료 처리된 예약 수
+     * @param releasedCount 해제된 좌석 수
+     * @param elapsedNanos  소요 시간 (ns)
+     */
+    public void recordChunk(int size, int expiredCount, int releasedCount, long elapsedNanos) {
+        chunkDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        chunkSize.record(size);
+        expired.increment(expiredCount);
+        seatsReleased.increment(releasedCount);
+    }
+}
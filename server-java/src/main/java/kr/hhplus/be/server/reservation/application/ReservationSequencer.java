@@ -0,0 +1,390 @@
+package kr.hhplus.be.server.reservation.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.reservation.ReservationSequencerProperties;
+import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정별 예약 시퀀서 (single-writer lane + group commit)
+ *
+ * 인기 일정에 예약이 몰리면 요청마다 트랜잭션을 열어 같은 좌석 행 락을 두고 경합합니다.
+ * 시퀀서는 일정 ID로 레인(전용 스레드)을 정해 같은 일정의 요청을 한 스레드가 순서대로 처리합니다.
+ *
+ * 처리 흐름 (레인마다):
+ * 1. 첫 요청 도착 후 batch-window-ms 동안(최대 max-batch-size건) 요청을 모음
+ * 2. 레인이 커밋한 좌석 현황(메모리)에 이미 예약된 좌석이 있거나 Redis 좌석 선점 중인 좌석이 있는 요청은 DB 조회 없이 실패 처리
+ * 3. 남은 요청의 좌석을 한 번에 잠금 조회 → 도착 순서대로 좌석이 모두 남아 있는 요청만 예약/상세 저장 → 한 번 커밋
+ *    (요청이 실패하면 그 요청의 좌석은 다음 요청이 가져갈 수 있음)
+ * 4. 커밋 후 각 호출자의 CompletableFuture 완료, 커밋된 좌석은 예약 만료 시각까지 메모리 현황에 기록
+ * 5. 배치 트랜잭션이 실패하면 요청마다 별도 트랜잭션으로 다시 저장 (요청 하나가 배치 전체를 실패시키지 않도록)
+ *
+ * 메모리 현황에는 커밋된 좌석만 만료 시각까지 기록하므로 잘못된 매진 판단이 없습니다.
+ * 다른 서버가 예약한 좌석은 현황에 없으므로 최종 판단은 잠금 조회 결과(DB)로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSequencer {
+
+    private final ScheduleSeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationDetailRepository reservationDetailRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationSequencerProperties properties;
+    private final SeatHoldService seatHoldService;
+
+    private List<Lane> lanes = List.of();
+
+    /**
+     * 레인 대기 중인 예약 요청
+     */
+    private record Request(Long userId, Long scheduleId, List<Long> seatIds, CompletableFuture<Reservation> result) {
+    }
+
+    /**
+     * 배치 처리 결과 (커밋 후 호출자에게 전달)
+     */
+    private record Outcome(Request request, Reservation reservation, RuntimeException failure) {
+
+        static Outcome success(Request request, Reservation reservation) {
+            return new Outcome(request, reservation, null);
+        }
+
+        static Outcome failure(Request request, RuntimeException failure) {
+            return new Outcome(request, null, failure);
+        }
+
+        void complete() {
+            if (failure != null) {
+                request.result().completeExceptionally(failure);
+            } else {
+                request.result().complete(reservation);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        List<Lane> created = new ArrayList<>(properties.lanes());
+        for (int index = 0; index < properties.lanes(); index++) {
+            Lane lane = new Lane(index);
+            lane.start();
+            created.add(lane);
+        }
+        lanes = List.copyOf(created);
+        log.info("예약 시퀀서 시작 - 레인: {}개, 배치 대기: {}ms, 최대 배치: {}건",
+            properties.lanes(), properties.batchWindowMs(), properties.maxBatchSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        lanes.forEach(Lane::stop);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 예약 요청 제출
+     * - 일정 ID로 정해진 레인에 넣고 즉시 반환 (결과는 커밋 후 완료)
+     *
+     * @param userId     사용자 ID
+     * @param scheduleId 콘서트 일정 ID
+     * @param seatIds    예약할 좌석 ID 목록
+     * @return 생성된 예약 (실패 시 SeatNotAvailableException / ConcurrentReservationException 으로 완료)
+     */
+    public CompletableFuture<Reservation> submit(Long userId, Long scheduleId, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("예약할 좌석이 없습니다."));
+        }
+        if (lanes.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("예약 시퀀서가 비활성화되어 있습니다."));
+        }
+
+        Request request = new Request(userId, scheduleId, List.copyOf(seatIds), new CompletableFuture<>());
+        Lane lane = lanes.get(Math.floorMod(Long.hashCode(scheduleId), lanes.size()));
+        if (!lane.queue.offer(request)) {
+            return CompletableFuture.failedFuture(
+                new ConcurrentReservationException("예약 요청이 많습니다. 잠시 후 다시 시도해주세요"));
+        }
+        return request.result();
+    }
+
+    /**
+     * 일정별로 나누어 배치 처리 (레인 스레드에서 호출)
+     */
+    private void process(Lane lane, List<Request> batch) {
+        batch.stream()
+            .collect(Collectors.groupingBy(Request::scheduleId, LinkedHashMap::new, Collectors.toList()))
+            .forEach((scheduleId, requests) -> commit(scheduleId, requests, lane.reservedSeats(scheduleId)));
+    }
+
+    /**
+     * 같은 일정의 요청 배치를 한 트랜잭션으로 저장
+     *
+     * @param reservedSeats 레인이 커밋한 좌석 → 예약 만료 시각 (epoch millis)
+     */
+    private void commit(Long scheduleId, List<Request> requests, Map<Long, Long> reservedSeats) {
+        long now = System.currentTimeMillis();
+        reservedSeats.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // 이미 커밋된 좌석이 포함된 요청은 DB 조회 없이 실패 (만료 전까지는 확실히 예약 불가)
+        Set<Long> requestedSeatIds = new HashSet<>();
+        List<Request> accepted = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            Set<Long> requested = new HashSet<>(request.seatIds());
+            List<Long> reserved = request.seatIds().stream()
+                .filter(reservedSeats::containsKey)
+                .toList();
+            if (requested.size() != request.seatIds().size() || !reserved.isEmpty()) {
+                request.result().completeExceptionally(new SeatNotAvailableException(String.format(
+                    "좌석 %s는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)",
+                    reserved.isEmpty() ? request.seatIds() : reserved)));
+                continue;
+            }
+            requestedSeatIds.addAll(requested);
+            accepted.add(request);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // Redis 좌석 선점 엔진이 잡고 있는 좌석이 포함된 요청도 실패 (배치 전체 좌석을 한 번에 확인)
+        Set<Long> heldSeatIds = new HashSet<>(
+            seatHoldService.findHeldSeatIds(scheduleId, requestedSeatIds.stream().sorted().toList()));
+        if (!heldSeatIds.isEmpty()) {
+            accepted.removeIf(request -> {
+                List<Long> held = request.seatIds().stream().filter(heldSeatIds::contains).toList();
+                if (held.isEmpty()) {
+                    return false;
+                }
+                request.result().completeExceptionally(new SeatNotAvailableException(
+                    String.format("좌석 %s는 다른 사용자가 예약 중입니다", held)));
+                return true;
+            });
+            if (accepted.isEmpty()) {
+                return;
+            }
+            requestedSeatIds.clear();
+            accepted.forEach(request -> requestedSeatIds.addAll(request.seatIds()));
+        }
+
+        List<Outcome> outcomes = persistBatch(scheduleId, accepted, requestedSeatIds);
+
+        // 커밋 이후에만 호출자에게 결과 전달
+        for (Outcome outcome : outcomes) {
+            if (outcome.reservation() != null) {
+                long expiresAt = outcome.reservation().getExpiresAt()
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                outcome.request().seatIds().forEach(seatId -> reservedSeats.put(seatId, expiresAt));
+            }
+            outcome.complete();
+        }
+    }
+
+    /**
+     * 배치 저장 (실패 시 요청별 트랜잭션으로 나누어 재시도 - 문제 있는 요청 하나가 배치 전체를 막지 않도록)
+     */
+    private List<Outcome> persistBatch(Long scheduleId, List<Request> requests, Set<Long> seatIds) {
+        try {
+            return Objects.requireNonNull(
+                transactionTemplate.execute(status -> persist(scheduleId, requests, seatIds)));
+        } catch (RuntimeException e) {
+            if (requests.size() == 1) {
+                return List.of(failureOf(scheduleId, requests.get(0), e));
+            }
+            log.warn("예약 배치 저장 실패, 개별 저장으로 재시도 - scheduleId: {}, 요청: {}건: {}",
+                scheduleId, requests.size(), e.getMessage());
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            try {
+                outcomes.addAll(Objects.requireNonNull(transactionTemplate.execute(status ->
+                    persist(scheduleId, List.of(request), new HashSet<>(request.seatIds())))));
+            } catch (RuntimeException e) {
+                outcomes.add(failureOf(scheduleId, request, e));
+            }
+        }
+        return outcomes;
+    }
+
+    private Outcome failureOf(Long scheduleId, Request request, RuntimeException e) {
+        if (e instanceof PessimisticLockingFailureException) {
+            return Outcome.failure(request,
+                new ConcurrentReservationException("다른 사용자가 예약 중입니다. 잠시 후 다시 시도해주세요"));
+        }
+        log.error("예약 저장 실패 - scheduleId: {}, userId: {}", scheduleId, request.userId(), e);
+        return Outcome.failure(request, e);
+    }
+
+    /**
+     * 배치 저장 (트랜잭션 안에서 실행)
+     * - 요청 좌석 전체를 ID 순으로 한 번에 잠금 조회 (데드락 방지)
+     * - 도착 순서대로 좌석이 모두 남아 있는 요청만 예약/상세 저장하고, 저장한 좌석은 남은 좌석에서 제외
+     */
+    private List<Outcome> persist(Long scheduleId, List<Request> requests, Set<Long> seatIds) {
+        List<Long> sortedSeatIds = seatIds.stream().sorted().toList();
+        Map<Long, ScheduleSeat> available = seatRepository
+            .findAvailableByScheduleIdAndIdWithLock(scheduleId, sortedSeatIds).stream()
+            .collect(Collectors.toMap(ScheduleSeat::getId, Function.identity()));
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            List<Long> unavailable = request.seatIds().stream()
+                .filter(seatId -> !available.containsKey(seatId))
+                .toList();
+            if (!unavailable.isEmpty()) {
+                outcomes.add(Outcome.failure(request, new SeatNotAvailableException(
+                    String.format("좌석 %s는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)", unavailable))));
+                continue;
+            }
+
+            List<ScheduleSeat> seats = request.seatIds().stream()
+                .sorted()
+                .map(available::remove)
+                .toList();
+            seats.forEach(ScheduleSeat::reserve);
+
+            BigDecimal totalAmount = seats.stream()
+                .map(ScheduleSeat::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            Reservation saved = reservationRepository.save(
+                Reservation.create(request.userId(), scheduleId, totalAmount));
+            reservationDetailRepository.saveAll(seats.stream()
+                .map(seat -> ReservationDetail.create(
+                    saved.getId(), seat.getId(), seat.getVenueSeatId().intValue(), seat.getPrice()))
+                .toList());
+
+            eventPublisher.publishEvent(SeatStatusChangedEvent.of(scheduleId, seats, SeatStatus.RESERVED));
+            eventPublisher.publishEvent(ReservationCreatedEvent.of(saved));
+            outcomes.add(Outcome.success(request, saved));
+        }
+        return outcomes;
+    }
+
+    /**
+     * 단일 작성자 레인 (전용 스레드 + 대기열)
+     */
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Request> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        // 일정 ID → (커밋한 좌석 ID → 예약 만료 시각), 레인 스레드에서만 접근
+        private final Map<Long, Map<Long, Long>> reservedSeatsBySchedule = new HashMap<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Lane(int index) {
+            this.thread = new Thread(this, "reservation-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private Map<Long, Long> reservedSeats(Long scheduleId) {
+            return reservedSeatsBySchedule.computeIfAbsent(scheduleId, id -> new HashMap<>());
+        }
+
+        /**
+         * 만료된 좌석만 남은 일정 현황 정리 (일정이 계속 늘어도 메모리가 쌓이지 않도록)
+         */
+        private void pruneReservedSeats() {
+            long now = System.currentTimeMillis();
+            reservedSeatsBySchedule.values()
+                .forEach(seats -> seats.values().removeIf(expiresAt -> expiresAt <= now));
+            reservedSeatsBySchedule.values().removeIf(Map::isEmpty);
+        }
+
+        private void stop() {
+            running = false;
+            thread.interrupt();
+            List<Request> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            IllegalStateException failure = new IllegalStateException("서버 종료로 예약 요청이 처리되지 않았습니다.");
+            pending.forEach(request -> request.result().completeExceptionally(failure));
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        pruneReservedSeats();
+                        continue;
+                    }
+                    process(this, collectBatch(first));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // 레인 스레드는 예외가 발생해도 중단되지 않아야 함
+                    log.error("예약 레인 처리 중 오류 발생 - {}", thread.getName(), e);
+                }
+            }
+        }
+
+        /**
+         * 첫 요청 이후 batch-window-ms 동안 도착한 요청을 최대 max-batch-size건까지 모음
+         */
+        private List<Request> collectBatch(Request first) throws InterruptedException {
+            List<Request> batch = new ArrayList<>(properties.maxBatchSize());
+            batch.add(first);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.batchWindowMs());
+            while (batch.size() < properties.maxBatchSize()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    queue.drainTo(batch, properties.maxBatchSize() - batch.size());
+                    break;
+                }
+                Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+            return batch;
+        }
+    }
+}
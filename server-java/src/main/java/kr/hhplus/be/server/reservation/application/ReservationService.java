@@ -1,27 +1,36 @@
 package kr.hhplus.be.server.reservation.application;
 
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
 import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.queue.BackendLoadProbe;
+import kr.hhplus.be.server.config.reservation.ReservationExpiryProperties;
 import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
 import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.application.strategy.SeatReservationStrategy;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCreatedEvent;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +43,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReservationService {
 
-    private static final String SEAT_CACHE_NAME = "cache:seat:available";
-
     private final ScheduleSeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationDetailRepository reservationDetailRepository;
-    private final CacheManager cacheManager;
+    private final SeatReservationStrategy seatReservationStrategy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationExpiryProperties expiryProperties;
+    private final ReservationExpiryMetrics expiryMetrics;
+    private final SeatHoldService seatHoldService;
 
     /**
      * 예약 생성
@@ -49,6 +61,7 @@ public class ReservationService {
      * @param seatIds    예약할 좌석 ID 목록
      * @return 생성된 예약
      */
+    @BackendLoadProbe
     public Reservation createReservation(Long userId, Long scheduleId, List<Long> seatIds) {
         if (seatIds.isEmpty()) {
             throw new IllegalArgumentException("예약할 좌석이 없습니다.");
@@ -59,24 +72,16 @@ public class ReservationService {
                 .sorted()
                 .toList();
 
-        try {
-            // 새로운 메서드 사용: 스케줄 ID와 상태 검증 포함
-            List<ScheduleSeat> seats = seatRepository.findAvailableByScheduleIdAndIdWithLock(
-                    scheduleId, sortedSeatIds);
-
-            if (seats.size() != seatIds.size()) {
-                // 명확한 실패 이유 제공
-                Set<Long> foundIds = seats.stream()
-                        .map(ScheduleSeat::getId)
-                        .collect(Collectors.toSet());
-                Set<Long> notFoundIds = new HashSet<>(seatIds);
-                notFoundIds.removeAll(foundIds);
-
-                throw new SeatNotAvailableException(
-                        String.format("좌석 %s는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)", notFoundIds));
-            }
+        // Redis 좌석 선점 엔진 사용 시 다른 사용자가 선점 중인 좌석은 DB 락을 잡기 전에 거절
+        List<Long> heldSeatIds = seatHoldService.findHeldSeatIds(scheduleId, sortedSeatIds);
+        if (!heldSeatIds.isEmpty()) {
+            throw new SeatNotAvailableException(
+                    String.format("좌석 %s는 다른 사용자가 예약 중입니다", heldSeatIds));
+        }
 
-            seats.forEach(ScheduleSeat::reserve);
+        try {
+            // 좌석 선점 (전략: 비관적 락 / 조건부 UPDATE)
+            List<ScheduleSeat> seats = seatReservationStrategy.reserve(scheduleId, sortedSeatIds);
 
             BigDecimal totalAmount = seats.stream()
                     .map(ScheduleSeat::getPrice)
@@ -96,8 +101,10 @@ public class ReservationService {
                     .toList();
             reservationDetailRepository.saveAll(details);
 
-            // 좌석 캐시 무효화 (Write-Through)
-            evictSeatCache(scheduleId);
+            // 좌석 맵 캐시 패치 (커밋 후 예약된 좌석 비트만 변경)
+            eventPublisher.publishEvent(SeatStatusChangedEvent.of(scheduleId, seats, SeatStatus.RESERVED));
+            // 만료 기한 인덱스 등록 (커밋 후, 만료 직후 좌석 해제용)
+            eventPublisher.publishEvent(ReservationCreatedEvent.of(savedReservation));
 
             return savedReservation;
 
@@ -110,43 +117,139 @@ public class ReservationService {
      * 만료된 예약을 처리하고 좌석을 해제
      * - 조건부 UPDATE로 race condition 방지
      * - 결제와 만료 배치가 동시 실행되어도 안전
+     * - id 기준 keyset 페이지(청크)마다 별도 트랜잭션으로 처리 (대량 만료 시에도 메모리/IN 절/트랜잭션 길이 제한)
      * 
      * @return 만료 처리된 예약 수
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int expireReservationsAndReleaseSeats() {
         LocalDateTime now = LocalDateTime.now();
+        return sweepExpired(now,
+                (afterId, limit) -> reservationRepository.findExpiredReservations(now, afterId, limit));
+    }
 
-        try {
-            // Step 1: 만료된 예약 조회 (좌석 ID 수집용)
-            List<Reservation> expiredReservations = reservationRepository.findExpiredReservations(now);
+    /**
+     * 담당 파티션의 만료된 예약만 처리하고 좌석을 해제
+     * - 파티션 = scheduleId % partitionCount (같은 일정의 예약은 한 서버가 처리)
+     * - 조회한 예약 ID로만 UPDATE하여 다른 서버 담당 예약은 건드리지 않음
+     * - id 기준 keyset 페이지(청크)마다 별도 트랜잭션으로 처리
+     *
+     * @param partitionCount 전체 파티션 수
+     * @param partitions 현재 서버가 담당하는 파티션 번호
+     * @return 만료 처리된 예약 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int expireReservationsAndReleaseSeats(int partitionCount, Set<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return sweepExpired(now,
+                (afterId, limit) -> reservationRepository.findExpiredReservations(
+                        now, partitionCount, partitions, afterId, limit));
+    }
+
+    /**
+     * 지정한 예약 중 만료된 예약만 처리하고 좌석을 해제
+     * - 만료 기한 인덱스에서 꺼낸 예약 ID로 호출 (테이블 스캔 없이 PK 조회)
+     * - 그 사이 결제된 예약은 PENDING이 아니므로 제외
+     * - 호출자가 배치 크기를 제한하므로 한 청크(한 트랜잭션)로 처리
+     *
+     * @param reservationIds 만료 시각이 지난 예약 ID
+     * @return 만료 처리된 예약 수
+     */
+    public int expireReservationsAndReleaseSeats(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> expired = reservationRepository.findAllById(reservationIds).stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING)
+                .filter(reservation -> reservation.getExpiresAt().isBefore(now))
+                .toList();
+        return expireChunk(now, expired);
+    }
 
-            if (expiredReservations.isEmpty()) {
-                log.debug("만료된 예약이 없습니다.");
-                return 0;
+    /**
+     * 만료 예약을 keyset 페이지로 끝까지 순회하며 청크마다 짧은 트랜잭션으로 만료/해제
+     * - 청크 처리에 실패하면 그 청크만 롤백하고 다음 청크로 진행 (앞서 커밋된 청크는 유지)
+     * - 실패한 청크의 예약은 다음 스캔(또는 만료 기한 인덱스)에서 다시 처리
+     *
+     * @param now 만료 기준 시각
+     * @param chunkFinder (afterId, limit) → afterId 보다 큰 ID의 만료 예약 (ID 오름차순)
+     * @return 만료 처리된 예약 수
+     */
+    private int sweepExpired(LocalDateTime now, BiFunction<Long, Integer, List<Reservation>> chunkFinder) {
+        int chunkSize = expiryProperties.sweepChunkSize();
+        long afterId = 0;
+        int totalExpired = 0;
+        int chunks = 0;
+        int failedChunks = 0;
+
+        while (true) {
+            List<Reservation> chunk = chunkFinder.apply(afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            long chunkAfterId = afterId;
+            afterId = chunk.get(chunk.size() - 1).getId();
+            chunks++;
+
+            try {
+                Integer expiredCount = transactionTemplate.execute(status -> expireChunk(now, chunk));
+                totalExpired += expiredCount != null ? expiredCount : 0;
+            } catch (RuntimeException e) {
+                failedChunks++;
+                log.error("예약 만료 청크 처리 실패 - afterId: {}, 조회: {}건", chunkAfterId, chunk.size(), e);
             }
 
-            // Step 2: 좌석 ID 수집
-            List<Long> seatIds = expiredReservations.stream()
-                    .flatMap(reservation -> {
-                        List<ReservationDetail> details = reservationDetailRepository
-                                .findAllByReservationId(reservation.getId());
-                        return details.stream().map(ReservationDetail::getSeatId);
-                    })
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (chunks == 0) {
+            log.debug("만료된 예약이 없습니다.");
+        } else {
+            log.info("예약 만료 처리 완료 - 예약: {}건, 청크: {}개 (실패 {}개)", totalExpired, chunks, failedChunks);
+        }
+        return totalExpired;
+    }
+
+    /**
+     * 예약 청크 만료 + 좌석 해제 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param now 만료 기준 시각
+     * @param chunk 만료 대상 예약
+     * @return 만료 처리된 예약 수
+     */
+    private int expireChunk(LocalDateTime now, List<Reservation> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            List<Long> reservationIds = chunk.stream()
+                    .map(Reservation::getId)
+                    .toList();
+
+            // Step 1: 좌석 ID 수집 (청크 전체를 한 번에 조회)
+            List<Long> seatIds = reservationDetailRepository.findAllByReservationIdIn(reservationIds).stream()
+                    .map(ReservationDetail::getSeatId)
                     .toList();
 
-            // Step 3: 조건부 UPDATE로 예약 만료 (PENDING → CANCELLED)
-            int expiredCount = reservationRepository.expireIfPendingAndExpired(now);
+            // Step 2: 조건부 UPDATE로 예약 만료 (PENDING → CANCELLED)
+            int expiredCount = reservationRepository.expireIfPendingAndExpired(now, reservationIds);
 
-            // Step 4: 조건부 UPDATE로 좌석 해제 (RESERVED → AVAILABLE)
+            // Step 3: 조건부 UPDATE로 좌석 해제 (RESERVED → AVAILABLE)
             int releasedCount = seatRepository.releaseSeatsIfReserved(seatIds);
 
-            // Step 5: 좌석 캐시 무효화
-            expiredReservations.stream()
-                    .map(Reservation::getScheduleId)
-                    .distinct()
-                    .forEach(this::evictSeatCache);
+            // Step 4: 좌석 맵 캐시 패치 (실제로 해제된 좌석만 - 그 사이 결제로 판매된 좌석 제외)
+            publishReleasedSeats(seatIds);
 
-            log.info("예약 만료 처리 완료 - 예약: {}건, 좌석: {}건", expiredCount, releasedCount);
+            expiryMetrics.recordChunk(chunk.size(), expiredCount, releasedCount, System.nanoTime() - startedAt);
+            log.debug("예약 만료 청크 처리 - 조회: {}건, 예약: {}건, 좌석: {}건",
+                    chunk.size(), expiredCount, releasedCount);
             return expiredCount;
 
         } catch (OptimisticLockingFailureException e) {
@@ -157,15 +260,18 @@ public class ReservationService {
     }
 
     /**
-     * 좌석 캐시 무효화
-     * 
-     * @param scheduleId 스케줄 ID
+     * 해제된 좌석을 일정별로 모아 좌석 상태 변경 이벤트 발행
+     *
+     * @param seatIds 해제를 시도한 좌석 ID 목록
      */
-    private void evictSeatCache(Long scheduleId) {
-        Cache cache = cacheManager.getCache(SEAT_CACHE_NAME);
-        if (cache != null) {
-            cache.evict(scheduleId);
-            log.debug("좌석 캐시 무효화 - scheduleId: {}", scheduleId);
+    private void publishReleasedSeats(List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return;
         }
+        seatRepository.findAllById(seatIds).stream()
+                .filter(ScheduleSeat::isAvailable)
+                .collect(Collectors.groupingBy(ScheduleSeat::getScheduleId))
+                .forEach((scheduleId, seats) -> eventPublisher.publishEvent(
+                        SeatStatusChangedEvent.of(scheduleId, seats, SeatStatus.AVAILABLE)));
     }
 }
@@ -0,0 +1,299 @@
+package kr.hhplus.be.server.reservation.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.reservation.ReservationTicketProperties;
+import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.application.exception.ReservationUnavailableException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationTicket;
+import kr.hhplus.be.server.reservation.infrastructure.redis.ReservationTicketRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 예약 접수 서비스 (티켓 발급 + 일정별 작업 큐)
+ *
+ * 요청 스레드는 티켓을 발급해 작업 큐에 넣고 바로 반환하므로,
+ * 좌석 락 경합이 심해도 요청 스레드와 DB 커넥션이 묶이지 않습니다.
+ *
+ * 처리 흐름:
+ * 1. submit: 티켓(QUEUED)을 Redis에 저장 → 일정별 큐(용량 제한)에 추가 → 티켓 ID 반환
+ * 2. 작업 스레드(workers개): 대기 요청이 있는 일정을 돌아가며 꺼내 최대 drain-batch-size건씩 처리
+ *    - 한 일정은 한 번에 한 작업 스레드만 꺼냄 (일정 간 라운드 로빈)
+ *    - 예약 시퀀서가 켜져 있으면 꺼낸 요청을 결과를 기다리지 않고 모두 시퀀서에 넘김 (한 배치로 group commit)
+ *    - 일정별 처리 중 요청 수는 max-in-flight-per-schedule로 제한 (결과가 돌아와야 다음 요청을 꺼냄)
+ * 3. 결과(CONFIRMED / FAILED)를 Redis 티켓에 기록 → 클라이언트는 티켓 ID로 조회
+ *
+ * 작업 큐는 서버 메모리에 있으므로 서버가 비정상 종료되면 처리 전 티켓은 QUEUED로 남고 TTL 후 사라집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationTicketService {
+
+    private static final String TOO_MANY_REQUESTS = "예약 요청이 많습니다. 잠시 후 다시 시도해주세요";
+
+    private final ReservationService reservationService;
+    private final ReservationSequencer reservationSequencer;
+    private final ReservationTicketRedisRepository ticketRepository;
+    private final ReservationTicketProperties properties;
+
+    private final ConcurrentHashMap<Long, ScheduleQueue> queues = new ConcurrentHashMap<>();
+    // 꺼낼 요청과 처리 여유가 있고 작업 스레드가 잡지 않은 일정 (일정당 최대 하나)
+    private final BlockingQueue<Long> readySchedules = new LinkedBlockingQueue<>();
+    private final Set<Long> scheduledSchedules = ConcurrentHashMap.newKeySet();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * 일정별 대기 요청 + 처리 중 요청 허용량
+     */
+    private static final class ScheduleQueue {
+
+        private final BlockingQueue<ReservationTicket> tickets;
+        private final Semaphore inFlight;
+        private final int maxInFlight;
+
+        private ScheduleQueue(int capacity, int maxInFlight) {
+            this.tickets = new ArrayBlockingQueue<>(capacity);
+            this.inFlight = new Semaphore(maxInFlight);
+            this.maxInFlight = maxInFlight;
+        }
+
+        private boolean runnable() {
+            return !tickets.isEmpty() && inFlight.availablePermits() > 0;
+        }
+
+        private boolean idle() {
+            return tickets.isEmpty() && inFlight.availablePermits() == maxInFlight;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int index = 0; index < properties.workers(); index++) {
+            Thread worker = new Thread(this::work, "reservation-ticket-" + index);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 예약 요청 접수
+     *
+     * @param userId     사용자 ID
+     * @param scheduleId 콘서트 일정 ID
+     * @param seatIds    예약할 좌석 ID 목록
+     * @return 발급된 티켓 (QUEUED)
+     * @throws ConcurrentReservationException  일정의 대기 요청이 가득 찬 경우
+     * @throws ReservationUnavailableException 티켓을 저장할 수 없는 경우 (Redis 장애)
+     */
+    public ReservationTicket submit(Long userId, Long scheduleId, List<Long> seatIds) {
+        if (userId == null || scheduleId == null) {
+            throw new IllegalArgumentException("사용자 ID와 일정 ID는 필수입니다.");
+        }
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("예약할 좌석이 없습니다.");
+        }
+
+        // 가득 찬 일정은 티켓을 저장하기 전에 거절
+        ScheduleQueue current = queues.get(scheduleId);
+        if (current != null && current.tickets.remainingCapacity() == 0) {
+            throw new ConcurrentReservationException(TOO_MANY_REQUESTS);
+        }
+
+        ReservationTicket ticket = ReservationTicket.create(
+            UUID.randomUUID().toString(), userId, scheduleId, seatIds, System.currentTimeMillis());
+        try {
+            ticketRepository.save(ticket, properties.resultTtlMs());
+        } catch (DataAccessException e) {
+            log.error("예약 접수 티켓 저장 실패 - userId: {}, scheduleId: {}", userId, scheduleId, e);
+            throw new ReservationUnavailableException("예약 요청을 접수할 수 없습니다. 잠시 후 다시 시도해주세요", e);
+        }
+
+        // 큐 추가와 빈 큐 정리가 겹치지 않도록 일정 단위로 원자적으로 처리
+        boolean[] accepted = new boolean[1];
+        queues.compute(scheduleId, (id, existing) -> {
+            ScheduleQueue queue = existing != null ? existing
+                : new ScheduleQueue(properties.queueCapacity(), properties.maxInFlightPerSchedule());
+            accepted[0] = queue.tickets.offer(ticket);
+            return queue;
+        });
+        if (!accepted[0]) {
+            // 저장 직후 다른 요청이 자리를 채운 경우 - 조회할 수 없는 티켓은 남기지 않음
+            deleteQuietly(ticket.ticketId());
+            throw new ConcurrentReservationException(TOO_MANY_REQUESTS);
+        }
+        scheduleIfRunnable(scheduleId);
+        return ticket;
+    }
+
+    /**
+     * 티켓 조회 (만료되었거나 없는 티켓은 empty)
+     */
+    public Optional<ReservationTicket> getTicket(String ticketId) {
+        return ticketRepository.findById(ticketId);
+    }
+
+    /**
+     * 일정별 대기 요청 수 (모니터링용)
+     */
+    public int getQueueSize(Long scheduleId) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        return queue != null ? queue.tickets.size() : 0;
+    }
+
+    /**
+     * 꺼낼 요청과 처리 여유가 있으면 작업 대상에 추가
+     * - 요청 추가, 처리 완료, 작업 스레드 반납 후마다 호출하므로 깨우기가 누락되지 않음
+     */
+    private void scheduleIfRunnable(Long scheduleId) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue != null && queue.runnable() && scheduledSchedules.add(scheduleId)) {
+            readySchedules.offer(scheduleId);
+        }
+    }
+
+    /**
+     * 대기 요청도 처리 중 요청도 없는 일정의 큐 제거 (일정이 계속 늘어도 메모리가 쌓이지 않도록)
+     */
+    private void pruneIfIdle(Long scheduleId) {
+        queues.computeIfPresent(scheduleId, (id, queue) -> queue.idle() ? null : queue);
+    }
+
+    /**
+     * 작업 스레드 루프
+     * - 일정을 하나 꺼내 처리 여유만큼(최대 drain-batch-size건) 요청을 넘기고, 남은 요청이 있으면 맨 뒤로 다시 넣음
+     */
+    private void work() {
+        while (running) {
+            Long scheduleId;
+            try {
+                scheduleId = readySchedules.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (scheduleId == null) {
+                continue;
+            }
+
+            try {
+                drain(scheduleId);
+            } catch (Exception e) {
+                // 작업 스레드는 예외가 발생해도 중단되지 않아야 함
+                log.error("예약 접수 티켓 처리 중 오류 발생 - scheduleId: {}", scheduleId, e);
+            } finally {
+                scheduledSchedules.remove(scheduleId);
+                scheduleIfRunnable(scheduleId);
+                pruneIfIdle(scheduleId);
+            }
+        }
+    }
+
+    private void drain(Long scheduleId) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue == null) {
+            return;
+        }
+        for (int count = 0; count < properties.drainBatchSize(); count++) {
+            // 허용량을 먼저 확보한 뒤 꺼냄 (처리 중 요청이 있는 큐는 정리되지 않음)
+            if (!queue.inFlight.tryAcquire()) {
+                return;
+            }
+            ReservationTicket ticket = queue.tickets.poll();
+            if (ticket == null) {
+                queue.inFlight.release();
+                return;
+            }
+            dispatch(queue, ticket);
+        }
+    }
+
+    /**
+     * 요청 처리
+     * - 시퀀서 사용 시: 결과를 기다리지 않고 넘기고, 커밋 후 콜백에서 결과 기록
+     * - 미사용 시: 작업 스레드에서 바로 예약
+     */
+    private void dispatch(ScheduleQueue queue, ReservationTicket ticket) {
+        if (!reservationSequencer.isEnabled()) {
+            try {
+                Reservation reservation = reservationService.createReservation(
+                    ticket.userId(), ticket.scheduleId(), ticket.seatIds());
+                complete(queue, ticket, reservation, null);
+            } catch (RuntimeException e) {
+                complete(queue, ticket, null, e);
+            }
+            return;
+        }
+        reservationSequencer.submit(ticket.userId(), ticket.scheduleId(), ticket.seatIds())
+            .whenComplete((reservation, failure) -> complete(queue, ticket, reservation, failure));
+    }
+
+    private void complete(ScheduleQueue queue, ReservationTicket ticket, Reservation reservation, Throwable failure) {
+        try {
+            saveResult(resultOf(ticket, reservation, failure));
+        } finally {
+            queue.inFlight.release();
+            scheduleIfRunnable(ticket.scheduleId());
+            pruneIfIdle(ticket.scheduleId());
+        }
+    }
+
+    private ReservationTicket resultOf(ReservationTicket ticket, Reservation reservation, Throwable failure) {
+        if (failure == null) {
+            return ticket.confirm(reservation.getId());
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause() : failure;
+        if (cause instanceof SeatNotAvailableException
+                || cause instanceof ConcurrentReservationException
+                || cause instanceof IllegalArgumentException) {
+            return ticket.fail(cause.getMessage());
+        }
+        log.error("예약 처리 실패 - ticketId: {}", ticket.ticketId(), cause);
+        return ticket.fail("예약 처리 중 오류가 발생했습니다.");
+    }
+
+    private void saveResult(ReservationTicket ticket) {
+        try {
+            ticketRepository.save(ticket, properties.resultTtlMs());
+        } catch (RuntimeException e) {
+            // 결과 기록 실패 시 티켓은 QUEUED로 남음 (예약 자체는 유지, 만료 시 좌석 해제)
+            log.error("예약 접수 결과 기록 실패 - ticketId: {}, status: {}", ticket.ticketId(), ticket.status(), e);
+        }
+    }
+
+    private void deleteQuietly(String ticketId) {
+        try {
+            ticketRepository.delete(ticketId);
+        } catch (RuntimeException e) {
+            log.warn("거절된 예약 접수 티켓 삭제 실패 - ticketId: {}", ticketId, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.reservation.SeatHoldProperties;
+import kr.hhplus.be.server.reservation.application.exception.ReservationUnavailableException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold.HeldSeat;
+import kr.hhplus.be.server.reservation.infrastructure.redis.SeatHoldRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 선점 서비스 (Redis 좌석 선점 엔진)
+ *
+ * 좌석 경합을 MySQL 비관적 락 대신 Redis Lua 한 번으로 해결합니다.
+ * 1. 좌석 조회 (락 없음) - 일정/상태/가격 확인
+ * 2. Redis에 좌석 일괄 선점 (all-or-nothing, TTL = 선점 유지 시간)
+ * 3. 선점 정보를 저장 대기열에 등록 → SeatHoldWriteBehind가 배치로 예약/예약 상세 저장
+ *
+ * 클라이언트는 holdId로 선점 결과(확정된 예약 ID)를 조회합니다.
+ *
+ * 활성화 시(reservation.seat-hold.enabled=true) 예약 API의 진입점이 되며,
+ * 기존 DB 예약 경로(ReservationService/ReservationSequencer)도 findHeldSeatIds로 선점된 좌석을 피합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private final ScheduleSeatRepository seatRepository;
+    private final SeatHoldRedisRepository seatHoldRedisRepository;
+    private final SeatHoldProperties properties;
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 좌석 선점
+     *
+     * @param userId     사용자 ID
+     * @param scheduleId 콘서트 일정 ID
+     * @param seatIds    선점할 좌석 ID 목록
+     * @return 선점 정보 (상태 HELD)
+     */
+    public SeatHold holdSeats(Long userId, Long scheduleId, List<Long> seatIds) {
+        if (!properties.enabled()) {
+            throw new IllegalStateException("좌석 선점 기능이 비활성화되어 있습니다.");
+        }
+        if (seatIds.isEmpty()) {
+            throw new IllegalArgumentException("예약할 좌석이 없습니다.");
+        }
+
+        List<Long> sortedSeatIds = seatIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        // Step 1: 좌석 검증 (락 없이 조회 - 최종 확인은 저장 시점에 수행)
+        List<ScheduleSeat> seats = seatRepository.findAllById(sortedSeatIds).stream()
+                .filter(seat -> scheduleId.equals(seat.getScheduleId()) && seat.isAvailable())
+                .sorted(Comparator.comparing(ScheduleSeat::getId))
+                .toList();
+        if (seats.size() != sortedSeatIds.size()) {
+            Set<Long> foundIds = seats.stream()
+                    .map(ScheduleSeat::getId)
+                    .collect(Collectors.toSet());
+            Set<Long> notFoundIds = new HashSet<>(sortedSeatIds);
+            notFoundIds.removeAll(foundIds);
+
+            throw new SeatNotAvailableException(
+                    String.format("좌석 %s는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)", notFoundIds));
+        }
+
+        // Step 2: Redis 일괄 선점
+        String holdId = UUID.randomUUID().toString();
+        List<Long> conflicts;
+        try {
+            conflicts = seatHoldRedisRepository.hold(scheduleId, sortedSeatIds, holdId, properties.holdTtlMs());
+        } catch (DataAccessException e) {
+            log.error("좌석 선점 실패 - Redis 오류: scheduleId={}, {}", scheduleId, e.getMessage());
+            throw new ReservationUnavailableException("좌석 선점에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        if (!conflicts.isEmpty()) {
+            throw new SeatNotAvailableException(
+                    String.format("좌석 %s는 다른 사용자가 예약 중입니다", conflicts));
+        }
+
+        // Step 3: 저장 대기 등록 (실패 시 선점 해제)
+        List<HeldSeat> heldSeats = seats.stream()
+                .map(seat -> new HeldSeat(seat.getId(), seat.getVenueSeatId().intValue(), seat.getPrice()))
+                .toList();
+        SeatHold hold = SeatHold.create(holdId, userId, scheduleId, heldSeats,
+                System.currentTimeMillis(), properties.holdTtlMs());
+        try {
+            seatHoldRedisRepository.enqueue(hold, properties.resultTtlMs());
+        } catch (DataAccessException e) {
+            seatHoldRedisRepository.release(scheduleId, sortedSeatIds, holdId);
+            log.error("좌석 선점 등록 실패 - Redis 오류: holdId={}, {}", holdId, e.getMessage());
+            throw new ReservationUnavailableException("좌석 선점에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return hold;
+    }
+
+    /**
+     * 선점 결과 조회
+     *
+     * @param holdId 선점 ID
+     * @return 선점 정보 (CONFIRMED면 reservationId로 결제 진행), 없거나 보관 기간이 지나면 empty
+     */
+    public Optional<SeatHold> getHold(String holdId) {
+        return seatHoldRedisRepository.findById(holdId);
+    }
+
+    /**
+     * 다른 선점이 잡고 있는 좌석 조회 (DB 예약 경로에서 선점된 좌석을 가로채지 않도록)
+     * - 비활성화 시 조회하지 않음
+     * - Redis 장애 시 확인을 건너뜀: 최종 판단은 DB 좌석 상태이며, 가로챈 좌석의 선점은 저장 시 FAILED 처리됨
+     *
+     * @return 선점 중인 좌석 ID (없으면 빈 목록)
+     */
+    public List<Long> findHeldSeatIds(Long scheduleId, List<Long> seatIds) {
+        if (!properties.enabled() || seatIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return seatHoldRedisRepository.findHeldSeatIds(scheduleId, seatIds);
+        } catch (DataAccessException e) {
+            log.warn("좌석 선점 확인 실패 - Redis 오류, 확인 생략: scheduleId={}, {}", scheduleId, e.getMessage());
+            return List.of();
+        }
+    }
+}
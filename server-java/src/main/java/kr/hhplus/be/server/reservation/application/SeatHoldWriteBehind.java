@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.reservation.SeatHoldProperties;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.event.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.infrastructure.redis.SeatHoldRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 선점 → MySQL 저장 (write-behind)
+ *
+ * 저장 대기 선점을 배치로 가져와 한 트랜잭션에서 예약/예약 상세를 저장합니다.
+ * - 좌석 행 락은 요청마다가 아니라 배치마다 한 번만 획득 (좌석 ID 정렬 → 데드락 방지)
+ * - DB 좌석이 이미 예약/판매된 선점은 FAILED 처리 후 Redis 선점 해제
+ * - 트랜잭션 실패 시 inflight에 남겨 두고 재조정(reconcile)에서 다시 저장 대기로 되돌림
+ * - 재시도된 선점이 이미 저장되어 있으면 기존 예약으로 확정 (중복 저장 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldWriteBehind {
+
+    private final SeatHoldRedisRepository seatHoldRedisRepository;
+    private final ScheduleSeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationDetailRepository reservationDetailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatHoldProperties properties;
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 저장 대기 선점을 한 배치 저장
+     *
+     * @return 처리한 선점 수 (확정 + 실패)
+     */
+    public int flush() {
+        List<String> holdIds = seatHoldRedisRepository.claimPending(properties.batchSize(), System.currentTimeMillis());
+        if (holdIds.isEmpty()) {
+            return 0;
+        }
+
+        // 결과 보관 시간이 지나 사라진 선점은 저장하지 않음
+        List<SeatHold> holds = seatHoldRedisRepository.findAllById(holdIds);
+
+        List<SeatHold> results = persistBatch(holds);
+
+        for (SeatHold result : results) {
+            seatHoldRedisRepository.save(result, properties.resultTtlMs());
+            if (result.reservationId() == null) {
+                seatHoldRedisRepository.release(result.scheduleId(), result.seatIds(), result.holdId());
+            }
+        }
+        seatHoldRedisRepository.complete(holdIds);
+
+        long confirmed = results.stream().filter(result -> result.reservationId() != null).count();
+        log.info("좌석 선점 저장 완료 - 확정: {}건, 실패: {}건", confirmed, results.size() - confirmed);
+        return results.size();
+    }
+
+    /**
+     * 저장 도중 중단된 선점을 다시 저장 대기로 되돌림
+     *
+     * @return 되돌린 선점 수
+     */
+    public long reconcile() {
+        return seatHoldRedisRepository.requeueStale(System.currentTimeMillis() - properties.inflightTimeoutMs());
+    }
+
+    /**
+     * 배치 저장 (실패 시 선점별 트랜잭션으로 나누어 재시도 - 문제 있는 선점 하나가 배치 전체를 막지 않도록)
+     * - 개별 저장에서도 검증 오류가 난 선점만 FAILED 처리
+     */
+    private List<SeatHold> persistBatch(List<SeatHold> holds) {
+        try {
+            return Objects.requireNonNull(transactionTemplate.execute(status -> persist(holds)));
+        } catch (RuntimeException e) {
+            if (holds.size() == 1) {
+                throw e;
+            }
+            log.warn("좌석 선점 배치 저장 실패, 개별 저장으로 재시도 - {}건: {}", holds.size(), e.getMessage());
+        }
+
+        List<SeatHold> results = new ArrayList<>(holds.size());
+        for (SeatHold hold : holds) {
+            try {
+                results.addAll(Objects.requireNonNull(transactionTemplate.execute(status -> persist(List.of(hold)))));
+            } catch (DataAccessException | TransactionException e) {
+                // DB 장애는 선점 실패가 아님 - inflight에 남겨 재조정 후 다시 저장 (저장된 선점은 findPersisted로 확정)
+                throw e;
+            } catch (RuntimeException e) {
+                log.error("좌석 선점 저장 실패 - holdId: {}, {}", hold.holdId(), e.getMessage());
+                results.add(hold.fail());
+            }
+        }
+        return results;
+    }
+
+    private List<SeatHold> persist(List<SeatHold> holds) {
+        if (holds.isEmpty()) {
+            return List.of();
+        }
+
+        // 배치 전체 좌석을 한 번에 락 (ID 정렬)
+        List<Long> seatIds = holds.stream()
+                .flatMap(hold -> hold.seatIds().stream())
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, ScheduleSeat> seats = seatRepository.findAllByIdWithLock(seatIds).stream()
+                .collect(Collectors.toMap(ScheduleSeat::getId, Function.identity()));
+
+        List<SeatHold> results = new ArrayList<>(holds.size());
+        Set<Long> claimedSeatIds = new HashSet<>();
+        for (SeatHold hold : holds) {
+            List<ScheduleSeat> holdSeats = hold.seatIds().stream()
+                    .map(seats::get)
+                    .toList();
+            boolean available = holdSeats.stream().allMatch(seat -> seat != null
+                    && hold.scheduleId().equals(seat.getScheduleId())
+                    && seat.isAvailable()
+                    && !claimedSeatIds.contains(seat.getId()));
+
+            if (!available) {
+                results.add(findPersisted(hold)
+                        .map(hold::confirm)
+                        .orElseGet(hold::fail));
+                continue;
+            }
+
+            holdSeats.forEach(ScheduleSeat::reserve);
+            holdSeats.forEach(seat -> claimedSeatIds.add(seat.getId()));
+            eventPublisher.publishEvent(SeatStatusChangedEvent.of(hold.scheduleId(), holdSeats, SeatStatus.RESERVED));
+
+            Reservation saved = reservationRepository.save(
+                    Reservation.create(hold.userId(), hold.scheduleId(), hold.totalAmount()));
+            reservationDetailRepository.saveAll(hold.seats().stream()
+                    .map(seat -> ReservationDetail.create(saved.getId(), seat.seatId(), seat.seatNumber(), seat.price()))
+                    .toList());
+            eventPublisher.publishEvent(ReservationCreatedEvent.of(saved));
+            results.add(hold.confirm(saved.getId()));
+        }
+        return results;
+    }
+
+    /**
+     * 재시도된 선점이 이전 시도에서 이미 저장되었는지 확인
+     * - 같은 사용자/일정의 취소되지 않은 예약 중 좌석 구성이 같은 예약
+     */
+    private Optional<Long> findPersisted(SeatHold hold) {
+        Set<Long> holdSeatIds = new HashSet<>(hold.seatIds());
+        Map<Long, Set<Long>> seatIdsByReservation = new HashMap<>();
+        for (Reservation reservation : reservationRepository.findAllByUserIdAndScheduleId(hold.userId(), hold.scheduleId())) {
+            if (reservation.getStatus() == ReservationStatus.CANCELLED
+                    || reservation.getStatus() == ReservationStatus.EXPIRED) {
+                continue;
+            }
+            seatIdsByReservation.put(reservation.getId(), reservationDetailRepository
+                    .findAllByReservationId(reservation.getId()).stream()
+                    .map(ReservationDetail::getSeatId)
+                    .collect(Collectors.toSet()));
+        }
+        return seatIdsByReservation.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(holdSeatIds))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+}
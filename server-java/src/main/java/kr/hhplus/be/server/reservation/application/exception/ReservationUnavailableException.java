@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.reservation.application.exception;
+
+/**
+ * 예약 접수 불가 예외 (티켓 저장소 등 의존 시스템 장애)
+ */
+public class ReservationUnavailableException extends RuntimeException {
+    public ReservationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
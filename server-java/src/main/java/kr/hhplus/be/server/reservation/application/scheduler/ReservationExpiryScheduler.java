@@ -1,14 +1,22 @@
 package kr.hhplus.be.server.reservation.application.scheduler;
 
+import kr.hhplus.be.server.config.reservation.ReservationExpiryProperties;
+import kr.hhplus.be.server.config.scheduler.PartitionLeaseManager;
 import kr.hhplus.be.server.reservation.application.ReservationService;
+import kr.hhplus.be.server.reservation.infrastructure.redis.ReservationDeadlineRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 예약 만료 스케줄러
- * - 1분마다 만료된 예약을 자동으로 취소하고 좌석 해제
+ * - 만료 기한 인덱스(Redis ZSet)를 1초마다 조회해 만료 직후 예약을 취소하고 좌석 해제
+ * - DB 전체 스캔은 인덱스에 누락된 예약을 위한 안전망으로 낮은 빈도로만 실행
+ * - 일정 ID 기준 파티션을 서버마다 나누어 처리 (서버가 늘면 처리량도 증가)
  */
 @Slf4j
 @Component
@@ -16,20 +24,77 @@ import org.springframework.stereotype.Component;
 public class ReservationExpiryScheduler {
 
     private final ReservationService reservationService;
+    private final PartitionLeaseManager partitionLeaseManager;
+    private final ReservationDeadlineRedisRepository deadlineRepository;
+    private final ReservationExpiryProperties expiryProperties;
+
+    private volatile long lastSweepAt;
+
+    /**
+     * 만료 기한 도래 예약 처리
+     * - 실행 주기: 1초 (reservation.expiry.poll-interval-ms)
+     * - 현재 서버가 임대한 파티션의 인덱스만 조회
+     * - 처리에 실패한 예약은 인덱스에 남겨 다음 주기에 다시 처리
+     */
+    @Scheduled(fixedDelayString = "${reservation.expiry.poll-interval-ms:1000}")
+    public void expireDueReservations() {
+        if (!expiryProperties.deadlineEnabled()) {
+            return;
+        }
+        for (int partition : partitionLeaseManager.ownedPartitions()) {
+            try {
+                expireDueReservations(partition);
+            } catch (Exception e) {
+                log.error("예약 만료 기한 처리 중 오류 발생 - partition: {}", partition, e);
+            }
+        }
+    }
+
+    private void expireDueReservations(int partition) {
+        List<Long> dueIds = deadlineRepository.findDue(partition, LocalDateTime.now(), expiryProperties.batchSize());
+        if (dueIds.isEmpty()) {
+            return;
+        }
+
+        int expiredCount = reservationService.expireReservationsAndReleaseSeats(dueIds);
+        deadlineRepository.remove(partition, dueIds);
+
+        if (expiredCount > 0) {
+            log.info("예약 만료 기한 처리 완료 - partition: {}, 만료: {}건 / 조회: {}건",
+                partition, expiredCount, dueIds.size());
+        }
+    }
 
     /**
-     * 만료된 예약 처리 스케줄러
-     * - 실행 주기: 1분마다 (fixedRate)
+     * DB 스캔 주기 확인
+     * - 스캔 주기는 인덱스 사용 여부에 따라 기본값이 달라지므로(ReservationExpiryProperties)
+     *   설정 문자열 대신 바인딩된 값으로 판단
      * - 초기 지연: 1분 (initialDelay)
      */
-    @Scheduled(fixedRate = 60_000, initialDelay = 60_000)
+    @Scheduled(fixedDelayString = "${reservation.expiry.poll-interval-ms:1000}", initialDelay = 60_000)
+    public void sweepIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastSweepAt < expiryProperties.sweepIntervalMs()) {
+            return;
+        }
+        lastSweepAt = now;
+        expireReservations();
+    }
+
+    /**
+     * 만료된 예약 처리 (DB 스캔)
+     * - 실행 주기: reservation.expiry.sweep-interval-ms (기본 5분, 인덱스 비활성화 시 1분)
+     * - 현재 서버가 임대한 파티션의 예약만 처리
+     */
     public void expireReservations() {
         try {
             log.debug("예약 만료 스케줄러 시작");
 
-            int expiredCount = reservationService.expireReservationsAndReleaseSeats();
+            int expiredCount = reservationService.expireReservationsAndReleaseSeats(
+                partitionLeaseManager.getPartitionCount(), partitionLeaseManager.ownedPartitions());
 
             if (expiredCount > 0) {
+                // 인덱스가 켜져 있는데 스캔에서 처리됐다면 인덱스 등록이 누락된 예약
                 log.info("예약 만료 스케줄러 완료 - 처리된 예약: {}건", expiredCount);
             } else {
                 log.debug("예약 만료 스케줄러 완료 - 처리할 예약 없음");
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.reservation.application.scheduler;
+
+import kr.hhplus.be.server.config.scheduler.LeaderOnly;
+import kr.hhplus.be.server.reservation.application.SeatHoldWriteBehind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 선점 저장(write-behind) 스케줄러
+ * - 저장: 모든 서버에서 실행 (저장 대기 선점은 Lua로 원자적으로 나누어 가져감)
+ * - 재조정: 리더 서버에서만 실행 (저장 도중 중단된 선점을 다시 저장 대기로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldWriteBehindScheduler {
+
+    private final SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Scheduled(fixedDelayString = "${reservation.seat-hold.flush-interval-ms:200}")
+    public void flush() {
+        if (!seatHoldWriteBehind.isEnabled()) {
+            return;
+        }
+        try {
+            seatHoldWriteBehind.flush();
+        } catch (Exception e) {
+            log.error("좌석 선점 저장 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+
+    @LeaderOnly
+    @Scheduled(fixedDelayString = "${reservation.seat-hold.inflight-timeout-ms:30000}")
+    public void reconcile() {
+        if (!seatHoldWriteBehind.isEnabled()) {
+            return;
+        }
+        try {
+            long requeued = seatHoldWriteBehind.reconcile();
+            if (requeued > 0) {
+                log.warn("저장 중단된 좌석 선점 재등록: {}건", requeued);
+            }
+        } catch (Exception e) {
+            log.warn("좌석 선점 재조정 스케줄러 실행 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.reservation.application.strategy;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 조건부 UPDATE 좌석 선점 (compare-and-set)
+ * - UPDATE ... WHERE schedule_id = ? AND id IN (...) AND status = 'AVAILABLE' 한 문장으로 선점
+ * - 영향받은 행 수가 요청 좌석 수와 다르면 실패 → 예외로 트랜잭션 롤백 (일부 선점도 취소)
+ * - 락 조회 왕복이 없고, 행 락은 UPDATE부터 커밋까지만 유지
+ */
+@RequiredArgsConstructor
+public class ConditionalUpdateSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final ScheduleSeatRepository seatRepository;
+
+    @Override
+    public List<ScheduleSeat> reserve(Long scheduleId, List<Long> sortedSeatIds) {
+        LocalDateTime reservedUntil = LocalDateTime.now().plus(ScheduleSeat.RESERVATION_HOLD);
+        int reserved = seatRepository.reserveIfAvailable(scheduleId, sortedSeatIds, reservedUntil);
+
+        if (reserved != sortedSeatIds.size()) {
+            // 어떤 좌석이 먼저 선점됐는지는 같은 트랜잭션에서 구분할 수 없으므로 요청 좌석 전체를 안내
+            throw new SeatNotAvailableException(
+                    String.format("좌석 %s 중 일부는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)", sortedSeatIds));
+        }
+
+        // 선점한 좌석의 가격/좌석 번호 조회 (잠금 없는 PK 조회)
+        return seatRepository.findAllById(sortedSeatIds).stream()
+                .sorted(Comparator.comparing(ScheduleSeat::getId))
+                .toList();
+    }
+}
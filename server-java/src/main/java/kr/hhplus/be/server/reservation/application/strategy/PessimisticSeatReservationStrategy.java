@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.reservation.application.strategy;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 비관적 락 좌석 선점
+ * - 예약 가능한 좌석을 SELECT ... FOR UPDATE로 조회한 뒤 엔티티 상태 변경 (커밋 시 UPDATE)
+ * - 행 락을 조회 시점부터 커밋까지 유지
+ */
+@RequiredArgsConstructor
+public class PessimisticSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final ScheduleSeatRepository seatRepository;
+
+    @Override
+    public List<ScheduleSeat> reserve(Long scheduleId, List<Long> sortedSeatIds) {
+        // 스케줄 ID와 상태 검증 포함
+        List<ScheduleSeat> seats = seatRepository.findAvailableByScheduleIdAndIdWithLock(
+                scheduleId, sortedSeatIds);
+
+        if (seats.size() != sortedSeatIds.size()) {
+            // 명확한 실패 이유 제공
+            Set<Long> foundIds = seats.stream()
+                    .map(ScheduleSeat::getId)
+                    .collect(Collectors.toSet());
+            Set<Long> notFoundIds = new HashSet<>(sortedSeatIds);
+            notFoundIds.removeAll(foundIds);
+
+            throw new SeatNotAvailableException(
+                    String.format("좌석 %s는 예약할 수 없습니다 (이미 예약됨 또는 다른 스케줄)", notFoundIds));
+        }
+
+        seats.forEach(ScheduleSeat::reserve);
+        return seats;
+    }
+}
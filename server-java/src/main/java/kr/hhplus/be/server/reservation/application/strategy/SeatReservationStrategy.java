@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.reservation.application.strategy;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+
+import java.util.List;
+
+/**
+ * 좌석 선점 전략
+ * - ReservationService.createReservation 트랜잭션 안에서 호출
+ * - 배포 설정(reservation.seat-reservation.strategy)으로 선택
+ *
+ * 구현체:
+ * - PessimisticSeatReservationStrategy: SELECT ... FOR UPDATE 후 엔티티 변경 (기본값)
+ * - ConditionalUpdateSeatReservationStrategy: 조건부 UPDATE 한 문장 + 영향받은 행 수 확인
+ */
+public interface SeatReservationStrategy {
+
+    /**
+     * 좌석 선점 (AVAILABLE → RESERVED)
+     * - 요청한 좌석을 모두 선점하지 못하면 예외 (트랜잭션 롤백으로 일부 선점도 취소)
+     *
+     * @param scheduleId 콘서트 일정 ID
+     * @param sortedSeatIds 선점할 좌석 ID 목록 (ID 오름차순, 데드락 방지)
+     * @return 선점된 좌석 (ID 오름차순, RESERVED 상태)
+     * @throws kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException
+     *         이미 예약되었거나 다른 일정의 좌석이 포함된 경우
+     * @throws org.springframework.dao.PessimisticLockingFailureException 락 대기 시간 초과
+     */
+    List<ScheduleSeat> reserve(Long scheduleId, List<Long> sortedSeatIds);
+}
@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.reservation.domain.enums;
+
+/**
+ * 비동기 예약 접수 티켓 상태
+ */
+public enum ReservationTicketStatus {
+    QUEUED,         // 접수됨 (일정별 작업 큐에서 처리 대기)
+    CONFIRMED,      // 예약 생성 완료 (reservationId 발급)
+    FAILED          // 예약 실패 (좌석 없음, 락 경합 등 - failureReason 참고)
+}
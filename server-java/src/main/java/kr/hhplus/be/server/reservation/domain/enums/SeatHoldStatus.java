@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.reservation.domain.enums;
+
+/**
+ * 좌석 선점 상태
+ */
+public enum SeatHoldStatus {
+    HELD,           // Redis에 선점됨 (MySQL 저장 대기)
+    CONFIRMED,      // 예약으로 저장 완료 (reservationId 발급)
+    FAILED          // 저장 실패 (DB 좌석 상태 불일치, 선점 해제됨)
+}
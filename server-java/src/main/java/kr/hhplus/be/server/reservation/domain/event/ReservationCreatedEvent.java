@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.reservation.domain.event;
+
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성 이벤트 (PENDING 예약 저장 직후 발행)
+ * - 커밋 후 만료 기한 인덱스에 등록하는 용도
+ *
+ * @param reservationId 예약 ID
+ * @param scheduleId 일정 ID (만료 처리 파티션 결정)
+ * @param expiresAt 만료 시각
+ */
+public record ReservationCreatedEvent(
+    Long reservationId,
+    Long scheduleId,
+    LocalDateTime expiresAt
+) {
+
+    public static ReservationCreatedEvent of(Reservation reservation) {
+        return new ReservationCreatedEvent(reservation.getId(), reservation.getScheduleId(), reservation.getExpiresAt());
+    }
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+import kr.hhplus.be.server.reservation.domain.enums.ReservationTicketStatus;
+
+import java.util.List;
+
+/**
+ * 비동기 예약 접수 티켓
+ * 예약 요청을 접수한 즉시 발급하고, 작업 큐에서 처리된 결과를 기록합니다.
+ *
+ * @param ticketId      티켓 ID (클라이언트가 결과 조회에 사용)
+ * @param userId        사용자 ID
+ * @param scheduleId    콘서트 일정 ID
+ * @param seatIds       예약할 좌석 ID 목록
+ * @param submittedAt   접수 시각 (epoch millis)
+ * @param status        티켓 상태
+ * @param reservationId 생성된 예약 ID (CONFIRMED일 때만)
+ * @param failureReason 실패 사유 (FAILED일 때만)
+ */
+public record ReservationTicket(
+    String ticketId,
+    Long userId,
+    Long scheduleId,
+    List<Long> seatIds,
+    long submittedAt,
+    ReservationTicketStatus status,
+    Long reservationId,
+    String failureReason
+) {
+
+    /**
+     * 티켓 발급 (접수)
+     */
+    public static ReservationTicket create(String ticketId, Long userId, Long scheduleId, List<Long> seatIds,
+                                           long now) {
+        return new ReservationTicket(ticketId, userId, scheduleId, List.copyOf(seatIds), now,
+            ReservationTicketStatus.QUEUED, null, null);
+    }
+
+    /**
+     * 예약 생성 완료
+     */
+    public ReservationTicket confirm(Long reservationId) {
+        return new ReservationTicket(ticketId, userId, scheduleId, seatIds, submittedAt,
+            ReservationTicketStatus.CONFIRMED, reservationId, null);
+    }
+
+    /**
+     * 예약 실패
+     */
+    public ReservationTicket fail(String failureReason) {
+        return new ReservationTicket(ticketId, userId, scheduleId, seatIds, submittedAt,
+            ReservationTicketStatus.FAILED, null, failureReason);
+    }
+}
@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.reservation.domain.model;
+
+import kr.hhplus.be.server.reservation.domain.enums.SeatHoldStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 좌석 선점 (Redis 좌석 선점 엔진)
+ * 좌석을 Redis에서 먼저 확보하고, 예약/예약 상세는 비동기로 MySQL에 저장합니다.
+ *
+ * @param holdId        선점 ID (클라이언트가 결과 조회에 사용)
+ * @param userId        사용자 ID
+ * @param scheduleId    콘서트 일정 ID
+ * @param seats         선점한 좌석 (좌석 ID 오름차순)
+ * @param totalAmount   예약 금액
+ * @param heldAt        선점 시각 (epoch millis)
+ * @param expiresAt     선점 만료 시각 (epoch millis)
+ * @param status        선점 상태
+ * @param reservationId 저장된 예약 ID (CONFIRMED일 때만)
+ */
+public record SeatHold(
+    String holdId,
+    Long userId,
+    Long scheduleId,
+    List<HeldSeat> seats,
+    BigDecimal totalAmount,
+    long heldAt,
+    long expiresAt,
+    SeatHoldStatus status,
+    Long reservationId
+) {
+
+    /**
+     * 선점한 좌석 (예약 상세 저장에 필요한 정보)
+     */
+    public record HeldSeat(Long seatId, Integer seatNumber, BigDecimal price) {
+    }
+
+    /**
+     * 좌석 선점 생성
+     */
+    public static SeatHold create(String holdId, Long userId, Long scheduleId, List<HeldSeat> seats,
+                                  long now, long holdTtlMs) {
+        BigDecimal totalAmount = seats.stream()
+            .map(HeldSeat::price)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new SeatHold(holdId, userId, scheduleId, List.copyOf(seats), totalAmount,
+            now, now + holdTtlMs, SeatHoldStatus.HELD, null);
+    }
+
+    /**
+     * 예약 저장 완료
+     */
+    public SeatHold confirm(Long reservationId) {
+        return new SeatHold(holdId, userId, scheduleId, seats, totalAmount, heldAt, expiresAt,
+            SeatHoldStatus.CONFIRMED, reservationId);
+    }
+
+    /**
+     * 예약 저장 실패
+     */
+    public SeatHold fail() {
+        return new SeatHold(holdId, userId, scheduleId, seats, totalAmount, heldAt, expiresAt,
+            SeatHoldStatus.FAILED, null);
+    }
+
+    /**
+     * 선점한 좌석 ID 목록 (오름차순)
+     */
+    public List<Long> seatIds() {
+        return seats.stream().map(HeldSeat::seatId).toList();
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.reservation.domain.repository;
 
 import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,4 +18,9 @@ public interface ReservationDetailRepository {
     List<ReservationDetail> saveAll(List<ReservationDetail> details);
 
     List<ReservationDetail> findAllByReservationId(Long reservationId);
+
+    /**
+     * 여러 예약의 상세 일괄 조회 (예약마다 조회하는 N+1 방지)
+     */
+    List<ReservationDetail> findAllByReservationIdIn(Collection<Long> reservationIds);
 }
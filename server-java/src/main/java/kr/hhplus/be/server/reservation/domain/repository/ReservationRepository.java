@@ -3,6 +3,7 @@ package kr.hhplus.be.server.reservation.domain.repository;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,19 +21,41 @@ public interface ReservationRepository {
 
     Optional<Reservation> findByUserId(Long userId);
 
+    List<Reservation> findAllById(Collection<Long> ids);
+
+    /**
+     * 사용자의 일정별 예약 목록 조회
+     * - 좌석 선점 저장(write-behind) 재시도 시 이미 저장된 예약인지 확인하는 용도
+     */
+    List<Reservation> findAllByUserIdAndScheduleId(Long userId, Long scheduleId);
+
+    /**
+     * 만료된 예약 목록 조회 (id 기준 keyset 페이지)
+     * @param now 현재 시간
+     * @param afterId 이전 페이지의 마지막 예약 ID (첫 페이지는 0)
+     * @param limit 페이지 크기
+     * @return afterId 보다 큰 ID의 만료된 PENDING 예약 (ID 오름차순, 최대 limit건)
+     */
+    List<Reservation> findExpiredReservations(LocalDateTime now, long afterId, int limit);
+
     /**
-     * 만료된 예약 목록 조회
+     * 담당 파티션의 만료된 예약 목록 조회 (id 기준 keyset 페이지)
      * @param now 현재 시간
-     * @return 만료 시간이 지났지만 아직 PENDING 상태인 예약 목록
+     * @param partitionCount 전체 파티션 수
+     * @param partitions 조회할 파티션 번호
+     * @param afterId 이전 페이지의 마지막 예약 ID (첫 페이지는 0)
+     * @param limit 페이지 크기
+     * @return afterId 보다 큰 ID의 만료된 PENDING 예약 (ID 오름차순, 최대 limit건)
      */
-    List<Reservation> findExpiredReservations(LocalDateTime now);
+    List<Reservation> findExpiredReservations(LocalDateTime now, int partitionCount, Collection<Integer> partitions,
+                                              long afterId, int limit);
 
     /**
-     * 조건부 UPDATE: PENDING 상태이면서 만료된 예약을 CANCELLED로 변경
-     * - 결제와 만료 배치의 race condition 방지
-     * - @Version을 통한 optimistic lock 적용
+     * 조건부 UPDATE: 지정한 예약 중 PENDING 상태이면서 만료된 예약만 CANCELLED로 변경
+     * - 다른 파티션(다른 서버 담당)의 예약은 건드리지 않음
      * @param now 현재 시간
+     * @param reservationIds 만료 대상 예약 ID
      * @return 업데이트된 예약 수
      */
-    int expireIfPendingAndExpired(LocalDateTime now);
+    int expireIfPendingAndExpired(LocalDateTime now, Collection<Long> reservationIds);
 }
@@ -5,6 +5,7 @@ import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailReposi
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -49,4 +50,14 @@ public class ReservationDetailRepositoryImpl implements ReservationDetailReposit
                 .map(ReservationDetailEntity::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<ReservationDetail> findAllByReservationIdIn(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByReservationIdIn(reservationIds).stream()
+                .map(ReservationDetailEntity::toDomain)
+                .collect(Collectors.toList());
+    }
 }
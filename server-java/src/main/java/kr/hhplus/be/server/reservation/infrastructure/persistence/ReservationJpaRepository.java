@@ -1,12 +1,14 @@
 package kr.hhplus.be.server.reservation.infrastructure.persistence;
 
 import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,24 +16,50 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
 
     Optional<ReservationEntity> findByUserId(Long userId);
 
+    List<ReservationEntity> findAllByUserIdAndScheduleId(Long userId, Long scheduleId);
+
+    /**
+     * 만료된 예약 keyset 페이지 조회 (id > afterId, ID 오름차순)
+     * @param now 현재 시간
+     * @param status 예약 상태 (PENDING)
+     * @param afterId 이전 페이지의 마지막 예약 ID
+     * @param pageable 페이지 크기 (offset은 항상 0)
+     * @return 만료된 예약 엔티티 목록
+     */
+    @Query("SELECT r FROM ReservationEntity r WHERE r.expiresAt < :now AND r.status = :status " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<ReservationEntity> findExpiredReservationsAfter(@Param("now") LocalDateTime now,
+                                                         @Param("status") ReservationStatus status,
+                                                         @Param("afterId") long afterId,
+                                                         Pageable pageable);
+
     /**
-     * 만료된 예약 조회
+     * 담당 파티션의 만료된 예약 keyset 페이지 조회 (id > afterId, ID 오름차순)
      * @param now 현재 시간
      * @param status 예약 상태 (PENDING)
+     * @param partitionCount 전체 파티션 수
+     * @param partitions 조회할 파티션 번호 (scheduleId % partitionCount)
+     * @param afterId 이전 페이지의 마지막 예약 ID
+     * @param pageable 페이지 크기 (offset은 항상 0)
      * @return 만료된 예약 엔티티 목록
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE r.expiresAt < :now AND r.status = :status")
-    List<ReservationEntity> findExpiredReservations(@Param("now") LocalDateTime now, @Param("status") ReservationStatus status);
+    @Query("SELECT r FROM ReservationEntity r WHERE r.expiresAt < :now AND r.status = :status " +
+           "AND MOD(r.scheduleId, :partitionCount) IN :partitions AND r.id > :afterId ORDER BY r.id")
+    List<ReservationEntity> findExpiredReservationsInPartitionsAfter(@Param("now") LocalDateTime now,
+                                                                     @Param("status") ReservationStatus status,
+                                                                     @Param("partitionCount") int partitionCount,
+                                                                     @Param("partitions") Collection<Integer> partitions,
+                                                                     @Param("afterId") long afterId,
+                                                                     Pageable pageable);
 
     /**
-     * 조건부 UPDATE: PENDING이면서 만료된 예약을 CANCELLED로 변경
-     * - WHERE절에 status와 expiresAt 조건 포함
-     * - @Version으로 optimistic lock 자동 적용
+     * 조건부 UPDATE: 지정한 예약 중 PENDING이면서 만료된 예약만 CANCELLED로 변경
      * @param now 현재 시간
+     * @param ids 만료 대상 예약 ID
      * @return 업데이트된 행 수
      */
     @Modifying
     @Query("UPDATE ReservationEntity r SET r.status = 'CANCELLED' " +
-           "WHERE r.status = 'PENDING' AND r.expiresAt < :now")
-    int expireIfPendingAndExpired(@Param("now") LocalDateTime now);
+           "WHERE r.id IN :ids AND r.status = 'PENDING' AND r.expiresAt < :now")
+    int expireIfPendingAndExpiredByIds(@Param("now") LocalDateTime now, @Param("ids") Collection<Long> ids);
 }
@@ -4,9 +4,11 @@ import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,16 +54,52 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findExpiredReservations(LocalDateTime now) {
-        // Entity → Domain 변환
-        return jpaRepository.findExpiredReservations(now, ReservationStatus.PENDING)
+    public List<Reservation> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids)
+                           .stream()
+                           .map(ReservationEntity::toDomain)
+                           .toList();
+    }
+
+    @Override
+    public List<Reservation> findAllByUserIdAndScheduleId(Long userId, Long scheduleId) {
+        return jpaRepository.findAllByUserIdAndScheduleId(userId, scheduleId)
+                           .stream()
+                           .map(ReservationEntity::toDomain)
+                           .toList();
+    }
+
+    @Override
+    public List<Reservation> findExpiredReservations(LocalDateTime now, long afterId, int limit) {
+        return jpaRepository.findExpiredReservationsAfter(now, ReservationStatus.PENDING, afterId,
+                                                          PageRequest.of(0, limit))
                            .stream()
                            .map(ReservationEntity::toDomain)
                            .toList();
     }
 
     @Override
-    public int expireIfPendingAndExpired(LocalDateTime now) {
-        return jpaRepository.expireIfPendingAndExpired(now);
+    public List<Reservation> findExpiredReservations(LocalDateTime now, int partitionCount,
+                                                     Collection<Integer> partitions, long afterId, int limit) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findExpiredReservationsInPartitionsAfter(now, ReservationStatus.PENDING,
+                                                                      partitionCount, partitions, afterId,
+                                                                      PageRequest.of(0, limit))
+                           .stream()
+                           .map(ReservationEntity::toDomain)
+                           .toList();
+    }
+
+    @Override
+    public int expireIfPendingAndExpired(LocalDateTime now, Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.expireIfPendingAndExpiredByIds(now, reservationIds);
     }
 }
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.reservation.infrastructure.redis;
+
+import kr.hhplus.be.server.config.scheduler.SchedulerPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 만료 기한 인덱스 Redis Repository
+ *
+ * 데이터 구조:
+ * - reservation:deadline:{partition} (ZSet): member = 예약 ID, score = 만료 시각(epoch ms)
+ * - 파티션 = scheduleId % scheduler.partitions.count (만료 스케줄러의 파티션 임대 단위와 동일)
+ *
+ * 만료 스케줄러가 매초 score가 현재 시각 이하인 예약만 꺼내 처리하므로
+ * 만료 예약을 찾기 위해 reservations 테이블을 스캔하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationDeadlineRedisRepository {
+
+    private static final String KEY_PREFIX = "reservation:deadline:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerPartitionProperties partitionProperties;
+
+    /**
+     * 만료 기한 등록
+     */
+    public void add(Long reservationId, Long scheduleId, LocalDateTime expiresAt) {
+        redisTemplate.opsForZSet().add(deadlineKey(partitionProperties.partitionOf(scheduleId)),
+            reservationId.toString(), toEpochMillis(expiresAt));
+    }
+
+    /**
+     * 만료 시각이 지난 예약 ID 조회 (제거하지 않음, 만료 시각 오름차순)
+     *
+     * @param partition 파티션 번호
+     * @param now 현재 시각
+     * @param limit 최대 조회 수
+     */
+    public List<Long> findDue(int partition, LocalDateTime now, int limit) {
+        Set<String> ids = redisTemplate.opsForZSet().rangeByScore(deadlineKey(partition),
+            Double.NEGATIVE_INFINITY, toEpochMillis(now), 0, limit);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 처리한 예약 제거 (만료/결제 여부와 관계없이 더 이상 추적할 필요 없음)
+     */
+    public void remove(int partition, Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(deadlineKey(partition),
+            reservationIds.stream().map(String::valueOf).toArray());
+    }
+
+    public long size(int partition) {
+        Long size = redisTemplate.opsForZSet().zCard(deadlineKey(partition));
+        return size != null ? size : 0;
+    }
+
+    private String deadlineKey(int partition) {
+        return KEY_PREFIX + "{" + partition + "}";
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        // 예약 만료 시각은 LocalDateTime.now() 기준(서버 기본 시간대)으로 생성됨
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
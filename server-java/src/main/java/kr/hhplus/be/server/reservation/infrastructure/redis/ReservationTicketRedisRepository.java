@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.reservation.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.reservation.domain.model.ReservationTicket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 비동기 예약 접수 티켓 Redis Repository
+ *
+ * 데이터 구조:
+ * - reservation:ticket:{ticketId} (String JSON, TTL): 티켓 상태/결과
+ *
+ * 작업 큐는 접수한 서버의 메모리에 있지만 티켓 상태는 Redis에 두므로
+ * 결과 조회 요청이 어느 서버로 가도 같은 결과를 볼 수 있습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReservationTicketRedisRepository {
+
+    private static final String TICKET_KEY_PREFIX = "reservation:ticket:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 티켓 저장 (발급/결과 갱신)
+     */
+    public void save(ReservationTicket ticket, long ttlMs) {
+        redisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticket.ticketId(), serialize(ticket),
+            Duration.ofMillis(ttlMs));
+    }
+
+    public void delete(String ticketId) {
+        redisTemplate.delete(TICKET_KEY_PREFIX + ticketId);
+    }
+
+    public Optional<ReservationTicket> findById(String ticketId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(TICKET_KEY_PREFIX + ticketId))
+            .map(this::deserialize);
+    }
+
+    private String serialize(ReservationTicket ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 접수 티켓을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private ReservationTicket deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, ReservationTicket.class);
+        } catch (JsonProcessingException e) {
+            log.error("예약 접수 티켓 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
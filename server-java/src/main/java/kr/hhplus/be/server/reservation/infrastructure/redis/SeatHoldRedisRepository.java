@@ -0,0 +1,256 @@
+package kr.hhplus.be.server.reservation.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 좌석 선점 Redis Repository
+ *
+ * 데이터 구조:
+ * - seat:{schedule:1}:hold:{seatId} (String): 좌석을 선점한 holdId (TTL = 선점 유지 시간)
+ *   일정별 해시 태그로 같은 슬롯에 배치 → 여러 좌석을 한 번의 Lua로 전부 선점하거나 전부 실패
+ * - reservation:hold:{holdId} (String): 선점 정보 JSON (상태, 확정된 예약 ID)
+ * - reservation:{hold}:pending (ZSet): MySQL 저장 대기 holdId (score = 선점 시각)
+ * - reservation:{hold}:inflight (ZSet): 저장 중인 holdId (score = 가져간 시각)
+ *   서버가 저장 도중 죽으면 inflight에 남고, 재조정(requeueStale) 시 pending으로 되돌림
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SeatHoldRedisRepository {
+
+    private static final String HOLD_KEY_PREFIX = "reservation:hold:";
+    private static final String PENDING_KEY = "reservation:{hold}:pending";
+    private static final String INFLIGHT_KEY = "reservation:{hold}:inflight";
+
+    /**
+     * 전부 선점하거나 전부 실패 (이미 다른 선점이 있는 좌석 인덱스 반환, 비어 있으면 성공)
+     * KEYS: 좌석 선점 키, ARGV[1]: holdId, ARGV[2]: TTL(ms)
+     */
+    private static final String HOLD_SCRIPT = """
+        local conflicts = {}
+        for i = 1, #KEYS do
+            local owner = redis.call('GET', KEYS[i])
+            if owner and owner ~= ARGV[1] then
+                table.insert(conflicts, i)
+            end
+        end
+        if #conflicts > 0 then
+            return conflicts
+        end
+        for i = 1, #KEYS do
+            redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+        end
+        return conflicts
+        """;
+
+    /**
+     * 자신의 선점만 해제
+     */
+    private static final String RELEASE_SCRIPT = """
+        local released = 0
+        for i = 1, #KEYS do
+            if redis.call('GET', KEYS[i]) == ARGV[1] then
+                redis.call('DEL', KEYS[i])
+                released = released + 1
+            end
+        end
+        return released
+        """;
+
+    /**
+     * pending → inflight 이동 (여러 서버가 동시에 가져가도 같은 holdId를 중복으로 가져가지 않음)
+     * KEYS[1]: pending, KEYS[2]: inflight, ARGV[1]: 최대 개수, ARGV[2]: 현재 시각
+     */
+    private static final String CLAIM_SCRIPT = """
+        local ids = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+        for _, id in ipairs(ids) do
+            redis.call('ZREM', KEYS[1], id)
+            redis.call('ZADD', KEYS[2], ARGV[2], id)
+        end
+        return ids
+        """;
+
+    /**
+     * 오래된 inflight → pending 복원
+     * KEYS[1]: pending, KEYS[2]: inflight, ARGV[1]: 기준 시각
+     */
+    private static final String REQUEUE_SCRIPT = """
+        local entries = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'WITHSCORES')
+        for i = 1, #entries, 2 do
+            redis.call('ZADD', KEYS[1], entries[i + 1], entries[i])
+            redis.call('ZREM', KEYS[2], entries[i])
+        end
+        return #entries / 2
+        """;
+
+    private static final DefaultRedisScript<List> HOLD = new DefaultRedisScript<>(HOLD_SCRIPT, List.class);
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    private static final DefaultRedisScript<List> CLAIM = new DefaultRedisScript<>(CLAIM_SCRIPT, List.class);
+    private static final DefaultRedisScript<Long> REQUEUE = new DefaultRedisScript<>(REQUEUE_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 좌석 일괄 선점 (all-or-nothing)
+     *
+     * @return 다른 사용자가 선점 중인 좌석 ID (비어 있으면 전부 선점 성공)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> hold(Long scheduleId, List<Long> seatIds, String holdId, long ttlMs) {
+        List<Object> conflicts = redisTemplate.execute(HOLD, seatKeys(scheduleId, seatIds),
+            holdId, String.valueOf(ttlMs));
+        if (conflicts == null || conflicts.isEmpty()) {
+            return List.of();
+        }
+        return conflicts.stream()
+            .map(index -> seatIds.get(Integer.parseInt(index.toString()) - 1))
+            .toList();
+    }
+
+    /**
+     * 좌석 선점 해제 (자신이 선점한 좌석만)
+     */
+    public void release(Long scheduleId, List<Long> seatIds, String holdId) {
+        redisTemplate.execute(RELEASE, seatKeys(scheduleId, seatIds), holdId);
+    }
+
+    /**
+     * 선점 중인 좌석 조회 (MGET 1회 - 같은 일정의 좌석 키는 같은 슬롯)
+     *
+     * @return 선점 중인 좌석 ID (요청 순서 유지)
+     */
+    public List<Long> findHeldSeatIds(Long scheduleId, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> owners = redisTemplate.opsForValue().multiGet(seatKeys(scheduleId, seatIds));
+        if (owners == null) {
+            return List.of();
+        }
+        List<Long> held = new ArrayList<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (owners.get(i) != null) {
+                held.add(seatIds.get(i));
+            }
+        }
+        return held;
+    }
+
+    /**
+     * 선점 정보 저장 + MySQL 저장 대기 등록
+     */
+    public void enqueue(SeatHold hold, long ttlMs) {
+        save(hold, ttlMs);
+        redisTemplate.opsForZSet().add(PENDING_KEY, hold.holdId(), hold.heldAt());
+    }
+
+    /**
+     * 선점 정보 갱신 (상태, 확정된 예약 ID)
+     */
+    public void save(SeatHold hold, long ttlMs) {
+        redisTemplate.opsForValue().set(HOLD_KEY_PREFIX + hold.holdId(), serialize(hold), Duration.ofMillis(ttlMs));
+    }
+
+    public Optional<SeatHold> findById(String holdId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(HOLD_KEY_PREFIX + holdId))
+            .map(this::deserialize);
+    }
+
+    /**
+     * 선점 정보 일괄 조회 (만료/삭제된 선점은 제외)
+     */
+    public List<SeatHold> findAllById(List<String> holdIds) {
+        List<String> keys = holdIds.stream().map(holdId -> HOLD_KEY_PREFIX + holdId).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+            .filter(Objects::nonNull)
+            .map(this::deserialize)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 저장 대기 선점을 최대 limit개 가져옴 (pending → inflight)
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claimPending(int limit, long now) {
+        List<Object> ids = redisTemplate.execute(CLAIM, List.of(PENDING_KEY, INFLIGHT_KEY),
+            String.valueOf(limit), String.valueOf(now));
+        if (ids == null) {
+            return List.of();
+        }
+        List<String> holdIds = new ArrayList<>(ids.size());
+        ids.forEach(id -> holdIds.add(id.toString()));
+        return holdIds;
+    }
+
+    /**
+     * 저장 완료 (inflight에서 제거)
+     */
+    public void complete(Collection<String> holdIds) {
+        if (holdIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(INFLIGHT_KEY, holdIds.toArray());
+    }
+
+    /**
+     * staleBefore 이전에 가져간 뒤 완료되지 않은 선점을 다시 저장 대기로 되돌림
+     *
+     * @return 되돌린 선점 수
+     */
+    public long requeueStale(long staleBefore) {
+        Long requeued = redisTemplate.execute(REQUEUE, List.of(PENDING_KEY, INFLIGHT_KEY),
+            String.valueOf(staleBefore));
+        return requeued != null ? requeued : 0;
+    }
+
+    /**
+     * 저장 대기 중인 선점 수
+     */
+    public long pendingCount() {
+        Long count = redisTemplate.opsForZSet().zCard(PENDING_KEY);
+        return count != null ? count : 0;
+    }
+
+    private List<String> seatKeys(Long scheduleId, List<Long> seatIds) {
+        return seatIds.stream()
+            .map(seatId -> "seat:{schedule:" + scheduleId + "}:hold:" + seatId)
+            .toList();
+    }
+
+    private String serialize(SeatHold hold) {
+        try {
+            return objectMapper.writeValueAsString(hold);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 선점 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private SeatHold deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, SeatHold.class);
+        } catch (JsonProcessingException e) {
+            log.error("좌석 선점 정보 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.reservation.interfaces;
+
+import kr.hhplus.be.server.reservation.application.ReservationTicketService;
+import kr.hhplus.be.server.reservation.application.SeatHoldService;
+import kr.hhplus.be.server.reservation.domain.model.ReservationTicket;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 예약 컨트롤러
+ * 예약 요청은 티켓을 발급해 비동기로 처리하고, 결과는 티켓 ID로 조회합니다.
+ * 좌석 선점 엔진 사용 시(reservation.seat-hold.enabled=true)에는 Redis에서 좌석을 바로 선점하고 선점 ID로 결과를 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationTicketService reservationTicketService;
+    private final SeatHoldService seatHoldService;
+
+    /**
+     * 예약 요청 접수
+     * - 202 Accepted + Location: 결과 조회 URL
+     * - 좌석 선점 엔진 사용 시: 선점 성공 후 202 (선점 결과 URL), 이미 선점된 좌석이면 409
+     */
+    @PostMapping
+    public ResponseEntity<?> submitReservation(@RequestBody ReservationRequest request) {
+        if (seatHoldService.isEnabled()) {
+            SeatHold hold = seatHoldService.holdSeats(request.userId(), request.scheduleId(), request.seatIds());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reservations/holds/" + hold.holdId()))
+                    .body(HoldResponse.from(hold));
+        }
+
+        ReservationTicket ticket = reservationTicketService.submit(
+                request.userId(), request.scheduleId(), request.seatIds());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reservations/tickets/" + ticket.ticketId()))
+                .body(TicketResponse.from(ticket));
+    }
+
+    /**
+     * 예약 결과 조회
+     * - QUEUED: 처리 대기 중 (다시 조회)
+     * - CONFIRMED: 예약 완료 (reservationId 포함)
+     * - FAILED: 예약 실패 (failureReason 포함)
+     * - 404: 없거나 보관 기간이 지난 티켓
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<TicketResponse> getTicket(@PathVariable String ticketId) {
+        return reservationTicketService.getTicket(ticketId)
+                .map(TicketResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 좌석 선점 결과 조회
+     * - HELD: 예약 저장 대기 중 (다시 조회)
+     * - CONFIRMED: 예약 완료 (reservationId 포함)
+     * - FAILED: 저장 실패 (선점 해제됨)
+     * - 404: 없거나 보관 기간이 지난 선점
+     */
+    @GetMapping("/holds/{holdId}")
+    public ResponseEntity<HoldResponse> getHold(@PathVariable String holdId) {
+        return seatHoldService.getHold(holdId)
+                .map(HoldResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    public record ReservationRequest(Long userId, Long scheduleId, List<Long> seatIds) {}
+
+    public record TicketResponse(String ticketId, Long scheduleId, String status,
+                                 Long reservationId, String failureReason) {
+
+        static TicketResponse from(ReservationTicket ticket) {
+            return new TicketResponse(ticket.ticketId(), ticket.scheduleId(), ticket.status().name(),
+                    ticket.reservationId(), ticket.failureReason());
+        }
+    }
+
+    public record HoldResponse(String holdId, Long scheduleId, List<Long> seatIds, String status,
+                               Long reservationId, long expiresAt) {
+
+        static HoldResponse from(SeatHold hold) {
+            return new HoldResponse(hold.holdId(), hold.scheduleId(), hold.seatIds(), hold.status().name(),
+                    hold.reservationId(), hold.expiresAt());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.hhplus.be.server.reservation.interfaces;
+
+import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.application.exception.ReservationUnavailableException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Reservation API 예외 핸들러
+ *
+ * 예약 접수 관련 예외를 적절한 HTTP 상태 코드로 변환합니다.
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = ReservationController.class)
+public class ReservationExceptionHandler {
+
+    /**
+     * 일정의 대기 요청이 가득 참 → HTTP 429 Too Many Requests
+     */
+    @ExceptionHandler(ConcurrentReservationException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentReservation(ConcurrentReservationException e) {
+        log.debug("Reservation API ConcurrentReservationException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse("TOO_MANY_REQUESTS", e.getMessage()));
+    }
+
+    /**
+     * 다른 사용자가 선점/예약한 좌석 (좌석 선점 엔진) → HTTP 409 Conflict
+     */
+    @ExceptionHandler(SeatNotAvailableException.class)
+    public ResponseEntity<ErrorResponse> handleSeatNotAvailable(SeatNotAvailableException e) {
+        log.debug("Reservation API SeatNotAvailableException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("SEAT_NOT_AVAILABLE", e.getMessage()));
+    }
+
+    /**
+     * 접수 불가 (티켓 저장소/좌석 선점 저장소 장애) → HTTP 503 Service Unavailable
+     */
+    @ExceptionHandler(ReservationUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleUnavailable(ReservationUnavailableException e) {
+        log.debug("Reservation API ReservationUnavailableException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("SERVICE_UNAVAILABLE", e.getMessage()));
+    }
+
+    /**
+     * 잘못된 요청 파라미터
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        log.debug("Reservation API IllegalArgumentException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_REQUEST", e.getMessage()));
+    }
+
+    public record ErrorResponse(String code, String message) {}
+}
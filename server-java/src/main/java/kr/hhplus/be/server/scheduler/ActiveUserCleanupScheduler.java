@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.scheduler;
 
+import kr.hhplus.be.server.config.scheduler.PartitionLeaseManager;
 import kr.hhplus.be.server.token.application.TokenService;
+import kr.hhplus.be.server.token.domain.QueueScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,8 +11,8 @@ import org.springframework.stereotype.Component;
 /**
  * 만료된 활성 유저 정리 스케줄러
  *
- * Redis queue:active에서 만료 시각이 지난 유저를 주기적으로 정리합니다.
- * 분산락을 통해 다중 서버 환경에서 중복 실행을 방지합니다.
+ * Redis queue:active(및 콘서트/일정별 활성 큐)에서 만료 시각이 지난 유저를 주기적으로 정리합니다.
+ * 대기열 범위(scope) 기준 파티션을 서버마다 나누어 처리하며, 매 실행마다 락을 획득하지 않습니다.
  */
 @Slf4j
 @Component
@@ -18,15 +20,36 @@ import org.springframework.stereotype.Component;
 public class ActiveUserCleanupScheduler {
 
     private final TokenService tokenService;
+    private final PartitionLeaseManager partitionLeaseManager;
 
     /**
      * 10초마다 만료된 활성 유저 정리
      *
-     * - TokenService.expireExpiredTokens()에 @DistributedLock이 적용되어 있음
-     * - 다중 서버 환경에서 하나의 서버만 락을 획득하고 실행
+     * - 현재 서버가 임대한 파티션의 대기열 범위만 정리 (나머지는 다른 서버가 처리)
      */
     @Scheduled(fixedDelay = 10_000) // 10초
     public void cleanupExpiredUsers() {
+        if (partitionLeaseManager.owns(QueueScope.GLOBAL.key())) {
+            cleanupGlobal();
+        }
+
+        for (QueueScope scope : tokenService.getRegisteredScopes()) {
+            if (!partitionLeaseManager.owns(scope.key())) {
+                continue;
+            }
+            try {
+                int expiredCount = tokenService.expireExpiredTokens(scope);
+
+                if (expiredCount > 0) {
+                    log.info("만료된 활성 유저 정리 완료: scope={}, {}명", scope, expiredCount);
+                }
+            } catch (Exception e) {
+                log.warn("활성 유저 정리 스케줄러 실행 실패: scope={}, {}", scope, e.getMessage());
+            }
+        }
+    }
+
+    private void cleanupGlobal() {
         try {
             int expiredCount = tokenService.expireExpiredTokens();
 
@@ -34,7 +57,7 @@ public class ActiveUserCleanupScheduler {
                 log.info("만료된 활성 유저 정리 완료: {}명", expiredCount);
             }
         } catch (Exception e) {
-            log.debug("활성 유저 정리 스케줄러 실행 실패 (락 획득 실패 또는 예외): {}", e.getMessage());
+            log.warn("활성 유저 정리 스케줄러 실행 실패: {}", e.getMessage());
         }
     }
 }
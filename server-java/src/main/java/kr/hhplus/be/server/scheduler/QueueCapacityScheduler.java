@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.config.scheduler.LeaderOnly;
+import kr.hhplus.be.server.token.application.QueueCapacityController;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적응형 수용 인원 조정 스케줄러 (queue.capacity.adaptive=true 일 때만 동작)
+ *
+ * - 측정값 기록/동기화: 모든 서버가 각자 실행
+ * - 조정: 리더 서버만 실행 (@LeaderOnly)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueCapacityScheduler {
+
+    private final QueueCapacityController queueCapacityController;
+
+    @Scheduled(fixedDelayString = "${queue.capacity.adjust-interval-ms:5000}")
+    public void reportAndRefresh() {
+        if (!queueCapacityController.isAdaptive()) {
+            return;
+        }
+        try {
+            queueCapacityController.report();
+            queueCapacityController.refresh();
+        } catch (Exception e) {
+            log.warn("백엔드 부하 측정값 기록/수용 인원 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @LeaderOnly
+    @Scheduled(fixedDelayString = "${queue.capacity.adjust-interval-ms:5000}")
+    public void adjustCapacity() {
+        if (!queueCapacityController.isAdaptive()) {
+            return;
+        }
+        try {
+            queueCapacityController.adjust();
+        } catch (Exception e) {
+            log.warn("수용 인원 조정 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.token.application.QueueLivenessTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기자 하트비트 기록 스케줄러
+ *
+ * 서버마다 자신이 받은 상태 조회의 하트비트만 기록하므로 분산락을 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueHeartbeatFlushScheduler {
+
+    private final QueueLivenessTracker queueLivenessTracker;
+
+    @Scheduled(fixedDelayString = "${queue.liveness.flush-interval-ms:1000}")
+    public void flush() {
+        if (!queueLivenessTracker.isEnabled()) {
+            return;
+        }
+        try {
+            int flushed = queueLivenessTracker.flush();
+            if (flushed > 0) {
+                log.debug("대기자 하트비트 기록: {}명", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("대기자 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.config.scheduler.LeaderOnly;
+import kr.hhplus.be.server.token.application.QueuePositionEstimator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 근사 대기 순번 스냅샷 스케줄러 (queue.position.approximate=true 일 때만 동작)
+ *
+ * - 발행: 리더 서버만 실행 (@LeaderOnly)
+ * - 동기화: 모든 서버가 각자 실행하여 발행된 스냅샷을 로컬로 가져옴
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueuePositionSnapshotScheduler {
+
+    private final QueuePositionEstimator queuePositionEstimator;
+
+    @LeaderOnly
+    @Scheduled(fixedDelayString = "${queue.position.snapshot-interval-ms:1000}")
+    public void publishSnapshots() {
+        if (!queuePositionEstimator.isEnabled()) {
+            return;
+        }
+        try {
+            queuePositionEstimator.publishSnapshots();
+        } catch (Exception e) {
+            log.warn("순번 스냅샷 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.position.snapshot-interval-ms:1000}")
+    public void refreshSnapshots() {
+        if (!queuePositionEstimator.isEnabled()) {
+            return;
+        }
+        try {
+            queuePositionEstimator.refreshSnapshots();
+        } catch (Exception e) {
+            log.warn("순번 스냅샷 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
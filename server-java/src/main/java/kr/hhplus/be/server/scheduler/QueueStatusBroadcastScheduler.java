@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.token.application.QueueStatusBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 상태 SSE 브로드캐스트 스케줄러
+ *
+ * 서버마다 자신에게 연결된 구독자에게만 전송하므로 분산락을 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueStatusBroadcastScheduler {
+
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
+
+    @Scheduled(fixedDelayString = "${queue.stream.tick-interval-ms:1000}")
+    public void broadcast() {
+        try {
+            queueStatusBroadcaster.broadcast();
+        } catch (Exception e) {
+            log.warn("대기열 상태 브로드캐스트 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.scheduler;
 
+import kr.hhplus.be.server.config.scheduler.LeaderOnly;
 import kr.hhplus.be.server.token.application.TokenService;
+import kr.hhplus.be.server.token.domain.QueueScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,8 +11,11 @@ import org.springframework.stereotype.Component;
 /**
  * 토큰 활성화 스케줄러
  *
- * 대기 중인 토큰을 주기적으로 활성화합니다.
- * 분산락을 통해 다중 서버 환경에서 중복 실행을 방지합니다.
+ * 대기 중인 토큰을 짧은 주기(기본 200ms)로 활성화합니다.
+ * 10초마다 한꺼번에 입장시키는 대신 빈 슬롯을 초당 입장 허용 인원만큼 꾸준히 채워
+ * 좌석/예약 API로 유입되는 부하를 평탄하게 유지합니다.
+ * 전체 대기열과 콘서트/일정별 대기열을 각각 독립적으로 활성화합니다.
+ * 리더 서버에서만 실행하며, 리더는 매 실행마다 락을 다시 획득하지 않습니다.
  */
 @Slf4j
 @Component
@@ -20,23 +25,34 @@ public class TokenActivationScheduler {
     private final TokenService tokenService;
 
     /**
-     * 10초마다 대기 중인 토큰 활성화
+     * queue.admission.tick-interval-ms 주기로 대기 중인 토큰 활성화
      *
-     * - TokenService.activateWaitingTokens()에 @DistributedLock이 적용되어 있음
-     * - 다중 서버 환경에서 하나의 서버만 락을 획득하고 실행
-     * - 나머지 서버는 락 획득 실패로 스킵
+     * - @LeaderOnly: 리더가 아닌 서버는 바로 스킵 (대기/예외 없음)
+     * - 한 범위의 실패가 다른 범위의 활성화를 막지 않도록 범위별로 처리
      */
-    @Scheduled(fixedDelay = 10_000) // 10초
+    @LeaderOnly
+    @Scheduled(fixedDelayString = "${queue.admission.tick-interval-ms:200}")
     public void activateTokens() {
         try {
             int activatedCount = tokenService.activateWaitingTokens();
 
             if (activatedCount > 0) {
-                log.info("토큰 활성화 완료: {}개", activatedCount);
+                log.debug("토큰 활성화 완료: {}개", activatedCount);
             }
         } catch (Exception e) {
-            // 락 획득 실패 시 로그만 남기고 계속 진행
-            log.debug("토큰 활성화 스케줄러 실행 실패 (락 획득 실패 또는 예외): {}", e.getMessage());
+            log.warn("토큰 활성화 스케줄러 실행 실패: {}", e.getMessage());
+        }
+
+        for (QueueScope scope : tokenService.getRegisteredScopes()) {
+            try {
+                int activatedCount = tokenService.activateWaitingTokens(scope);
+
+                if (activatedCount > 0) {
+                    log.debug("토큰 활성화 완료: scope={}, {}개", scope, activatedCount);
+                }
+            } catch (Exception e) {
+                log.warn("토큰 활성화 스케줄러 실행 실패: scope={}, {}", scope, e.getMessage());
+            }
         }
     }
 }
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.token.application.QueueTokenIssuer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 토큰 폐기 목록 동기화 스케줄러
+ *
+ * Redis의 폐기 목록을 서버마다 로컬로 가져와 토큰 검증 시 Redis 조회가 없도록 합니다.
+ * 모든 서버가 각자 실행해야 하므로 분산락을 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRefreshScheduler {
+
+    private final QueueTokenIssuer queueTokenIssuer;
+
+    @Scheduled(fixedDelayString = "${queue.token.revocation-refresh-ms:1000}")
+    public void refreshRevocations() {
+        try {
+            queueTokenIssuer.refreshRevocations();
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package kr.hhplus.be.server.token.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.token.domain.BackendLoad;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약/결제 백엔드 부하 수집기 (서버 로컬)
+ *
+ * - 응답 시간: @BackendLoadProbe 메서드 호출마다 기록, 구간마다 p99 계산
+ *   (요청이 많으면 저장소 샘플링으로 최대 RESERVOIR_SIZE건만 보관)
+ * - 커넥션 풀 대기: HikariCP 메트릭(hikaricp.connections.acquire)의 구간 평균
+ */
+@Component
+public class BackendLoadSampler {
+
+    private static final int RESERVOIR_SIZE = 1024;
+    private static final String POOL_ACQUIRE_METER = "hikaricp.connections.acquire";
+
+    private final MeterRegistry meterRegistry;
+
+    private final long[] reservoir = new long[RESERVOIR_SIZE];
+    private long samples;
+    private long errors;
+
+    private long lastPoolAcquireCount;
+    private double lastPoolAcquireMillis;
+
+    public BackendLoadSampler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 1건 기록
+     *
+     * @param elapsedNanos 소요 시간 (ns)
+     * @param failed       서버 오류 여부
+     */
+    public synchronized void record(long elapsedNanos, boolean failed) {
+        if (samples < RESERVOIR_SIZE) {
+            reservoir[(int) samples] = elapsedNanos;
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(samples + 1);
+            if (slot < RESERVOIR_SIZE) {
+                reservoir[(int) slot] = elapsedNanos;
+            }
+        }
+        samples++;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    /**
+     * 지난 호출 이후 구간의 부하를 계산하고 초기화
+     */
+    public BackendLoad drain() {
+        long[] latencies;
+        long drainedSamples;
+        long drainedErrors;
+        synchronized (this) {
+            int kept = (int) Math.min(samples, RESERVOIR_SIZE);
+            latencies = Arrays.copyOf(reservoir, kept);
+            drainedSamples = samples;
+            drainedErrors = errors;
+            samples = 0;
+            errors = 0;
+        }
+        return new BackendLoad(drainedSamples, drainedErrors, p99Millis(latencies), poolWaitMillis());
+    }
+
+    private double p99Millis(long[] latencies) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies);
+        int index = (int) Math.ceil(latencies.length * 0.99) - 1;
+        return latencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * 커넥션 풀 평균 대기 시간 (ms) - 메트릭이 없으면 0
+     */
+    private synchronized double poolWaitMillis() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer timer : meterRegistry.find(POOL_ACQUIRE_METER).timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+
+        long deltaCount = count - lastPoolAcquireCount;
+        double deltaMillis = totalMillis - lastPoolAcquireMillis;
+        lastPoolAcquireCount = count;
+        lastPoolAcquireMillis = totalMillis;
+        return deltaCount > 0 ? deltaMillis / deltaCount : 0;
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueueAdmissionProperties;
+import kr.hhplus.be.server.config.queue.QueueCapacityProperties;
+import kr.hhplus.be.server.token.domain.BackendLoad;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueCapacityRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 적응형 활성 유저 수용 인원 조정기 (queue.capacity.adaptive=true)
+ *
+ * 예약/결제 백엔드가 실제로 처리할 수 있는 만큼만 입장시키도록 AIMD 방식으로 수용 인원을 조정합니다.
+ * - 과부하(p99 초과, 오류율 초과, 커넥션 풀 대기 초과): 수용 인원 × decrease-factor (승산 감소)
+ * - 여유 있음 + 충분한 요청: 수용 인원 + increase-step (가산 증가)
+ * - 요청이 적으면 판단 근거가 없으므로 유지
+ *
+ * 모든 서버가 측정값을 Redis에 올리고(report), 리더 서버가 합산하여 조정한 뒤(adjust),
+ * 모든 서버가 조정된 값을 가져갑니다(refresh).
+ * 콘서트/일정별 범위의 수용 인원은 전체 수용 인원과 같은 비율로 조정합니다.
+ */
+@Slf4j
+@Component
+public class QueueCapacityController {
+
+    private final QueueCapacityProperties capacityProperties;
+    private final QueueAdmissionProperties admissionProperties;
+    private final QueueCapacityRedisRepository capacityRepository;
+    private final BackendLoadSampler backendLoadSampler;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile int limit;
+
+    public QueueCapacityController(QueueCapacityProperties capacityProperties,
+                                   QueueAdmissionProperties admissionProperties,
+                                   QueueCapacityRedisRepository capacityRepository,
+                                   BackendLoadSampler backendLoadSampler,
+                                   QueueMetrics queueMetrics) {
+        this.capacityProperties = capacityProperties;
+        this.admissionProperties = admissionProperties;
+        this.capacityRepository = capacityRepository;
+        this.backendLoadSampler = backendLoadSampler;
+        this.limit = capacityProperties.clamp(admissionProperties.capacity());
+        queueMetrics.registerCapacityLimit(() -> capacityOf(QueueScope.GLOBAL));
+    }
+
+    public boolean isAdaptive() {
+        return capacityProperties.adaptive();
+    }
+
+    /**
+     * 범위별 동시 활성 유저 최대 수
+     * - 비활성화 시 설정값 그대로
+     * - 범위별 설정은 전체 수용 인원의 조정 비율을 적용
+     */
+    public int capacityOf(QueueScope scope) {
+        if (!isAdaptive()) {
+            return admissionProperties.capacityOf(scope);
+        }
+        if (scope.isGlobal()) {
+            return limit;
+        }
+        double ratio = (double) limit / admissionProperties.capacity();
+        return (int) Math.max(1, Math.round(admissionProperties.capacityOf(scope) * ratio));
+    }
+
+    /**
+     * 이 서버의 측정값을 Redis에 기록 (모든 서버가 실행)
+     */
+    public void report() {
+        BackendLoad load = backendLoadSampler.drain();
+        capacityRepository.saveSignal(nodeId, load, System.currentTimeMillis());
+    }
+
+    /**
+     * 서버별 측정값을 합산하여 수용 인원 조정 (리더 서버만 실행)
+     */
+    public void adjust() {
+        long now = System.currentTimeMillis();
+        BackendLoad load = BackendLoad.merge(capacityRepository.findSignals(now - capacityProperties.signalMaxAgeMs()));
+
+        Integer stored = capacityRepository.findLimit();
+        int current = stored != null ? capacityProperties.clamp(stored) : limit;
+        int next = nextLimit(current, load);
+        if (next != current || stored == null) {
+            capacityRepository.saveLimit(next);
+        }
+        if (next != current) {
+            log.info("활성 유저 수용 인원 조정: {} → {} (요청 {}건, p99 {}ms, 오류율 {}, 풀 대기 {}ms)",
+                current, next, load.samples(), Math.round(load.p99Millis()),
+                String.format("%.3f", load.errorRate()), Math.round(load.poolWaitMs()));
+        }
+        limit = next;
+    }
+
+    /**
+     * 조정된 수용 인원을 가져오기 (모든 서버가 실행)
+     */
+    public void refresh() {
+        Integer stored = capacityRepository.findLimit();
+        if (stored != null) {
+            limit = capacityProperties.clamp(stored);
+        }
+    }
+
+    /**
+     * AIMD 다음 수용 인원 계산
+     */
+    int nextLimit(int current, BackendLoad load) {
+        boolean overloaded = load.p99Millis() > capacityProperties.latencyTargetMs()
+            || load.errorRate() > capacityProperties.errorRateThreshold()
+            || load.poolWaitMs() > capacityProperties.poolWaitTargetMs();
+        if (overloaded) {
+            return capacityProperties.clamp((long) Math.floor(current * capacityProperties.decreaseFactor()));
+        }
+        if (load.samples() >= capacityProperties.minSamples()) {
+            return capacityProperties.clamp((long) current + capacityProperties.increaseStep());
+        }
+        return current;
+    }
+}
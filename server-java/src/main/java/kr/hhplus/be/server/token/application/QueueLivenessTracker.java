@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueueLivenessProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기자/활성 유저 생존 추적 (queue.liveness.enabled=true)
+ *
+ * - 대기자: 상태 조회/SSE 전송 시 하트비트를 로컬에 모았다가 주기적으로 Redis에 일괄 기록
+ *   (조회마다 쓰기가 발생하지 않도록 함). 하트비트가 끊긴 대기자는 활성화 시 건너뜀
+ * - 활성 유저: 활성화 후 activation-grace-ms 안에 보호 API 호출(토큰 검증)이 없으면 슬롯 회수
+ */
+@Slf4j
+@Component
+public class QueueLivenessTracker {
+
+    /**
+     * 최근 확인한 활성 유저 기록 최대 크기 (초과 시 전체 비움)
+     */
+    private static final int MAX_CONFIRMED_ENTRIES = 100_000;
+
+    private final QueueRedisRepository queueRedisRepository;
+    private final QueueLivenessProperties livenessProperties;
+
+    private final Map<QueueScope, Set<Long>> pendingHeartbeats = new ConcurrentHashMap<>();
+    private final Map<String, Long> recentlyConfirmed = new ConcurrentHashMap<>();
+
+    public QueueLivenessTracker(QueueRedisRepository queueRedisRepository,
+                                QueueLivenessProperties livenessProperties) {
+        this.queueRedisRepository = queueRedisRepository;
+        this.livenessProperties = livenessProperties;
+    }
+
+    public boolean isEnabled() {
+        return livenessProperties.enabled();
+    }
+
+    public boolean isIdleActivationExpiryEnabled() {
+        return livenessProperties.isIdleActivationExpiryEnabled();
+    }
+
+    /**
+     * 대기자 하트비트 (다음 flush 때 기록)
+     */
+    public void heartbeat(QueueScope scope, Long userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        // flush의 remove와 같은 키 잠금 안에서 추가하므로 꺼내 간 묶음에 뒤늦게 추가되어 유실되는 일이 없음
+        pendingHeartbeats.compute(scope, (key, userIds) -> {
+            Set<Long> pending = userIds != null ? userIds : new HashSet<>();
+            pending.add(userId);
+            return pending;
+        });
+    }
+
+    /**
+     * 모아 둔 하트비트를 Redis에 기록
+     * - 범위마다 remove로 원자적으로 꺼냄 (이후 하트비트는 새 묶음에 쌓임)
+     *
+     * @return 기록한 유저 수
+     */
+    public int flush() {
+        if (pendingHeartbeats.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        int flushed = 0;
+        for (QueueScope scope : List.copyOf(pendingHeartbeats.keySet())) {
+            Set<Long> batch = pendingHeartbeats.remove(scope);
+            if (batch == null || batch.isEmpty()) {
+                continue;
+            }
+            List<Long> userIds = new ArrayList<>(batch);
+            queueRedisRepository.recordHeartbeats(scope, userIds, now);
+            flushed += userIds.size();
+        }
+        return flushed;
+    }
+
+    /**
+     * 활성화된 유저를 보호 API 호출 대기 목록에 등록
+     */
+    public void markActivated(QueueScope scope, List<Long> userIds) {
+        if (!isIdleActivationExpiryEnabled() || userIds.isEmpty()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + livenessProperties.activationGraceMs();
+        queueRedisRepository.markUnconfirmed(scope, userIds, deadline);
+    }
+
+    /**
+     * 보호 API 호출 확인
+     * - 같은 유저의 반복 호출은 유예 시간의 절반 동안 Redis에 다시 기록하지 않음
+     */
+    public void confirmActive(QueueScope scope, Long userId) {
+        if (!isIdleActivationExpiryEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = scope.key() + "|" + userId;
+        Long confirmedAt = recentlyConfirmed.get(key);
+        if (confirmedAt != null && now - confirmedAt < livenessProperties.activationGraceMs() / 2) {
+            return;
+        }
+
+        if (recentlyConfirmed.size() >= MAX_CONFIRMED_ENTRIES) {
+            recentlyConfirmed.clear();
+        }
+        recentlyConfirmed.put(key, now);
+        queueRedisRepository.confirmActive(scope, userId);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.token.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 대기열 메트릭
+ * - Micrometer 기반 (Actuator /actuator/metrics 로 노출)
+ *
+ * 메트릭:
+ * - queue.slot.reclaimed.seconds: 만료 전에 반납되어 회수한 활성 슬롯 시간 (초)
+ * - queue.slot.released: 만료 전 반납된 활성 슬롯 수
+ * - queue.slot.handoff: 반납된 슬롯을 대기자에게 즉시 인계한 횟수
+ * - queue.activation.write: 활성화 토큰 일괄 INSERT 소요 시간
+ * - queue.activation.batch.size: 활성화 1회당 토큰 수
+ * - queue.capacity.limit: 현재 동시 활성 유저 수용 인원 (적응형 조정 결과)
+ */
+@Component
+public class QueueMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter slotReclaimedSeconds;
+    private final Counter slotReleased;
+    private final Counter slotHandoff;
+    private final Timer activationWrite;
+    private final DistributionSummary activationBatchSize;
+
+    public QueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.slotReclaimedSeconds = Counter.builder("queue.slot.reclaimed.seconds")
+            .description("만료 전에 반납되어 회수한 활성 슬롯 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.slotReleased = Counter.builder("queue.slot.released")
+            .description("만료 전 반납된 활성 슬롯 수")
+            .register(meterRegistry);
+        this.slotHandoff = Counter.builder("queue.slot.handoff")
+            .description("반납된 슬롯을 대기자에게 즉시 인계한 횟수")
+            .register(meterRegistry);
+        this.activationWrite = Timer.builder("queue.activation.write")
+            .description("활성화 토큰 일괄 INSERT 소요 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.activationBatchSize = DistributionSummary.builder("queue.activation.batch.size")
+            .description("활성화 1회당 토큰 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 슬롯 반납 기록
+     *
+     * @param reclaimedMillis 회수한 슬롯 시간 (ms)
+     * @param handedOff       대기자에게 인계했는지 여부
+     */
+    public void recordSlotRelease(long reclaimedMillis, boolean handedOff) {
+        slotReleased.increment();
+        slotReclaimedSeconds.increment(reclaimedMillis / 1000.0);
+        if (handedOff) {
+            slotHandoff.increment();
+        }
+    }
+
+    /**
+     * 활성화 토큰 일괄 저장 기록
+     *
+     * @param batchSize    저장한 토큰 수
+     * @param elapsedNanos 소요 시간 (ns)
+     */
+    public void recordActivationWrite(int batchSize, long elapsedNanos) {
+        activationWrite.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        activationBatchSize.record(batchSize);
+    }
+
+    /**
+     * 현재 수용 인원 게이지 등록
+     *
+     * @param limit 현재 수용 인원 공급자
+     */
+    public void registerCapacityLimit(Supplier<Number> limit) {
+        Gauge.builder("queue.capacity.limit", limit)
+            .description("현재 동시 활성 유저 수용 인원")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueuePositionProperties;
+import kr.hhplus.be.server.token.domain.QueuePositionSnapshot;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.QueuePositionSnapshotRedisRepository;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근사 대기 순번 계산기 (queue.position.approximate=true)
+ *
+ * 대기열이 매우 클 때 상태 조회마다 ZRANK를 실행하지 않도록
+ * 한 서버가 주기적으로 순번 스냅샷을 발행하고, 모든 서버가 이를 로컬로 가져가
+ * 유저의 진입 시각만으로 순번을 추정합니다.
+ * - 맨 앞 근처(exact-threshold 이내)는 정확한 ZRANK 사용
+ * - 스냅샷이 없거나 오래되었으면 정확한 순번 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueuePositionEstimator {
+
+    private final QueueRedisRepository queueRedisRepository;
+    private final QueuePositionSnapshotRedisRepository snapshotRepository;
+    private final QueuePositionProperties positionProperties;
+
+    private volatile Map<QueueScope, QueuePositionSnapshot> snapshots = Map.of();
+
+    public boolean isEnabled() {
+        return positionProperties.approximate();
+    }
+
+    /**
+     * 순번 스냅샷 발행 (리더 서버만 실행)
+     */
+    public void publishSnapshots() {
+        for (QueueScope scope : scopes()) {
+            QueuePositionSnapshot snapshot =
+                queueRedisRepository.capturePositionSnapshot(scope, positionProperties.samples());
+            if (snapshot != null) {
+                snapshotRepository.save(scope, snapshot);
+            }
+        }
+    }
+
+    /**
+     * 발행된 스냅샷을 로컬로 가져오기 (모든 서버가 실행)
+     */
+    public void refreshSnapshots() {
+        snapshots = Map.copyOf(snapshotRepository.findAll(scopes()));
+    }
+
+    /**
+     * 진입 시각으로 대기 순번 추정
+     *
+     * @param scope      대기열 범위
+     * @param entryScore 대기열 진입 시각 (토큰 발급 시 반환된 값)
+     * @return 추정에 사용한 스냅샷, 추정할 수 없거나 맨 앞 근처라 정확한 순번이 필요하면 null
+     */
+    public Estimate estimate(QueueScope scope, long entryScore) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        QueuePositionSnapshot snapshot = snapshots.get(scope);
+        if (snapshot == null || snapshot.isStale(System.currentTimeMillis(), positionProperties.snapshotMaxAgeMs())) {
+            return null;
+        }
+
+        long position = snapshot.estimatePosition(entryScore);
+        if (position <= positionProperties.exactThreshold()) {
+            return null;
+        }
+        return new Estimate(position, snapshot.totalWaiting(), snapshot.admissionRate());
+    }
+
+    /**
+     * 근사 순번
+     *
+     * @param position      추정 순번 (1부터 시작)
+     * @param totalWaiting  스냅샷 시점의 전체 대기 인원
+     * @param admissionRate 스냅샷 시점의 최근 입장 속도 (초당 인원)
+     */
+    public record Estimate(long position, long totalWaiting, double admissionRate) {
+    }
+
+    private List<QueueScope> scopes() {
+        List<QueueScope> scopes = new ArrayList<>();
+        scopes.add(QueueScope.GLOBAL);
+        scopes.addAll(queueRedisRepository.getRegisteredScopes());
+        return scopes;
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.payment.domain.event.PaymentCompletedEvent;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대기열 슬롯 반납 이벤트 리스너
+ * 결제 완료 이벤트를 수신하여 활성 슬롯을 즉시 반납하고 다음 대기자에게 인계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueSlotReleaseEventListener {
+
+    private final TokenService tokenService;
+
+    /**
+     * 결제 완료 이벤트 처리
+     * 결제 트랜잭션 커밋 후 별도 트랜잭션에서 토큰 만료 처리
+     * 전체/콘서트/일정 대기열 중 사용자가 입장한 범위의 슬롯을 반납
+     *
+     * @param event 결제 완료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        try {
+            long reclaimedMillis = tokenService.releaseSlot(candidateScopes(event), event.userId());
+            log.debug("결제 완료 슬롯 반납 - userId: {}, 회수 {}ms", event.userId(), reclaimedMillis);
+        } catch (Exception e) {
+            // 슬롯 반납 실패가 결제에 영향을 주면 안 됨 (만료 스케줄러가 정리)
+            log.error("결제 완료 슬롯 반납 실패 - userId: {}, reservationId: {}",
+                    event.userId(), event.reservationId(), e);
+        }
+    }
+
+    private List<QueueScope> candidateScopes(PaymentCompletedEvent event) {
+        List<QueueScope> scopes = new ArrayList<>();
+        scopes.add(QueueScope.GLOBAL);
+        if (event.concertId() != null) {
+            scopes.add(QueueScope.ofConcert(event.concertId()));
+        }
+        if (event.scheduleId() != null) {
+            scopes.add(QueueScope.ofSchedule(event.scheduleId()));
+        }
+        return scopes;
+    }
+}
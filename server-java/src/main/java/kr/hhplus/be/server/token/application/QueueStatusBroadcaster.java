@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.token.application.response.QueueStatusResponse;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 상태 SSE 브로드캐스터 (서버별 1개)
+ *
+ * 3초 폴링 대신 유저마다 하나의 SSE 연결을 유지하고 서버가 상태를 밀어줍니다.
+ * - 구독: 연결 즉시 현재 상태 전송
+ * - 브로드캐스트: 범위별로 구독 중인 유저 상태를 파이프라인 1회로 조회하여 상태/순번이 바뀐 유저에게만 전송
+ * - 활성화(ACTIVE) 또는 대기열 이탈(NOT_IN_QUEUE) 이벤트를 보내면 스트림 종료
+ *
+ * 구독 정보는 서버 메모리에만 있으므로 서버마다 자신에게 연결된 유저만 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueStatusBroadcaster {
+
+    /**
+     * SSE 연결 유지 시간 (만료 시 클라이언트가 재연결)
+     */
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private static final String STATUS_EVENT = "status";
+    private static final String ACTIVE_EVENT = "active";
+
+    private final TokenService tokenService;
+    private final Map<QueueScope, Map<Long, Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private volatile QueueStatusResponse lastSent;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 상태 스트림 구독
+     * - 같은 유저가 다시 구독하면 기존 연결은 종료
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(QueueScope scope, Long userId) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+
+        Subscriber[] previous = new Subscriber[1];
+        subscribers.compute(scope, (key, users) -> {
+            Map<Long, Subscriber> scopeUsers = users != null ? users : new ConcurrentHashMap<>();
+            previous[0] = scopeUsers.put(userId, subscriber);
+            return scopeUsers;
+        });
+        if (previous[0] != null) {
+            previous[0].emitter.complete();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(scope, userId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(scope, userId, subscriber));
+        emitter.onError(e -> unsubscribe(scope, userId, subscriber));
+
+        push(scope, userId, subscriber, tokenService.getQueueStatus(scope, userId));
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 모든 유저에게 변경된 상태 전송
+     * - 범위마다 Redis 왕복 1회
+     * - 한 범위의 조회 실패가 다른 범위 전송을 막지 않음
+     */
+    public void broadcast() {
+        subscribers.forEach((scope, users) -> {
+            List<Long> userIds = new ArrayList<>(users.keySet());
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            Map<Long, QueueStatusResponse> statuses;
+            try {
+                statuses = tokenService.getQueueStatuses(scope, userIds);
+            } catch (IllegalStateException e) {
+                log.warn("대기열 상태 브로드캐스트 실패: scope={}, {}", scope, e.getMessage());
+                return;
+            }
+
+            statuses.forEach((userId, status) -> {
+                Subscriber subscriber = users.get(userId);
+                if (subscriber != null) {
+                    push(scope, userId, subscriber, status);
+                }
+            });
+        });
+    }
+
+    /**
+     * 현재 서버의 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Map::size).sum();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MS);
+    }
+
+    private void push(QueueScope scope, Long userId, Subscriber subscriber, QueueStatusResponse status) {
+        // 전체 대기 인원/예상 대기 시간은 매번 바뀌므로 상태/순번/토큰이 그대로면 전송하지 않음
+        if (status.hasSameProgressAs(subscriber.lastSent)) {
+            return;
+        }
+
+        boolean waiting = "WAITING".equals(status.status());
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .name("ACTIVE".equals(status.status()) ? ACTIVE_EVENT : STATUS_EVENT)
+                    .data(status));
+            subscriber.lastSent = status;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("대기열 상태 전송 실패: scope={}, userId={}, {}", scope, userId, e.getMessage());
+            unsubscribe(scope, userId, subscriber);
+            return;
+        }
+
+        if (!waiting) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void unsubscribe(QueueScope scope, Long userId, Subscriber subscriber) {
+        subscribers.computeIfPresent(scope, (key, users) -> {
+            users.remove(userId, subscriber);
+            return users.isEmpty() ? null : users;
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueueAdmissionProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.QueueTokenClaims;
+import kr.hhplus.be.server.token.infrastructure.redis.TokenRevocationRedisRepository;
+import kr.hhplus.be.server.token.infrastructure.signing.QueueTokenSigner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 토큰 발급/검증 (queue.token.signed=true 인 경우)
+ *
+ * - 발급: 활성 상태 조회 시 (userId, scope, 만료 시각)을 HMAC 서명하여 반환
+ * - 검증: 서명 + 만료 시각 + 로컬 폐기 목록만 확인 (DB/Redis 조회 없음)
+ * - 폐기: 결제 완료/이탈 등으로 만료 전에 반납된 토큰만 Redis 폐기 목록에 등록하고,
+ *         각 서버는 주기적으로(기본 1초) 로컬로 가져옴
+ *
+ * 다른 서버에서 폐기한 토큰은 최대 refresh 주기만큼 늦게 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueTokenIssuer {
+
+    private final QueueTokenSigner signer;
+    private final TokenRevocationRedisRepository revocationRepository;
+    private final QueueAdmissionProperties admissionProperties;
+
+    /**
+     * 로컬 폐기 목록 (member → 폐기 대상 최대 만료 시각)
+     */
+    private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return signer.isEnabled();
+    }
+
+    public boolean isSignedToken(String token) {
+        return signer.isSignedToken(token);
+    }
+
+    /**
+     * 서명 토큰 발급
+     *
+     * @param scope    대기열 범위
+     * @param userId   사용자 ID
+     * @param expireAt 만료 시각 (timestamp)
+     * @return 서명 토큰 (서명 토큰 비활성화 시 null)
+     */
+    public String issue(QueueScope scope, Long userId, long expireAt) {
+        if (!signer.isEnabled()) {
+            return null;
+        }
+        return signer.sign(new QueueTokenClaims(userId, scope, expireAt));
+    }
+
+    /**
+     * 서명 토큰 검증 (메모리 내 처리)
+     *
+     * @param token 서명 토큰
+     * @return 토큰 정보
+     * @throws IllegalArgumentException 형식이 잘못되었거나 서명이 일치하지 않는 경우
+     * @throws IllegalStateException 만료되었거나 폐기된 경우
+     */
+    public QueueTokenClaims verify(String token) {
+        QueueTokenClaims claims = signer.verify(token)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
+
+        if (claims.isExpired(System.currentTimeMillis())) {
+            throw new IllegalStateException("만료된 토큰입니다.");
+        }
+
+        Long revokedUntil = revocations.get(TokenRevocationRedisRepository.member(claims.scope(), claims.userId()));
+        if (revokedUntil != null && claims.expireAt() <= revokedUntil) {
+            throw new IllegalStateException("폐기된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    /**
+     * 만료 전 반납된 토큰 폐기
+     * - 지금까지 발급된 토큰의 만료 시각은 (현재 + 토큰 유효 시간)을 넘지 않으므로 그 시각까지 폐기
+     * - 이후 다시 활성화되어 발급된 토큰은 만료 시각이 더 늦으므로 영향 없음
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     */
+    public void revoke(QueueScope scope, Long userId) {
+        if (!signer.isEnabled()) {
+            return;
+        }
+
+        long coversUntil = System.currentTimeMillis() + admissionProperties.tokenExpiryMillisOf(scope);
+        revocations.merge(TokenRevocationRedisRepository.member(scope, userId), coversUntil, Math::max);
+        try {
+            revocationRepository.revoke(scope, userId, coversUntil);
+        } catch (Exception e) {
+            // 다른 서버에는 반영되지 않지만 토큰 만료 시각이 지나면 자연히 무효화됨
+            log.error("토큰 폐기 등록 실패: scope={}, userId={}", scope, userId, e);
+        }
+    }
+
+    /**
+     * Redis 폐기 목록을 로컬로 동기화 (스케줄러에서 호출)
+     */
+    public void refreshRevocations() {
+        if (!signer.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, Long> latest = revocationRepository.findActive(now);
+        latest.forEach((member, coversUntil) -> revocations.merge(member, coversUntil, Math::max));
+        revocations.values().removeIf(coversUntil -> coversUntil <= now);
+    }
+}
@@ -1,11 +1,18 @@
 package kr.hhplus.be.server.token.application;
 
-import kr.hhplus.be.server.config.redis.DistributedLock;
+import kr.hhplus.be.server.config.queue.QueueAdmissionProperties;
+import kr.hhplus.be.server.token.application.QueuePositionEstimator.Estimate;
+import kr.hhplus.be.server.token.application.response.IssueTokenResponse;
 import kr.hhplus.be.server.token.application.response.QueueStatusResponse;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.QueueTokenClaims;
 import kr.hhplus.be.server.token.domain.Token;
 import kr.hhplus.be.server.token.domain.TokenStatus;
 import kr.hhplus.be.server.token.domain.repository.TokenRepository;
+import kr.hhplus.be.server.token.infrastructure.redis.ActiveUserNearCache;
 import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository.QueueState;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository.SlotRelease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,7 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 토큰/대기열 서비스
@@ -24,6 +34,16 @@ import java.util.List;
  * 1. 토큰 발급: Redis 대기열에 추가 (RDB 저장 없음)
  * 2. 토큰 활성화: Redis 대기열 → 활성 큐 이동 + RDB Token INSERT
  * 3. 토큰 만료: Redis 활성 큐에서 제거 + RDB Token UPDATE
+ * 4. 슬롯 반납: 결제 완료/로그아웃/명시적 만료 시 즉시 활성 큐에서 제거 + 다음 대기자에게 인계
+ *
+ * 대기열 범위 (QueueScope):
+ * - GLOBAL(기존 단일 대기열) 외에 콘서트/일정별 대기열을 독립적으로 운영
+ * - 범위마다 수용 인원/입장 속도/만료 시간을 따로 설정 (queue.admission.scopes)
+ * - 한 사용자가 여러 범위에 동시에 대기/입장할 수 있음 (의도된 동작)
+ *   범위별 수용 인원은 그 범위의 자원(좌석 조회/예약 API)을 보호하기 위한 것이므로 범위마다 슬롯을 하나씩 차지함
+ *   범위 간 단일 멤버십은 Redis Cluster에서 다른 슬롯의 키를 한 Lua 스크립트로 원자적으로 확인할 수 없어 강제하지 않음
+ * - RDB 토큰은 사용자 단위(범위 정보 없음)이므로 활성 토큰 조회/만료는 여러 건을 가정하고 일괄 처리
+ *   활성화/인계 시 기존 ACTIVE 토큰을 먼저 만료하므로 평소에는 가장 최근 입장 1건만 ACTIVE로 남음
  */
 @Slf4j
 @Service
@@ -31,31 +51,84 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TokenService {
 
+    /**
+     * 대기/활성 유저가 없는 범위를 목록에서 제거하기까지의 시간
+     */
+    private static final long SCOPE_IDLE_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    /**
+     * 만료 처리 1회당 최대 인원 (Redis pop + RDB UPDATE IN 절 크기)
+     */
+    private static final int EXPIRY_CHUNK_SIZE = 500;
+
+    /**
+     * 상태 재조회 권장 간격 (예상 대기 시간의 10%, 1초 ~ 60초)
+     * - 앞쪽 유저는 자주, 뒤쪽 유저는 드물게 조회하도록 유도
+     */
+    private static final double POLL_INTERVAL_ETA_RATIO = 0.1;
+    private static final long MIN_POLL_INTERVAL_MS = 1_000L;
+    private static final long MAX_POLL_INTERVAL_MS = 60_000L;
+
+    /**
+     * 예상 대기 시간 반올림 단위 (1분 미만 1초, 10분 미만 10초, 그 이상 100초)
+     * - 입장 속도가 조금씩 흔들려도 안내 값(예상 대기 시간/조회 간격)이 매번 바뀌지 않도록 함
+     */
+    private static final long ETA_FINE_LIMIT_SECONDS = 60L;
+    private static final long ETA_MEDIUM_LIMIT_SECONDS = 600L;
+    private static final long ETA_MEDIUM_STEP_SECONDS = 10L;
+    private static final long ETA_COARSE_STEP_SECONDS = 100L;
+
     private final TokenRepository tokenRepository;
     private final QueueRedisRepository queueRedisRepository;
-
-    private static final int MAX_ACTIVE_TOKENS = 100; // 동시 활성 토큰 최대 개수
-    private static final int TOKEN_EXPIRY_MINUTES = 10; // 토큰 유효 시간 (분)
+    private final QueueAdmissionProperties admissionProperties;
+    private final QueueMetrics queueMetrics;
+    private final QueueTokenIssuer queueTokenIssuer;
+    private final ActiveUserNearCache activeUserNearCache;
+    private final QueuePositionEstimator queuePositionEstimator;
+    private final QueueLivenessTracker queueLivenessTracker;
+    private final QueueCapacityController queueCapacityController;
 
     /**
      * 대기열에 진입 (토큰 발급)
      * - Redis 대기열에 추가
-     * - 사용자당 1개의 대기열/활성 토큰만 존재
+     * - 전체 대기열 안에서 사용자당 1개의 대기/활성 상태만 존재
      *
      * @param userId 사용자 ID
      * @return 대기열 순번 (1부터 시작)
      * @throws IllegalStateException 이미 대기열에 있거나 활성 토큰이 있는 경우
      */
     public long issueToken(Long userId) {
-        // Redis에서 중복 체크 (QueueRedisRepository에서 처리)
-        // RDB에서도 ACTIVE 토큰 체크 (트랜잭션 정합성)
-        tokenRepository.findActiveTokenByUserId(userId)
-            .ifPresent(token -> {
-                throw new IllegalStateException("이미 활성화된 토큰이 존재합니다.");
-            });
+        return issueToken(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 범위별 대기열에 진입 (토큰 발급)
+     * - 중복 진입 확인은 같은 범위 안에서만 수행 (다른 범위의 대기/활성 상태와는 무관)
+     *
+     * @param scope  대기열 범위 (콘서트/일정)
+     * @param userId 사용자 ID
+     * @return 대기열 순번 (1부터 시작)
+     * @throws IllegalStateException 이미 대기열에 있거나 활성 토큰이 있는 경우
+     */
+    public long issueToken(QueueScope scope, Long userId) {
+        // 대기/활성 중복 체크와 추가를 Lua 스크립트 1회로 처리 (RDB 조회 없음)
+        // - 활성 여부의 기준은 Redis 활성 큐 (RDB 토큰은 활성화 시점에만 기록)
+        return queueRedisRepository.addToWaitingQueue(scope, userId);
+    }
 
-        // Redis 대기열에 추가하고 순번 반환
-        return queueRedisRepository.addToWaitingQueue(userId);
+    /**
+     * 범위별 대기열에 진입하고 진입 시각을 함께 반환
+     * - 클라이언트가 상태 조회 시 진입 시각을 보내면 근사 순번 모드에서 Redis 조회 없이 순번 계산
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return 대기열 순번과 진입 시각
+     * @throws IllegalStateException 이미 대기열에 있거나 활성 토큰이 있는 경우
+     */
+    public IssueTokenResponse enterQueue(QueueScope scope, Long userId) {
+        long entryScore = System.currentTimeMillis();
+        long position = queueRedisRepository.addToWaitingQueue(scope, userId, entryScore);
+        return new IssueTokenResponse(userId, position, entryScore);
     }
 
     /**
@@ -66,92 +139,196 @@ public class TokenService {
      */
     @Transactional(readOnly = true)
     public long getQueuePosition(Long userId) {
-        return queueRedisRepository.getWaitingPosition(userId);
+        return getQueuePosition(QueueScope.GLOBAL, userId);
     }
 
     /**
-     * 대기 중인 유저를 활성화 (스케줄러에서 호출)
-     * - Redis 대기열에서 활성 큐로 이동 (Lua 스크립트 - 원자적)
-     * - RDB Token 테이블에 ACTIVE 상태로 INSERT
-     * - 분산락으로 다중 서버 환경에서 중복 실행 방지
+     * 범위별 대기열 순번 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return 대기열 순번 (1부터 시작, 대기열에 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long getQueuePosition(QueueScope scope, Long userId) {
+        return queueRedisRepository.getWaitingPosition(scope, userId);
+    }
+
+    /**
+     * 사용 중인 콘서트/일정별 대기열 범위 조회 (GLOBAL 제외)
+     *
+     * @return 대기열 범위 목록
+     */
+    @Transactional(readOnly = true)
+    public List<QueueScope> getRegisteredScopes() {
+        return queueRedisRepository.getRegisteredScopes();
+    }
+
+    /**
+     * 대기 중인 유저를 활성화 (스케줄러에서 짧은 주기로 호출)
+     * - 빈 슬롯을 초당 ratePerSecond 속도로 채움 (토큰 버킷 - Redis Lua 스크립트로 원자적)
+     * - RDB Token 테이블에 ACTIVE 상태로 일괄 INSERT (실패한 유저만 대기열로 복원)
+     * - 리더 서버의 스케줄러만 호출 (TokenActivationScheduler - @LeaderOnly)
+     *   리더 전환 중 두 서버가 겹쳐 실행해도 pop/활성화가 Lua로 원자적이므로 중복 활성화되지 않음
      *
      * @return 활성화된 토큰 개수
      */
-    @DistributedLock(key = "'scheduler:token:activate'", waitTime = 3, leaseTime = 30)
     public int activateWaitingTokens() {
-        // 현재 활성 유저 수 확인 (Redis 기준)
-        long activeCount = queueRedisRepository.getActiveUserCount();
-        long availableSlots = MAX_ACTIVE_TOKENS - activeCount;
+        return activate(QueueScope.GLOBAL);
+    }
 
-        if (availableSlots <= 0) {
-            return 0; // 여유 없음
-        }
+    /**
+     * 범위별 대기 중인 유저를 활성화
+     * - 범위마다 따로 처리하여 한 범위의 실패가 다른 범위에 영향을 주지 않음
+     *
+     * @param scope 대기열 범위
+     * @return 활성화된 토큰 개수
+     */
+    public int activateWaitingTokens(QueueScope scope) {
+        return activate(scope);
+    }
 
+    private int activate(QueueScope scope) {
         // 만료 시각 계산
-        long expireAt = System.currentTimeMillis() + (TOKEN_EXPIRY_MINUTES * 60 * 1000L);
+        long expireAt = System.currentTimeMillis() + admissionProperties.tokenExpiryMillisOf(scope);
         LocalDateTime expiresAtTime = LocalDateTime.ofInstant(
             Instant.ofEpochMilli(expireAt), ZoneId.systemDefault());
 
-        // Redis에서 대기열 → 활성 큐 이동 (Lua 스크립트로 원자적)
+        // Redis에서 대기열 → 활성 큐 이동 (빈 슬롯 + 입장 속도 제한)
         List<Long> activatedUserIds = queueRedisRepository.popAndActivate(
-            (int) availableSlots, expireAt);
+            scope,
+            queueCapacityController.capacityOf(scope),
+            admissionProperties.ratePerSecondOf(scope),
+            admissionProperties.burstOf(scope),
+            expireAt);
 
         if (activatedUserIds.isEmpty()) {
             return 0;
         }
 
-        try {
-            // RDB Token 테이블에 ACTIVE 상태로 INSERT
-            for (Long userId : activatedUserIds) {
-                Token token = Token.issueActive(userId, expiresAtTime);
-                tokenRepository.save(token);
-            }
-
-            log.info("토큰 활성화 완료: {}명", activatedUserIds.size());
-            return activatedUserIds.size();
+        List<Token> tokens = activatedUserIds.stream()
+            .map(userId -> Token.issueActive(userId, expiresAtTime))
+            .toList();
 
+        // RDB Token 테이블에 ACTIVE 상태로 일괄 INSERT (배치 1회)
+        // - 먼저 기존 ACTIVE 토큰을 만료해 사용자당 ACTIVE 토큰을 1건으로 유지
+        //   (Redis 만료 후 RDB 만료 청크 전에 재진입했거나 다른 범위에서 이미 입장한 경우)
+        long startedAt = System.nanoTime();
+        List<Long> failedUserIds;
+        try {
+            tokenRepository.expireActiveTokensByUserIds(activatedUserIds);
+            failedUserIds = tokenRepository.saveAll(tokens);
         } catch (Exception e) {
-            // RDB 저장 실패 시 Redis 롤백
-            log.error("토큰 활성화 RDB 저장 실패, Redis 롤백 수행", e);
-            queueRedisRepository.rollbackActivation(activatedUserIds);
+            // 일괄 저장 자체가 실패하면 전체 롤백
+            log.error("토큰 활성화 RDB 저장 실패, Redis 롤백 수행: scope={}", scope, e);
+            queueRedisRepository.rollbackActivation(scope, activatedUserIds);
             throw e;
         }
+        queueMetrics.recordActivationWrite(tokens.size(), System.nanoTime() - startedAt);
+
+        // 저장에 실패한 유저만 대기열 맨 앞으로 복원
+        if (!failedUserIds.isEmpty()) {
+            log.error("토큰 활성화 일부 RDB 저장 실패, 해당 유저만 롤백: scope={}, {}명",
+                scope, failedUserIds.size());
+            queueRedisRepository.rollbackActivation(scope, failedUserIds);
+        }
+
+        int activatedCount = activatedUserIds.size() - failedUserIds.size();
+        queueRedisRepository.recordAdmissions(scope, activatedCount);
+        if (activatedCount > 0) {
+            queueLivenessTracker.markActivated(scope, failedUserIds.isEmpty()
+                ? activatedUserIds
+                : activatedUserIds.stream().filter(userId -> !failedUserIds.contains(userId)).toList());
+        }
+        log.debug("토큰 활성화 완료: scope={}, {}명", scope, activatedCount);
+        return activatedCount;
     }
 
     /**
      * 만료된 활성 유저 정리 (스케줄러에서 호출)
-     * - Redis 활성 큐에서 만료된 유저 제거
-     * - RDB Token 상태를 EXPIRED로 변경
+     * - Redis 활성 큐에서 만료된 유저를 청크 단위로 제거
+     * - RDB Token 상태를 청크마다 UPDATE 1회로 EXPIRED 변경
+     * - 오랫동안 사용되지 않은 콘서트/일정별 범위를 목록에서 정리
+     * - 리더 서버의 스케줄러만 호출 (ActiveUserCleanupScheduler - @LeaderOnly)
      *
      * @return 만료 처리된 토큰 개수
      */
-    @DistributedLock(key = "'scheduler:token:cleanup'", waitTime = 3, leaseTime = 30)
     public int expireExpiredTokens() {
-        // Redis에서 만료된 유저 제거
-        List<Long> expiredUserIds = queueRedisRepository.removeExpiredActiveUsers();
+        int expiredCount = expire(QueueScope.GLOBAL);
 
-        if (expiredUserIds.isEmpty()) {
-            return 0;
+        long pruned = queueRedisRepository.pruneIdleScopes(System.currentTimeMillis() - SCOPE_IDLE_TIMEOUT_MS);
+        if (pruned > 0) {
+            log.info("사용되지 않는 대기열 범위 정리: {}개", pruned);
         }
+        return expiredCount;
+    }
+
+    /**
+     * 범위별 만료된 활성 유저 정리
+     * - 대기/활성 유저가 남아 있는 범위는 사용 시각을 갱신하여 목록에 유지
+     *
+     * @param scope 대기열 범위
+     * @return 만료 처리된 토큰 개수
+     */
+    public int expireExpiredTokens(QueueScope scope) {
+        int expiredCount = expire(scope);
+
+        if (queueRedisRepository.getWaitingUserCount(scope) > 0
+            || queueRedisRepository.getActiveUserCount(scope) > 0) {
+            queueRedisRepository.touchScope(scope);
+        }
+        return expiredCount;
+    }
 
-        // RDB에서 해당 유저의 ACTIVE 토큰을 EXPIRED로 변경
+    private int expire(QueueScope scope) {
         int expiredCount = 0;
-        for (Long userId : expiredUserIds) {
-            tokenRepository.findActiveTokenByUserId(userId)
-                .ifPresent(token -> {
-                    Token expired = token.expire();
-                    tokenRepository.save(expired);
-                });
-            expiredCount++;
+
+        // Redis에서 만료된 유저를 청크 단위로 꺼내고(원자적), 청크마다 RDB UPDATE 1회
+        while (true) {
+            List<Long> expiredUserIds = queueRedisRepository.removeExpiredActiveUsers(scope, EXPIRY_CHUNK_SIZE);
+            if (expiredUserIds.isEmpty()) {
+                break;
+            }
+
+            tokenRepository.expireActiveTokensByUserIds(expiredUserIds);
+            expiredCount += expiredUserIds.size();
+
+            if (expiredUserIds.size() < EXPIRY_CHUNK_SIZE) {
+                break;
+            }
         }
 
-        log.info("만료된 토큰 정리 완료: {}개", expiredCount);
+        // 활성화 후 보호 API를 호출하지 않은 유저의 슬롯 회수 (queue.liveness.activation-grace-ms)
+        if (queueLivenessTracker.isIdleActivationExpiryEnabled()) {
+            long now = System.currentTimeMillis();
+            while (true) {
+                List<Long> idleUserIds = queueRedisRepository.removeUnconfirmedActiveUsers(scope, now, EXPIRY_CHUNK_SIZE);
+                if (idleUserIds.isEmpty()) {
+                    break;
+                }
+
+                tokenRepository.expireActiveTokensByUserIds(idleUserIds);
+                idleUserIds.forEach(userId -> queueTokenIssuer.revoke(scope, userId));
+                expiredCount += idleUserIds.size();
+
+                if (idleUserIds.size() < EXPIRY_CHUNK_SIZE) {
+                    break;
+                }
+            }
+        }
+
+        if (expiredCount > 0) {
+            log.info("만료된 토큰 정리 완료: scope={}, {}개", scope, expiredCount);
+        }
         return expiredCount;
     }
 
     /**
-     * 토큰 유효성 검증 (RDB 기반 - 트랜잭션 정합성 보장)
+     * 토큰 유효성 검증
      * - 예약/결제 요청 전에 토큰이 활성 상태인지 확인
+     * - 서명 토큰: 서명/만료 시각/로컬 폐기 목록으로 메모리 내 검증 (DB 조회 없음)
+     * - UUID 토큰: RDB 기반 검증 (트랜잭션 정합성 보장)
+     * - 검증에 성공하면 보호 API 호출로 기록 (미사용 활성 유저 회수 대상에서 제외)
      *
      * @param tokenValue 토큰 값 (UUID)
      * @throws IllegalArgumentException 토큰을 찾을 수 없는 경우
@@ -159,12 +336,19 @@ public class TokenService {
      */
     @Transactional(readOnly = true)
     public void validateToken(String tokenValue) {
+        if (queueTokenIssuer.isSignedToken(tokenValue)) {
+            QueueTokenClaims claims = queueTokenIssuer.verify(tokenValue);
+            queueLivenessTracker.confirmActive(claims.scope(), claims.userId());
+            return;
+        }
+
         Token token = tokenRepository.findByTokenValue(tokenValue)
             .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
 
         if (!token.isActive()) {
             throw new IllegalStateException("활성 상태가 아닌 토큰입니다. 현재 상태: " + token.getStatus());
         }
+        queueLivenessTracker.confirmActive(QueueScope.GLOBAL, token.getUserId());
     }
 
     /**
@@ -175,11 +359,29 @@ public class TokenService {
      */
     @Transactional(readOnly = true)
     public boolean isActiveUser(Long userId) {
-        return queueRedisRepository.isActiveUser(userId);
+        return isActiveUser(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 범위별 활성 상태 확인
+     * - 로컬 캐시(ActiveUserNearCache) 우선 조회, 없을 때만 Redis 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return 활성 상태 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isActiveUser(QueueScope scope, Long userId) {
+        boolean active = getActiveExpireAt(scope, userId) != null;
+        if (active) {
+            queueLivenessTracker.confirmActive(scope, userId);
+        }
+        return active;
     }
 
     /**
      * 토큰 만료 처리 (예약/결제 완료 후 명시적 만료)
+     * - 활성 슬롯도 즉시 반납하여 다음 대기자에게 인계
      *
      * @param tokenValue 토큰 값 (UUID)
      * @return 만료된 토큰
@@ -188,8 +390,121 @@ public class TokenService {
         Token token = tokenRepository.findByTokenValue(tokenValue)
             .orElseThrow(() -> new IllegalArgumentException("토큰을 찾을 수 없습니다."));
 
-        Token expired = token.expire();
-        return tokenRepository.save(expired);
+        Token expired = tokenRepository.save(token.expire());
+
+        // 토큰에는 범위 정보가 없으므로 전체 → 콘서트/일정 범위 순서로 반납 시도
+        List<QueueScope> scopes = new ArrayList<>();
+        scopes.add(QueueScope.GLOBAL);
+        scopes.addAll(queueRedisRepository.getRegisteredScopes());
+        for (QueueScope scope : scopes) {
+            if (releaseActiveSlot(scope, token.getUserId()).released()) {
+                break;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 활성 슬롯 반납 (결제 완료 시 호출)
+     * - Redis 활성 큐에서 즉시 제거 + RDB 토큰 EXPIRED
+     * - 남은 시간이 있던 슬롯은 대기열 맨 앞 유저에게 바로 인계
+     *
+     * @param userId 사용자 ID
+     * @return 회수한 슬롯 시간 (ms), 활성 유저가 아니면 0
+     */
+    public long releaseSlot(Long userId) {
+        return releaseSlot(List.of(QueueScope.GLOBAL), userId);
+    }
+
+    /**
+     * 활성 슬롯 반납 (범위 지정)
+     * - 결제 완료 시 사용자가 어느 범위(전체/콘서트/일정)로 입장했는지 알 수 없으므로 후보 범위를 순서대로 확인
+     * - 처음으로 반납에 성공한 범위에서 멈춤
+     *
+     * @param scopes 후보 대기열 범위
+     * @param userId 사용자 ID
+     * @return 회수한 슬롯 시간 (ms), 활성 유저가 아니면 0
+     */
+    public long releaseSlot(List<QueueScope> scopes, Long userId) {
+        // 여러 범위에서 입장했을 수 있으므로 단건 조회 없이 UPDATE 1회로 모두 만료
+        tokenRepository.expireActiveTokensByUserIds(List.of(userId));
+
+        for (QueueScope scope : scopes) {
+            SlotRelease release = releaseActiveSlot(scope, userId);
+            if (release.released()) {
+                return release.reclaimedMillis();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 대기열/활성 상태에서 이탈 (명시적 로그아웃)
+     * - 활성 유저라면 슬롯 반납, 대기 중이라면 대기열에서 제거
+     *
+     * @param userId 사용자 ID
+     * @throws IllegalArgumentException 대기열/활성 큐 어디에도 없는 경우
+     */
+    public void leaveQueue(Long userId) {
+        leaveQueue(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 범위별 대기열/활성 상태에서 이탈
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @throws IllegalArgumentException 대기열/활성 큐 어디에도 없는 경우
+     */
+    public void leaveQueue(QueueScope scope, Long userId) {
+        if (queueRedisRepository.removeFromWaitingQueue(scope, userId)) {
+            log.debug("대기열 이탈: scope={}, userId={}", scope, userId);
+            return;
+        }
+
+        boolean hadActiveToken = tokenRepository.expireActiveTokensByUserIds(List.of(userId)) > 0;
+        SlotRelease release = releaseActiveSlot(scope, userId);
+
+        if (!hadActiveToken && !release.released()) {
+            throw new IllegalArgumentException("대기열에 존재하지 않는 사용자입니다.");
+        }
+    }
+
+    /**
+     * Redis 활성 큐에서 슬롯 반납 + 인계받은 유저 토큰 발급
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return 반납 결과
+     */
+    private SlotRelease releaseActiveSlot(QueueScope scope, Long userId) {
+        long handoffExpireAt = System.currentTimeMillis() + admissionProperties.tokenExpiryMillisOf(scope);
+        SlotRelease release = queueRedisRepository.releaseActiveUser(scope, userId, handoffExpireAt);
+        if (!release.released()) {
+            return release;
+        }
+        queueTokenIssuer.revoke(scope, userId);
+
+        Long nextUserId = release.handedOffUserId();
+        if (nextUserId != null) {
+            try {
+                LocalDateTime expiresAtTime = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(handoffExpireAt), ZoneId.systemDefault());
+                tokenRepository.expireActiveTokensByUserIds(List.of(nextUserId));
+                tokenRepository.save(Token.issueActive(nextUserId, expiresAtTime));
+                queueLivenessTracker.markActivated(scope, List.of(nextUserId));
+            } catch (Exception e) {
+                // 인계 실패 시 대기열 맨 앞으로 복원 (슬롯은 다음 스케줄러 실행에서 채움)
+                log.error("슬롯 인계 RDB 저장 실패, Redis 롤백 수행: userId={}", nextUserId, e);
+                queueRedisRepository.rollbackActivation(scope, List.of(nextUserId));
+                nextUserId = null;
+            }
+        }
+
+        queueMetrics.recordSlotRelease(release.reclaimedMillis(), nextUserId != null);
+        log.info("활성 슬롯 반납: scope={}, userId={}, 회수 {}초, 인계 userId={}",
+            scope, userId, release.reclaimedMillis() / 1000, nextUserId);
+        return release;
     }
 
     /**
@@ -212,17 +527,130 @@ public class TokenService {
      */
     @Transactional(readOnly = true)
     public QueueStatusResponse getQueueStatus(Long userId) {
-        // 활성 상태인지 확인
-        if (queueRedisRepository.isActiveUser(userId)) {
-            return QueueStatusResponse.active();
+        return getQueueStatus(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 범위별 대기열/활성 상태 정보 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 사용자 ID
+     * @return 상태 정보 (대기열 순번 또는 활성 상태)
+     */
+    @Transactional(readOnly = true)
+    public QueueStatusResponse getQueueStatus(QueueScope scope, Long userId) {
+        // 활성 상태는 로컬 캐시에서 확인, 캐시에 없으면 활성/순번/전체 인원을 Redis 왕복 1회로 조회
+        QueueState[] loaded = new QueueState[1];
+        Long expireAt = activeUserNearCache.getActiveExpireAt(scope, userId, () -> {
+            loaded[0] = queueRedisRepository.getQueueState(scope, userId);
+            return loaded[0].activeExpireAt();
+        });
+        if (expireAt != null) {
+            return toStatusResponse(scope, userId, new QueueState(expireAt, 0, 0, 0));
         }
 
-        // 대기열 순번 확인
-        long position = queueRedisRepository.getWaitingPosition(userId);
-        if (position > 0) {
-            return QueueStatusResponse.waiting(position);
+        // 캐시가 비활성 상태를 알려준 경우에만 한 번 더 조회
+        QueueState state = loaded[0] != null ? loaded[0] : queueRedisRepository.getQueueState(scope, userId);
+        return toStatusResponse(scope, userId, state);
+    }
+
+    /**
+     * 진입 시각을 이용한 대기열/활성 상태 조회 (근사 순번 모드)
+     * - 스냅샷으로 추정한 순번이 맨 앞 근처가 아니면 ZSCORE 1회로 대기열 소속만 확인하고 응답
+     *   (활성화는 맨 앞부터 진행되므로 뒤쪽 유저는 활성 상태일 수 없음)
+     * - 대기열에 없거나 진입 시각이 다르면(이미 입장, 정리됨, 재진입) 정확한 상태 조회
+     *   → 대기열에 없는 유저에게 WAITING 응답이나 하트비트를 남기지 않음
+     * - 근사 순번을 사용할 수 없으면 정확한 상태 조회
+     *
+     * @param scope      대기열 범위
+     * @param userId     사용자 ID
+     * @param entryScore 대기열 진입 시각 (null이면 정확한 상태 조회)
+     * @return 상태 정보 (대기열 순번 또는 활성 상태)
+     */
+    @Transactional(readOnly = true)
+    public QueueStatusResponse getQueueStatus(QueueScope scope, Long userId, Long entryScore) {
+        if (entryScore != null) {
+            Estimate estimate = queuePositionEstimator.estimate(scope, entryScore);
+            if (estimate != null && entryScore.equals(queueRedisRepository.getWaitingScore(scope, userId))) {
+                return toStatusResponse(scope, userId,
+                        new QueueState(null, estimate.position(), estimate.totalWaiting(), estimate.admissionRate()));
+            }
         }
+        return getQueueStatus(scope, userId);
+    }
 
-        return QueueStatusResponse.notInQueue();
+    /**
+     * 여러 유저의 대기열/활성 상태 일괄 조회 (SSE 브로드캐스트용, Redis 왕복 1회)
+     *
+     * @param scope   대기열 범위
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 상태 정보
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, QueueStatusResponse> getQueueStatuses(QueueScope scope, List<Long> userIds) {
+        List<QueueState> states = queueRedisRepository.getQueueStates(scope, userIds);
+
+        Map<Long, QueueStatusResponse> statuses = new HashMap<>(userIds.size() * 2);
+        for (int i = 0; i < userIds.size(); i++) {
+            statuses.put(userIds.get(i), toStatusResponse(scope, userIds.get(i), states.get(i)));
+        }
+        return statuses;
+    }
+
+    /**
+     * Redis 상태 → 응답 변환
+     * - 활성: 서명 토큰 사용 시 만료 시각을 담아 발급
+     * - 대기: 최근 입장 속도 기준 예상 대기 시간과 다음 조회 권장 간격 포함 (조회 자체를 하트비트로 기록)
+     */
+    private QueueStatusResponse toStatusResponse(QueueScope scope, Long userId, QueueState state) {
+        if (state.activeExpireAt() != null) {
+            return QueueStatusResponse.active(
+                    queueTokenIssuer.issue(scope, userId, state.activeExpireAt()), state.activeExpireAt());
+        }
+        if (state.position() > 0) {
+            queueLivenessTracker.heartbeat(scope, userId);
+            // 예상 대기 시간/조회 간격은 안내 값이므로 변경 감지 키(QueueStatusResponse.hasSameProgressAs)에서 제외
+            // - 구간 단위로 반올림하여 순번/입장 속도가 의미 있게 바뀔 때만 값이 바뀜
+            long etaSeconds = roundEtaSeconds(estimateWaitSeconds(scope, state.position(), state.admissionRate()));
+            return QueueStatusResponse.waiting(state.position(), state.totalWaiting(),
+                    etaSeconds, nextPollAfterMs(etaSeconds));
+        }
+        return QueueStatusResponse.notInQueue(state.totalWaiting());
+    }
+
+    /**
+     * 예상 대기 시간 (초) = 대기 순번 / 초당 입장 인원
+     * - 최근 입장 속도(activateWaitingTokens 기록)를 사용하고, 기록이 없으면 설정값 사용
+     */
+    private long estimateWaitSeconds(QueueScope scope, long position, double admissionRate) {
+        double ratePerSecond = admissionRate > 0 ? admissionRate : admissionProperties.ratePerSecondOf(scope);
+        return ratePerSecond > 0 ? (long) Math.ceil(position / ratePerSecond) : 0;
+    }
+
+    /**
+     * 예상 대기 시간을 구간 단위로 올림 (짧을수록 정밀하게)
+     */
+    private long roundEtaSeconds(long etaSeconds) {
+        if (etaSeconds < ETA_FINE_LIMIT_SECONDS) {
+            return etaSeconds;
+        }
+        long step = etaSeconds < ETA_MEDIUM_LIMIT_SECONDS ? ETA_MEDIUM_STEP_SECONDS : ETA_COARSE_STEP_SECONDS;
+        return (etaSeconds + step - 1) / step * step;
+    }
+
+    /**
+     * 다음 상태 조회 권장 간격 (ms)
+     */
+    private long nextPollAfterMs(long etaSeconds) {
+        long interval = (long) (etaSeconds * 1000 * POLL_INTERVAL_ETA_RATIO);
+        return Math.max(MIN_POLL_INTERVAL_MS, Math.min(MAX_POLL_INTERVAL_MS, interval));
+    }
+
+    /**
+     * 활성 유저 만료 시각 조회 (로컬 캐시 → Redis ZSCORE)
+     */
+    private Long getActiveExpireAt(QueueScope scope, Long userId) {
+        return activeUserNearCache.getActiveExpireAt(scope, userId,
+                () -> queueRedisRepository.getActiveExpireAt(scope, userId));
     }
 }
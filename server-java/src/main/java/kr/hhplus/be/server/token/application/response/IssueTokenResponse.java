@@ -1,3 +1,7 @@
 package kr.hhplus.be.server.token.application.response;
 
-public record IssueTokenResponse(Long userId, long position) {}
+/**
+ * 대기열 진입 응답 DTO
+ * - entryScore: 진입 시각 (상태 조회 시 함께 보내면 근사 순번 모드에서 Redis 조회 없이 순번 계산)
+ */
+public record IssueTokenResponse(Long userId, long position, long entryScore) {}
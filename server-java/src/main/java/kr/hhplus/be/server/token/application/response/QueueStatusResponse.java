@@ -1,21 +1,56 @@
 package kr.hhplus.be.server.token.application.response;
 
+import java.util.Objects;
+
 /**
  * 대기열 상태 응답 DTO
  */
 public record QueueStatusResponse(
-    String status,      // WAITING, ACTIVE, NOT_IN_QUEUE
-    long position       // 대기열 순번 (WAITING일 때만 유효)
+    String status,        // WAITING, ACTIVE, NOT_IN_QUEUE
+    long position,        // 대기열 순번 (WAITING일 때만 유효)
+    String token,         // 서명 토큰 (ACTIVE이고 서명 토큰 사용 시에만 발급)
+    Long expiresAt,       // 활성 만료 시각 timestamp (ACTIVE일 때만 유효)
+    long totalWaiting,    // 전체 대기 인원
+    long etaSeconds,      // 예상 대기 시간 (초, WAITING일 때만 유효)
+    long nextPollAfterMs  // 다음 상태 조회 권장 간격 (ms, WAITING일 때만 유효)
 ) {
     public static QueueStatusResponse waiting(long position) {
-        return new QueueStatusResponse("WAITING", position);
+        return waiting(position, 0, 0, 0);
+    }
+
+    public static QueueStatusResponse waiting(long position, long totalWaiting, long etaSeconds, long nextPollAfterMs) {
+        return new QueueStatusResponse("WAITING", position, null, null, totalWaiting, etaSeconds, nextPollAfterMs);
     }
 
     public static QueueStatusResponse active() {
-        return new QueueStatusResponse("ACTIVE", 0);
+        return active(null);
+    }
+
+    public static QueueStatusResponse active(String token) {
+        return active(token, null);
+    }
+
+    public static QueueStatusResponse active(String token, Long expiresAt) {
+        return new QueueStatusResponse("ACTIVE", 0, token, expiresAt, 0, 0, 0);
     }
 
     public static QueueStatusResponse notInQueue() {
-        return new QueueStatusResponse("NOT_IN_QUEUE", 0);
+        return notInQueue(0);
+    }
+
+    public static QueueStatusResponse notInQueue(long totalWaiting) {
+        return new QueueStatusResponse("NOT_IN_QUEUE", 0, null, null, totalWaiting, 0, 0);
+    }
+
+    /**
+     * 유저에게 다시 알릴 만한 변화가 없는지 비교 (상태/순번/토큰/만료 시각)
+     * - 전체 대기 인원/예상 대기 시간/조회 간격은 매 조회마다 바뀌는 안내 값이므로 비교하지 않음
+     */
+    public boolean hasSameProgressAs(QueueStatusResponse other) {
+        return other != null
+            && status.equals(other.status)
+            && position == other.position
+            && Objects.equals(token, other.token)
+            && Objects.equals(expiresAt, other.expiresAt);
     }
 }
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.token.domain;
+
+import java.util.Collection;
+
+/**
+ * 일정 구간 동안 측정한 예약/결제 백엔드 부하
+ *
+ * @param samples    요청 수
+ * @param errors     서버 오류 수
+ * @param p99Millis  응답 시간 p99 (ms)
+ * @param poolWaitMs 커넥션 풀 평균 대기 시간 (ms)
+ */
+public record BackendLoad(long samples, long errors, double p99Millis, double poolWaitMs) {
+
+    public static final BackendLoad EMPTY = new BackendLoad(0, 0, 0, 0);
+
+    /**
+     * 서버 오류율 (요청이 없으면 0)
+     */
+    public double errorRate() {
+        return samples > 0 ? (double) errors / samples : 0;
+    }
+
+    /**
+     * 여러 서버의 측정값 합산
+     * - 요청/오류 수는 합계, 응답 시간과 풀 대기 시간은 가장 나쁜 서버 기준
+     */
+    public static BackendLoad merge(Collection<BackendLoad> loads) {
+        long samples = 0;
+        long errors = 0;
+        double p99Millis = 0;
+        double poolWaitMs = 0;
+        for (BackendLoad load : loads) {
+            samples += load.samples();
+            errors += load.errors();
+            p99Millis = Math.max(p99Millis, load.p99Millis());
+            poolWaitMs = Math.max(poolWaitMs, load.poolWaitMs());
+        }
+        return new BackendLoad(samples, errors, p99Millis, poolWaitMs);
+    }
+}
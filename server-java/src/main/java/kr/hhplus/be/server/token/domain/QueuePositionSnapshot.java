@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.token.domain;
+
+import java.util.List;
+
+/**
+ * 대기열 순번 스냅샷
+ *
+ * 대기열에서 일정 간격으로 뽑은 (진입 시각, 순번) 샘플입니다.
+ * 유저의 진입 시각만 알면 인접한 두 샘플 사이를 선형 보간하여 순번을 추정할 수 있으므로
+ * 대기열이 아무리 커도 ZRANK 없이 순번을 계산할 수 있습니다.
+ * - 오차는 샘플 간격(전체 인원 / 샘플 수) 이내
+ * - samples는 진입 시각(score) 오름차순, 첫 샘플이 대기열 맨 앞, 마지막 샘플이 맨 뒤
+ *
+ * @param createdAt     스냅샷 생성 시각 (timestamp)
+ * @param totalWaiting  전체 대기 인원
+ * @param admissionRate 생성 시점의 최근 입장 속도 (초당 인원)
+ * @param samples       (진입 시각, 0-based 순번) 샘플 목록
+ */
+public record QueuePositionSnapshot(
+    long createdAt,
+    long totalWaiting,
+    double admissionRate,
+    List<Sample> samples
+) {
+
+    public record Sample(double score, long rank) {
+    }
+
+    public QueuePositionSnapshot {
+        samples = List.copyOf(samples);
+    }
+
+    public boolean isEmpty() {
+        return samples.isEmpty();
+    }
+
+    public boolean isStale(long now, long maxAgeMs) {
+        return now - createdAt > maxAgeMs;
+    }
+
+    /**
+     * 진입 시각으로 대기 순번 추정
+     *
+     * @param entryScore 대기열 진입 시각 (ZSet score)
+     * @return 추정 순번 (1부터 시작), 스냅샷 범위를 벗어나면 0 (이미 활성화/이탈했거나 스냅샷 이후 진입)
+     */
+    public long estimatePosition(double entryScore) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+
+        Sample head = samples.get(0);
+        Sample tail = samples.get(samples.size() - 1);
+        if (entryScore < head.score() || entryScore > tail.score()) {
+            return 0;
+        }
+
+        // entryScore 이하인 마지막 샘플 (이진 탐색)
+        int low = 0;
+        int high = samples.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (samples.get(mid).score() <= entryScore) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        Sample lower = samples.get(low);
+        if (low == samples.size() - 1 || lower.score() == entryScore) {
+            return lower.rank() + 1;
+        }
+
+        Sample upper = samples.get(low + 1);
+        double ratio = (entryScore - lower.score()) / (upper.score() - lower.score());
+        return lower.rank() + Math.round(ratio * (upper.rank() - lower.rank())) + 1;
+    }
+}
@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.token.domain;
+
+import java.util.Objects;
+
+/**
+ * 대기열 범위 (Value Object)
+ * - GLOBAL: 서비스 전체 단일 대기열 (기존 queue:waiting / queue:active)
+ * - CONCERT: 콘서트별 대기열
+ * - SCHEDULE: 콘서트 일정(회차)별 대기열
+ *
+ * 범위마다 대기열/활성 큐/수용 인원/만료 시간이 독립적으로 관리됩니다.
+ */
+public record QueueScope(Type type, Long id) {
+
+    public enum Type {
+        GLOBAL,
+        CONCERT,
+        SCHEDULE
+    }
+
+    public static final QueueScope GLOBAL = new QueueScope(Type.GLOBAL, null);
+
+    public QueueScope {
+        Objects.requireNonNull(type, "대기열 범위 타입은 필수입니다.");
+        if (type != Type.GLOBAL && (id == null || id <= 0)) {
+            throw new IllegalArgumentException("대기열 범위 ID는 양수여야 합니다.");
+        }
+        if (type == Type.GLOBAL) {
+            id = null;
+        }
+    }
+
+    public static QueueScope ofConcert(Long concertId) {
+        return new QueueScope(Type.CONCERT, concertId);
+    }
+
+    public static QueueScope ofSchedule(Long scheduleId) {
+        return new QueueScope(Type.SCHEDULE, scheduleId);
+    }
+
+    /**
+     * API 경로의 범위 타입으로 생성
+     *
+     * @param scopeType "concerts" 또는 "schedules"
+     * @param id        콘서트 ID 또는 일정 ID
+     * @return 대기열 범위
+     * @throws IllegalArgumentException 지원하지 않는 범위 타입인 경우
+     */
+    public static QueueScope of(String scopeType, Long id) {
+        return switch (scopeType.toLowerCase()) {
+            case "concerts", "concert" -> ofConcert(id);
+            case "schedules", "schedule" -> ofSchedule(id);
+            default -> throw new IllegalArgumentException("지원하지 않는 대기열 범위입니다: " + scopeType);
+        };
+    }
+
+    /**
+     * 범위 키 문자열로부터 복원 (예: "global", "concert:1", "schedule:10")
+     *
+     * @param key 범위 키
+     * @return 대기열 범위
+     */
+    public static QueueScope parse(String key) {
+        if (Type.GLOBAL.name().equalsIgnoreCase(key)) {
+            return GLOBAL;
+        }
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 대기열 범위 키입니다: " + key);
+        }
+        Type type = Type.valueOf(key.substring(0, separator).toUpperCase());
+        return new QueueScope(type, Long.parseLong(key.substring(separator + 1)));
+    }
+
+    /**
+     * 범위 키 (예: "global", "concert:1", "schedule:10")
+     */
+    public String key() {
+        if (isGlobal()) {
+            return "global";
+        }
+        return type.name().toLowerCase() + ":" + id;
+    }
+
+    public boolean isGlobal() {
+        return type == Type.GLOBAL;
+    }
+
+    @Override
+    public String toString() {
+        return key();
+    }
+}
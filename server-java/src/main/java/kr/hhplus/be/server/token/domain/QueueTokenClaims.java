@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.token.domain;
+
+import java.util.Objects;
+
+/**
+ * 서명 토큰에 담기는 정보 (Value Object)
+ * - 활성화 시점에 발급되며 DB 조회 없이 검증
+ *
+ * @param userId   사용자 ID
+ * @param scope    대기열 범위
+ * @param expireAt 만료 시각 (timestamp, Redis 활성 큐 score와 동일)
+ */
+public record QueueTokenClaims(Long userId, QueueScope scope, long expireAt) {
+
+    public QueueTokenClaims {
+        Objects.requireNonNull(userId, "사용자 ID는 필수입니다.");
+        Objects.requireNonNull(scope, "대기열 범위는 필수입니다.");
+    }
+
+    /**
+     * 만료 여부
+     *
+     * @param now 현재 시각 (timestamp)
+     * @return 만료 여부
+     */
+    public boolean isExpired(long now) {
+        return expireAt <= now;
+    }
+}
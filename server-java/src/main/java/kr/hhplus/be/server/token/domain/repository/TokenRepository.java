@@ -20,6 +20,14 @@ public interface TokenRepository {
      */
     Token save(Token token);
 
+    /**
+     * 신규 토큰 일괄 저장 (배치 INSERT)
+     * - 배치가 실패하면 행 단위로 다시 시도하여 실패한 토큰만 골라냄
+     * @param tokens 저장할 신규 토큰 목록
+     * @return 저장에 실패한 토큰의 사용자 ID 목록 (모두 성공하면 빈 목록)
+     */
+    List<Long> saveAll(List<Token> tokens);
+
     /**
      * 토큰 ID로 조회
      * @param id 토큰 ID
@@ -35,11 +43,19 @@ public interface TokenRepository {
     Optional<Token> findByTokenValue(String tokenValue);
 
     /**
-     * 사용자 ID로 활성 토큰 조회
+     * 사용자 ID로 활성 토큰 목록 조회
+     * - 범위별 대기열마다 따로 활성화될 수 있으므로 단건을 가정하지 않음
      * @param userId 사용자 ID
-     * @return 활성 토큰 (Optional)
+     * @return 활성 토큰 목록 (없으면 빈 목록)
+     */
+    List<Token> findActiveTokensByUserId(Long userId);
+
+    /**
+     * 사용자들의 ACTIVE 토큰을 EXPIRED로 일괄 변경 (단일 UPDATE)
+     * @param userIds 사용자 ID 목록
+     * @return 만료 처리된 토큰 수
      */
-    Optional<Token> findActiveTokenByUserId(Long userId);
+    int expireActiveTokensByUserIds(List<Long> userIds);
 
     /**
      * 특정 상태의 토큰 목록 조회 (생성 시간 순)
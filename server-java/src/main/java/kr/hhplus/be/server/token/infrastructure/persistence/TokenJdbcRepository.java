@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.token.infrastructure.persistence;
+
+import kr.hhplus.be.server.token.domain.Token;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Token JDBC Repository
+ * - 대량 INSERT 전용 (JPA IDENTITY 전략은 배치 INSERT를 지원하지 않음)
+ * - rewriteBatchedStatements=true 인 경우 MySQL 드라이버가 multi-row INSERT 한 건으로 전송
+ * - 시간 컬럼은 hibernate.jdbc.time_zone(UTC)과 동일하게 UTC 기준으로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+class TokenJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO tokens (token_value, user_id, status, created_at, activated_at, expires_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 INSERT (한 번의 왕복)
+     *
+     * @param tokens 저장할 신규 토큰 목록
+     */
+    void batchInsert(List<Token> tokens) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, tokens, tokens.size(),
+            (ps, token) -> bind(ps, token, now));
+    }
+
+    /**
+     * 단건 INSERT (배치 실패 시 실패한 행을 찾기 위해 사용)
+     *
+     * @param token 저장할 신규 토큰
+     */
+    void insert(Token token) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, token, now));
+    }
+
+    private void bind(PreparedStatement ps, Token token, LocalDateTime now) throws SQLException {
+        ps.setString(1, token.getTokenValue());
+        ps.setLong(2, token.getUserId());
+        ps.setString(3, token.getStatus().name());
+        setTimestamp(ps, 4, token.getCreatedAt() != null ? token.getCreatedAt() : now);
+        setTimestamp(ps, 5, token.getActivatedAt());
+        setTimestamp(ps, 6, token.getExpiresAt());
+        setTimestamp(ps, 7, now);
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, java.sql.Types.TIMESTAMP);
+            return;
+        }
+        ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(UTC));
+    }
+}
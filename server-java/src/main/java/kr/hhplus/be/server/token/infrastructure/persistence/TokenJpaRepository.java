@@ -2,9 +2,11 @@ package kr.hhplus.be.server.token.infrastructure.persistence;
 
 import kr.hhplus.be.server.token.domain.TokenStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +22,10 @@ interface TokenJpaRepository extends JpaRepository<TokenEntity, Long> {
     Optional<TokenEntity> findByTokenValue(String tokenValue);
 
     /**
-     * 사용자 ID로 활성 토큰 조회
+     * 사용자 ID로 활성 토큰 목록 조회
      */
     @Query("SELECT t FROM TokenEntity t WHERE t.userId = :userId AND t.status = 'ACTIVE'")
-    Optional<TokenEntity> findActiveTokenByUserId(@Param("userId") Long userId);
+    List<TokenEntity> findActiveTokensByUserId(@Param("userId") Long userId);
 
     /**
      * 특정 상태의 토큰 목록 조회 (생성 시간 오름차순)
@@ -34,4 +36,16 @@ interface TokenJpaRepository extends JpaRepository<TokenEntity, Long> {
      * 특정 상태의 토큰 개수 조회
      */
     long countByStatus(TokenStatus status);
+
+    /**
+     * 조건부 UPDATE: 사용자들의 ACTIVE 토큰을 EXPIRED로 일괄 변경
+     * - WHERE절에 userId 목록과 status = ACTIVE 조건 포함 (idx_user_id_status 사용)
+     * @param userIds 만료할 사용자 ID 목록
+     * @param now     변경 시각
+     * @return 업데이트된 토큰 수
+     */
+    @Modifying
+    @Query("UPDATE TokenEntity t SET t.status = 'EXPIRED', t.updatedAt = :now " +
+           "WHERE t.userId IN :userIds AND t.status = 'ACTIVE'")
+    int expireActiveTokensByUserIds(@Param("userIds") List<Long> userIds, @Param("now") LocalDateTime now);
 }
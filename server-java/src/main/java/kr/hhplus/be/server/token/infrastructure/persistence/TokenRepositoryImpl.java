@@ -4,8 +4,12 @@ import kr.hhplus.be.server.token.domain.Token;
 import kr.hhplus.be.server.token.domain.TokenStatus;
 import kr.hhplus.be.server.token.domain.repository.TokenRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +19,13 @@ import java.util.Optional;
  * - Domain ↔ JPA Entity 변환 책임
  * - 기술적 세부사항 격리
  */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class TokenRepositoryImpl implements TokenRepository {
 
     private final TokenJpaRepository jpaRepository;
+    private final TokenJdbcRepository jdbcRepository;
 
     @Override
     public Token save(Token token) {
@@ -30,6 +36,32 @@ public class TokenRepositoryImpl implements TokenRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public List<Long> saveAll(List<Token> tokens) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            jdbcRepository.batchInsert(tokens);
+            return List.of();
+        } catch (DataAccessException e) {
+            // multi-row INSERT는 한 행만 실패해도 전체가 실패하므로 행 단위로 재시도
+            log.warn("토큰 배치 INSERT 실패, 행 단위로 재시도: {}건", tokens.size(), e);
+        }
+
+        List<Long> failedUserIds = new ArrayList<>();
+        for (Token token : tokens) {
+            try {
+                jdbcRepository.insert(token);
+            } catch (DataAccessException e) {
+                log.error("토큰 INSERT 실패: userId={}", token.getUserId(), e);
+                failedUserIds.add(token.getUserId());
+            }
+        }
+        return failedUserIds;
+    }
+
     @Override
     public Optional<Token> findById(Long id) {
         return jpaRepository.findById(id)
@@ -43,9 +75,18 @@ public class TokenRepositoryImpl implements TokenRepository {
     }
 
     @Override
-    public Optional<Token> findActiveTokenByUserId(Long userId) {
-        return jpaRepository.findActiveTokenByUserId(userId)
-            .map(TokenEntity::toDomain);
+    public List<Token> findActiveTokensByUserId(Long userId) {
+        return jpaRepository.findActiveTokensByUserId(userId).stream()
+            .map(TokenEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public int expireActiveTokensByUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.expireActiveTokensByUserIds(userIds, LocalDateTime.now());
     }
 
     @Override
@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.config.queue.QueueNearCacheProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 활성 유저 로컬 캐시 (near-cache)
+ *
+ * 상태 조회/활성 여부 확인마다 발생하는 Redis ZSCORE를 서버 메모리에서 처리합니다.
+ * - 값: 활성 큐 score(만료 시각), 활성 상태가 아니면 NOT_ACTIVE
+ * - 무효화: QueueRedisRepository가 활성 큐 멤버십을 바꿀 때 발행하는 pub/sub 메시지
+ *   (queue:active:changed, "{scope}|{userId},{userId},...")
+ * - TTL: 메시지를 놓친 경우에도 ttl-ms 이상 오래된 값은 사용하지 않음
+ * - 크기 제한: max-size에 도달하면 TTL이 지난 항목을 먼저 정리하고, 그래도 가득 차면 오래 전에 적재된 항목부터 10% 제거
+ * - 세대(generation): Redis 조회 중 무효화가 들어오면 조회 결과를 캐시에 넣지 않음
+ *   (키 해시로 나눈 세대 카운터를 무효화 시 올리고, 적재 시 조회 전 세대와 비교)
+ */
+@Slf4j
+@Component
+public class ActiveUserNearCache implements MessageListener {
+
+    private static final long NOT_ACTIVE = -1L;
+
+    /**
+     * 세대 카운터 개수 (키 해시로 분배, 같은 칸을 쓰는 다른 키의 무효화는 적재를 한 번 건너뛸 뿐 정합성에는 영향 없음)
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    /**
+     * 가득 찼을 때 한 번에 제거하는 비율 (매 적재마다 정리하지 않도록 여유를 둠)
+     */
+    private static final double EVICTION_RATIO = 0.1;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private record Entry(long expireAt, long cachedAt) {
+    }
+
+    public ActiveUserNearCache(QueueNearCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.ttlMillis = properties.ttlMs();
+        this.maxSize = properties.maxSize();
+    }
+
+    /**
+     * 활성 유저의 만료 시각 조회 (캐시에 없거나 오래된 경우 loader로 Redis 조회)
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @param loader Redis 조회 (활성 상태가 아니면 null 반환)
+     * @return 만료 시각 (timestamp), 활성 상태가 아니면 null
+     */
+    public Long getActiveExpireAt(QueueScope scope, Long userId, Supplier<Long> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        String key = key(scope, userId);
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.cachedAt() < ttlMillis) {
+            if (entry.expireAt() == NOT_ACTIVE) {
+                return null;
+            }
+            if (entry.expireAt() > now) {
+                return entry.expireAt();
+            }
+        }
+
+        int stripe = stripeOf(key);
+        long generation = generations.get(stripe);
+        Long expireAt = loader.get();
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+
+        // 조회 중 무효화되었으면 적재하지 않음 (무효화는 세대를 먼저 올린 뒤 항목을 제거하므로 같은 키 잠금 안에서 비교)
+        Entry loaded = new Entry(expireAt != null ? expireAt : NOT_ACTIVE, now);
+        entries.compute(key, (k, current) -> generations.get(stripe) == generation ? loaded : current);
+        return expireAt;
+    }
+
+    /**
+     * 멤버십 변경된 유저 무효화
+     */
+    public void invalidate(QueueScope scope, List<Long> userIds) {
+        for (Long userId : userIds) {
+            invalidate(key(scope, userId));
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 ("{scope}|{userId},{userId},...")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        if (separator < 0) {
+            return;
+        }
+
+        String scopeKey = body.substring(0, separator);
+        for (String userId : body.substring(separator + 1).split(",")) {
+            if (!userId.isEmpty()) {
+                invalidate(scopeKey + "|" + userId);
+            }
+        }
+    }
+
+    /**
+     * 무효화 메시지 생성 (QueueRedisRepository에서 발행)
+     */
+    static String message(QueueScope scope, List<Long> userIds) {
+        StringBuilder builder = new StringBuilder(scope.key()).append('|');
+        for (int i = 0; i < userIds.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(userIds.get(i));
+        }
+        return builder.toString();
+    }
+
+    private void invalidate(String key) {
+        generations.incrementAndGet(stripeOf(key));
+        entries.remove(key);
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.cachedAt() >= ttlMillis);
+        int overflow = entries.size() - maxSize + (int) Math.ceil(maxSize * EVICTION_RATIO);
+        if (overflow <= 0) {
+            return;
+        }
+
+        // 오래 전에 적재된 항목부터 제거 (TTL마다 다시 적재되므로 최근에 쓰인 항목이 남음)
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(e -> e.getValue().cachedAt()))
+            .limit(overflow)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+        log.debug("활성 유저 로컬 캐시 정리: {}건 제거", overflow);
+    }
+
+    private int stripeOf(String key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private String key(QueueScope scope, Long userId) {
+        return scope.key() + "|" + userId;
+    }
+}
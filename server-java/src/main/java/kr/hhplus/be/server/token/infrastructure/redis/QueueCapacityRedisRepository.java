@@ -0,0 +1,95 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.token.domain.BackendLoad;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적응형 수용 인원 Repository
+ *
+ * 데이터 구조:
+ * - queue:capacity:limit (String): 현재 활성 유저 수용 인원
+ * - queue:capacity:signals (Hash): 서버별 최근 부하 측정값
+ *   field = 서버 ID, value = "{측정 시각}|{요청 수}|{오류 수}|{p99 ms}|{풀 대기 ms}"
+ *
+ * 모든 서버가 측정값을 올리고, 한 서버가 합산하여 수용 인원을 조정합니다.
+ * 수용 인원은 Redis에 두어 조정 서버가 바뀌어도 이어서 조정합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class QueueCapacityRedisRepository {
+
+    private static final String LIMIT_KEY = "queue:capacity:limit";
+    private static final String SIGNALS_KEY = "queue:capacity:signals";
+    private static final Duration SIGNALS_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 현재 수용 인원 조회
+     *
+     * @return 수용 인원, 아직 조정된 적이 없으면 null
+     */
+    public Integer findLimit() {
+        String value = redisTemplate.opsForValue().get(LIMIT_KEY);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    public void saveLimit(int limit) {
+        redisTemplate.opsForValue().set(LIMIT_KEY, String.valueOf(limit));
+    }
+
+    /**
+     * 서버의 측정값 기록
+     *
+     * @param nodeId     서버 ID
+     * @param load       측정값
+     * @param measuredAt 측정 시각 (timestamp)
+     */
+    public void saveSignal(String nodeId, BackendLoad load, long measuredAt) {
+        String value = measuredAt + "|" + load.samples() + "|" + load.errors()
+            + "|" + load.p99Millis() + "|" + load.poolWaitMs();
+        redisTemplate.opsForHash().put(SIGNALS_KEY, nodeId, value);
+        redisTemplate.expire(SIGNALS_KEY, SIGNALS_TTL);
+    }
+
+    /**
+     * 최근 측정값 조회 (오래된 서버 측정값은 삭제)
+     *
+     * @param measuredAfter 이 시각 이후 측정값만 사용
+     * @return 서버별 측정값 목록
+     */
+    public List<BackendLoad> findSignals(long measuredAfter) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(SIGNALS_KEY);
+        List<BackendLoad> loads = new ArrayList<>(entries.size());
+        List<Object> stale = new ArrayList<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] parts = entry.getValue().toString().split("\\|");
+            try {
+                if (parts.length != 5 || Long.parseLong(parts[0]) < measuredAfter) {
+                    stale.add(entry.getKey());
+                    continue;
+                }
+                loads.add(new BackendLoad(Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    Double.parseDouble(parts[3]), Double.parseDouble(parts[4])));
+            } catch (NumberFormatException e) {
+                log.warn("부하 측정값 형식 오류: node={}, value={}", entry.getKey(), entry.getValue());
+                stale.add(entry.getKey());
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            redisTemplate.opsForHash().delete(SIGNALS_KEY, stale.toArray());
+        }
+        return loads;
+    }
+}
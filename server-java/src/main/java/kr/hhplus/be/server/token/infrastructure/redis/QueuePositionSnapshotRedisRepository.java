@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.token.domain.QueuePositionSnapshot;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 순번 스냅샷 Repository
+ *
+ * 데이터 구조:
+ * - queue:position:{scope} (String): "{생성 시각}|{전체 인원}|{입장 속도}|{score}:{rank},{score}:{rank},..."
+ *
+ * 스냅샷은 한 서버가 주기적으로 발행하고 모든 서버가 로컬로 가져가 사용합니다.
+ * 발행이 멈추면 TTL로 사라져 정확한 순번 조회로 돌아갑니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class QueuePositionSnapshotRedisRepository {
+
+    private static final String KEY_PREFIX = "queue:position:";
+    private static final Duration SNAPSHOT_TTL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 스냅샷 저장
+     *
+     * @param scope    대기열 범위
+     * @param snapshot 스냅샷
+     */
+    public void save(QueueScope scope, QueuePositionSnapshot snapshot) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + scope.key(), serialize(snapshot), SNAPSHOT_TTL);
+    }
+
+    /**
+     * 여러 범위의 스냅샷 조회 (MGET 1회)
+     *
+     * @param scopes 대기열 범위 목록
+     * @return 범위 → 스냅샷 (없거나 읽을 수 없는 범위는 제외)
+     */
+    public Map<QueueScope, QueuePositionSnapshot> findAll(List<QueueScope> scopes) {
+        if (scopes.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> values = redisTemplate.opsForValue()
+            .multiGet(scopes.stream().map(scope -> KEY_PREFIX + scope.key()).toList());
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<QueueScope, QueuePositionSnapshot> snapshots = new HashMap<>(scopes.size());
+        for (int i = 0; i < scopes.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                snapshots.put(scopes.get(i), deserialize(value));
+            } catch (RuntimeException e) {
+                log.warn("순번 스냅샷 형식 오류: scope={}, {}", scopes.get(i), e.getMessage());
+            }
+        }
+        return snapshots;
+    }
+
+    private String serialize(QueuePositionSnapshot snapshot) {
+        StringBuilder builder = new StringBuilder()
+            .append(snapshot.createdAt()).append('|')
+            .append(snapshot.totalWaiting()).append('|')
+            .append(snapshot.admissionRate()).append('|');
+        List<QueuePositionSnapshot.Sample> samples = snapshot.samples();
+        for (int i = 0; i < samples.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(samples.get(i).score()).append(':').append(samples.get(i).rank());
+        }
+        return builder.toString();
+    }
+
+    private QueuePositionSnapshot deserialize(String value) {
+        String[] parts = value.split("\\|", -1);
+        List<QueuePositionSnapshot.Sample> samples = new ArrayList<>();
+        if (!parts[3].isEmpty()) {
+            for (String sample : parts[3].split(",")) {
+                int separator = sample.indexOf(':');
+                samples.add(new QueuePositionSnapshot.Sample(
+                    Double.parseDouble(sample.substring(0, separator)),
+                    Long.parseLong(sample.substring(separator + 1))));
+            }
+        }
+        return new QueuePositionSnapshot(
+            Long.parseLong(parts[0]), Long.parseLong(parts[1]), Double.parseDouble(parts[2]), samples);
+    }
+}
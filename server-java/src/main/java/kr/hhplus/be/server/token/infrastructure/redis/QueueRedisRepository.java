@@ -1,23 +1,55 @@
 package kr.hhplus.be.server.token.infrastructure.redis;
 
+import kr.hhplus.be.server.config.queue.QueueLivenessProperties;
+import kr.hhplus.be.server.config.queue.QueueShardingProperties;
+import kr.hhplus.be.server.token.domain.QueuePositionSnapshot;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.ShardedWaitingQueue.Candidate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Redis 기반 대기열 Repository
  *
- * 데이터 구조:
+ * 데이터 구조 (GLOBAL 범위 - 기존 키 유지):
  * - queue:waiting (ZSet): 대기 중인 유저 (score = 진입 시각 timestamp)
  * - queue:active (ZSet): 활성 유저 (score = 만료 시각 timestamp)
+ * - queue:admission:pacer (Hash): 입장 속도 제어용 토큰 버킷 (tokens, ts)
+ * - queue:admission:rate (Hash): 최근 입장 속도 (rate, rate_ts - 시간 감쇠 이동 평균)
+ * - queue:heartbeat (ZSet): 대기자의 마지막 상태 조회 시각 (score = timestamp)
+ * - queue:unconfirmed (ZSet): 활성화 후 아직 보호 API를 호출하지 않은 유저 (score = 회수 기한)
+ *
+ * 데이터 구조 (콘서트/일정 범위):
+ * - queue:{concert:1}:waiting, queue:{concert:1}:active, queue:{concert:1}:pacer, queue:{concert:1}:rate
+ * - queue:{concert:1}:heartbeat, queue:{concert:1}:unconfirmed
+ * - 해시 태그({...})로 같은 범위의 키를 동일 슬롯에 배치하여 Lua 스크립트가 단일 슬롯에서 실행됨
+ * - queue:scopes (ZSet): 사용 중인 범위 목록 (score = 마지막 진입 시각)
+ *
+ * 샤딩 모드 (queue.sharding.enabled=true):
+ * - 대기열만 queue:{global#0}:waiting ~ queue:{global#N-1}:waiting 으로 분산 (ShardedWaitingQueue)
+ * - 활성 큐/토큰 버킷은 범위별 단일 키 유지 (크기가 수용 인원으로 제한되므로)
+ * - 슬롯 반납 시 즉시 인계하지 않고 다음 활성화 스케줄러 실행에서 채움
+ *
+ * 활성 큐 멤버십 변경 알림:
+ * - 활성화/반납/롤백/만료로 활성 큐가 바뀌면 queue:active:changed 채널에 "{scope}|{userId},..." 발행
+ * - 각 서버의 ActiveUserNearCache가 수신하여 로컬 캐시 무효화
  */
 @Slf4j
 @Repository
@@ -25,15 +57,201 @@ public class QueueRedisRepository {
 
     private static final String WAITING_QUEUE_KEY = "queue:waiting";
     private static final String ACTIVE_QUEUE_KEY = "queue:active";
+    private static final String ADMISSION_PACER_KEY = "queue:admission:pacer";
+    private static final String SCOPE_REGISTRY_KEY = "queue:scopes";
+    private static final String ADMISSION_RATE_KEY = "queue:admission:rate";
+    private static final String HEARTBEAT_KEY = "queue:heartbeat";
+    private static final String UNCONFIRMED_KEY = "queue:unconfirmed";
+    private static final long ADMISSION_PACER_TTL_MS = 60_000L;
+
+    /**
+     * 입장 속도 평균의 시간 상수 (이보다 오래된 입장일수록 가중치가 지수적으로 감소)
+     */
+    private static final long ADMISSION_RATE_WINDOW_MS = 10_000L;
+
+    public static final String ACTIVE_CHANGED_CHANNEL = "queue:active:changed";
 
     private final StringRedisTemplate redisTemplate;
     private final DefaultRedisScript<List> popAndActivateScript;
+    private final DefaultRedisScript<List> pacedPopAndActivateScript;
     private final DefaultRedisScript<Long> addToWaitingQueueScript;
+    private final DefaultRedisScript<List> releaseActiveUserScript;
+    private final DefaultRedisScript<Long> admissionAllowanceScript;
+    private final DefaultRedisScript<Long> commitAdmissionScript;
+    private final DefaultRedisScript<Long> requeueScript;
+    private final DefaultRedisScript<List> popExpiredActiveUsersScript;
+    private final DefaultRedisScript<List> queueStateScript;
+    private final DefaultRedisScript<Long> recordAdmissionsScript;
+    private final DefaultRedisScript<Long> recordHeartbeatsScript;
+    private final DefaultRedisScript<List> popUnconfirmedActiveUsersScript;
+    private final ShardedWaitingQueue shardedWaitingQueue;
+    private final QueueLivenessProperties livenessProperties;
 
     public QueueRedisRepository(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, QueueShardingProperties.disabled());
+    }
+
+    public QueueRedisRepository(StringRedisTemplate redisTemplate, QueueShardingProperties shardingProperties) {
+        this(redisTemplate, shardingProperties, QueueLivenessProperties.disabled());
+    }
+
+    @Autowired
+    public QueueRedisRepository(StringRedisTemplate redisTemplate, QueueShardingProperties shardingProperties,
+                                QueueLivenessProperties livenessProperties) {
         this.redisTemplate = redisTemplate;
+        this.livenessProperties = livenessProperties;
         this.popAndActivateScript = createPopAndActivateScript();
+        this.pacedPopAndActivateScript = createPacedPopAndActivateScript();
         this.addToWaitingQueueScript = createAddToWaitingQueueScript();
+        this.releaseActiveUserScript = createReleaseActiveUserScript();
+        this.admissionAllowanceScript = createAdmissionAllowanceScript();
+        this.commitAdmissionScript = createCommitAdmissionScript();
+        this.requeueScript = createRequeueScript();
+        this.popExpiredActiveUsersScript = createPopExpiredActiveUsersScript();
+        this.queueStateScript = createQueueStateScript();
+        this.recordAdmissionsScript = createRecordAdmissionsScript();
+        this.recordHeartbeatsScript = createRecordHeartbeatsScript();
+        this.popUnconfirmedActiveUsersScript = createPopUnconfirmedActiveUsersScript();
+        this.shardedWaitingQueue = shardingProperties.enabled()
+                ? new ShardedWaitingQueue(redisTemplate, shardingProperties.shards())
+                : null;
+    }
+
+    /**
+     * 활성 슬롯 반납 결과
+     *
+     * @param released        활성 큐에 있던 유저인지 여부
+     * @param reclaimedMillis 만료 전에 회수한 슬롯 시간 (ms)
+     * @param handedOffUserId 반납된 슬롯을 이어받은 대기 유저 ID (없으면 null)
+     */
+    public record SlotRelease(boolean released, long reclaimedMillis, Long handedOffUserId) {
+
+        public static SlotRelease notActive() {
+            return new SlotRelease(false, 0, null);
+        }
+    }
+
+    /**
+     * 유저별 대기열/활성 상태
+     *
+     * @param activeExpireAt 활성 큐 만료 시각 (활성 상태가 아니거나 만료되었으면 null)
+     * @param position       대기 순번 (1부터 시작, 대기열에 없으면 0)
+     * @param totalWaiting   전체 대기 인원
+     * @param admissionRate  최근 입장 속도 (초당 인원, 기록이 없으면 0)
+     */
+    public record QueueState(Long activeExpireAt, long position, long totalWaiting, double admissionRate) {
+    }
+
+    /**
+     * Lua 스크립트 생성 - 대기열/활성 상태 조회 (왕복 1회)
+     * - 반환: {만료 시각(활성 아니면 -1), 대기 순번(0-based, 대기열에 없으면 -1), 전체 대기 인원,
+     *         입장 속도 평균, 평균 갱신 시각}
+     * - 입장 속도는 소수이므로 문자열 그대로 반환 (Lua 숫자는 정수로 변환됨)
+     */
+    private DefaultRedisScript<List> createQueueStateScript() {
+        String script = """
+            local waitingKey = KEYS[1]
+            local activeKey = KEYS[2]
+            local rateKey = KEYS[3]
+            local userId = ARGV[1]
+            local now = tonumber(ARGV[2])
+
+            local total = redis.call('ZCARD', waitingKey)
+            local rate = redis.call('HMGET', rateKey, 'rate', 'rate_ts')
+            local rateValue = rate[1] or '0'
+            local rateTs = rate[2] or '0'
+
+            local expireAt = redis.call('ZSCORE', activeKey, userId)
+            if expireAt and tonumber(expireAt) > now then
+                return {tonumber(expireAt), -1, total, rateValue, rateTs}
+            end
+
+            local rank = redis.call('ZRANK', waitingKey, userId)
+            if not rank then
+                rank = -1
+            end
+            return {-1, rank, total, rateValue, rateTs}
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 입장 인원 기록 (시간 감쇠 이동 평균)
+     * - rate = 이전 rate * exp(-경과 시간 / 시간 상수) + 입장 인원 / 시간 상수
+     * - 입장이 없으면 기록하지 않고, 조회 시 같은 방식으로 감쇠시켜 계산
+     */
+    private DefaultRedisScript<Long> createRecordAdmissionsScript() {
+        String script = """
+            local rateKey = KEYS[1]
+            local count = tonumber(ARGV[1])
+            local now = tonumber(ARGV[2])
+            local window = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[4])
+
+            local state = redis.call('HMGET', rateKey, 'rate', 'rate_ts')
+            local rate = tonumber(state[1]) or 0
+            local ts = tonumber(state[2]) or now
+            if now > ts then
+                rate = rate * math.exp(-(now - ts) / window)
+            end
+            rate = rate + count * 1000 / window
+
+            redis.call('HSET', rateKey, 'rate', tostring(rate), 'rate_ts', now)
+            redis.call('PEXPIRE', rateKey, ttl)
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 대기자 하트비트 일괄 갱신
+     * - ZADD XX: 대기열 진입 시 등록된 유저만 갱신 (활성화/이탈 후 늦게 도착한 하트비트는 무시)
+     */
+    private DefaultRedisScript<Long> createRecordHeartbeatsScript() {
+        String script = """
+            local now = ARGV[1]
+            for i = 2, #ARGV do
+                redis.call('ZADD', KEYS[1], 'XX', now, ARGV[i])
+            end
+            return #ARGV - 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 회수 기한이 지난 미확인 활성 유저 조회 + 제거
+     * - KEYS[1]: 미확인 목록, KEYS[2]: 활성 큐
+     * - 활성 큐에서 실제로 제거된 유저만 반환 (이미 반납/만료된 유저 제외)
+     */
+    private DefaultRedisScript<List> createPopUnconfirmedActiveUsersScript() {
+        String script = """
+            local users = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            local result = {}
+            for _, userId in ipairs(users) do
+                redis.call('ZREM', KEYS[1], userId)
+                if redis.call('ZREM', KEYS[2], userId) == 1 then
+                    table.insert(result, userId)
+                end
+            end
+            return result
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
     }
 
     /**
@@ -44,6 +262,7 @@ public class QueueRedisRepository {
         String script = """
             local waitingKey = KEYS[1]
             local activeKey = KEYS[2]
+            local heartbeatKey = KEYS[3]
             local userId = ARGV[1]
             local score = tonumber(ARGV[2])
 
@@ -67,8 +286,9 @@ public class QueueRedisRepository {
                 return -2  -- 이미 활성 상태
             end
 
-            -- 대기열에 추가
+            -- 대기열에 추가 (진입 시각을 첫 하트비트로 기록)
             redis.call('ZADD', waitingKey, score, userId)
+            redis.call('ZADD', heartbeatKey, score, userId)
 
             -- 순번 반환 (0-based), 추가 실패 시 nil 체크
             local rank = redis.call('ZRANK', waitingKey, userId)
@@ -116,18 +336,304 @@ public class QueueRedisRepository {
         return redisScript;
     }
 
+    /**
+     * Lua 스크립트 생성 - 속도 제어(토큰 버킷) + 대기열 → 활성 큐 원자적 이동
+     *
+     * 1. 경과 시간만큼 버킷을 보충 (rate * elapsed, 최대 burst)
+     * 2. 빈 슬롯 = capacity - 만료되지 않은 활성 유저 수
+     * 3. min(버킷 잔량, 빈 슬롯)만큼 대기열에서 pop → 활성 큐에 추가
+     *    - 하트비트가 staleBefore보다 오래된 대기자(창을 닫은 유저)는 활성화하지 않고 버린 뒤 다음 대기자로 채움
+     *    - 한 번에 확인하는 인원은 allowance의 4배로 제한 (스크립트 실행 시간 제한)
+     *    - 하트비트 기록이 없는 대기자는 살아 있는 것으로 봄
+     *
+     * 버킷 상태를 Redis에 두므로 어느 서버가 실행하더라도 전체 입장 속도가 유지됩니다.
+     */
+    private DefaultRedisScript<List> createPacedPopAndActivateScript() {
+        String script = """
+            local waitingKey = KEYS[1]
+            local activeKey = KEYS[2]
+            local pacerKey = KEYS[3]
+            local heartbeatKey = KEYS[4]
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local burst = tonumber(ARGV[3])
+            local now = tonumber(ARGV[4])
+            local expireAt = tonumber(ARGV[5])
+            local pacerTtl = tonumber(ARGV[6])
+            local staleBefore = tonumber(ARGV[7])
+
+            -- 토큰 버킷 보충 (최초 실행 시 가득 찬 상태로 시작)
+            local state = redis.call('HMGET', pacerKey, 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if not tokens or not ts then
+                tokens = burst
+                ts = now
+            end
+            if now > ts then
+                tokens = math.min(burst, tokens + (now - ts) * rate / 1000)
+                ts = now
+            end
+
+            -- 빈 슬롯 계산 (만료 시각이 지난 멤버는 슬롯을 차지하지 않음)
+            local active = redis.call('ZCOUNT', activeKey, '(' .. now, '+inf')
+            local allowance = math.floor(math.min(tokens, capacity - active))
+
+            local result = {}
+            if allowance > 0 then
+                local budget = allowance * 4
+                while #result < allowance and budget > 0 do
+                    local users = redis.call('ZPOPMIN', waitingKey, math.min(allowance - #result, budget))
+                    if #users == 0 then
+                        break
+                    end
+                    for i = 1, #users, 2 do
+                        local seen = redis.call('ZSCORE', heartbeatKey, users[i])
+                        redis.call('ZREM', heartbeatKey, users[i])
+                        if staleBefore == 0 or not seen or tonumber(seen) >= staleBefore then
+                            redis.call('ZADD', activeKey, expireAt, users[i])
+                            table.insert(result, users[i])
+                        end
+                    end
+                    budget = budget - #users / 2
+                end
+                tokens = tokens - #result
+            end
+
+            redis.call('HSET', pacerKey, 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', pacerKey, pacerTtl)
+            return result
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 활성 슬롯 반납 + 다음 대기자에게 즉시 인계
+     *
+     * 결제 완료/로그아웃/토큰 만료 시 만료 시각까지 기다리지 않고 슬롯을 회수합니다.
+     * 아직 유효한 슬롯이었다면 같은 스크립트 안에서 대기열 맨 앞 유저를 활성화하여
+     * 활성 인원 수를 그대로 유지합니다 (다음 스케줄러 실행을 기다리지 않음).
+     *
+     * 반환값: {회수한 시간(ms), [인계받은 유저 ID]} / 활성 유저가 아니면 {-1}
+     * ARGV[4]가 '0'이면 인계하지 않음 (샤딩 모드 - 대기열이 다른 슬롯에 있음)
+     * 하트비트가 끊긴 대기자는 건너뜀 (최대 5명까지 확인)
+     */
+    private DefaultRedisScript<List> createReleaseActiveUserScript() {
+        String script = """
+            local waitingKey = KEYS[1]
+            local activeKey = KEYS[2]
+            local userId = ARGV[1]
+            local now = tonumber(ARGV[2])
+            local handoffExpireAt = tonumber(ARGV[3])
+            local handoff = ARGV[4] ~= '0'
+            local staleBefore = tonumber(ARGV[5])
+            local heartbeatKey = KEYS[3]
+
+            local expireAt = redis.call('ZSCORE', activeKey, userId)
+            if not expireAt then
+                return {-1}
+            end
+            redis.call('ZREM', activeKey, userId)
+
+            local reclaimed = tonumber(expireAt) - now
+            if reclaimed <= 0 then
+                return {0}
+            end
+
+            local result = {reclaimed}
+            if not handoff then
+                return result
+            end
+            for attempt = 1, 5 do
+                local nextUser = redis.call('ZPOPMIN', waitingKey, 1)
+                if #nextUser == 0 then
+                    break
+                end
+                local seen = redis.call('ZSCORE', heartbeatKey, nextUser[1])
+                redis.call('ZREM', heartbeatKey, nextUser[1])
+                if staleBefore == 0 or not seen or tonumber(seen) >= staleBefore then
+                    redis.call('ZADD', activeKey, handoffExpireAt, nextUser[1])
+                    table.insert(result, nextUser[1])
+                    break
+                end
+            end
+            return result
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 샤딩 모드 입장 허용 인원 계산
+     *
+     * 토큰 버킷을 보충하고 min(버킷 잔량, 빈 슬롯)을 반환합니다.
+     * 대기열이 다른 슬롯에 있으므로 pop은 하지 않고, 실제 입장 인원만큼
+     * commitAdmissionScript에서 버킷을 차감합니다.
+     */
+    private DefaultRedisScript<Long> createAdmissionAllowanceScript() {
+        String script = """
+            local activeKey = KEYS[1]
+            local pacerKey = KEYS[2]
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local burst = tonumber(ARGV[3])
+            local now = tonumber(ARGV[4])
+            local pacerTtl = tonumber(ARGV[5])
+
+            local state = redis.call('HMGET', pacerKey, 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if not tokens or not ts then
+                tokens = burst
+                ts = now
+            end
+            if now > ts then
+                tokens = math.min(burst, tokens + (now - ts) * rate / 1000)
+                ts = now
+            end
+
+            redis.call('HSET', pacerKey, 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', pacerKey, pacerTtl)
+
+            local active = redis.call('ZCOUNT', activeKey, '(' .. now, '+inf')
+            return math.max(0, math.floor(math.min(tokens, capacity - active)))
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 샤딩 모드 활성 큐 등록 + 토큰 버킷 차감
+     */
+    private DefaultRedisScript<Long> createCommitAdmissionScript() {
+        String script = """
+            local activeKey = KEYS[1]
+            local pacerKey = KEYS[2]
+            local expireAt = tonumber(ARGV[1])
+
+            for i = 2, #ARGV do
+                redis.call('ZADD', activeKey, expireAt, ARGV[i])
+            end
+            if redis.call('EXISTS', pacerKey) == 1 then
+                redis.call('HINCRBYFLOAT', pacerKey, 'tokens', -(#ARGV - 1))
+            end
+            return #ARGV - 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 활성화 롤백 (활성 큐 → 대기열 맨 앞)
+     *
+     * 현재 대기열 맨 앞 score보다 작은 score로 넣어 원래 순서대로 가장 먼저 다시 활성화되도록 합니다.
+     * 실제로 활성 큐에 있던 유저만 되돌리며, 되돌린 인원 수를 반환합니다.
+     */
+    private DefaultRedisScript<Long> createRequeueScript() {
+        String script = """
+            local waitingKey = KEYS[1]
+            local activeKey = KEYS[2]
+
+            local head = redis.call('ZRANGE', waitingKey, 0, 0, 'WITHSCORES')
+            local base
+            if #head > 0 then
+                base = tonumber(head[2]) - #ARGV
+            else
+                base = tonumber(redis.call('TIME')[1]) * 1000
+            end
+
+            local requeued = 0
+            for i = 1, #ARGV do
+                if redis.call('ZREM', activeKey, ARGV[i]) == 1 then
+                    redis.call('ZADD', waitingKey, base + i - 1, ARGV[i])
+                    requeued = requeued + 1
+                end
+            end
+            return requeued
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua 스크립트 생성 - 만료된 활성 유저 최대 N명 조회 + 제거
+     */
+    private DefaultRedisScript<List> createPopExpiredActiveUsersScript() {
+        String script = """
+            local activeKey = KEYS[1]
+            local now = ARGV[1]
+            local limit = tonumber(ARGV[2])
+
+            local expired = redis.call('ZRANGEBYSCORE', activeKey, '-inf', now, 'LIMIT', 0, limit)
+            -- unpack 인자 수 제한을 피하기 위해 1000명씩 제거
+            for i = 1, #expired, 1000 do
+                redis.call('ZREM', activeKey, unpack(expired, i, math.min(i + 999, #expired)))
+            end
+            return expired
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * 대기열에 유저 추가 (GLOBAL 범위)
+     *
+     * @param userId 유저 ID
+     * @return 대기열 순번 (1부터 시작)
+     */
+    public long addToWaitingQueue(Long userId) {
+        return addToWaitingQueue(QueueScope.GLOBAL, userId);
+    }
+
     /**
      * 대기열에 유저 추가 (Lua 스크립트 사용 - 원자적)
      *
+     * @param scope  대기열 범위
      * @param userId 유저 ID
      * @return 대기열 순번 (1부터 시작)
      * @throws IllegalStateException 이미 대기열에 있거나 Redis 오류 발생 시
      */
-    public long addToWaitingQueue(Long userId) {
+    public long addToWaitingQueue(QueueScope scope, Long userId) {
+        return addToWaitingQueue(scope, userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 지정한 진입 시각으로 대기열에 유저 추가
+     * - 진입 시각을 클라이언트에 돌려주면 근사 순번 모드에서 Redis 조회 없이 순번을 추정할 수 있음
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @param score  진입 시각 (timestamp, ZSet score)
+     * @return 대기열 순번 (1부터 시작)
+     * @throws IllegalStateException 이미 대기열에 있거나 Redis 오류 발생 시
+     */
+    public long addToWaitingQueue(QueueScope scope, Long userId, long score) {
+        if (shardedWaitingQueue != null) {
+            return addToShardedWaitingQueue(scope, userId, score);
+        }
+
         String userIdStr = userId.toString();
-        long score = System.currentTimeMillis();
 
-        List<String> keys = List.of(WAITING_QUEUE_KEY, ACTIVE_QUEUE_KEY);
+        List<String> keys = List.of(waitingKey(scope), activeKey(scope), heartbeatKey(scope));
 
         try {
             Long result = redisTemplate.execute(
@@ -161,72 +667,296 @@ public class QueueRedisRepository {
                 throw new IllegalStateException("대기열 추가에 실패했습니다.");
             }
 
+            registerScope(scope, score);
+
             // 순번 반환 (0-based rank + 1)
             return result + 1;
 
         } catch (RedisConnectionFailureException e) {
-            log.error("Redis 연결 실패: userId={}", userId, e);
+            log.error("Redis 연결 실패: scope={}, userId={}", scope, userId, e);
             throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
         } catch (DataAccessException e) {
-            log.error("Redis 명령 실행 실패: userId={}", userId, e);
+            log.error("Redis 명령 실행 실패: scope={}, userId={}", scope, userId, e);
             throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
         }
     }
 
     /**
-     * 대기열 순번 조회
+     * 대기열 순번 조회 (GLOBAL 범위)
      *
      * @param userId 유저 ID
      * @return 대기열 순번 (1부터 시작, 대기열에 없으면 0)
      */
     public long getWaitingPosition(Long userId) {
-        String userIdStr = userId.toString();
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_QUEUE_KEY, userIdStr);
+        return getWaitingPosition(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 대기열 순번 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 대기열 순번 (1부터 시작, 대기열에 없으면 0)
+     */
+    public long getWaitingPosition(QueueScope scope, Long userId) {
+        if (shardedWaitingQueue != null) {
+            return shardedWaitingQueue.position(scope, userId);
+        }
+        Long rank = redisTemplate.opsForZSet().rank(waitingKey(scope), userId.toString());
         return rank != null ? rank + 1 : 0;
     }
 
     /**
-     * 대기열에 있는지 확인
+     * 대기열에 있는지 확인 (GLOBAL 범위)
      *
      * @param userId 유저 ID
      * @return 대기열 존재 여부
      */
     public boolean isInWaitingQueue(Long userId) {
-        String userIdStr = userId.toString();
-        Double score = redisTemplate.opsForZSet().score(WAITING_QUEUE_KEY, userIdStr);
-        return score != null;
+        return isInWaitingQueue(QueueScope.GLOBAL, userId);
     }
 
     /**
-     * 활성 유저인지 확인 (만료되지 않은 경우만)
+     * 대기열에 있는지 확인
      *
+     * @param scope  대기열 범위
      * @param userId 유저 ID
-     * @return 활성 상태 여부
+     * @return 대기열 존재 여부
      */
-    public boolean isActiveUser(Long userId) {
-        String userIdStr = userId.toString();
-        Double expireAt = redisTemplate.opsForZSet().score(ACTIVE_QUEUE_KEY, userIdStr);
-
-        if (expireAt == null) {
-            return false;
+    public boolean isInWaitingQueue(QueueScope scope, Long userId) {
+        if (shardedWaitingQueue != null) {
+            return shardedWaitingQueue.contains(scope, userId);
         }
-
-        // score = 만료 시각이므로, 현재 시각보다 크면 유효
-        return expireAt > System.currentTimeMillis();
+        Double score = redisTemplate.opsForZSet().score(waitingKey(scope), userId.toString());
+        return score != null;
     }
 
     /**
-     * 대기열에서 활성 큐로 이동 (Lua 스크립트 사용 - 원자적)
+     * 대기열 진입 시각(score) 조회 (ZSCORE 1회)
      *
-     * @param count    이동할 유저 수
-     * @param expireAt 만료 시각 (timestamp)
-     * @return 활성화된 유저 ID 목록
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 진입 시각, 대기열에 없으면 null
      */
-    @SuppressWarnings("unchecked")
-    public List<Long> popAndActivate(int count, long expireAt) {
-        List<String> keys = List.of(WAITING_QUEUE_KEY, ACTIVE_QUEUE_KEY);
+    public Long getWaitingScore(QueueScope scope, Long userId) {
+        Double score = shardedWaitingQueue != null
+                ? shardedWaitingQueue.score(scope, userId)
+                : redisTemplate.opsForZSet().score(waitingKey(scope), userId.toString());
+        return score != null ? score.longValue() : null;
+    }
+
+    /**
+     * 활성 유저인지 확인 (GLOBAL 범위)
+     *
+     * @param userId 유저 ID
+     * @return 활성 상태 여부
+     */
+    public boolean isActiveUser(Long userId) {
+        return isActiveUser(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 활성 유저인지 확인 (만료되지 않은 경우만)
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 활성 상태 여부
+     */
+    public boolean isActiveUser(QueueScope scope, Long userId) {
+        return getActiveExpireAt(scope, userId) != null;
+    }
+
+    /**
+     * 활성 유저의 만료 시각 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 만료 시각 (timestamp), 활성 상태가 아니거나 만료되었으면 null
+     */
+    public Long getActiveExpireAt(QueueScope scope, Long userId) {
+        Double expireAt = redisTemplate.opsForZSet().score(activeKey(scope), userId.toString());
+
+        // score = 만료 시각이므로, 현재 시각보다 크면 유효
+        if (expireAt == null || expireAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return expireAt.longValue();
+    }
+
+    /**
+     * 대기열/활성 상태 조회 (Lua 스크립트 사용 - 왕복 1회)
+     * - 활성 큐 ZSCORE + 대기열 ZRANK + ZCARD + 입장 속도를 한 번에 조회
+     * - 샤딩 모드에서는 활성 큐와 샤드가 다른 슬롯에 있으므로 나누어 조회
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 상태 (활성 만료 시각, 대기 순번, 전체 대기 인원, 최근 입장 속도)
+     */
+    @SuppressWarnings("unchecked")
+    public QueueState getQueueState(QueueScope scope, Long userId) {
+        long now = System.currentTimeMillis();
+
+        try {
+            if (shardedWaitingQueue != null) {
+                Long expireAt = getActiveExpireAt(scope, userId);
+                long position = expireAt == null ? shardedWaitingQueue.position(scope, userId) : 0;
+                List<Object> rate = redisTemplate.<Object, Object>opsForHash()
+                        .multiGet(rateKey(scope), List.of("rate", "rate_ts"));
+                return new QueueState(expireAt, position, shardedWaitingQueue.count(scope),
+                        decayedRate(rate.get(0), rate.get(1), now));
+            }
 
-        try {
+            List<Object> result = redisTemplate.execute(
+                    queueStateScript,
+                    List.of(waitingKey(scope), activeKey(scope), rateKey(scope)),
+                    userId.toString(),
+                    String.valueOf(now)
+            );
+
+            if (result == null || result.size() < 5) {
+                return new QueueState(null, 0, 0, 0);
+            }
+
+            long expireAt = Long.parseLong(result.get(0).toString());
+            long rank = Long.parseLong(result.get(1).toString());
+            long totalWaiting = Long.parseLong(result.get(2).toString());
+            return new QueueState(expireAt > 0 ? expireAt : null, rank + 1, totalWaiting,
+                    decayedRate(result.get(3), result.get(4), now));
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 상태 조회 중 오류, scope={}, userId={}", scope, userId, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 상태 조회 중 오류, scope={}, userId={}", scope, userId, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 유저의 대기열/활성 상태 일괄 조회 (SSE 브로드캐스트용)
+     * - 활성 큐 ZSCORE + 대기열 ZRANK (+ 입장 속도/전체 ZCARD 1회)를 유저 수와 관계없이 파이프라인 1회로 조회
+     * - 샤딩 모드에서는 활성 상태가 아닌 유저의 샤드 합산 순번을 한꺼번에 추가 조회 (유저 수와 관계없이 왕복 2회)
+     *
+     * @param scope   대기열 범위
+     * @param userIds 유저 ID 목록
+     * @return 유저 ID 순서대로의 상태 목록
+     */
+    public List<QueueState> getQueueStates(QueueScope scope, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String activeKey = activeKey(scope);
+        String waitingKey = waitingKey(scope);
+        String rateKey = rateKey(scope);
+        boolean sharded = shardedWaitingQueue != null;
+        int stride = sharded ? 1 : 2;
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.hMGet(rateKey, "rate", "rate_ts");
+                if (!sharded) {
+                    conn.zCard(waitingKey);
+                }
+                for (Long userId : userIds) {
+                    conn.zScore(activeKey, userId.toString());
+                    if (!sharded) {
+                        conn.zRank(waitingKey, userId.toString());
+                    }
+                }
+                return null;
+            });
+
+            long now = System.currentTimeMillis();
+            double admissionRate = results.get(0) instanceof List<?> rate && rate.size() == 2
+                    ? decayedRate(rate.get(0), rate.get(1), now)
+                    : 0;
+            long totalWaiting = sharded
+                    ? shardedWaitingQueue.count(scope)
+                    : results.get(1) instanceof Number count ? count.longValue() : 0;
+            int offset = sharded ? 1 : 2;
+
+            Long[] expireAts = new Long[userIds.size()];
+            List<Long> notActiveUserIds = new ArrayList<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                Object score = results.get(offset + i * stride);
+                expireAts[i] = score instanceof Number value && value.longValue() > now ? value.longValue() : null;
+                if (expireAts[i] == null) {
+                    notActiveUserIds.add(userIds.get(i));
+                }
+            }
+
+            List<Long> shardedPositions = sharded
+                    ? shardedWaitingQueue.positions(scope, notActiveUserIds)
+                    : List.of();
+
+            List<QueueState> states = new ArrayList<>(userIds.size());
+            int notActiveIndex = 0;
+            for (int i = 0; i < userIds.size(); i++) {
+                if (expireAts[i] != null) {
+                    states.add(new QueueState(expireAts[i], 0, totalWaiting, admissionRate));
+                    continue;
+                }
+
+                long position;
+                if (sharded) {
+                    position = shardedPositions.get(notActiveIndex++);
+                } else {
+                    Object rank = results.get(offset + i * stride + 1);
+                    position = rank instanceof Number value ? value.longValue() + 1 : 0;
+                }
+                states.add(new QueueState(null, position, totalWaiting, admissionRate));
+            }
+            return states;
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 상태 일괄 조회 중 오류, scope={}, {}명", scope, userIds.size(), e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 상태 일괄 조회 중 오류, scope={}, {}명", scope, userIds.size(), e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 입장 인원 기록 (예상 대기 시간 계산용 입장 속도 평균 갱신)
+     * - 기록 실패는 활성화 결과에 영향을 주지 않음
+     *
+     * @param scope 대기열 범위
+     * @param count 이번에 입장한 인원
+     */
+    public void recordAdmissions(QueueScope scope, int count) {
+        if (count <= 0) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(
+                    recordAdmissionsScript,
+                    List.of(rateKey(scope)),
+                    String.valueOf(count),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ADMISSION_RATE_WINDOW_MS),
+                    String.valueOf(ADMISSION_PACER_TTL_MS)
+            );
+        } catch (DataAccessException e) {
+            log.warn("입장 속도 기록 실패: scope={}, count={}", scope, count, e);
+        }
+    }
+
+    /**
+     * 대기열에서 활성 큐로 이동 (GLOBAL 범위, Lua 스크립트 사용 - 원자적)
+     *
+     * @param count    이동할 유저 수
+     * @param expireAt 만료 시각 (timestamp)
+     * @return 활성화된 유저 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> popAndActivate(int count, long expireAt) {
+        List<String> keys = List.of(WAITING_QUEUE_KEY, ACTIVE_QUEUE_KEY);
+
+        try {
             List<Object> result = redisTemplate.execute(
                     popAndActivateScript,
                     keys,
@@ -234,104 +964,692 @@ public class QueueRedisRepository {
                     String.valueOf(expireAt)
             );
 
+            List<Long> userIds = toUserIds(result);
+            if (!userIds.isEmpty()) {
+                log.info("대기열 → 활성 큐 이동 완료: {}명, 만료시각: {}", userIds.size(), expireAt);
+                publishMembershipChange(QueueScope.GLOBAL, userIds);
+            }
+            return userIds;
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 대기열 활성화 중 오류, count={}", count, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 대기열 활성화 중 오류, count={}", count, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 입장 속도를 제어하며 대기열에서 활성 큐로 이동 (GLOBAL 범위)
+     *
+     * @param capacity      동시 활성 유저 최대 수
+     * @param ratePerSecond 초당 입장 허용 인원
+     * @param burst         한 번에 입장 가능한 최대 인원
+     * @param expireAt      만료 시각 (timestamp)
+     * @return 활성화된 유저 ID 목록
+     */
+    public List<Long> popAndActivate(int capacity, double ratePerSecond, int burst, long expireAt) {
+        return popAndActivate(QueueScope.GLOBAL, capacity, ratePerSecond, burst, expireAt);
+    }
+
+    /**
+     * 입장 속도를 제어하며 대기열에서 활성 큐로 이동 (Lua 스크립트 사용 - 원자적)
+     * - 빈 슬롯과 토큰 버킷 잔량 중 작은 값만큼만 활성화
+     * - 짧은 주기로 호출하면 빈 슬롯이 초당 ratePerSecond 속도로 꾸준히 채워짐
+     *
+     * @param scope         대기열 범위
+     * @param capacity      동시 활성 유저 최대 수
+     * @param ratePerSecond 초당 입장 허용 인원
+     * @param burst         한 번에 입장 가능한 최대 인원
+     * @param expireAt      만료 시각 (timestamp)
+     * @return 활성화된 유저 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> popAndActivate(QueueScope scope, int capacity, double ratePerSecond,
+                                     int burst, long expireAt) {
+        if (shardedWaitingQueue != null) {
+            return shardedPopAndActivate(scope, capacity, ratePerSecond, burst, expireAt);
+        }
+
+        List<String> keys = List.of(waitingKey(scope), activeKey(scope), pacerKey(scope), heartbeatKey(scope));
+        long now = System.currentTimeMillis();
+
+        try {
+            List<Object> result = redisTemplate.execute(
+                    pacedPopAndActivateScript,
+                    keys,
+                    String.valueOf(capacity),
+                    String.valueOf(ratePerSecond),
+                    String.valueOf(burst),
+                    String.valueOf(now),
+                    String.valueOf(expireAt),
+                    String.valueOf(ADMISSION_PACER_TTL_MS),
+                    String.valueOf(livenessProperties.heartbeatStaleBefore(now))
+            );
+
+            List<Long> userIds = toUserIds(result);
+            if (!userIds.isEmpty()) {
+                log.debug("대기열 → 활성 큐 이동 완료 (속도 제어): scope={}, {}명, 만료시각: {}",
+                        scope, userIds.size(), expireAt);
+                publishMembershipChange(scope, userIds);
+            }
+            return userIds;
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 대기열 활성화 중 오류, scope={}, capacity={}", scope, capacity, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 대기열 활성화 중 오류, scope={}, capacity={}", scope, capacity, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 활성 슬롯 반납 (GLOBAL 범위)
+     *
+     * @param userId          반납할 유저 ID
+     * @param handoffExpireAt 슬롯을 인계받는 유저의 만료 시각 (timestamp)
+     * @return 반납 결과
+     */
+    public SlotRelease releaseActiveUser(Long userId, long handoffExpireAt) {
+        return releaseActiveUser(QueueScope.GLOBAL, userId, handoffExpireAt);
+    }
+
+    /**
+     * 활성 슬롯 반납 (Lua 스크립트 사용 - 원자적)
+     * - 활성 큐에서 제거하고, 유효한 슬롯이었다면 대기열 맨 앞 유저에게 즉시 인계
+     *
+     * @param scope           대기열 범위
+     * @param userId          반납할 유저 ID
+     * @param handoffExpireAt 슬롯을 인계받는 유저의 만료 시각 (timestamp)
+     * @return 반납 결과
+     */
+    @SuppressWarnings("unchecked")
+    public SlotRelease releaseActiveUser(QueueScope scope, Long userId, long handoffExpireAt) {
+        List<String> keys = List.of(waitingKey(scope), activeKey(scope), heartbeatKey(scope));
+        long now = System.currentTimeMillis();
+
+        try {
+            List<Object> result = redisTemplate.execute(
+                    releaseActiveUserScript,
+                    keys,
+                    userId.toString(),
+                    String.valueOf(now),
+                    String.valueOf(handoffExpireAt),
+                    shardedWaitingQueue != null ? "0" : "1",
+                    String.valueOf(livenessProperties.heartbeatStaleBefore(now))
+            );
+
             if (result == null || result.isEmpty()) {
-                return Collections.emptyList();
+                return SlotRelease.notActive();
             }
 
-            List<Long> userIds = new ArrayList<>();
-            for (Object item : result) {
-                userIds.add(Long.parseLong(item.toString()));
+            long reclaimedMillis = Long.parseLong(result.get(0).toString());
+            if (reclaimedMillis < 0) {
+                return SlotRelease.notActive();
             }
 
-            log.info("대기열 → 활성 큐 이동 완료: {}명, 만료시각: {}", userIds.size(), expireAt);
-            return userIds;
+            Long handedOffUserId = result.size() > 1 ? Long.parseLong(result.get(1).toString()) : null;
+            log.debug("활성 슬롯 반납: scope={}, userId={}, 회수 시간={}ms, 인계={}",
+                    scope, userId, reclaimedMillis, handedOffUserId);
+            publishMembershipChange(scope, handedOffUserId != null
+                    ? List.of(userId, handedOffUserId)
+                    : List.of(userId));
+            return new SlotRelease(true, reclaimedMillis, handedOffUserId);
 
         } catch (RedisConnectionFailureException e) {
-            log.error("Redis 연결 실패: 대기열 활성화 중 오류, count={}", count, e);
+            log.error("Redis 연결 실패: 활성 슬롯 반납 중 오류, scope={}, userId={}", scope, userId, e);
             throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
         } catch (DataAccessException e) {
-            log.error("Redis 명령 실행 실패: 대기열 활성화 중 오류, count={}", count, e);
+            log.error("Redis 명령 실행 실패: 활성 슬롯 반납 중 오류, scope={}, userId={}", scope, userId, e);
             throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
         }
     }
 
     /**
-     * RDB 저장 실패 시 Redis 롤백
-     * - 활성 큐에서 제거하고 대기열 맨 앞에 다시 추가
+     * 대기열에서 유저 제거 (GLOBAL 범위)
+     *
+     * @param userId 유저 ID
+     * @return 제거 여부
+     */
+    public boolean removeFromWaitingQueue(Long userId) {
+        return removeFromWaitingQueue(QueueScope.GLOBAL, userId);
+    }
+
+    /**
+     * 대기열에서 유저 제거 (대기 중 이탈)
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     * @return 제거 여부
+     */
+    public boolean removeFromWaitingQueue(QueueScope scope, Long userId) {
+        if (shardedWaitingQueue != null) {
+            redisTemplate.opsForZSet().remove(heartbeatKey(scope), userId.toString());
+            return shardedWaitingQueue.remove(scope, userId);
+        }
+        Long removed = redisTemplate.opsForZSet().remove(waitingKey(scope), userId.toString());
+        redisTemplate.opsForZSet().remove(heartbeatKey(scope), userId.toString());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * RDB 저장 실패 시 Redis 롤백 (GLOBAL 범위)
      *
      * @param userIds 롤백할 유저 ID 목록
      */
     public void rollbackActivation(List<Long> userIds) {
+        rollbackActivation(QueueScope.GLOBAL, userIds);
+    }
+
+    /**
+     * RDB 저장 실패 시 Redis 롤백
+     * - 활성 큐에서 제거하고 대기열 맨 앞에 다시 추가 (Lua 스크립트 사용 - 원자적)
+     * - 저장에 실패한 유저만 전달하면 나머지 활성화는 그대로 유지됨
+     *
+     * @param scope   대기열 범위
+     * @param userIds 롤백할 유저 ID 목록
+     */
+    public void rollbackActivation(QueueScope scope, List<Long> userIds) {
         if (userIds == null || userIds.isEmpty()) {
             return;
         }
 
-        // 활성 큐에서 제거
-        String[] userIdArray = userIds.stream()
+        List<String> args = userIds.stream()
                 .map(String::valueOf)
-                .toArray(String[]::new);
-        redisTemplate.opsForZSet().remove(ACTIVE_QUEUE_KEY, (Object[]) userIdArray);
+                .toList();
 
-        // 대기열 맨 앞에 다시 추가 (가장 낮은 score로)
-        Set<String> firstUser = redisTemplate.opsForZSet().range(WAITING_QUEUE_KEY, 0, 0);
-        Double minScore = null;
-        if (firstUser != null && !firstUser.isEmpty()) {
-            minScore = redisTemplate.opsForZSet().score(WAITING_QUEUE_KEY, firstUser.iterator().next());
+        if (shardedWaitingQueue != null) {
+            // 활성 큐와 샤드가 다른 슬롯에 있으므로 나누어 처리
+            redisTemplate.opsForZSet().remove(activeKey(scope), args.toArray());
+            Double headScore = shardedWaitingQueue.headScore(scope);
+            double baseScore = headScore != null ? headScore - userIds.size() : System.currentTimeMillis();
+            shardedWaitingQueue.addAll(scope, userIds, baseScore);
+            log.warn("활성화 롤백 완료 (샤딩): scope={}, {}명", scope, userIds.size());
+            publishMembershipChange(scope, userIds);
+            return;
         }
-        double baseScore = minScore != null ? minScore - userIds.size() : System.currentTimeMillis();
 
-        for (int i = 0; i < userIds.size(); i++) {
-            redisTemplate.opsForZSet().add(WAITING_QUEUE_KEY, userIds.get(i).toString(), baseScore + i);
-        }
+        List<String> keys = List.of(waitingKey(scope), activeKey(scope));
+        redisTemplate.execute(requeueScript, keys, args.toArray());
 
-        log.warn("활성화 롤백 완료: {}명", userIds.size());
+        log.warn("활성화 롤백 완료: scope={}, {}명", scope, userIds.size());
+        publishMembershipChange(scope, userIds);
     }
 
     /**
-     * 만료된 활성 유저 제거 (스케줄러에서 호출)
-     * - score <= 현재시각인 유저들을 일괄 제거
+     * 만료된 활성 유저 제거 (GLOBAL 범위, 전체)
      *
      * @return 제거된 유저 ID 목록
      */
     public List<Long> removeExpiredActiveUsers() {
-        long now = System.currentTimeMillis();
-
-        // 만료된 유저 조회 (score <= 현재시각)
-        Set<String> expiredUsers = redisTemplate.opsForZSet()
-                .rangeByScore(ACTIVE_QUEUE_KEY, 0, now);
+        return removeExpiredActiveUsers(QueueScope.GLOBAL, Integer.MAX_VALUE);
+    }
 
-        if (expiredUsers == null || expiredUsers.isEmpty()) {
-            return Collections.emptyList();
-        }
+    /**
+     * 만료된 활성 유저를 최대 limit명 제거 (Lua 스크립트 사용 - 원자적)
+     * - score <= 현재시각인 유저를 조회와 동시에 제거하므로, 조회 후 제거 사이에 만료된 유저가
+     *   반환되지 않고 사라지는 일이 없음
+     * - 대량 만료 시 호출자가 빈 목록이 나올 때까지 청크 단위로 반복 호출
+     *
+     * @param scope 대기열 범위
+     * @param limit 한 번에 제거할 최대 인원
+     * @return 제거된 유저 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> removeExpiredActiveUsers(QueueScope scope, int limit) {
+        try {
+            List<Object> result = redisTemplate.execute(
+                    popExpiredActiveUsersScript,
+                    List.of(activeKey(scope)),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(limit)
+            );
 
-        List<Long> expiredUserIds = expiredUsers.stream()
-                .map(Long::parseLong)
-                .toList();
+            List<Long> expiredUserIds = toUserIds(result);
+            if (!expiredUserIds.isEmpty()) {
+                log.debug("만료된 활성 유저 제거 완료: scope={}, {}명", scope, expiredUserIds.size());
+                publishMembershipChange(scope, expiredUserIds);
+            }
+            return expiredUserIds;
 
-        // 제거
-        redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_QUEUE_KEY, 0, now);
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 만료 유저 제거 중 오류, scope={}", scope, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 만료 유저 제거 중 오류, scope={}", scope, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
 
-        log.info("만료된 활성 유저 제거 완료: {}명", expiredUserIds.size());
-        return expiredUserIds;
+    /**
+     * 현재 활성 유저 수 조회 (GLOBAL 범위)
+     *
+     * @return 활성 유저 수
+     */
+    public long getActiveUserCount() {
+        return getActiveUserCount(QueueScope.GLOBAL);
     }
 
     /**
      * 현재 활성 유저 수 조회
      *
+     * @param scope 대기열 범위
      * @return 활성 유저 수
      */
-    public long getActiveUserCount() {
-        Long count = redisTemplate.opsForZSet().zCard(ACTIVE_QUEUE_KEY);
+    public long getActiveUserCount(QueueScope scope) {
+        Long count = redisTemplate.opsForZSet().zCard(activeKey(scope));
         return count != null ? count : 0;
     }
 
     /**
-     * 현재 대기열 유저 수 조회
+     * 현재 대기열 유저 수 조회 (GLOBAL 범위)
      *
      * @return 대기열 유저 수
      */
     public long getWaitingUserCount() {
-        Long count = redisTemplate.opsForZSet().zCard(WAITING_QUEUE_KEY);
+        return getWaitingUserCount(QueueScope.GLOBAL);
+    }
+
+    /**
+     * 현재 대기열 유저 수 조회
+     *
+     * @param scope 대기열 범위
+     * @return 대기열 유저 수
+     */
+    public long getWaitingUserCount(QueueScope scope) {
+        if (shardedWaitingQueue != null) {
+            return shardedWaitingQueue.count(scope);
+        }
+        Long count = redisTemplate.opsForZSet().zCard(waitingKey(scope));
         return count != null ? count : 0;
     }
+
+    /**
+     * 대기자 하트비트 기록 (상태 조회/SSE 수신 시각)
+     * - 아직 대기열에 있는 유저만 갱신 (ZADD XX - 이미 활성화/이탈한 유저는 다시 등록하지 않음)
+     * - 기록 실패는 상태 조회 결과에 영향을 주지 않음 (다음 주기에 다시 기록됨)
+     *
+     * @param scope   대기열 범위
+     * @param userIds 유저 ID 목록
+     * @param now     기록 시각 (timestamp)
+     */
+    public void recordHeartbeats(QueueScope scope, Collection<Long> userIds, long now) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(userIds.size() + 1);
+        args.add(String.valueOf(now));
+        userIds.forEach(userId -> args.add(userId.toString()));
+
+        try {
+            redisTemplate.execute(recordHeartbeatsScript, List.of(heartbeatKey(scope)), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("하트비트 기록 실패: scope={}, {}명", scope, userIds.size(), e);
+        }
+    }
+
+    /**
+     * 활성화 후 보호 API 호출 대기 목록에 등록
+     * - deadline까지 confirmActive가 호출되지 않으면 removeUnconfirmedActiveUsers에서 회수됨
+     *
+     * @param scope    대기열 범위
+     * @param userIds  활성화된 유저 ID 목록
+     * @param deadline 회수 기한 (timestamp)
+     */
+    public void markUnconfirmed(QueueScope scope, List<Long> userIds, long deadline) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        userIds.forEach(userId -> tuples.add(new DefaultTypedTuple<>(userId.toString(), (double) deadline)));
+
+        try {
+            redisTemplate.opsForZSet().add(unconfirmedKey(scope), tuples);
+        } catch (DataAccessException e) {
+            log.warn("활성화 확인 대기 등록 실패: scope={}, {}명", scope, userIds.size(), e);
+        }
+    }
+
+    /**
+     * 보호 API 호출 확인 (회수 대상에서 제외)
+     *
+     * @param scope  대기열 범위
+     * @param userId 유저 ID
+     */
+    public void confirmActive(QueueScope scope, Long userId) {
+        try {
+            redisTemplate.opsForZSet().remove(unconfirmedKey(scope), userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("활성화 확인 기록 실패: scope={}, userId={}", scope, userId, e);
+        }
+    }
+
+    /**
+     * 회수 기한까지 보호 API를 호출하지 않은 활성 유저를 최대 limit명 제거 (Lua 스크립트 사용 - 원자적)
+     * - 활성화 직후 창을 닫은 유저가 만료 시각까지 슬롯을 붙잡고 있지 않도록 함
+     *
+     * @param scope 대기열 범위
+     * @param now   현재 시각 (timestamp)
+     * @param limit 한 번에 제거할 최대 인원
+     * @return 제거된 유저 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> removeUnconfirmedActiveUsers(QueueScope scope, long now, int limit) {
+        try {
+            List<Object> result = redisTemplate.execute(
+                    popUnconfirmedActiveUsersScript,
+                    List.of(unconfirmedKey(scope), activeKey(scope)),
+                    String.valueOf(now),
+                    String.valueOf(limit)
+            );
+
+            List<Long> idleUserIds = toUserIds(result);
+            if (!idleUserIds.isEmpty()) {
+                log.debug("미사용 활성 유저 제거 완료: scope={}, {}명", scope, idleUserIds.size());
+                publishMembershipChange(scope, idleUserIds);
+            }
+            return idleUserIds;
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: 미사용 활성 유저 제거 중 오류, scope={}", scope, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: 미사용 활성 유저 제거 중 오류, scope={}", scope, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 대기열 순번 스냅샷 생성 (근사 순번 모드)
+     * - 대기열 전체에 고르게 분포한 순번 위치의 진입 시각을 샘플링 (ZCARD 1회 + 파이프라인 1회)
+     * - 첫 샘플은 대기열 맨 앞, 마지막 샘플은 맨 뒤
+     * - 샤딩 모드는 샤드별 순번 합산이 필요하므로 지원하지 않음 (null 반환 → 정확한 순번 조회)
+     *
+     * @param scope   대기열 범위
+     * @param samples 샘플 수 (2 이상)
+     * @return 스냅샷, 샤딩 모드면 null
+     */
+    public QueuePositionSnapshot capturePositionSnapshot(QueueScope scope, int samples) {
+        if (shardedWaitingQueue != null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        String waitingKey = waitingKey(scope);
+        String rateKey = rateKey(scope);
+
+        Long total = redisTemplate.opsForZSet().zCard(waitingKey);
+        if (total == null || total == 0) {
+            return new QueuePositionSnapshot(now, 0, 0, List.of());
+        }
+
+        List<Long> ranks = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            long rank = Math.round((double) i * (total - 1) / (samples - 1));
+            if (ranks.isEmpty() || ranks.get(ranks.size() - 1) != rank) {
+                ranks.add(rank);
+            }
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hMGet(rateKey, "rate", "rate_ts");
+            for (Long rank : ranks) {
+                conn.zRangeWithScores(waitingKey, rank, rank);
+            }
+            return null;
+        });
+
+        double admissionRate = results.get(0) instanceof List<?> rate && rate.size() == 2
+                ? decayedRate(rate.get(0), rate.get(1), now)
+                : 0;
+
+        // 조회 사이에 대기열이 줄어 비어 있는 위치는 제외
+        List<QueuePositionSnapshot.Sample> sampled = new ArrayList<>(ranks.size());
+        for (int i = 0; i < ranks.size(); i++) {
+            if (results.get(i + 1) instanceof Collection<?> tuples) {
+                for (Object item : tuples) {
+                    if (item instanceof TypedTuple<?> tuple && tuple.getScore() != null) {
+                        sampled.add(new QueuePositionSnapshot.Sample(tuple.getScore(), ranks.get(i)));
+                    }
+                }
+            }
+        }
+        return new QueuePositionSnapshot(now, total, admissionRate, sampled);
+    }
+
+    /**
+     * 사용 중인 대기열 범위 조회 (GLOBAL 제외)
+     *
+     * @return 대기열 범위 목록
+     */
+    public List<QueueScope> getRegisteredScopes() {
+        Set<String> scopeKeys = redisTemplate.opsForZSet().range(SCOPE_REGISTRY_KEY, 0, -1);
+        if (scopeKeys == null || scopeKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return scopeKeys.stream()
+                .map(QueueScope::parse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 대기/활성 유저가 남아 있는 범위의 마지막 사용 시각 갱신
+     *
+     * @param scope 대기열 범위
+     */
+    public void touchScope(QueueScope scope) {
+        registerScope(scope, System.currentTimeMillis());
+    }
+
+    /**
+     * 일정 시간 동안 사용되지 않은 범위를 목록에서 제거
+     *
+     * @param idleBefore 이 시각 이전에 마지막으로 사용된 범위를 제거 (timestamp)
+     * @return 제거된 범위 수
+     */
+    public long pruneIdleScopes(long idleBefore) {
+        Long removed = redisTemplate.opsForZSet().removeRangeByScore(SCOPE_REGISTRY_KEY, 0, idleBefore);
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 샤딩 모드 대기열 추가
+     * - 활성 큐와 대기열 샤드가 다른 슬롯에 있으므로 활성 여부 확인과 추가를 차례로 수행
+     * - 순번은 샤드별 순번 합산 (파이프라인 1회)
+     */
+    private long addToShardedWaitingQueue(QueueScope scope, Long userId, long score) {
+        try {
+            if (isActiveUser(scope, userId)) {
+                throw new IllegalStateException("이미 활성화된 상태입니다.");
+            }
+            if (!shardedWaitingQueue.add(scope, userId, score)) {
+                throw new IllegalStateException("이미 대기열에 있습니다.");
+            }
+            redisTemplate.opsForZSet().add(heartbeatKey(scope), userId.toString(), score);
+
+            registerScope(scope, score);
+            return shardedWaitingQueue.position(scope, userId);
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패: scope={}, userId={}", scope, userId, e);
+            throw new IllegalStateException("대기열 서비스를 일시적으로 사용할 수 없습니다.", e);
+        } catch (DataAccessException e) {
+            log.error("Redis 명령 실행 실패: scope={}, userId={}", scope, userId, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 샤딩 모드 입장 처리
+     * 1. 토큰 버킷 보충 + 입장 허용 인원 계산 (범위 슬롯 Lua)
+     * 2. 샤드별 맨 앞 유저 조회 후 k-way 병합으로 먼저 진입한 순서대로 선택 (파이프라인 1회)
+     * 3. 선택한 유저를 각 샤드에서 제거 (파이프라인 1회, 그 사이 이탈한 유저는 제외)
+     *    - 하트비트가 끊긴 유저는 활성화하지 않고 버림 (빈 자리는 다음 실행에서 채움)
+     * 4. 활성 큐 등록 + 버킷 차감 (범위 슬롯 Lua), 실패 시 제거한 유저를 원래 점수로 복원
+     */
+    private List<Long> shardedPopAndActivate(QueueScope scope, int capacity, double ratePerSecond,
+                                             int burst, long expireAt) {
+        List<String> scopeKeys = List.of(activeKey(scope), pacerKey(scope));
+        List<Candidate> claimed = List.of();
+
+        try {
+            Long allowance = redisTemplate.execute(
+                    admissionAllowanceScript,
+                    scopeKeys,
+                    String.valueOf(capacity),
+                    String.valueOf(ratePerSecond),
+                    String.valueOf(burst),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ADMISSION_PACER_TTL_MS)
+            );
+            if (allowance == null || allowance <= 0) {
+                return Collections.emptyList();
+            }
+
+            List<Candidate> heads = shardedWaitingQueue.peek(scope, allowance.intValue());
+            claimed = shardedWaitingQueue.claim(scope, heads);
+            if (claimed.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> userIds = dropStaleWaiters(scope, claimed.stream().map(Candidate::userId).toList());
+            if (userIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<String> args = new ArrayList<>(userIds.size() + 1);
+            args.add(String.valueOf(expireAt));
+            userIds.forEach(userId -> args.add(userId.toString()));
+            redisTemplate.execute(commitAdmissionScript, scopeKeys, args.toArray());
+
+            log.debug("대기열 → 활성 큐 이동 완료 (샤딩): scope={}, {}명, 만료시각: {}",
+                    scope, userIds.size(), expireAt);
+            publishMembershipChange(scope, userIds);
+            return userIds;
+
+        } catch (DataAccessException e) {
+            // 샤드에서 제거했지만 활성화하지 못한 유저 복원
+            if (!claimed.isEmpty()) {
+                try {
+                    shardedWaitingQueue.restore(scope, claimed);
+                } catch (DataAccessException restoreFailure) {
+                    log.error("샤딩 대기열 복원 실패: scope={}, users={}", scope, claimed, restoreFailure);
+                }
+            }
+            log.error("Redis 명령 실행 실패: 샤딩 대기열 활성화 중 오류, scope={}, capacity={}", scope, capacity, e);
+            throw new IllegalStateException("대기열 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 샤딩 모드에서 꺼낸 유저 중 하트비트가 끊긴 유저를 제외하고, 꺼낸 유저의 하트비트를 정리
+     * - 하트비트 기록이 없는 유저는 살아 있는 것으로 봄
+     */
+    private List<Long> dropStaleWaiters(QueueScope scope, List<Long> userIds) {
+        long staleBefore = livenessProperties.heartbeatStaleBefore(System.currentTimeMillis());
+        String heartbeatKey = heartbeatKey(scope);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                conn.zScore(heartbeatKey, userId.toString());
+            }
+            conn.zRem(heartbeatKey, userIds.stream().map(String::valueOf).toArray(String[]::new));
+            return null;
+        });
+
+        List<Long> alive = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object seen = results.get(i);
+            if (staleBefore == 0 || !(seen instanceof Number lastSeen) || lastSeen.longValue() >= staleBefore) {
+                alive.add(userIds.get(i));
+            }
+        }
+        if (alive.size() < userIds.size()) {
+            log.debug("하트비트가 끊긴 대기자 제외 (샤딩): scope={}, {}명", scope, userIds.size() - alive.size());
+        }
+        return alive;
+    }
+
+    /**
+     * 범위 목록에 등록 (스케줄러가 활성화/만료 처리할 범위)
+     */
+    private void registerScope(QueueScope scope, long now) {
+        if (!scope.isGlobal()) {
+            redisTemplate.opsForZSet().add(SCOPE_REGISTRY_KEY, scope.key(), now);
+        }
+    }
+
+    /**
+     * 활성 큐 멤버십 변경 알림 발행 (ActiveUserNearCache 무효화)
+     * - 발행 실패는 대기열 처리 결과에 영향을 주지 않음 (로컬 캐시는 TTL로 만료됨)
+     */
+    private void publishMembershipChange(QueueScope scope, List<Long> userIds) {
+        try {
+            redisTemplate.convertAndSend(ACTIVE_CHANGED_CHANNEL, ActiveUserNearCache.message(scope, userIds));
+        } catch (DataAccessException e) {
+            log.warn("활성 큐 변경 알림 발행 실패: scope={}, {}명", scope, userIds.size(), e);
+        }
+    }
+
+    /**
+     * 마지막 기록 이후 경과 시간만큼 감쇠시킨 입장 속도 (초당 인원)
+     */
+    private double decayedRate(Object rate, Object rateTs, long now) {
+        if (rate == null || rateTs == null) {
+            return 0;
+        }
+        double value = Double.parseDouble(rate.toString());
+        long elapsed = Math.max(0, now - Long.parseLong(rateTs.toString()));
+        return value * Math.exp(-(double) elapsed / ADMISSION_RATE_WINDOW_MS);
+    }
+
+    private List<Long> toUserIds(List<Object> result) {
+        if (result == null || result.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> userIds = new ArrayList<>();
+        for (Object item : result) {
+            userIds.add(Long.parseLong(item.toString()));
+        }
+        return userIds;
+    }
+
+    /**
+     * 범위별 키 생성
+     * - GLOBAL: 기존 키 (queue:waiting, queue:active, queue:admission:pacer)
+     * - 그 외: queue:{concert:1}:waiting 형태 (해시 태그로 같은 슬롯 배치)
+     */
+    private String waitingKey(QueueScope scope) {
+        return scope.isGlobal() ? WAITING_QUEUE_KEY : scopedKey(scope, "waiting");
+    }
+
+    private String activeKey(QueueScope scope) {
+        return scope.isGlobal() ? ACTIVE_QUEUE_KEY : scopedKey(scope, "active");
+    }
+
+    private String pacerKey(QueueScope scope) {
+        return scope.isGlobal() ? ADMISSION_PACER_KEY : scopedKey(scope, "pacer");
+    }
+
+    private String rateKey(QueueScope scope) {
+        return scope.isGlobal() ? ADMISSION_RATE_KEY : scopedKey(scope, "rate");
+    }
+
+    private String heartbeatKey(QueueScope scope) {
+        return scope.isGlobal() ? HEARTBEAT_KEY : scopedKey(scope, "heartbeat");
+    }
+
+    private String unconfirmedKey(QueueScope scope) {
+        return scope.isGlobal() ? UNCONFIRMED_KEY : scopedKey(scope, "unconfirmed");
+    }
+
+    private String scopedKey(QueueScope scope, String suffix) {
+        return "queue:{" + scope.key() + "}:" + suffix;
+    }
 }
@@ -0,0 +1,305 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.token.domain.QueueScope;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 샤딩된 대기열 (QueueRedisRepository 내부 전용)
+ *
+ * 하나의 대기열을 유저 ID 해시로 N개의 ZSet에 분산합니다.
+ * - 키: queue:{global#0}:waiting ... queue:{concert:1#15}:waiting
+ * - 샤드마다 해시 태그가 다르므로 Redis Cluster에서 서로 다른 노드에 배치될 수 있음
+ * - 여러 샤드에 걸친 조회는 파이프라인으로 묶어 샤드 수와 관계없이 왕복 횟수를 고정
+ *   (전체 인원/맨 앞 조회는 1회, 순번 조회는 자신의 점수 확인 후 샤드별 합산까지 2회)
+ *
+ * 전체 순서(FIFO)는 점수(진입 시각) 기준 k-way 병합으로 유지하며,
+ * 같은 밀리초에 서로 다른 샤드로 진입한 유저끼리만 순서가 바뀔 수 있습니다.
+ */
+class ShardedWaitingQueue {
+
+    private final StringRedisTemplate redisTemplate;
+    private final int shards;
+
+    ShardedWaitingQueue(StringRedisTemplate redisTemplate, int shards) {
+        this.redisTemplate = redisTemplate;
+        this.shards = shards;
+    }
+
+    /**
+     * 샤드의 맨 앞 대기 유저
+     *
+     * @param userId 유저 ID
+     * @param shard  샤드 번호
+     * @param score  진입 시각 (ZSet score)
+     */
+    record Candidate(Long userId, int shard, double score) {
+    }
+
+    int shardOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), shards);
+    }
+
+    String shardKey(QueueScope scope, int shard) {
+        return "queue:{" + scope.key() + "#" + shard + "}:waiting";
+    }
+
+    /**
+     * 대기열에 추가 (이미 있으면 추가하지 않음)
+     *
+     * @return 추가 여부
+     */
+    boolean add(QueueScope scope, Long userId, long score) {
+        Boolean added = redisTemplate.opsForZSet()
+                .addIfAbsent(shardKey(scope, shardOf(userId)), userId.toString(), score);
+        return Boolean.TRUE.equals(added);
+    }
+
+    boolean contains(QueueScope scope, Long userId) {
+        return redisTemplate.opsForZSet().score(shardKey(scope, shardOf(userId)), userId.toString()) != null;
+    }
+
+    Double score(QueueScope scope, Long userId) {
+        return redisTemplate.opsForZSet().score(shardKey(scope, shardOf(userId)), userId.toString());
+    }
+
+    boolean remove(QueueScope scope, Long userId) {
+        Long removed = redisTemplate.opsForZSet().remove(shardKey(scope, shardOf(userId)), userId.toString());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 전체 대기 순번 (1부터 시작, 대기열에 없으면 0)
+     * - 자신의 샤드는 ZRANK, 나머지 샤드는 자신보다 먼저 진입한 유저 수(ZCOUNT)를 합산
+     * - 왕복 2회 (ZSCORE → 샤드별 ZRANK/ZCOUNT 파이프라인)
+     */
+    long position(QueueScope scope, Long userId) {
+        return positions(scope, List.of(userId)).get(0);
+    }
+
+    /**
+     * 여러 유저의 전체 대기 순번 (유저 ID 순서대로, 대기열에 없으면 0)
+     * - 유저 수와 관계없이 왕복 2회
+     *   1. 모든 유저의 ZSCORE를 파이프라인 1회로 조회
+     *   2. 대기열에 있는 (유저, 샤드) 조합마다 ZRANK/ZCOUNT를 파이프라인 1회로 조회
+     */
+    List<Long> positions(QueueScope scope, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> scores = pipelined(conn -> {
+            for (Long userId : userIds) {
+                conn.zScore(shardKey(scope, shardOf(userId)), userId.toString());
+            }
+        });
+
+        List<Integer> waiting = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            if (scores.get(i) instanceof Number) {
+                waiting.add(i);
+            }
+        }
+
+        Long[] positions = new Long[userIds.size()];
+        Arrays.fill(positions, 0L);
+        if (waiting.isEmpty()) {
+            return Arrays.asList(positions);
+        }
+
+        List<Object> counts = pipelined(conn -> {
+            for (int index : waiting) {
+                Long userId = userIds.get(index);
+                int ownShard = shardOf(userId);
+                // 같은 점수는 앞선 유저로 보지 않음 (ZCOUNT -inf ~ score 직전 값)
+                double before = Math.nextDown(((Number) scores.get(index)).doubleValue());
+                for (int shard = 0; shard < shards; shard++) {
+                    if (shard == ownShard) {
+                        conn.zRank(shardKey(scope, shard), userId.toString());
+                    } else {
+                        conn.zCount(shardKey(scope, shard), Double.NEGATIVE_INFINITY, before);
+                    }
+                }
+            }
+        });
+
+        for (int w = 0; w < waiting.size(); w++) {
+            long ahead = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                if (counts.get(w * shards + shard) instanceof Number count) {
+                    ahead += count.longValue();
+                }
+            }
+            positions[waiting.get(w)] = ahead + 1;
+        }
+        return Arrays.asList(positions);
+    }
+
+    /**
+     * 전체 대기 유저 수
+     */
+    long count(QueueScope scope) {
+        List<Object> results = pipelined(conn -> {
+            for (int shard = 0; shard < shards; shard++) {
+                conn.zCard(shardKey(scope, shard));
+            }
+        });
+
+        long total = 0;
+        for (Object result : results) {
+            if (result instanceof Number count) {
+                total += count.longValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 전체 대기열에서 먼저 진입한 순으로 최대 limit명 조회 (제거하지 않음)
+     * - 샤드마다 앞에서 limit명을 가져와 점수 기준 k-way 병합
+     */
+    List<Candidate> peek(QueueScope scope, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<Object> results = pipelined(conn -> {
+            for (int shard = 0; shard < shards; shard++) {
+                conn.zRangeWithScores(shardKey(scope, shard), 0, limit - 1);
+            }
+        });
+
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>(
+                Comparator.comparingDouble((ShardCursor cursor) -> cursor.current.score())
+                        .thenComparingInt(cursor -> cursor.current.shard()));
+        for (int shard = 0; shard < results.size(); shard++) {
+            List<Candidate> candidates = toCandidates(shard, results.get(shard));
+            if (!candidates.isEmpty()) {
+                heads.add(new ShardCursor(candidates.iterator()));
+            }
+        }
+
+        List<Candidate> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            ShardCursor cursor = heads.poll();
+            merged.add(cursor.current);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 조회한 유저를 각 샤드에서 제거
+     * - 그 사이 이탈한 유저는 제거되지 않으므로 결과에서 제외
+     *
+     * @return 실제로 제거된 유저 목록
+     */
+    List<Candidate> claim(QueueScope scope, List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> results = pipelined(conn -> {
+            for (Candidate candidate : candidates) {
+                conn.zRem(shardKey(scope, candidate.shard()), candidate.userId().toString());
+            }
+        });
+
+        List<Candidate> claimed = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Object removed = results.get(i);
+            if (removed instanceof Number count && count.longValue() > 0) {
+                claimed.add(candidates.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 제거했던 유저를 원래 점수로 복원 (활성화 실패 보상)
+     */
+    void restore(QueueScope scope, Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        pipelined(conn -> {
+            for (Candidate candidate : candidates) {
+                conn.zAdd(shardKey(scope, candidate.shard()), candidate.score(), candidate.userId().toString());
+            }
+        });
+    }
+
+    /**
+     * 전체 대기열 맨 앞 유저의 점수 (대기열이 비어 있으면 null)
+     */
+    Double headScore(QueueScope scope) {
+        List<Candidate> head = peek(scope, 1);
+        return head.isEmpty() ? null : head.get(0).score();
+    }
+
+    /**
+     * 지정한 점수로 대기열에 추가 (롤백 시 맨 앞으로 복원)
+     */
+    void addAll(QueueScope scope, List<Long> userIds, double baseScore) {
+        pipelined(conn -> {
+            for (int i = 0; i < userIds.size(); i++) {
+                Long userId = userIds.get(i);
+                conn.zAdd(shardKey(scope, shardOf(userId)), baseScore + i, userId.toString());
+            }
+        });
+    }
+
+    private List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private List<Candidate> toCandidates(int shard, Object result) {
+        if (!(result instanceof Collection<?> tuples)) {
+            return List.of();
+        }
+
+        List<Candidate> candidates = new ArrayList<>(tuples.size());
+        for (Object item : tuples) {
+            if (item instanceof TypedTuple<?> tuple && tuple.getValue() != null && tuple.getScore() != null) {
+                candidates.add(new Candidate(Long.parseLong(tuple.getValue().toString()), shard, tuple.getScore()));
+            }
+        }
+        return candidates;
+    }
+
+    private static final class ShardCursor {
+
+        private final Iterator<Candidate> iterator;
+        private Candidate current;
+
+        private ShardCursor(Iterator<Candidate> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.token.domain.QueueScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서명 토큰 폐기 목록 Repository
+ *
+ * 데이터 구조:
+ * - queue:token:revoked (ZSet): member = "{scope}|{userId}", score = 폐기 대상 토큰의 최대 만료 시각
+ *   (이 시각 이전에 만료되는 해당 사용자/범위의 토큰은 모두 폐기된 것으로 간주)
+ *
+ * 만료 전에 반납된 토큰만 등록되고, score가 지나면 정리되므로 목록은 항상 작게 유지됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationRedisRepository {
+
+    private static final String REVOKED_KEY = "queue:token:revoked";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 폐기 등록
+     *
+     * @param scope       대기열 범위
+     * @param userId      사용자 ID
+     * @param coversUntil 이 시각 이전에 만료되는 토큰을 폐기 (timestamp)
+     */
+    public void revoke(QueueScope scope, Long userId, long coversUntil) {
+        redisTemplate.opsForZSet().add(REVOKED_KEY, member(scope, userId), coversUntil);
+    }
+
+    /**
+     * 유효한 폐기 목록 조회 (지난 항목은 정리)
+     *
+     * @param now 현재 시각 (timestamp)
+     * @return member → 폐기 대상 최대 만료 시각
+     */
+    public Map<String, Long> findActive(long now) {
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+
+        Set<TypedTuple<String>> entries = redisTemplate.opsForZSet()
+            .rangeByScoreWithScores(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+        if (entries == null || entries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> revocations = new HashMap<>(entries.size());
+        for (TypedTuple<String> entry : entries) {
+            if (entry.getValue() != null && entry.getScore() != null) {
+                revocations.put(entry.getValue(), entry.getScore().longValue());
+            }
+        }
+        return revocations;
+    }
+
+    public static String member(QueueScope scope, Long userId) {
+        return scope.key() + "|" + userId;
+    }
+}
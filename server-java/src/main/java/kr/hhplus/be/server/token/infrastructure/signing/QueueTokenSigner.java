@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.token.infrastructure.signing;
+
+import kr.hhplus.be.server.config.queue.QueueTokenProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.QueueTokenClaims;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 토큰 발급/검증
+ *
+ * 토큰 형식: v1.{base64url(userId|scope|expireAt)}.{base64url(HMAC-SHA256)}
+ * - 서명과 만료 시각만으로 검증하므로 DB/Redis 조회가 없음
+ * - 같은 (userId, scope, expireAt)에 대해서는 항상 같은 토큰이 발급됨
+ */
+@Component
+public class QueueTokenSigner {
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = "|";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final ThreadLocal<Mac> macs;
+
+    public QueueTokenSigner(QueueTokenProperties properties) {
+        this.enabled = properties.signed();
+        if (!enabled) {
+            this.macs = null;
+            return;
+        }
+
+        SecretKeySpec key = new SecretKeySpec(properties.secret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        // Mac은 thread-safe하지 않으므로 스레드별로 재사용
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("토큰 서명 초기화에 실패했습니다.", e);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 서명 토큰 형식인지 확인 (UUID 토큰과 구분)
+     */
+    public boolean isSignedToken(String token) {
+        return enabled && token != null && token.startsWith(VERSION + ".");
+    }
+
+    /**
+     * 토큰 서명
+     *
+     * @param claims 토큰 정보
+     * @return 서명 토큰
+     */
+    public String sign(QueueTokenClaims claims) {
+        String payload = ENCODER.encodeToString((claims.userId() + FIELD_SEPARATOR
+            + claims.scope().key() + FIELD_SEPARATOR
+            + claims.expireAt()).getBytes(StandardCharsets.UTF_8));
+        String body = VERSION + "." + payload;
+        return body + "." + ENCODER.encodeToString(mac(body));
+    }
+
+    /**
+     * 서명 검증 후 토큰 정보 반환 (만료/폐기 여부는 확인하지 않음)
+     *
+     * @param token 서명 토큰
+     * @return 토큰 정보 (형식이 잘못되었거나 서명이 일치하지 않으면 empty)
+     */
+    public Optional<QueueTokenClaims> verify(String token) {
+        if (!isSignedToken(token)) {
+            return Optional.empty();
+        }
+
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart <= VERSION.length()) {
+            return Optional.empty();
+        }
+
+        try {
+            String body = token.substring(0, signatureStart);
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(mac(body), signature)) {
+                return Optional.empty();
+            }
+
+            String payload = new String(DECODER.decode(body.substring(VERSION.length() + 1)), StandardCharsets.UTF_8);
+            int first = payload.indexOf(FIELD_SEPARATOR);
+            int last = payload.lastIndexOf(FIELD_SEPARATOR);
+            if (first < 0 || first == last) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new QueueTokenClaims(
+                Long.parseLong(payload.substring(0, first)),
+                QueueScope.parse(payload.substring(first + 1, last)),
+                Long.parseLong(payload.substring(last + 1))));
+
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자/범위 형식 오류
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(String body) {
+        return macs.get().doFinal(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
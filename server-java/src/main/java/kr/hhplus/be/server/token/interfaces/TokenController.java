@@ -1,15 +1,23 @@
 package kr.hhplus.be.server.token.interfaces;
 
+import kr.hhplus.be.server.token.application.QueueStatusBroadcaster;
 import kr.hhplus.be.server.token.application.TokenService;
 import kr.hhplus.be.server.token.application.request.IssueTokenRequest;
 import kr.hhplus.be.server.token.application.response.IssueTokenResponse;
 import kr.hhplus.be.server.token.application.response.QueueStatusResponse;
+import kr.hhplus.be.server.token.domain.QueueScope;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 대기열/토큰 API Controller
+ *
+ * - /api/queue/token, /api/queue/status ...: 전체(GLOBAL) 대기열
+ * - /api/queue/{scopeType}/{scopeId}/token ...: 콘서트(concerts)/일정(schedules)별 대기열
+ * - /api/queue/stream: 상태 폴링 대신 SSE로 변경 사항을 받는 스트림
  */
 @RestController
 @RequestMapping("/api/queue")
@@ -17,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class TokenController {
 
     private final TokenService tokenService;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
 
     /**
      * 대기열 진입 (토큰 발급)
@@ -26,22 +35,37 @@ public class TokenController {
      */
     @PostMapping("/token")
     public ResponseEntity<IssueTokenResponse> issueToken(@RequestBody IssueTokenRequest request) {
-        long position = tokenService.issueToken(request.userId());
-        return ResponseEntity.ok(new IssueTokenResponse(request.userId(), position));
+        return ResponseEntity.ok(tokenService.enterQueue(QueueScope.GLOBAL, request.userId()));
     }
 
     /**
      * 대기열/활성 상태 조회
      *
-     * @param userId 사용자 ID
+     * @param userId     사용자 ID
+     * @param entryScore 진입 시각 (토큰 발급 응답 값, 선택 - 근사 순번 모드에서 사용)
      * @return 상태 정보 (WAITING/ACTIVE/NOT_IN_QUEUE)
      */
     @GetMapping("/status")
-    public ResponseEntity<QueueStatusResponse> getQueueStatus(@RequestParam Long userId) {
-        QueueStatusResponse response = tokenService.getQueueStatus(userId);
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(
+            @RequestParam Long userId,
+            @RequestParam(required = false) Long entryScore) {
+        QueueStatusResponse response = tokenService.getQueueStatus(QueueScope.GLOBAL, userId, entryScore);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 대기열/활성 상태 스트림 (SSE)
+     * - status 이벤트: 대기 순번이 바뀔 때만 전송
+     * - active 이벤트: 활성화 시 전송 후 스트림 종료
+     *
+     * @param userId 사용자 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@RequestParam Long userId) {
+        return queueStatusBroadcaster.subscribe(QueueScope.GLOBAL, userId);
+    }
+
     /**
      * 대기열 순번 조회
      *
@@ -54,5 +78,102 @@ public class TokenController {
         return ResponseEntity.ok(new PositionResponse(userId, position));
     }
 
+    /**
+     * 대기열 이탈 (로그아웃)
+     * - 활성 유저라면 슬롯을 즉시 반납하여 다음 대기자에게 인계
+     *
+     * @param userId 사용자 ID
+     */
+    @DeleteMapping("/token")
+    public ResponseEntity<Void> leaveQueue(@RequestParam Long userId) {
+        tokenService.leaveQueue(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 콘서트/일정별 대기열 진입 (토큰 발급)
+     *
+     * @param scopeType 범위 타입 (concerts, schedules)
+     * @param scopeId   콘서트 ID 또는 일정 ID
+     * @param request   요청 (userId)
+     * @return 대기열 순번
+     */
+    @PostMapping("/{scopeType}/{scopeId}/token")
+    public ResponseEntity<IssueTokenResponse> issueScopedToken(
+            @PathVariable String scopeType,
+            @PathVariable Long scopeId,
+            @RequestBody IssueTokenRequest request) {
+        return ResponseEntity.ok(tokenService.enterQueue(QueueScope.of(scopeType, scopeId), request.userId()));
+    }
+
+    /**
+     * 콘서트/일정별 대기열/활성 상태 조회
+     *
+     * @param scopeType 범위 타입 (concerts, schedules)
+     * @param scopeId   콘서트 ID 또는 일정 ID
+     * @param userId     사용자 ID
+     * @param entryScore 진입 시각 (토큰 발급 응답 값, 선택 - 근사 순번 모드에서 사용)
+     * @return 상태 정보 (WAITING/ACTIVE/NOT_IN_QUEUE)
+     */
+    @GetMapping("/{scopeType}/{scopeId}/status")
+    public ResponseEntity<QueueStatusResponse> getScopedQueueStatus(
+            @PathVariable String scopeType,
+            @PathVariable Long scopeId,
+            @RequestParam Long userId,
+            @RequestParam(required = false) Long entryScore) {
+        QueueStatusResponse response = tokenService.getQueueStatus(
+                QueueScope.of(scopeType, scopeId), userId, entryScore);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 콘서트/일정별 대기열/활성 상태 스트림 (SSE)
+     *
+     * @param scopeType 범위 타입 (concerts, schedules)
+     * @param scopeId   콘서트 ID 또는 일정 ID
+     * @param userId    사용자 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/{scopeType}/{scopeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScopedQueueStatus(
+            @PathVariable String scopeType,
+            @PathVariable Long scopeId,
+            @RequestParam Long userId) {
+        return queueStatusBroadcaster.subscribe(QueueScope.of(scopeType, scopeId), userId);
+    }
+
+    /**
+     * 콘서트/일정별 대기열 순번 조회
+     *
+     * @param scopeType 범위 타입 (concerts, schedules)
+     * @param scopeId   콘서트 ID 또는 일정 ID
+     * @param userId    사용자 ID
+     * @return 대기열 순번 (1부터 시작, 대기열에 없으면 0)
+     */
+    @GetMapping("/{scopeType}/{scopeId}/position")
+    public ResponseEntity<PositionResponse> getScopedQueuePosition(
+            @PathVariable String scopeType,
+            @PathVariable Long scopeId,
+            @RequestParam Long userId) {
+        long position = tokenService.getQueuePosition(QueueScope.of(scopeType, scopeId), userId);
+        return ResponseEntity.ok(new PositionResponse(userId, position));
+    }
+
+    /**
+     * 콘서트/일정별 대기열 이탈
+     *
+     * @param scopeType 범위 타입 (concerts, schedules)
+     * @param scopeId   콘서트 ID 또는 일정 ID
+     * @param userId    사용자 ID
+     */
+    @DeleteMapping("/{scopeType}/{scopeId}/token")
+    public ResponseEntity<Void> leaveScopedQueue(
+            @PathVariable String scopeType,
+            @PathVariable Long scopeId,
+            @RequestParam Long userId) {
+        tokenService.leaveQueue(QueueScope.of(scopeType, scopeId), userId);
+        return ResponseEntity.noContent().build();
+    }
+
     public record PositionResponse(Long userId, long position) {}
 }
@@ -6,14 +6,18 @@ import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
 import kr.hhplus.be.server.concert.domain.enums.ScheduleStatus;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ConcertRepository;
 import kr.hhplus.be.server.concert.domain.repository.ConcertScheduleRepository;
 import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.concert.infrastructure.redis.ConcertRankingRedisRepository;
+import kr.hhplus.be.server.concert.infrastructure.redis.SeatAvailabilityRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,9 +38,25 @@ class ConcertServiceTest {
     @Mock
     private ScheduleSeatRepository seatRepository;
 
-    @InjectMocks
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertRankingRedisRepository rankingRedisRepository;
+
+    @Mock
+    private SeatAvailabilityRedisRepository seatAvailabilityRedisRepository;
+
     private ConcertService concertService;
 
+    @BeforeEach
+    void setUp() {
+        // 좌석 맵 캐시는 실제 객체 사용 (비트맵 캐시 미스 → DB 조회 경로)
+        SeatMapCache seatMapCache = new SeatMapCache(seatRepository, seatAvailabilityRedisRepository,
+            new ConcurrentMapCacheManager());
+        concertService = new ConcertService(concertRepository, scheduleRepository, rankingRedisRepository, seatMapCache);
+    }
+
     @Test
     @DisplayName("예약 가능한 일정만 조회")
     void getAvailableSchedules_예약가능_필터링() {
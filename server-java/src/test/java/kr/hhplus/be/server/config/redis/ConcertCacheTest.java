@@ -1,14 +1,17 @@
 package kr.hhplus.be.server.config.redis;
 
 import kr.hhplus.be.server.concert.application.ConcertService;
+import kr.hhplus.be.server.concert.application.SeatMapCache;
 import kr.hhplus.be.server.concert.application.response.ConcertResponse;
 import kr.hhplus.be.server.concert.application.response.ConcertScheduleResponse;
+import kr.hhplus.be.server.concert.application.response.SeatMapDeltaResponse;
 import kr.hhplus.be.server.concert.application.response.SeatResponse;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
 import kr.hhplus.be.server.concert.domain.enums.ScheduleStatus;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.event.SeatStatusChangedEvent;
 import kr.hhplus.be.server.concert.infrastructure.persistence.ConcertJpaRepository;
 import kr.hhplus.be.server.concert.infrastructure.persistence.ConcertScheduleJpaRepository;
 import kr.hhplus.be.server.concert.infrastructure.persistence.ScheduleSeatJpaRepository;
@@ -29,6 +32,7 @@ import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * 캐시 동작 테스트
@@ -37,7 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 1. 콘서트 목록 조회 (5분)
  * 2. 콘서트 상세 조회 (10분)
  * 3. 콘서트 스케줄 조회 (3분)
- * 4. 좌석 상태 조회 (10초)
+ * 4. 좌석 상태 조회 (배치 캐시 + 예약 가능 비트맵, 좌석 단위 패치)
  */
 @DisplayName("캐시 동작 테스트")
 class ConcertCacheTest extends BaseRedisTest {
@@ -57,6 +61,9 @@ class ConcertCacheTest extends BaseRedisTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private SeatMapCache seatMapCache;
+
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
@@ -117,13 +124,20 @@ class ConcertCacheTest extends BaseRedisTest {
 
     private void clearAllCaches() {
         String[] cacheNames = {"cache:concert:list", "cache:concert:detail",
-                               "cache:schedule:list", "cache:seat:available"};
+                               "cache:schedule:list", "cache:seat:layout"};
         for (String cacheName : cacheNames) {
             Cache cache = cacheManager.getCache(cacheName);
             if (cache != null) {
                 cache.clear();
             }
         }
+        redisTemplate.delete(seatKey(testSchedule.getId()));
+        redisTemplate.delete("seat:{schedule:" + testSchedule.getId() + "}:version");
+        redisTemplate.delete("seat:{schedule:" + testSchedule.getId() + "}:changes");
+    }
+
+    private String seatKey(Long scheduleId) {
+        return "seat:{schedule:" + scheduleId + "}:available";
     }
 
     @Nested
@@ -315,7 +329,7 @@ class ConcertCacheTest extends BaseRedisTest {
     }
 
     @Nested
-    @DisplayName("시나리오 4: 좌석 상태 조회 캐시 (TTL 10초)")
+    @DisplayName("시나리오 4: 좌석 상태 조회 캐시 (비트맵, 좌석 단위 패치)")
     class SeatCacheTest {
 
         @Test
@@ -323,15 +337,16 @@ class ConcertCacheTest extends BaseRedisTest {
         void getAvailableSeats_cacheHitMiss() {
             // Given
             Long scheduleId = testSchedule.getId();
-            String cacheKey = "cache:seat:available::" + scheduleId;
+            String cacheKey = seatKey(scheduleId);
 
             assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
 
             // When: 첫 번째 호출 - 캐시 미스
             List<SeatResponse> firstResult = concertService.getAvailableSeats(scheduleId);
 
-            // Then: 캐시에 저장됨
+            // Then: 비트맵과 좌석 배치가 캐시에 저장됨
             assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+            assertThat(redisTemplate.hasKey("cache:seat:layout::" + scheduleId)).isTrue();
             assertThat(firstResult).hasSize(2);
 
             // When: 두 번째 호출 - 캐시 적중
@@ -339,44 +354,104 @@ class ConcertCacheTest extends BaseRedisTest {
 
             // Then: 동일한 결과 반환
             assertThat(secondResult).hasSize(firstResult.size());
+            assertThat(secondResult.get(0).price()).isEqualByComparingTo(firstResult.get(0).price());
         }
 
         @Test
-        @DisplayName("캐시 TTL 확인 (10초)")
+        @DisplayName("캐시 TTL 확인 (60초)")
         void getAvailableSeats_ttlCheck() {
             // Given
             Long scheduleId = testSchedule.getId();
-            String cacheKey = "cache:seat:available::" + scheduleId;
 
             concertService.getAvailableSeats(scheduleId);
 
-            // Then: TTL이 10초 이하
-            Long ttl = redisTemplate.getExpire(cacheKey);
+            // Then: TTL이 60초 이하
+            Long ttl = redisTemplate.getExpire(seatKey(scheduleId));
             assertThat(ttl).isNotNull();
             assertThat(ttl).isGreaterThan(0);
-            assertThat(ttl).isLessThanOrEqualTo(10);
+            assertThat(ttl).isLessThanOrEqualTo(60);
         }
 
         @Test
-        @DisplayName("캐시 수동 무효화 (Write-Through 시뮬레이션)")
-        void getAvailableSeats_cacheEviction() {
+        @DisplayName("좌석 예약/해제 시 캐시를 지우지 않고 해당 좌석 비트만 패치")
+        void getAvailableSeats_patch() {
             // Given: 캐시에 데이터 저장
             Long scheduleId = testSchedule.getId();
-            String cacheKey = "cache:seat:available::" + scheduleId;
+            concertService.getAvailableSeats(scheduleId);
+
+            // When: 좌석 1 예약 (예약 서비스 커밋 후 발행되는 이벤트와 동일)
+            seatMapCache.apply(SeatStatusChangedEvent.of(scheduleId, List.of(testSeat1), SeatStatus.RESERVED));
+
+            // Then: 캐시는 유지되고 좌석 1만 제외됨
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isTrue();
+            assertThat(concertService.getAvailableSeats(scheduleId))
+                .extracting(SeatResponse::seatId)
+                .containsExactly(testSeat2.getId());
 
+            // When: 좌석 1 해제
+            seatMapCache.apply(SeatStatusChangedEvent.of(scheduleId, List.of(testSeat1), SeatStatus.AVAILABLE));
+
+            // Then
+            assertThat(concertService.getAvailableSeats(scheduleId)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("좌석 변경 시 버전이 증가하고 sinceVersion 이후 바뀐 좌석만 조회")
+        void getSeatChanges_delta() {
+            // Given
+            Long scheduleId = testSchedule.getId();
             concertService.getAvailableSeats(scheduleId);
-            assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+            long since = concertService.getSeatMapVersion(scheduleId);
+
+            // When: 좌석 1 예약
+            seatMapCache.apply(SeatStatusChangedEvent.of(scheduleId, List.of(testSeat1), SeatStatus.RESERVED));
+
+            // Then: 버전이 바뀌고 좌석 1만 변경분으로 내려감
+            assertThat(concertService.getSeatMapVersion(scheduleId)).isGreaterThan(since);
+            SeatMapDeltaResponse delta = concertService.getSeatChanges(scheduleId, since);
+            assertThat(delta.full()).isFalse();
+            assertThat(delta.seats())
+                .extracting(SeatResponse::seatId, SeatResponse::status)
+                .containsExactly(tuple(testSeat1.getId(), SeatStatus.RESERVED));
 
-            // When: 캐시 무효화 (예약 서비스에서 호출하는 것과 동일)
-            Cache cache = cacheManager.getCache("cache:seat:available");
-            cache.evict(scheduleId);
+            // Then: 최신 버전 기준으로는 변경 없음
+            assertThat(concertService.getSeatChanges(scheduleId, delta.version()).seats()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("무효화로 변경 내역이 끊기면 전체 좌석으로 대체")
+        void getSeatChanges_fullAfterEviction() {
+            // Given
+            Long scheduleId = testSchedule.getId();
+            concertService.getAvailableSeats(scheduleId);
+            long since = concertService.getSeatMapVersion(scheduleId);
+
+            // When
+            seatMapCache.evict(scheduleId);
+
+            // Then
+            SeatMapDeltaResponse response = concertService.getSeatChanges(scheduleId, since);
+            assertThat(response.full()).isTrue();
+            assertThat(response.seats()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("캐시 무효화 후 재조회하면 DB에서 다시 생성")
+        void getAvailableSeats_cacheEviction() {
+            // Given: 캐시에 데이터 저장
+            Long scheduleId = testSchedule.getId();
+            concertService.getAvailableSeats(scheduleId);
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isTrue();
+
+            // When: 캐시 무효화
+            seatMapCache.evict(scheduleId);
 
             // Then: 캐시가 비어있음
-            assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isFalse();
 
             // When: 다시 조회하면 캐시에 저장됨
             concertService.getAvailableSeats(scheduleId);
-            assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isTrue();
         }
     }
 
@@ -402,17 +477,16 @@ class ConcertCacheTest extends BaseRedisTest {
             assertThat(redisTemplate.hasKey("cache:concert:list::all")).isTrue();
             assertThat(redisTemplate.hasKey("cache:concert:detail::" + concertId)).isTrue();
             assertThat(redisTemplate.hasKey("cache:schedule:list::" + concertId + ":" + fromDate + ":" + toDate)).isTrue();
-            assertThat(redisTemplate.hasKey("cache:seat:available::" + scheduleId)).isTrue();
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isTrue();
 
             // When: 좌석 캐시만 무효화
-            Cache seatCache = cacheManager.getCache("cache:seat:available");
-            seatCache.evict(scheduleId);
+            seatMapCache.evict(scheduleId);
 
             // Then: 좌석 캐시만 삭제됨, 나머지는 유지
             assertThat(redisTemplate.hasKey("cache:concert:list::all")).isTrue();
             assertThat(redisTemplate.hasKey("cache:concert:detail::" + concertId)).isTrue();
             assertThat(redisTemplate.hasKey("cache:schedule:list::" + concertId + ":" + fromDate + ":" + toDate)).isTrue();
-            assertThat(redisTemplate.hasKey("cache:seat:available::" + scheduleId)).isFalse();
+            assertThat(redisTemplate.hasKey(seatKey(scheduleId))).isFalse();
         }
     }
 }
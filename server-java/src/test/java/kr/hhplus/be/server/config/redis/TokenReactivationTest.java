@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.config.redis;
+
+import kr.hhplus.be.server.token.application.TokenService;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.repository.TokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * 재입장 시 RDB 활성 토큰 중복 방지 테스트
+ *
+ * 대기열 진입 시 중복 확인은 Redis(같은 범위의 대기열/활성 큐)만 보므로
+ * 다음 두 경우 RDB에 이미 ACTIVE 토큰이 남아 있는 유저가 다시 활성화될 수 있습니다.
+ * 1. Redis 활성 시간이 지났지만 만료 스케줄러가 RDB 토큰을 아직 만료하지 않은 상태에서 재진입
+ * 2. 전체 대기열에서 입장한 유저가 콘서트별 대기열에도 진입
+ * 활성화 시 기존 ACTIVE 토큰을 먼저 만료하므로 ACTIVE 토큰은 1건만 남고 슬롯 반납/이탈이 정상 동작하는지 검증합니다.
+ */
+@SpringBootTest
+@DisplayName("재입장 시 RDB 활성 토큰 중복 방지 테스트")
+class TokenReactivationTest extends BaseRedisTest {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUpTest() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 만료 후 RDB 만료 전에 재진입해도 ACTIVE 토큰은 1건이고 슬롯 반납이 성공한다")
+    void reenterAfterRedisExpiry_keepsSingleActiveToken() {
+        // given: 활성화 후 Redis 활성 시간만 지난 상태 (RDB 토큰은 아직 ACTIVE)
+        Long userId = 9_001L;
+        tokenService.issueToken(userId);
+        tokenService.activateWaitingTokens();
+        redisTemplate.opsForZSet().add("queue:active", String.valueOf(userId), System.currentTimeMillis() - 1_000);
+
+        // when: 재진입 후 다시 활성화
+        tokenService.issueToken(userId);
+        tokenService.activateWaitingTokens();
+
+        // then
+        assertThat(tokenRepository.findActiveTokensByUserId(userId)).hasSize(1);
+        assertThatCode(() -> tokenService.releaseSlot(userId)).doesNotThrowAnyException();
+        assertThat(tokenRepository.findActiveTokensByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 범위에서 입장해도 ACTIVE 토큰은 1건이고 대기열 이탈이 성공한다")
+    void enterSecondScope_keepsSingleActiveToken() {
+        // given: 전체 대기열에서 입장한 유저
+        Long userId = 9_002L;
+        QueueScope concert = QueueScope.ofConcert(1L);
+        tokenService.issueToken(userId);
+        tokenService.activateWaitingTokens();
+
+        // when: 콘서트 대기열에도 진입 후 입장
+        tokenService.issueToken(concert, userId);
+        tokenService.activateWaitingTokens(concert);
+
+        // then
+        assertThat(tokenService.isActiveUser(userId)).isTrue();
+        assertThat(tokenService.isActiveUser(concert, userId)).isTrue();
+        assertThat(tokenRepository.findActiveTokensByUserId(userId)).hasSize(1);
+        assertThatCode(() -> tokenService.leaveQueue(concert, userId)).doesNotThrowAnyException();
+        assertThat(tokenService.isActiveUser(concert, userId)).isFalse();
+        assertThat(tokenRepository.findActiveTokensByUserId(userId)).isEmpty();
+    }
+}
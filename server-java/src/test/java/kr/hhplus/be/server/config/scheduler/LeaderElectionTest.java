@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LeaderElection 테스트 (다중 서버 시뮬레이션)
+ * 로컬 Redis 필요 (localhost:6379)
+ */
+class LeaderElectionTest {
+
+    private StringRedisTemplate redisTemplate;
+    private List<LeaderElection> servers;
+
+    @BeforeEach
+    void setUp() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete("scheduler:leader");
+
+        // 워치독 스레드 없이 renewOrAcquire()를 직접 호출
+        SchedulerLeaderProperties properties = new SchedulerLeaderProperties(true, 3_000L, 1_000L);
+        servers = IntStream.range(0, 3)
+            .mapToObj(i -> new LeaderElection(redisTemplate, properties))
+            .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("scheduler:leader");
+    }
+
+    @Test
+    @DisplayName("3개 서버 중 하나만 리더가 되고, 갱신해도 리더가 바뀌지 않는다")
+    void onlyOneLeader() {
+        // when
+        servers.forEach(LeaderElection::renewOrAcquire);
+        servers.forEach(LeaderElection::renewOrAcquire);
+
+        // then
+        assertThat(servers.stream().filter(LeaderElection::isLeader).count()).isEqualTo(1);
+        assertThat(servers.get(0).isLeader()).isTrue();
+        assertThat(redisTemplate.opsForValue().get("scheduler:leader")).isEqualTo(servers.get(0).getNodeId());
+    }
+
+    @Test
+    @DisplayName("리더가 임대를 반납하면 다음 갱신 주기에 다른 서버가 이어받는다")
+    void failoverAfterRelease() {
+        // given
+        servers.forEach(LeaderElection::renewOrAcquire);
+        LeaderElection leader = servers.get(0);
+
+        // when - 리더 정상 종료
+        leader.stop();
+        servers.get(1).renewOrAcquire();
+        servers.get(2).renewOrAcquire();
+
+        // then
+        assertThat(leader.isLeader()).isFalse();
+        assertThat(servers.get(1).isLeader()).isTrue();
+        assertThat(servers.get(2).isLeader()).isFalse();
+    }
+
+    @Test
+    @DisplayName("선출이 비활성화되면 모든 서버가 리더로 동작한다")
+    void disabled_alwaysLeader() {
+        LeaderElection single = new LeaderElection(redisTemplate, SchedulerLeaderProperties.disabled());
+
+        assertThat(single.isLeader()).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.config.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PartitionLeaseManager 테스트 (다중 서버 시뮬레이션)
+ * 로컬 Redis 필요 (localhost:6379)
+ */
+class PartitionLeaseManagerTest {
+
+    private static final int PARTITIONS = 8;
+
+    private StringRedisTemplate redisTemplate;
+    private SchedulerPartitionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        cleanUp();
+
+        // 워치독 스레드 없이 rebalance()를 직접 호출
+        properties = new SchedulerPartitionProperties(true, PARTITIONS, 3_000L, 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("서버가 합류하면 파티션이 겹치지 않게 나누어진다")
+    void rebalanceOnJoin() {
+        // given - 서버 하나가 모든 파티션 보유
+        PartitionLeaseManager first = new PartitionLeaseManager(redisTemplate, properties);
+        first.rebalance();
+        assertThat(first.ownedPartitions()).hasSize(PARTITIONS);
+
+        // when - 두 번째 서버 합류 후 두 번의 갱신 주기
+        PartitionLeaseManager second = new PartitionLeaseManager(redisTemplate, properties);
+        List<PartitionLeaseManager> servers = List.of(first, second);
+        for (int round = 0; round < 2; round++) {
+            servers.forEach(PartitionLeaseManager::rebalance);
+        }
+
+        // then
+        assertThat(first.ownedPartitions()).hasSize(PARTITIONS / 2);
+        assertThat(second.ownedPartitions()).hasSize(PARTITIONS / 2);
+        Set<Integer> all = new HashSet<>(first.ownedPartitions());
+        all.addAll(second.ownedPartitions());
+        assertThat(all).hasSize(PARTITIONS);
+    }
+
+    @Test
+    @DisplayName("서버가 종료되면 반납한 파티션을 남은 서버가 이어받는다")
+    void rebalanceOnLeave() {
+        // given
+        List<PartitionLeaseManager> servers = IntStream.range(0, 2)
+            .mapToObj(i -> new PartitionLeaseManager(redisTemplate, properties))
+            .toList();
+        for (int round = 0; round < 2; round++) {
+            servers.forEach(PartitionLeaseManager::rebalance);
+        }
+
+        // when
+        servers.get(1).stop();
+        servers.get(0).rebalance();
+
+        // then
+        assertThat(servers.get(0).ownedPartitions()).hasSize(PARTITIONS);
+        assertThat(servers.get(1).ownedPartitions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("분배가 비활성화되면 모든 파티션을 처리한다")
+    void disabled_ownsAll() {
+        PartitionLeaseManager single = new PartitionLeaseManager(redisTemplate, SchedulerPartitionProperties.disabled());
+
+        assertThat(single.ownedPartitions()).hasSize(single.getPartitionCount());
+        assertThat(single.owns(42L)).isTrue();
+    }
+
+    private void cleanUp() {
+        Set<String> keys = redisTemplate.keys("scheduler:{partitions}:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
@@ -9,15 +9,18 @@ import kr.hhplus.be.server.concert.domain.repository.ConcertRepository;
 import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
 import kr.hhplus.be.server.concert.infrastructure.persistence.ConcertScheduleJpaRepository;
 import kr.hhplus.be.server.concert.infrastructure.persistence.ScheduleSeatJpaRepository;
+import kr.hhplus.be.server.config.scheduler.SchedulerPartitionProperties;
 import kr.hhplus.be.server.reservation.application.ReservationService;
 import kr.hhplus.be.server.reservation.application.scheduler.ReservationExpiryScheduler;
 import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.infrastructure.redis.ReservationDeadlineRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -51,6 +54,15 @@ public class ReservationSchedulerTest extends BaseIntegrationTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private ReservationDeadlineRedisRepository deadlineRepository;
+
+    @Autowired
+    private SchedulerPartitionProperties partitionProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long userId;
     private Long scheduleId;
     private List<Long> seatIds;
@@ -112,6 +124,37 @@ public class ReservationSchedulerTest extends BaseIntegrationTest {
         assertThat(stillPending.getStatus()).isEqualTo(ReservationStatus.PENDING);
     }
 
+    @Test
+    @DisplayName("예약 생성 시 만료 기한이 인덱스에 등록되고, 기한이 지나면 ID로 바로 만료 처리된다")
+    void testDeadlineIndexExpiresReservation() {
+        // Given: 예약 생성 (커밋 후 만료 기한 등록)
+        Reservation reservation = reservationService.createReservation(userId, scheduleId, seatIds);
+        int partition = partitionProperties.partitionOf(scheduleId);
+
+        // Then: 만료 시각 전에는 조회되지 않고, 만료 시각 이후 기준으로는 조회됨
+        assertThat(deadlineRepository.findDue(partition, LocalDateTime.now(), 100))
+            .doesNotContain(reservation.getId());
+        assertThat(deadlineRepository.findDue(partition, reservation.getExpiresAt().plusSeconds(1), 100))
+            .contains(reservation.getId());
+
+        // Given: 예약 만료 시간을 과거로 강제 변경 (테스트용)
+        jdbcTemplate.update("UPDATE reservations SET expires_at = ? WHERE id = ?",
+            LocalDateTime.now().minusSeconds(1), reservation.getId());
+
+        // When: 인덱스에서 꺼낸 ID로 만료 처리
+        int expiredCount = reservationService.expireReservationsAndReleaseSeats(List.of(reservation.getId()));
+        deadlineRepository.remove(partition, List.of(reservation.getId()));
+
+        // Then: 테이블 스캔 없이 만료 및 좌석 해제
+        assertThat(expiredCount).isEqualTo(1);
+        assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(seatRepository.findById(seatIds.get(0)).orElseThrow().getStatus())
+            .isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(deadlineRepository.findDue(partition, reservation.getExpiresAt().plusSeconds(1), 100))
+            .doesNotContain(reservation.getId());
+    }
+
     @Test
     @DisplayName("스케줄러가 여러 번 실행되어도 안전하다")
     void testSchedulerIsIdempotent() {
@@ -0,0 +1,195 @@
+package kr.hhplus.be.server.integration.concurrency;
+
+import kr.hhplus.be.server.common.BaseIntegrationTest;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.concert.infrastructure.persistence.ConcertScheduleJpaRepository;
+import kr.hhplus.be.server.concert.infrastructure.persistence.ScheduleSeatJpaRepository;
+import kr.hhplus.be.server.config.reservation.ReservationSequencerProperties;
+import kr.hhplus.be.server.reservation.application.ReservationSequencer;
+import kr.hhplus.be.server.reservation.application.SeatHoldService;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정별 예약 시퀀서 테스트
+ * - 100명이 10개 좌석에 동시에 제출해도 좌석당 한 명만 성공하고, 나머지는 좌석 없음으로 실패
+ */
+public class ReservationSequencerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertScheduleJpaRepository scheduleJpaRepository;
+
+    @Autowired
+    private ScheduleSeatJpaRepository seatJpaRepository;
+
+    @Autowired
+    private ScheduleSeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationDetailRepository reservationDetailRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    private ReservationSequencer sequencer;
+    private Long scheduleId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = concertRepository.save(
+            Concert.builder()
+                .title("인기 콘서트")
+                .description("예약 시퀀서 테스트용 콘서트")
+                .build()
+        );
+
+        ConcertSchedule schedule = scheduleJpaRepository.save(
+            ConcertSchedule.builder()
+                .concertId(concert.getId())
+                .venueId(1L)
+                .performanceDate(LocalDateTime.now().plusDays(7).toLocalDate())
+                .performanceTime(LocalDateTime.now().plusDays(7).toLocalTime())
+                .bookingOpenAt(LocalDateTime.now().minusDays(1))
+                .bookingCloseAt(LocalDateTime.now().plusDays(6))
+                .build()
+        );
+        scheduleId = schedule.getId();
+
+        seatIds = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            ScheduleSeat seat = seatJpaRepository.save(
+                ScheduleSeat.builder()
+                    .scheduleId(schedule.getId())
+                    .venueSeatId((long) i)
+                    .price(new BigDecimal("50000"))
+                    .status(SeatStatus.AVAILABLE)
+                    .build()
+            );
+            seatIds.add(seat.getId());
+        }
+
+        sequencer = new ReservationSequencer(seatRepository, reservationRepository, reservationDetailRepository,
+            eventPublisher, transactionTemplate, new ReservationSequencerProperties(true, 2, 5L, 64, 1000),
+            seatHoldService);
+        sequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequencer.stop();
+    }
+
+    @Test
+    @DisplayName("100명이 10개 좌석을 동시에 제출하면 좌석당 한 명만 성공한다")
+    void test100UsersReserving10Seats() {
+        // When: 사용자 i는 좌석 (i % 10)을 요청
+        List<CompletableFuture<Reservation>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(sequencer.submit((long) i + 1, scheduleId, List.of(seatIds.get(i % 10))));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+            .exceptionally(e -> null)
+            .orTimeout(10, TimeUnit.SECONDS)
+            .join();
+
+        // Then
+        long successCount = results.stream().filter(result -> !result.isCompletedExceptionally()).count();
+        long seatNotAvailableCount = results.stream()
+            .filter(CompletableFuture::isCompletedExceptionally)
+            .filter(result -> {
+                try {
+                    result.join();
+                    return false;
+                } catch (CompletionException e) {
+                    return e.getCause() instanceof SeatNotAvailableException;
+                }
+            })
+            .count();
+
+        assertThat(successCount).isEqualTo(10);
+        assertThat(seatNotAvailableCount).isEqualTo(90);
+        assertThat(seatRepository.findAllById(seatIds))
+            .allMatch(seat -> seat.getStatus() == SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("좌석이 겹치지 않는 요청은 같은 배치에서 모두 성공한다")
+    void nonConflictingRequestsAllSucceed() {
+        // When
+        CompletableFuture<Reservation> first = sequencer.submit(1L, scheduleId, seatIds.subList(0, 3));
+        CompletableFuture<Reservation> second = sequencer.submit(2L, scheduleId, seatIds.subList(3, 6));
+
+        // Then
+        assertThat(first.orTimeout(5, TimeUnit.SECONDS).join().getId()).isNotNull();
+        assertThat(second.orTimeout(5, TimeUnit.SECONDS).join().getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("앞선 요청이 다른 좌석 때문에 실패하면 겹치는 좌석은 뒤 요청이 예약한다")
+    void failedRequestDoesNotBlockOverlappingSeat() {
+        // Given: 좌석 2가 이미 예약됨
+        ScheduleSeat taken = seatJpaRepository.findById(seatIds.get(1)).orElseThrow();
+        taken.reserve();
+        seatJpaRepository.save(taken);
+
+        // When: A는 좌석 1, 2 / B는 좌석 1만 요청 (같은 배치)
+        CompletableFuture<Reservation> first = sequencer.submit(1L, scheduleId, seatIds.subList(0, 2));
+        CompletableFuture<Reservation> second = sequencer.submit(2L, scheduleId, seatIds.subList(0, 1));
+
+        // Then: A만 실패하고 좌석 1은 B가 예약
+        assertThat(first.handle((reservation, e) -> e).orTimeout(5, TimeUnit.SECONDS).join())
+            .isInstanceOf(SeatNotAvailableException.class);
+        assertThat(second.orTimeout(5, TimeUnit.SECONDS).join().getUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이미 커밋된 좌석은 다음 배치에서 DB 조회 없이 실패한다")
+    void committedSeatRejectedInLaterBatch() {
+        // Given
+        sequencer.submit(1L, scheduleId, seatIds.subList(0, 1)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // When
+        CompletableFuture<Reservation> late = sequencer.submit(2L, scheduleId, seatIds.subList(0, 1));
+
+        // Then
+        assertThat(late.handle((reservation, e) -> e).orTimeout(5, TimeUnit.SECONDS).join())
+            .isInstanceOf(SeatNotAvailableException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package kr.hhplus.be.server.integration.concurrency;
+
+import kr.hhplus.be.server.common.BaseIntegrationTest;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.concert.infrastructure.persistence.ConcertScheduleJpaRepository;
+import kr.hhplus.be.server.concert.infrastructure.persistence.ScheduleSeatJpaRepository;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.application.strategy.ConditionalUpdateSeatReservationStrategy;
+import kr.hhplus.be.server.reservation.application.strategy.PessimisticSeatReservationStrategy;
+import kr.hhplus.be.server.reservation.application.strategy.SeatReservationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 전략 비교 테스트
+ * - 100명의 사용자가 10개의 좌석을 동시에 선점 (ConcurrentReservationAdvancedTest와 같은 경합)
+ * - 비관적 락 / 조건부 UPDATE 모두 좌석당 한 명만 성공해야 하며, 소요 시간을 함께 출력
+ */
+public class SeatReservationStrategyContentionTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertScheduleJpaRepository scheduleJpaRepository;
+
+    @Autowired
+    private ScheduleSeatJpaRepository seatJpaRepository;
+
+    @Autowired
+    private ScheduleSeatRepository seatRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long scheduleId;
+    private List<Long> seatIds;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = concertRepository.save(
+            Concert.builder()
+                .title("인기 콘서트")
+                .description("좌석 선점 전략 비교용 콘서트")
+                .build()
+        );
+
+        ConcertSchedule schedule = scheduleJpaRepository.save(
+            ConcertSchedule.builder()
+                .concertId(concert.getId())
+                .venueId(1L)
+                .performanceDate(LocalDateTime.now().plusDays(7).toLocalDate())
+                .performanceTime(LocalDateTime.now().plusDays(7).toLocalTime())
+                .bookingOpenAt(LocalDateTime.now().minusDays(1))
+                .bookingCloseAt(LocalDateTime.now().plusDays(6))
+                .build()
+        );
+        scheduleId = schedule.getId();
+
+        seatIds = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            ScheduleSeat seat = seatJpaRepository.save(
+                ScheduleSeat.builder()
+                    .scheduleId(schedule.getId())
+                    .venueSeatId((long) i)
+                    .price(new BigDecimal("50000"))
+                    .status(SeatStatus.AVAILABLE)
+                    .build()
+            );
+            seatIds.add(seat.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("비관적 락: 100명이 10개 좌석을 동시에 선점하면 좌석당 한 명만 성공한다")
+    void pessimistic() throws InterruptedException {
+        runContention("비관적 락", new PessimisticSeatReservationStrategy(seatRepository));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE: 100명이 10개 좌석을 동시에 선점하면 좌석당 한 명만 성공한다")
+    void conditionalUpdate() throws InterruptedException {
+        runContention("조건부 UPDATE", new ConditionalUpdateSeatReservationStrategy(seatRepository));
+    }
+
+    private void runContention(String name, SeatReservationStrategy strategy) throws InterruptedException {
+        // Given
+        int users = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(users);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+        AtomicInteger lockTimeoutCount = new AtomicInteger(0);
+        Map<Long, Integer> winnersPerSeat = new ConcurrentHashMap<>();
+        Random random = new Random();
+
+        // When
+        for (int i = 0; i < users; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    Long seatId = seatIds.get(random.nextInt(seatIds.size()));
+
+                    transactionTemplate.executeWithoutResult(status -> strategy.reserve(scheduleId, List.of(seatId)));
+
+                    successCount.incrementAndGet();
+                    winnersPerSeat.merge(seatId, 1, Integer::sum);
+                } catch (SeatNotAvailableException e) {
+                    failureCount.incrementAndGet();
+                } catch (PessimisticLockingFailureException e) {
+                    lockTimeoutCount.incrementAndGet();
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean completed = endLatch.await(30, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(successCount.get() + failureCount.get() + lockTimeoutCount.get()).isEqualTo(users);
+        assertThat(winnersPerSeat.values()).allMatch(count -> count == 1);
+
+        long reservedSeats = seatRepository.findAllById(seatIds).stream()
+            .filter(seat -> seat.getStatus() == SeatStatus.RESERVED)
+            .count();
+        assertThat(reservedSeats).isEqualTo(successCount.get());
+
+        System.out.println("========== 좌석 선점 전략: " + name + " ==========");
+        System.out.println("성공: " + successCount.get() + "명");
+        System.out.println("실패 (좌석 없음): " + failureCount.get() + "명");
+        System.out.println("실패 (락 타임아웃): " + lockTimeoutCount.get() + "명");
+        System.out.println("소요 시간: " + elapsedMillis + "ms");
+        System.out.println("=====================================");
+    }
+}
@@ -3,25 +3,43 @@ package kr.hhplus.be.server.reservation.application;
 import kr.hhplus.be.server.concert.domain.ScheduleSeat;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
 import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.reservation.ReservationExpiryProperties;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.application.strategy.PessimisticSeatReservationStrategy;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
 import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
 import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,9 +54,28 @@ class ReservationServiceTest {
     @Mock
     private ReservationDetailRepository reservationDetailRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private ReservationService reservationService;
 
+    @BeforeEach
+    void setUp() {
+        // 만료 스캔 청크 크기 2 (청크 경계 검증용)
+        reservationService = new ReservationService(
+            seatRepository, reservationRepository, reservationDetailRepository,
+            new PessimisticSeatReservationStrategy(seatRepository), eventPublisher,
+            new TransactionTemplate(transactionManager),
+            new ReservationExpiryProperties(true, null, null, null, 2),
+            new ReservationExpiryMetrics(meterRegistry), seatHoldService);
+    }
+
     @Test
     @DisplayName("예약 생성 성공 - 좌석 예약 및 예약 정보 저장")
     void createReservation_성공() {
@@ -56,7 +93,7 @@ class ReservationServiceTest {
         setReservationId(savedReservation, 1L);
 
         // when: Mock 설정
-        when(seatRepository.findAllByIdWithLock(seatIds)).thenReturn(availableSeats);
+        when(seatRepository.findAvailableByScheduleIdAndIdWithLock(scheduleId, seatIds)).thenReturn(availableSeats);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(savedReservation);
 
         // when: 실행
@@ -67,11 +104,24 @@ class ReservationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ReservationStatus.PENDING);
         assertThat(result.getTotalAmount()).isEqualByComparingTo(new BigDecimal("100000"));
 
-        verify(seatRepository).findAllByIdWithLock(seatIds);
+        verify(seatRepository).findAvailableByScheduleIdAndIdWithLock(scheduleId, seatIds);
         verify(reservationRepository).save(any(Reservation.class));
         verify(reservationDetailRepository).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("좌석 선점 엔진이 잡고 있는 좌석은 DB 락 없이 거절")
+    void createReservation_선점된좌석_예외() {
+        // given
+        when(seatHoldService.findHeldSeatIds(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(1L, 1L, List.of(2L, 1L)))
+            .isInstanceOf(SeatNotAvailableException.class)
+            .hasMessageContaining("[2]");
+        verifyNoInteractions(seatRepository, reservationRepository);
+    }
+
     @Test
     @DisplayName("좌석 개수가 맞지 않으면 예외 발생")
     void createReservation_좌석개수불일치_예외() {
@@ -86,11 +136,11 @@ class ReservationServiceTest {
         );
 
         // when: Mock 설정
-        when(seatRepository.findAllByIdWithLock(seatIds)).thenReturn(foundSeats);
+        when(seatRepository.findAvailableByScheduleIdAndIdWithLock(scheduleId, seatIds)).thenReturn(foundSeats);
 
         // when & then
         assertThatThrownBy(() -> reservationService.createReservation(userId, scheduleId, seatIds))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(SeatNotAvailableException.class)
             .hasMessageContaining("좌석");
     }
 
@@ -102,18 +152,18 @@ class ReservationServiceTest {
         Long scheduleId = 1L;
         List<Long> seatIds = List.of(1L, 2L);
 
+        // 예약 가능한 좌석만 조회되므로 이미 예약된 2번 좌석은 빠짐
         List<ScheduleSeat> seats = List.of(
-            createSeat(1L, scheduleId, SeatStatus.AVAILABLE, new BigDecimal("50000")),
-            createSeat(2L, scheduleId, SeatStatus.RESERVED, new BigDecimal("50000"))  // 이미 예약됨
+            createSeat(1L, scheduleId, SeatStatus.AVAILABLE, new BigDecimal("50000"))
         );
 
         // when: Mock 설정
-        when(seatRepository.findAllByIdWithLock(seatIds)).thenReturn(seats);
+        when(seatRepository.findAvailableByScheduleIdAndIdWithLock(scheduleId, seatIds)).thenReturn(seats);
 
         // when & then
         assertThatThrownBy(() -> reservationService.createReservation(userId, scheduleId, seatIds))
-            .isInstanceOf(IllegalStateException.class)
-            .hasMessageContaining("예약 가능 상태가 아닙니다");
+            .isInstanceOf(SeatNotAvailableException.class)
+            .hasMessageContaining("[2]");
     }
 
     @Test
@@ -144,7 +194,7 @@ class ReservationServiceTest {
         Reservation savedReservation = Reservation.create(userId, scheduleId, new BigDecimal("50000"));
         setReservationId(savedReservation, 1L);
 
-        when(seatRepository.findAllByIdWithLock(seatIds)).thenReturn(availableSeats);
+        when(seatRepository.findAvailableByScheduleIdAndIdWithLock(scheduleId, seatIds)).thenReturn(availableSeats);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(savedReservation);
 
         // when: 실행
@@ -154,10 +204,160 @@ class ReservationServiceTest {
         assertThat(availableSeat.getStatus()).isEqualTo(SeatStatus.RESERVED);
     }
 
+    @Test
+    @DisplayName("만료 스캔 - 청크 경계마다 마지막 ID 이후부터 조회한다 (id > lastId)")
+    void expireReservations_keysetCursor() {
+        // given: 예약 5건, 청크 크기 2 → [1,2] [3,4] [5]
+        stubExpiredChunks(expiredReservations(1, 2), expiredReservations(3, 4), expiredReservations(5, 5));
+        when(reservationRepository.expireIfPendingAndExpired(any(), anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(1).size());
+
+        // when
+        int expired = reservationService.expireReservationsAndReleaseSeats();
+
+        // then: 마지막 청크가 청크 크기보다 작으면 추가 조회 없음
+        assertThat(expired).isEqualTo(5);
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(0L), eq(2));
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(2L), eq(2));
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(4L), eq(2));
+        verify(reservationRepository, times(3)).findExpiredReservations(any(LocalDateTime.class), anyLong(), anyInt());
+        assertThat(transactionManager.commits).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("만료 스캔 - 담당 파티션 조회도 청크마다 커서를 넘긴다")
+    void expireReservations_partitionKeysetCursor() {
+        // given
+        Set<Integer> partitions = Set.of(0, 2);
+        when(reservationRepository.findExpiredReservations(any(LocalDateTime.class), eq(4), eq(partitions),
+                anyLong(), eq(2)))
+            .thenReturn(expiredReservations(10, 11), expiredReservations(12, 12));
+        when(reservationRepository.expireIfPendingAndExpired(any(), anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(1).size());
+
+        // when
+        int expired = reservationService.expireReservationsAndReleaseSeats(4, partitions);
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(4), eq(partitions),
+                eq(0L), eq(2));
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(4), eq(partitions),
+                eq(11L), eq(2));
+    }
+
+    @Test
+    @DisplayName("만료 스캔 - 한 청크가 실패해도 앞서 커밋된 청크는 유지되고 다음 청크를 계속 처리한다")
+    void expireReservations_chunkFailureIsolated() {
+        // given: 두 번째 청크 [3,4]의 예약 만료 UPDATE 실패
+        stubExpiredChunks(expiredReservations(1, 2), expiredReservations(3, 4), expiredReservations(5, 5));
+        when(reservationRepository.expireIfPendingAndExpired(any(), anyCollection()))
+            .thenAnswer(invocation -> {
+                List<Long> ids = invocation.getArgument(1);
+                if (ids.contains(3L)) {
+                    throw new DataIntegrityViolationException("chunk failure");
+                }
+                return ids.size();
+            });
+
+        // when
+        int expired = reservationService.expireReservationsAndReleaseSeats();
+
+        // then: 청크별 트랜잭션 → 실패한 청크만 롤백
+        assertThat(expired).isEqualTo(3);
+        assertThat(transactionManager.commits).isEqualTo(2);
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+        verify(reservationRepository).findExpiredReservations(any(LocalDateTime.class), eq(4L), eq(2));
+    }
+
+    @Test
+    @DisplayName("만료 스캔 - 좌석 조회/해제는 청크마다 한 번씩 일괄 처리한다")
+    void expireReservations_releaseSeatsOncePerChunk() {
+        // given: 예약마다 좌석 1개 (좌석 ID = 예약 ID * 100)
+        stubExpiredChunks(expiredReservations(1, 2), expiredReservations(3, 3));
+        when(reservationRepository.expireIfPendingAndExpired(any(), anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(1).size());
+        when(reservationDetailRepository.findAllByReservationIdIn(anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(reservationId -> ReservationDetail.create(
+                    reservationId, reservationId * 100, 1, new BigDecimal("50000")))
+                .toList());
+        when(seatRepository.releaseSeatsIfReserved(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        reservationService.expireReservationsAndReleaseSeats();
+
+        // then
+        verify(reservationDetailRepository, times(2)).findAllByReservationIdIn(anyCollection());
+        verify(seatRepository).releaseSeatsIfReserved(List.of(100L, 200L));
+        verify(seatRepository).releaseSeatsIfReserved(List.of(300L));
+        verify(seatRepository, times(2)).releaseSeatsIfReserved(anyList());
+
+        // 청크 메트릭
+        assertThat(meterRegistry.summary("reservation.expiry.chunk.size").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("reservation.expiry.expired").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("reservation.expiry.seats.released").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("만료 스캔 - 만료된 예약이 없으면 트랜잭션을 열지 않는다")
+    void expireReservations_nothingToExpire() {
+        // given
+        when(reservationRepository.findExpiredReservations(any(LocalDateTime.class), anyLong(), anyInt()))
+            .thenReturn(List.of());
+
+        // when
+        int expired = reservationService.expireReservationsAndReleaseSeats();
+
+        // then
+        assertThat(expired).isZero();
+        assertThat(transactionManager.commits).isZero();
+        verify(reservationRepository, never()).expireIfPendingAndExpired(any(), anyCollection());
+    }
+
     // ============================================
     // 테스트 헬퍼 메서드
     // ============================================
 
+    @SafeVarargs
+    private void stubExpiredChunks(List<Reservation> first, List<Reservation>... rest) {
+        when(reservationRepository.findExpiredReservations(any(LocalDateTime.class), anyLong(), eq(2)))
+            .thenReturn(first, rest);
+    }
+
+    private List<Reservation> expiredReservations(long fromId, long toId) {
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(1);
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> Reservation.reconstitute(id, 1L, 1L, new BigDecimal("50000"),
+                ReservationStatus.PENDING, expiredAt, expiredAt.minusMinutes(10), expiredAt.minusMinutes(10)))
+            .toList();
+    }
+
+    /**
+     * 커밋/롤백 횟수만 기록하는 트랜잭션 매니저 (청크별 트랜잭션 경계 검증용)
+     */
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+
     private ScheduleSeat createSeat(Long id, Long scheduleId, SeatStatus status, BigDecimal price) {
         ScheduleSeat seat = ScheduleSeat.builder()
             .scheduleId(scheduleId)
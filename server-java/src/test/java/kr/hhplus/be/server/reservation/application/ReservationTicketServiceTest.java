@@ -0,0 +1,227 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.config.reservation.ReservationTicketProperties;
+import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.application.exception.ReservationUnavailableException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationTicketStatus;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationTicket;
+import kr.hhplus.be.server.reservation.infrastructure.redis.ReservationTicketRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationTicketServiceTest {
+
+    private static final long SCHEDULE_A = 1L;
+    private static final long SCHEDULE_B = 2L;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private ReservationSequencer reservationSequencer;
+
+    @Mock
+    private ReservationTicketRedisRepository ticketRepository;
+
+    // Redis 대신 마지막으로 저장된 티켓 상태를 보관
+    private final Map<String, ReservationTicket> savedTickets = new ConcurrentHashMap<>();
+
+    private ReservationTicketService ticketService;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            ReservationTicket ticket = invocation.getArgument(0);
+            savedTickets.put(ticket.ticketId(), ticket);
+            return null;
+        }).when(ticketRepository).save(any(), anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (ticketService != null) {
+            ticketService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("접수한 티켓은 QUEUED로 저장되고 예약 성공 시 CONFIRMED로 바뀐다")
+    void submit_queuedThenConfirmed() throws InterruptedException {
+        // given
+        ticketService = createService(1, 1000, 32, 64);
+        when(reservationService.createReservation(1L, SCHEDULE_A, List.of(10L))).thenReturn(reservation(100L));
+
+        // when
+        ReservationTicket ticket = ticketService.submit(1L, SCHEDULE_A, List.of(10L));
+
+        // then: 작업 스레드 시작 전에는 QUEUED
+        assertThat(ticket.status()).isEqualTo(ReservationTicketStatus.QUEUED);
+        assertThat(savedTickets.get(ticket.ticketId()).status()).isEqualTo(ReservationTicketStatus.QUEUED);
+
+        ticketService.start();
+        ReservationTicket result = awaitResult(ticket.ticketId());
+        assertThat(result.status()).isEqualTo(ReservationTicketStatus.CONFIRMED);
+        assertThat(result.reservationId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("좌석이 없으면 티켓은 실패 사유와 함께 FAILED로 바뀐다")
+    void submit_queuedThenFailed() throws InterruptedException {
+        // given
+        ticketService = createService(1, 1000, 32, 64);
+        when(reservationService.createReservation(1L, SCHEDULE_A, List.of(10L)))
+            .thenThrow(new SeatNotAvailableException("좌석 [10]는 예약할 수 없습니다"));
+
+        // when
+        ReservationTicket ticket = ticketService.submit(1L, SCHEDULE_A, List.of(10L));
+        ticketService.start();
+
+        // then
+        ReservationTicket result = awaitResult(ticket.ticketId());
+        assertThat(result.status()).isEqualTo(ReservationTicketStatus.FAILED);
+        assertThat(result.failureReason()).contains("[10]");
+    }
+
+    @Test
+    @DisplayName("일정의 대기 요청이 가득 차면 거절하고 거절된 요청의 티켓은 남기지 않는다")
+    void submit_queueFull() {
+        // given: 일정별 대기 1건, 작업 스레드 미시작
+        ticketService = createService(1, 1, 32, 64);
+        ticketService.submit(1L, SCHEDULE_A, List.of(10L));
+
+        // when & then
+        assertThatThrownBy(() -> ticketService.submit(2L, SCHEDULE_A, List.of(11L)))
+            .isInstanceOf(ConcurrentReservationException.class);
+        assertThat(savedTickets).hasSize(1);
+
+        // 다른 일정은 영향 없음
+        assertThat(ticketService.submit(3L, SCHEDULE_B, List.of(20L)).status())
+            .isEqualTo(ReservationTicketStatus.QUEUED);
+    }
+
+    @Test
+    @DisplayName("티켓 저장소 장애는 접수 불가 예외로 알린다")
+    void submit_ticketStoreUnavailable() {
+        // given
+        ticketService = createService(1, 1000, 32, 64);
+        doThrow(new RedisConnectionFailureException("down")).when(ticketRepository).save(any(), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> ticketService.submit(1L, SCHEDULE_A, List.of(10L)))
+            .isInstanceOf(ReservationUnavailableException.class);
+        assertThat(ticketService.getQueueSize(SCHEDULE_A)).isZero();
+    }
+
+    @Test
+    @DisplayName("요청이 몰린 일정이 있어도 다른 일정의 요청을 번갈아 처리한다")
+    void worker_roundRobinBetweenSchedules() throws InterruptedException {
+        // given: 작업 스레드 1개, 한 번에 1건씩 꺼냄
+        ticketService = createService(1, 1000, 1, 64);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        when(reservationService.createReservation(anyLong(), anyLong(), anyList())).thenAnswer(invocation -> {
+            processed.add(invocation.getArgument(1));
+            done.countDown();
+            return reservation(1L);
+        });
+
+        ticketService.submit(1L, SCHEDULE_A, List.of(10L));
+        ticketService.submit(2L, SCHEDULE_A, List.of(11L));
+        ticketService.submit(3L, SCHEDULE_A, List.of(12L));
+        ticketService.submit(4L, SCHEDULE_B, List.of(20L));
+
+        // when
+        ticketService.start();
+
+        // then: A가 3건 먼저 들어왔어도 B는 두 번째로 처리
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactly(SCHEDULE_A, SCHEDULE_B, SCHEDULE_A, SCHEDULE_A);
+    }
+
+    @Test
+    @DisplayName("시퀀서 사용 시 결과를 기다리지 않고 넘기되 일정별 처리 중 요청 수를 넘지 않는다")
+    void worker_sequencerInFlightLimit() throws InterruptedException {
+        // given: 일정별 처리 중 요청 2건까지
+        ticketService = createService(1, 1000, 32, 2);
+        when(reservationSequencer.isEnabled()).thenReturn(true);
+        List<CompletableFuture<Reservation>> pending = new CopyOnWriteArrayList<>();
+        when(reservationSequencer.submit(anyLong(), anyLong(), anyList())).thenAnswer(invocation -> {
+            CompletableFuture<Reservation> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        ReservationTicket first = ticketService.submit(1L, SCHEDULE_A, List.of(10L));
+        ticketService.submit(2L, SCHEDULE_A, List.of(11L));
+        ticketService.submit(3L, SCHEDULE_A, List.of(12L));
+
+        // when
+        ticketService.start();
+
+        // then: 결과를 기다리지 않고 2건을 한 번에 넘기고, 3번째는 허용량이 돌아올 때까지 대기
+        verify(reservationSequencer, timeout(2_000).times(2)).submit(anyLong(), anyLong(), anyList());
+        Thread.sleep(200);
+        verify(reservationSequencer, times(2)).submit(anyLong(), anyLong(), anyList());
+        assertThat(ticketService.getQueueSize(SCHEDULE_A)).isEqualTo(1);
+
+        // 한 건이 커밋되면 결과를 기록하고 다음 요청을 넘김
+        pending.get(0).complete(reservation(100L));
+        verify(reservationSequencer, timeout(2_000).times(3)).submit(anyLong(), anyLong(), anyList());
+        assertThat(savedTickets.get(first.ticketId()).status()).isEqualTo(ReservationTicketStatus.CONFIRMED);
+        verify(reservationService, never()).createReservation(anyLong(), anyLong(), anyList());
+    }
+
+    private ReservationTicketService createService(int workers, int queueCapacity, int drainBatchSize,
+                                                   int maxInFlight) {
+        return new ReservationTicketService(reservationService, reservationSequencer, ticketRepository,
+            new ReservationTicketProperties(workers, queueCapacity, drainBatchSize, maxInFlight, 600_000L));
+    }
+
+    private ReservationTicket awaitResult(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            ReservationTicket ticket = savedTickets.get(ticketId);
+            if (ticket.status() != ReservationTicketStatus.QUEUED) {
+                return ticket;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("티켓 처리 시간 초과: " + ticketId);
+    }
+
+    private Reservation reservation(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return Reservation.reconstitute(id, 1L, SCHEDULE_A, new BigDecimal("50000"),
+            ReservationStatus.PENDING, now.plusMinutes(10), now, now);
+    }
+}
@@ -0,0 +1,274 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.concert.domain.ScheduleSeat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.domain.repository.ScheduleSeatRepository;
+import kr.hhplus.be.server.config.reservation.SeatHoldProperties;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.enums.SeatHoldStatus;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.domain.model.ReservationDetail;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold.HeldSeat;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationDetailRepository;
+import kr.hhplus.be.server.reservation.domain.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.infrastructure.redis.SeatHoldRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SeatHoldWriteBehindTest {
+
+    private static final long SCHEDULE_ID = 1L;
+    private static final long INFLIGHT_TIMEOUT_MS = 30_000L;
+
+    @Mock
+    private SeatHoldRedisRepository seatHoldRedisRepository;
+
+    @Mock
+    private ScheduleSeatRepository seatRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationDetailRepository reservationDetailRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final AtomicLong reservationIds = new AtomicLong(100);
+
+    // 마지막으로 저장된 선점 결과
+    private final Map<String, SeatHold> savedHolds = new ConcurrentHashMap<>();
+
+    private SeatHoldWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new SeatHoldWriteBehind(seatHoldRedisRepository, seatRepository, reservationRepository,
+            reservationDetailRepository, new TransactionTemplate(transactionManager), eventPublisher,
+            new SeatHoldProperties(true, 600_000L, null, 10, INFLIGHT_TIMEOUT_MS));
+
+        doAnswer(invocation -> {
+            SeatHold hold = invocation.getArgument(0);
+            savedHolds.put(hold.holdId(), hold);
+            return null;
+        }).when(seatHoldRedisRepository).save(any(SeatHold.class), anyLong());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        // 트랜잭션마다 DB에서 새로 읽은 것처럼 매번 새 좌석 객체 반환 (롤백된 reserve()가 남지 않도록)
+        when(seatRepository.findAllByIdWithLock(anyList())).thenAnswer(invocation -> {
+            List<Long> seatIds = invocation.getArgument(0);
+            return seatIds.stream().map(seatId -> seat(seatId, SeatStatus.AVAILABLE)).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("배치의 선점을 한 트랜잭션에서 예약으로 저장하고 CONFIRMED로 갱신한다")
+    void flush_persistsBatchInOneTransaction() {
+        // given
+        givenPending(hold("hold-1", 1L, 10L), hold("hold-2", 2L, 11L, 12L));
+
+        // when
+        int processed = writeBehind.flush();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(savedHolds.get("hold-1").status()).isEqualTo(SeatHoldStatus.CONFIRMED);
+        assertThat(savedHolds.get("hold-2").status()).isEqualTo(SeatHoldStatus.CONFIRMED);
+        verify(seatRepository, times(1)).findAllByIdWithLock(List.of(10L, 11L, 12L));
+        verify(reservationDetailRepository, times(2)).saveAll(anyList());
+        verify(seatHoldRedisRepository, never()).release(anyLong(), anyList(), any());
+        verify(seatHoldRedisRepository).complete(List.of("hold-1", "hold-2"));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 선점별 트랜잭션으로 재시도하고 실패한 선점만 FAILED 처리 후 해제한다")
+    void flush_fallsBackToPerHold() {
+        // given: 2번 사용자의 예약 저장은 검증 오류
+        givenPending(hold("hold-1", 1L, 10L), hold("hold-2", 2L, 11L));
+        doThrow(new IllegalArgumentException("잘못된 예약"))
+            .when(reservationRepository).save(argThat(reservation -> reservation != null && reservation.getUserId() == 2L));
+
+        // when
+        writeBehind.flush();
+
+        // then: 배치 1회 롤백 + 선점별 2회 (1건 커밋, 1건 롤백)
+        assertThat(transactionManager.rollbacks).isEqualTo(2);
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(savedHolds.get("hold-1").status()).isEqualTo(SeatHoldStatus.CONFIRMED);
+        assertThat(savedHolds.get("hold-2").status()).isEqualTo(SeatHoldStatus.FAILED);
+        verify(seatHoldRedisRepository).release(SCHEDULE_ID, List.of(11L), "hold-2");
+        verify(seatHoldRedisRepository).complete(List.of("hold-1", "hold-2"));
+    }
+
+    @Test
+    @DisplayName("DB 장애로 개별 저장도 실패하면 inflight에 남겨 재조정 후 다시 저장한다")
+    void flush_keepsInflightOnDatabaseFailure() {
+        // given
+        givenPending(hold("hold-1", 1L, 10L), hold("hold-2", 2L, 11L));
+        doThrow(new QueryTimeoutException("DB 응답 없음")).when(seatRepository).findAllByIdWithLock(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> writeBehind.flush()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(savedHolds).isEmpty();
+        verify(seatHoldRedisRepository, never()).complete(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도된 선점이 이전 시도에서 이미 저장되었으면 새로 저장하지 않고 기존 예약으로 확정한다")
+    void flush_confirmsAlreadyPersistedHoldOnRetry() {
+        // given: 이전 시도에서 커밋됐지만 결과 기록 전에 서버가 중단되어 재조정된 선점
+        givenPending(hold("hold-1", 1L, 10L, 11L));
+        when(seatRepository.findAllByIdWithLock(anyList()))
+            .thenReturn(List.of(seat(10L, SeatStatus.RESERVED), seat(11L, SeatStatus.RESERVED)));
+        LocalDateTime now = LocalDateTime.now();
+        when(reservationRepository.findAllByUserIdAndScheduleId(1L, SCHEDULE_ID)).thenReturn(List.of(
+            Reservation.reconstitute(50L, 1L, SCHEDULE_ID, new BigDecimal("50000"),
+                ReservationStatus.CANCELLED, now, now, now),
+            Reservation.reconstitute(51L, 1L, SCHEDULE_ID, new BigDecimal("100000"),
+                ReservationStatus.PENDING, now.plusMinutes(10), now, now)));
+        when(reservationDetailRepository.findAllByReservationId(50L)).thenReturn(List.of(detail(50L, 10L), detail(50L, 11L)));
+        when(reservationDetailRepository.findAllByReservationId(51L)).thenReturn(List.of(detail(51L, 10L), detail(51L, 11L)));
+
+        // when
+        writeBehind.flush();
+
+        // then: 취소된 예약은 제외하고 좌석 구성이 같은 예약으로 확정
+        assertThat(savedHolds.get("hold-1").status()).isEqualTo(SeatHoldStatus.CONFIRMED);
+        assertThat(savedHolds.get("hold-1").reservationId()).isEqualTo(51L);
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(seatHoldRedisRepository, never()).release(anyLong(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("DB 좌석이 이미 다른 예약으로 팔렸으면 FAILED 처리 후 선점을 해제한다")
+    void flush_failsWhenSeatTakenInDatabase() {
+        // given
+        givenPending(hold("hold-1", 1L, 10L));
+        when(seatRepository.findAllByIdWithLock(anyList())).thenReturn(List.of(seat(10L, SeatStatus.RESERVED)));
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(savedHolds.get("hold-1").status()).isEqualTo(SeatHoldStatus.FAILED);
+        verify(seatHoldRedisRepository).release(SCHEDULE_ID, List.of(10L), "hold-1");
+    }
+
+    @Test
+    @DisplayName("재조정은 inflight-timeout보다 오래 저장 중인 선점만 저장 대기로 되돌린다")
+    void reconcile_requeuesStaleInflight() {
+        // given
+        when(seatHoldRedisRepository.requeueStale(anyLong())).thenReturn(3L);
+        long before = System.currentTimeMillis();
+
+        // when
+        long requeued = writeBehind.reconcile();
+
+        // then
+        ArgumentCaptor<Long> staleBefore = ArgumentCaptor.forClass(Long.class);
+        verify(seatHoldRedisRepository).requeueStale(staleBefore.capture());
+        assertThat(requeued).isEqualTo(3L);
+        assertThat(staleBefore.getValue())
+            .isBetween(before - INFLIGHT_TIMEOUT_MS, System.currentTimeMillis() - INFLIGHT_TIMEOUT_MS);
+    }
+
+    private void givenPending(SeatHold... holds) {
+        List<String> holdIds = Arrays.stream(holds).map(SeatHold::holdId).toList();
+        when(seatHoldRedisRepository.claimPending(anyInt(), anyLong())).thenReturn(holdIds);
+        when(seatHoldRedisRepository.findAllById(eq(holdIds))).thenReturn(List.of(holds));
+    }
+
+    private SeatHold hold(String holdId, Long userId, Long... seatIds) {
+        List<HeldSeat> seats = Arrays.stream(seatIds)
+            .map(seatId -> new HeldSeat(seatId, seatId.intValue(), new BigDecimal("50000")))
+            .toList();
+        return SeatHold.create(holdId, userId, SCHEDULE_ID, seats, System.currentTimeMillis(), 600_000L);
+    }
+
+    private Reservation withId(Reservation reservation) {
+        return Reservation.reconstitute(reservationIds.incrementAndGet(), reservation.getUserId(),
+            reservation.getScheduleId(), reservation.getTotalAmount(), reservation.getStatus(),
+            reservation.getExpiresAt(), reservation.getCreatedAt(), reservation.getUpdatedAt());
+    }
+
+    private ReservationDetail detail(Long reservationId, Long seatId) {
+        return ReservationDetail.reconstitute(seatId, reservationId, seatId, seatId.intValue(),
+            new BigDecimal("50000"), LocalDateTime.now());
+    }
+
+    private ScheduleSeat seat(Long id, SeatStatus status) {
+        ScheduleSeat seat = ScheduleSeat.builder()
+            .scheduleId(SCHEDULE_ID)
+            .venueSeatId(id)
+            .price(new BigDecimal("50000"))
+            .status(status)
+            .build();
+
+        // ID를 강제로 설정하기 위한 리플렉션 (테스트 용도)
+        try {
+            var field = ScheduleSeat.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(seat, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return seat;
+    }
+
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.reservation.infrastructure.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.reservation.domain.enums.SeatHoldStatus;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold.HeldSeat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatHoldRedisRepository 통합 테스트
+ * 로컬 Redis (localhost:6379) 필요
+ */
+class SeatHoldRedisRepositoryTest {
+
+    private static final long TTL_MS = 60_000L;
+
+    private SeatHoldRedisRepository seatHoldRedisRepository;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        seatHoldRedisRepository = new SeatHoldRedisRepository(redisTemplate, new ObjectMapper());
+
+        deleteKeys("seat:*");
+        deleteKeys("reservation:*");
+    }
+
+    @Test
+    @DisplayName("좌석 일부가 이미 선점되어 있으면 나머지 좌석도 선점하지 않는다 (all-or-nothing)")
+    void hold_allOrNothing() {
+        // given
+        assertThat(seatHoldRedisRepository.hold(1L, List.of(3L), "hold-a", TTL_MS)).isEmpty();
+
+        // when
+        List<Long> conflicts = seatHoldRedisRepository.hold(1L, List.of(1L, 2L, 3L), "hold-b", TTL_MS);
+
+        // then
+        assertThat(conflicts).containsExactly(3L);
+        assertThat(seatHoldRedisRepository.hold(1L, List.of(1L, 2L), "hold-c", TTL_MS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선점 해제는 자신이 선점한 좌석만 해제한다")
+    void release_onlyOwnHold() {
+        // given
+        seatHoldRedisRepository.hold(1L, List.of(1L), "hold-a", TTL_MS);
+
+        // when
+        seatHoldRedisRepository.release(1L, List.of(1L), "hold-b");
+
+        // then
+        assertThat(seatHoldRedisRepository.hold(1L, List.of(1L), "hold-c", TTL_MS)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("선점 중인 좌석만 요청 순서대로 조회한다")
+    void findHeldSeatIds() {
+        // given
+        seatHoldRedisRepository.hold(1L, List.of(2L, 4L), "hold-a", TTL_MS);
+        seatHoldRedisRepository.hold(2L, List.of(1L), "hold-b", TTL_MS);
+
+        // when
+        List<Long> held = seatHoldRedisRepository.findHeldSeatIds(1L, List.of(1L, 2L, 3L, 4L));
+
+        // then - 다른 일정의 선점은 포함하지 않음
+        assertThat(held).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("저장 대기 선점은 한 번만 가져가고, 완료되지 않으면 재조정 시 다시 저장 대기가 된다")
+    void claimAndRequeue() {
+        // given
+        SeatHold hold = SeatHold.create("hold-a", 10L, 1L,
+            List.of(new HeldSeat(1L, 1, BigDecimal.valueOf(50_000))), System.currentTimeMillis(), TTL_MS);
+        seatHoldRedisRepository.enqueue(hold, TTL_MS);
+
+        // when
+        List<String> first = seatHoldRedisRepository.claimPending(10, 1_000L);
+        List<String> second = seatHoldRedisRepository.claimPending(10, 1_000L);
+        long requeued = seatHoldRedisRepository.requeueStale(1_000L);
+
+        // then
+        assertThat(first).containsExactly("hold-a");
+        assertThat(second).isEmpty();
+        assertThat(requeued).isEqualTo(1);
+        assertThat(seatHoldRedisRepository.pendingCount()).isEqualTo(1);
+        assertThat(seatHoldRedisRepository.findById("hold-a"))
+            .hasValueSatisfying(found -> {
+                assertThat(found.status()).isEqualTo(SeatHoldStatus.HELD);
+                assertThat(found.totalAmount()).isEqualByComparingTo("50000");
+            });
+    }
+
+    private void deleteKeys(String pattern) {
+        Set<String> keys = redisTemplate.keys(pattern);
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.reservation.interfaces;
+
+import kr.hhplus.be.server.reservation.application.ReservationTicketService;
+import kr.hhplus.be.server.reservation.application.SeatHoldService;
+import kr.hhplus.be.server.reservation.application.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.application.exception.ReservationUnavailableException;
+import kr.hhplus.be.server.reservation.application.exception.SeatNotAvailableException;
+import kr.hhplus.be.server.reservation.domain.model.ReservationTicket;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.SeatHold.HeldSeat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationControllerTest {
+
+    private static final String REQUEST_BODY = """
+        {"userId": 1, "scheduleId": 2, "seatIds": [10, 11]}
+        """;
+
+    @Mock
+    private ReservationTicketService reservationTicketService;
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReservationController(reservationTicketService, seatHoldService))
+            .setControllerAdvice(new ReservationExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("예약 요청 접수 - 202 Accepted와 결과 조회 Location 반환")
+    void submitReservation_accepted() throws Exception {
+        // given
+        ReservationTicket ticket = ReservationTicket.create("ticket-1", 1L, 2L, List.of(10L, 11L), 0L);
+        when(reservationTicketService.submit(1L, 2L, List.of(10L, 11L))).thenReturn(ticket);
+
+        // when & then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/reservations/tickets/ticket-1"))
+            .andExpect(jsonPath("$.ticketId").value("ticket-1"))
+            .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("예약 요청 접수 - 일정의 대기 요청이 가득 차면 429")
+    void submitReservation_tooManyRequests() throws Exception {
+        // given
+        when(reservationTicketService.submit(1L, 2L, List.of(10L, 11L)))
+            .thenThrow(new ConcurrentReservationException("예약 요청이 많습니다."));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("예약 요청 접수 - 티켓 저장소 장애는 503")
+    void submitReservation_unavailable() throws Exception {
+        // given
+        when(reservationTicketService.submit(1L, 2L, List.of(10L, 11L)))
+            .thenThrow(new ReservationUnavailableException("예약 요청을 접수할 수 없습니다.", null));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("예약 결과 조회 - 처리된 티켓은 200과 예약 ID 반환")
+    void getTicket_found() throws Exception {
+        // given
+        ReservationTicket ticket = ReservationTicket.create("ticket-1", 1L, 2L, List.of(10L), 0L).confirm(100L);
+        when(reservationTicketService.getTicket("ticket-1")).thenReturn(Optional.of(ticket));
+
+        // when & then
+        mockMvc.perform(get("/api/reservations/tickets/ticket-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CONFIRMED"))
+            .andExpect(jsonPath("$.reservationId").value(100));
+    }
+
+    @Test
+    @DisplayName("예약 결과 조회 - 없거나 만료된 티켓은 404")
+    void getTicket_notFound() throws Exception {
+        // given
+        when(reservationTicketService.getTicket("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/reservations/tickets/unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("좌석 선점 엔진 사용 시 - 좌석을 선점하고 202와 선점 결과 Location 반환")
+    void submitReservation_seatHold() throws Exception {
+        // given
+        when(seatHoldService.isEnabled()).thenReturn(true);
+        when(seatHoldService.holdSeats(1L, 2L, List.of(10L, 11L))).thenReturn(hold());
+
+        // when & then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/reservations/holds/hold-1"))
+            .andExpect(jsonPath("$.holdId").value("hold-1"))
+            .andExpect(jsonPath("$.status").value("HELD"));
+        verify(reservationTicketService, never()).submit(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("좌석 선점 엔진 사용 시 - 다른 사용자가 선점한 좌석이면 409")
+    void submitReservation_seatHoldConflict() throws Exception {
+        // given
+        when(seatHoldService.isEnabled()).thenReturn(true);
+        when(seatHoldService.holdSeats(1L, 2L, List.of(10L, 11L)))
+            .thenThrow(new SeatNotAvailableException("좌석 [10]는 다른 사용자가 예약 중입니다"));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.code").value("SEAT_NOT_AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("선점 결과 조회 - 확정된 선점은 200과 예약 ID 반환, 없으면 404")
+    void getHold() throws Exception {
+        // given
+        when(seatHoldService.getHold("hold-1")).thenReturn(Optional.of(hold().confirm(100L)));
+        when(seatHoldService.getHold("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/reservations/holds/hold-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CONFIRMED"))
+            .andExpect(jsonPath("$.reservationId").value(100));
+        mockMvc.perform(get("/api/reservations/holds/unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    private SeatHold hold() {
+        return SeatHold.create("hold-1", 1L, 2L, List.of(
+            new HeldSeat(10L, 10, new BigDecimal("50000")),
+            new HeldSeat(11L, 11, new BigDecimal("50000"))), 0L, 600_000L);
+    }
+}
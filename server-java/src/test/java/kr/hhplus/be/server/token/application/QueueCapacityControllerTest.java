@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueueAdmissionProperties;
+import kr.hhplus.be.server.config.queue.QueueCapacityProperties;
+import kr.hhplus.be.server.token.domain.BackendLoad;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueCapacityRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * QueueCapacityController 단위 테스트
+ * - AIMD 수용 인원 조정
+ */
+@ExtendWith(MockitoExtension.class)
+class QueueCapacityControllerTest {
+
+    @Mock
+    private QueueCapacityRedisRepository capacityRepository;
+
+    @Mock
+    private BackendLoadSampler backendLoadSampler;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    private QueueCapacityController controller;
+
+    @BeforeEach
+    void setUp() {
+        // floor 20, ceiling 200, p99 목표 500ms, 오류율 5%, 풀 대기 50ms, +10 / ×0.5, 최소 요청 20건
+        QueueCapacityProperties capacityProperties =
+            new QueueCapacityProperties(true, 20, 200, 500L, 0.05, 50L, 10, 0.5, 20, null);
+        QueueAdmissionProperties admissionProperties = new QueueAdmissionProperties(100, null, null, null, null,
+            List.of(new QueueAdmissionProperties.ScopeLimits("concert:1", 50, null, null, null)));
+        controller = new QueueCapacityController(capacityProperties, admissionProperties,
+            capacityRepository, backendLoadSampler, queueMetrics);
+    }
+
+    @Test
+    @DisplayName("여유가 있고 요청이 충분하면 가산 증가, 최대값을 넘지 않는다")
+    void nextLimit_increasesAdditively() {
+        BackendLoad healthy = new BackendLoad(100, 0, 120, 2);
+
+        assertThat(controller.nextLimit(100, healthy)).isEqualTo(110);
+        assertThat(controller.nextLimit(195, healthy)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("p99/오류율/풀 대기 중 하나라도 넘으면 승산 감소, 최소값 아래로 내려가지 않는다")
+    void nextLimit_decreasesMultiplicatively() {
+        assertThat(controller.nextLimit(100, new BackendLoad(100, 0, 900, 2))).isEqualTo(50);
+        assertThat(controller.nextLimit(100, new BackendLoad(100, 10, 120, 2))).isEqualTo(50);
+        assertThat(controller.nextLimit(100, new BackendLoad(5, 0, 0, 120))).isEqualTo(50);
+        assertThat(controller.nextLimit(30, new BackendLoad(100, 0, 900, 2))).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("요청이 적으면 판단 근거가 없으므로 유지한다")
+    void nextLimit_holdsWithoutTraffic() {
+        assertThat(controller.nextLimit(100, new BackendLoad(3, 0, 100, 0))).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("조정 결과를 저장하고 범위별 수용 인원도 같은 비율로 조정된다")
+    void adjust_savesLimitAndScalesScopes() {
+        // given - 저장된 수용 인원 100, 모든 서버 합산 시 p99 초과
+        when(capacityRepository.findSignals(anyLong())).thenReturn(List.of(
+            new BackendLoad(60, 0, 200, 1),
+            new BackendLoad(40, 0, 800, 1)));
+        when(capacityRepository.findLimit()).thenReturn(100);
+
+        // when
+        controller.adjust();
+
+        // then
+        verify(capacityRepository).saveLimit(50);
+        assertThat(controller.capacityOf(QueueScope.GLOBAL)).isEqualTo(50);
+        assertThat(controller.capacityOf(QueueScope.ofConcert(1L))).isEqualTo(25);
+    }
+}
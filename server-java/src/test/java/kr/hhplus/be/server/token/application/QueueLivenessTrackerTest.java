@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.config.queue.QueueLivenessProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class QueueLivenessTrackerTest {
+
+    @Test
+    @DisplayName("하트비트와 flush가 동시에 실행되어도 하트비트가 유실되지 않는다")
+    void flush_concurrentWithHeartbeats() throws InterruptedException {
+        // given
+        QueueRedisRepository queueRedisRepository = mock(QueueRedisRepository.class);
+        Set<Long> recorded = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(1);
+            recorded.addAll(userIds);
+            return null;
+        }).when(queueRedisRepository).recordHeartbeats(any(QueueScope.class), anyList(), anyLong());
+        QueueLivenessTracker tracker = new QueueLivenessTracker(queueRedisRepository,
+            new QueueLivenessProperties(true, null, null, null));
+
+        int threads = 4;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when: 하트비트를 쌓는 동안 계속 flush
+        executor.submit(() -> {
+            while (running.get()) {
+                tracker.flush();
+            }
+        });
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            executor.submit(() -> {
+                for (long userId = base; userId < base + perThread; userId++) {
+                    tracker.heartbeat(QueueScope.GLOBAL, userId);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        tracker.flush();
+
+        // then
+        assertThat(recorded).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.token.application;
+
+import kr.hhplus.be.server.token.application.response.QueueStatusResponse;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueStatusBroadcasterTest {
+
+    private static final QueueScope SCOPE = QueueScope.GLOBAL;
+
+    @Mock
+    private TokenService tokenService;
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+
+    private QueueStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new QueueStatusBroadcaster(tokenService) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("순번이 그대로면 전체 대기 인원/예상 대기 시간이 바뀌어도 전송하지 않는다")
+    void broadcast_skipsWhenPositionUnchanged() throws IOException {
+        // given: 구독 시 현재 상태 1회 전송
+        when(tokenService.getQueueStatus(SCOPE, 1L)).thenReturn(QueueStatusResponse.waiting(5, 100, 50, 5_000));
+        broadcaster.subscribe(SCOPE, 1L);
+
+        // when: 다른 유저의 진입으로 안내 값만 바뀜
+        when(tokenService.getQueueStatuses(SCOPE, List.of(1L)))
+            .thenReturn(Map.of(1L, QueueStatusResponse.waiting(5, 180, 48, 4_800)));
+        broadcaster.broadcast();
+
+        // then
+        verify(emitter, times(1)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("순번이 바뀌면 전송한다")
+    void broadcast_pushesWhenPositionChanged() throws IOException {
+        // given
+        when(tokenService.getQueueStatus(SCOPE, 1L)).thenReturn(QueueStatusResponse.waiting(5, 100, 50, 5_000));
+        broadcaster.subscribe(SCOPE, 1L);
+
+        // when
+        when(tokenService.getQueueStatuses(SCOPE, List.of(1L)))
+            .thenReturn(Map.of(1L, QueueStatusResponse.waiting(3, 100, 30, 3_000)));
+        broadcaster.broadcast();
+
+        // then
+        verify(emitter, times(2)).send(any(SseEventBuilder.class));
+        verify(emitter, never()).complete();
+    }
+}
@@ -1,23 +1,37 @@
 package kr.hhplus.be.server.token.application;
 
+import kr.hhplus.be.server.config.queue.QueueAdmissionProperties;
+import kr.hhplus.be.server.config.queue.QueueCapacityProperties;
+import kr.hhplus.be.server.config.queue.QueueNearCacheProperties;
 import kr.hhplus.be.server.token.application.response.QueueStatusResponse;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.QueueTokenClaims;
 import kr.hhplus.be.server.token.domain.Token;
 import kr.hhplus.be.server.token.domain.TokenStatus;
 import kr.hhplus.be.server.token.domain.repository.TokenRepository;
+import kr.hhplus.be.server.token.infrastructure.redis.ActiveUserNearCache;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueCapacityRedisRepository;
 import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository.QueueState;
+import kr.hhplus.be.server.token.infrastructure.redis.QueueRedisRepository.SlotRelease;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -34,17 +48,47 @@ class TokenServiceTest {
     @Mock
     private QueueRedisRepository queueRedisRepository;
 
-    @InjectMocks
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @Mock
+    private QueueTokenIssuer queueTokenIssuer;
+
+    @Mock
+    private QueuePositionEstimator queuePositionEstimator;
+
+    @Mock
+    private QueueLivenessTracker queueLivenessTracker;
+
+    @Mock
+    private QueueCapacityRedisRepository queueCapacityRedisRepository;
+
+    @Mock
+    private BackendLoadSampler backendLoadSampler;
+
+    private final ActiveUserNearCache activeUserNearCache =
+            new ActiveUserNearCache(QueueNearCacheProperties.disabled());
+
     private TokenService tokenService;
 
+    @BeforeEach
+    void setUp() {
+        tokenService = createTokenService(QueueAdmissionProperties.defaults());
+    }
+
+    private TokenService createTokenService(QueueAdmissionProperties properties) {
+        QueueCapacityController queueCapacityController = new QueueCapacityController(
+            QueueCapacityProperties.disabled(), properties, queueCapacityRedisRepository, backendLoadSampler, queueMetrics);
+        return new TokenService(tokenRepository, queueRedisRepository, properties, queueMetrics, queueTokenIssuer,
+            activeUserNearCache, queuePositionEstimator, queueLivenessTracker, queueCapacityController);
+    }
+
     @Test
     @DisplayName("대기열 진입 성공 - Redis 대기열에 추가")
     void issueToken_success() {
         // given
         Long userId = 1L;
-        when(tokenRepository.findActiveTokenByUserId(userId))
-            .thenReturn(Optional.empty());
-        when(queueRedisRepository.addToWaitingQueue(userId))
+        when(queueRedisRepository.addToWaitingQueue(QueueScope.GLOBAL, userId))
             .thenReturn(5L); // 5번째 대기
 
         // when
@@ -52,25 +96,23 @@ class TokenServiceTest {
 
         // then
         assertThat(position).isEqualTo(5L);
-        verify(tokenRepository).findActiveTokenByUserId(userId);
-        verify(queueRedisRepository).addToWaitingQueue(userId);
+        verify(queueRedisRepository).addToWaitingQueue(QueueScope.GLOBAL, userId);
+        verifyNoInteractions(tokenRepository);
     }
 
     @Test
-    @DisplayName("대기열 진입 실패 - 이미 활성화된 토큰 존재 (RDB)")
-    void issueToken_fail_alreadyActiveInRdb() {
+    @DisplayName("대기열 진입 실패 - 이미 활성화된 상태 (Redis)")
+    void issueToken_fail_alreadyActive() {
         // given
         Long userId = 1L;
-        Token activeToken = Token.issueActive(userId, LocalDateTime.now().plusMinutes(10));
-        when(tokenRepository.findActiveTokenByUserId(userId))
-            .thenReturn(Optional.of(activeToken));
+        when(queueRedisRepository.addToWaitingQueue(QueueScope.GLOBAL, userId))
+            .thenThrow(new IllegalStateException("이미 활성화된 상태입니다."));
 
         // when & then
         assertThatThrownBy(() -> tokenService.issueToken(userId))
             .isInstanceOf(IllegalStateException.class)
-            .hasMessage("이미 활성화된 토큰이 존재합니다.");
-        verify(tokenRepository).findActiveTokenByUserId(userId);
-        verify(queueRedisRepository, never()).addToWaitingQueue(anyLong());
+            .hasMessage("이미 활성화된 상태입니다.");
+        verifyNoInteractions(tokenRepository);
     }
 
     @Test
@@ -78,9 +120,7 @@ class TokenServiceTest {
     void issueToken_fail_alreadyInQueue() {
         // given
         Long userId = 1L;
-        when(tokenRepository.findActiveTokenByUserId(userId))
-            .thenReturn(Optional.empty());
-        when(queueRedisRepository.addToWaitingQueue(userId))
+        when(queueRedisRepository.addToWaitingQueue(QueueScope.GLOBAL, userId))
             .thenThrow(new IllegalStateException("이미 대기열에 있습니다."));
 
         // when & then
@@ -94,7 +134,7 @@ class TokenServiceTest {
     void getQueuePosition_success() {
         // given
         Long userId = 1L;
-        when(queueRedisRepository.getWaitingPosition(userId))
+        when(queueRedisRepository.getWaitingPosition(QueueScope.GLOBAL, userId))
             .thenReturn(3L);
 
         // when
@@ -102,7 +142,7 @@ class TokenServiceTest {
 
         // then
         assertThat(position).isEqualTo(3L);
-        verify(queueRedisRepository).getWaitingPosition(userId);
+        verify(queueRedisRepository).getWaitingPosition(QueueScope.GLOBAL, userId);
     }
 
     @Test
@@ -110,7 +150,7 @@ class TokenServiceTest {
     void getQueuePosition_notInQueue() {
         // given
         Long userId = 1L;
-        when(queueRedisRepository.getWaitingPosition(userId))
+        when(queueRedisRepository.getWaitingPosition(QueueScope.GLOBAL, userId))
             .thenReturn(0L);
 
         // when
@@ -125,7 +165,8 @@ class TokenServiceTest {
     void getQueueStatus_active() {
         // given
         Long userId = 1L;
-        when(queueRedisRepository.isActiveUser(userId)).thenReturn(true);
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, userId))
+            .thenReturn(new QueueState(System.currentTimeMillis() + 600_000, 0, 10, 0));
 
         // when
         QueueStatusResponse response = tokenService.getQueueStatus(userId);
@@ -135,20 +176,153 @@ class TokenServiceTest {
         assertThat(response.position()).isZero();
     }
 
+    @Test
+    @DisplayName("대기열 상태 일괄 조회 - 유저별 활성/대기/미진입 상태 반환")
+    void getQueueStatuses() {
+        // given
+        long expireAt = System.currentTimeMillis() + 600_000;
+        when(queueRedisRepository.getQueueStates(QueueScope.GLOBAL, List.of(1L, 2L, 3L)))
+            .thenReturn(List.of(
+                new QueueState(expireAt, 0, 30, 0),
+                new QueueState(null, 7, 30, 0),
+                new QueueState(null, 0, 30, 0)));
+
+        // when
+        Map<Long, QueueStatusResponse> statuses =
+            tokenService.getQueueStatuses(QueueScope.GLOBAL, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(statuses.get(1L).status()).isEqualTo("ACTIVE");
+        assertThat(statuses.get(1L).expiresAt()).isEqualTo(expireAt);
+        assertThat(statuses.get(2L).status()).isEqualTo("WAITING");
+        assertThat(statuses.get(2L).position()).isEqualTo(7);
+        assertThat(statuses.get(3L).status()).isEqualTo("NOT_IN_QUEUE");
+    }
+
     @Test
     @DisplayName("대기열 상태 조회 - 대기 중")
     void getQueueStatus_waiting() {
         // given
         Long userId = 1L;
-        when(queueRedisRepository.isActiveUser(userId)).thenReturn(false);
-        when(queueRedisRepository.getWaitingPosition(userId)).thenReturn(5L);
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, userId))
+            .thenReturn(new QueueState(null, 50, 120, 0));
 
         // when
         QueueStatusResponse response = tokenService.getQueueStatus(userId);
 
+        // then - 기본 초당 입장 인원 20명 기준 50번째는 3초
+        assertThat(response.status()).isEqualTo("WAITING");
+        assertThat(response.position()).isEqualTo(50L);
+        assertThat(response.totalWaiting()).isEqualTo(120L);
+        assertThat(response.etaSeconds()).isEqualTo(3L);
+        verify(queueRedisRepository, times(1)).getQueueState(QueueScope.GLOBAL, userId);
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 최근 입장 속도로 예상 대기 시간을 계산하고 뒤쪽 유저는 조회 간격을 늘린다")
+    void getQueueStatus_etaFromObservedRate() {
+        // given - 최근 초당 10명 입장
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 1L))
+            .thenReturn(new QueueState(null, 100_000, 100_000, 10.0));
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 2L))
+            .thenReturn(new QueueState(null, 5, 100_000, 10.0));
+
+        // when
+        QueueStatusResponse farBack = tokenService.getQueueStatus(1L);
+        QueueStatusResponse nearFront = tokenService.getQueueStatus(2L);
+
+        // then
+        assertThat(farBack.etaSeconds()).isEqualTo(10_000L);
+        assertThat(farBack.nextPollAfterMs()).isEqualTo(60_000L);
+        assertThat(nearFront.etaSeconds()).isEqualTo(1L);
+        assertThat(nearFront.nextPollAfterMs()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 입장 속도가 조금 흔들려도 예상 대기 시간/조회 간격은 바뀌지 않는다")
+    void getQueueStatus_etaStableUnderRateJitter() {
+        // given - 같은 순번, 초당 20명 → 20.5명
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 1L))
+            .thenReturn(new QueueState(null, 5_000, 10_000, 20.0))
+            .thenReturn(new QueueState(null, 5_000, 10_400, 20.5));
+
+        // when
+        QueueStatusResponse before = tokenService.getQueueStatus(1L);
+        QueueStatusResponse after = tokenService.getQueueStatus(1L);
+
+        // then - 250초 / 244초 모두 10초 단위로 올려 250초
+        assertThat(before.etaSeconds()).isEqualTo(250L);
+        assertThat(after.etaSeconds()).isEqualTo(250L);
+        assertThat(after.nextPollAfterMs()).isEqualTo(before.nextPollAfterMs());
+        assertThat(after.hasSameProgressAs(before)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 대기 중이면 하트비트를 남긴다")
+    void getQueueStatus_waiting_recordsHeartbeat() {
+        // given
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 1L))
+            .thenReturn(new QueueState(null, 3, 10, 0));
+
+        // when
+        tokenService.getQueueStatus(1L);
+
+        // then
+        verify(queueLivenessTracker).heartbeat(QueueScope.GLOBAL, 1L);
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 진입 시각으로 추정한 순번이 뒤쪽이면 대기열 소속만 확인한다")
+    void getQueueStatus_approximatePosition() {
+        // given
+        long entryScore = 1_700_000_000_000L;
+        when(queuePositionEstimator.estimate(QueueScope.GLOBAL, entryScore))
+            .thenReturn(new QueuePositionEstimator.Estimate(50_000, 200_000, 20.0));
+        when(queueRedisRepository.getWaitingScore(QueueScope.GLOBAL, 1L)).thenReturn(entryScore);
+
+        // when
+        QueueStatusResponse response = tokenService.getQueueStatus(QueueScope.GLOBAL, 1L, entryScore);
+
         // then
         assertThat(response.status()).isEqualTo("WAITING");
-        assertThat(response.position()).isEqualTo(5L);
+        assertThat(response.position()).isEqualTo(50_000L);
+        assertThat(response.etaSeconds()).isEqualTo(2_500L);
+        verify(queueRedisRepository, never()).getQueueState(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 대기열에 없는 유저는 진입 시각을 보내도 추정하지 않고 하트비트도 남기지 않는다")
+    void getQueueStatus_approximateNotMember() {
+        // given
+        long entryScore = 1_700_000_000_000L;
+        when(queuePositionEstimator.estimate(QueueScope.GLOBAL, entryScore))
+            .thenReturn(new QueuePositionEstimator.Estimate(50_000, 200_000, 20.0));
+        when(queueRedisRepository.getWaitingScore(QueueScope.GLOBAL, 1L)).thenReturn(null);
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 1L))
+            .thenReturn(new QueueState(null, 0, 200_000, 0));
+
+        // when
+        QueueStatusResponse response = tokenService.getQueueStatus(QueueScope.GLOBAL, 1L, entryScore);
+
+        // then
+        assertThat(response.status()).isNotEqualTo("WAITING");
+        verify(queueLivenessTracker, never()).heartbeat(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 순번을 추정할 수 없으면 정확한 상태 조회")
+    void getQueueStatus_approximateFallback() {
+        // given
+        long entryScore = 1_700_000_000_000L;
+        when(queuePositionEstimator.estimate(QueueScope.GLOBAL, entryScore)).thenReturn(null);
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, 1L))
+            .thenReturn(new QueueState(null, 3, 10, 0));
+
+        // when
+        QueueStatusResponse response = tokenService.getQueueStatus(QueueScope.GLOBAL, 1L, entryScore);
+
+        // then
+        assertThat(response.position()).isEqualTo(3L);
     }
 
     @Test
@@ -156,8 +330,8 @@ class TokenServiceTest {
     void getQueueStatus_notInQueue() {
         // given
         Long userId = 1L;
-        when(queueRedisRepository.isActiveUser(userId)).thenReturn(false);
-        when(queueRedisRepository.getWaitingPosition(userId)).thenReturn(0L);
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, userId))
+            .thenReturn(new QueueState(null, 0, 0, 0));
 
         // when
         QueueStatusResponse response = tokenService.getQueueStatus(userId);
@@ -167,44 +341,83 @@ class TokenServiceTest {
     }
 
     @Test
-    @DisplayName("토큰 활성화 성공 - Redis pop + RDB INSERT")
+    @DisplayName("토큰 활성화 성공 - Redis pop + RDB 일괄 INSERT")
     void activateWaitingTokens_success() {
         // given
-        when(queueRedisRepository.getActiveUserCount()).thenReturn(97L); // 3 slots
-        when(queueRedisRepository.popAndActivate(anyInt(), anyLong()))
+        when(queueRedisRepository.popAndActivate(eq(QueueScope.GLOBAL), anyInt(), anyDouble(), anyInt(), anyLong()))
             .thenReturn(List.of(1L, 2L, 3L));
-        when(tokenRepository.save(any(Token.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(tokenRepository.saveAll(anyList())).thenReturn(List.of());
 
         // when
         int count = tokenService.activateWaitingTokens();
 
         // then
         assertThat(count).isEqualTo(3);
-        verify(queueRedisRepository).popAndActivate(eq(3), anyLong());
-        verify(tokenRepository, times(3)).save(any(Token.class));
+        verify(tokenRepository).saveAll(argThat(tokens -> tokens.size() == 3
+            && tokens.stream().allMatch(token -> token.getStatus() == TokenStatus.ACTIVE)));
+        verify(tokenRepository, never()).save(any(Token.class));
+        verify(queueRedisRepository, never()).rollbackActivation(any(QueueScope.class), anyList());
+        verify(queueRedisRepository).recordAdmissions(QueueScope.GLOBAL, 3);
+        verify(queueLivenessTracker).markActivated(QueueScope.GLOBAL, List.of(1L, 2L, 3L));
     }
 
     @Test
-    @DisplayName("토큰 활성화 - 슬롯 없음")
-    void activateWaitingTokens_noSlots() {
+    @DisplayName("토큰 활성화 - 재진입/다른 범위 입장으로 남은 ACTIVE 토큰을 INSERT 전에 만료")
+    void activateWaitingTokens_expiresPreviousActiveTokensFirst() {
         // given
-        when(queueRedisRepository.getActiveUserCount()).thenReturn(100L);
+        QueueScope concert = QueueScope.ofConcert(1L);
+        when(queueRedisRepository.popAndActivate(eq(concert), anyInt(), anyDouble(), anyInt(), anyLong()))
+            .thenReturn(List.of(1L, 2L));
+        when(tokenRepository.saveAll(anyList())).thenReturn(List.of());
 
         // when
-        int count = tokenService.activateWaitingTokens();
+        tokenService.activateWaitingTokens(concert);
 
         // then
-        assertThat(count).isZero();
-        verify(queueRedisRepository, never()).popAndActivate(anyInt(), anyLong());
+        InOrder inOrder = inOrder(tokenRepository);
+        inOrder.verify(tokenRepository).expireActiveTokensByUserIds(List.of(1L, 2L));
+        inOrder.verify(tokenRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("토큰 활성화 - 설정된 수용 인원/입장 속도로 Redis에 위임")
+    void activateWaitingTokens_usesAdmissionProperties() {
+        // given
+        QueueAdmissionProperties properties = new QueueAdmissionProperties(50, 5.0, 2, 100L, 10, null);
+        tokenService = createTokenService(properties);
+        when(queueRedisRepository.popAndActivate(eq(QueueScope.GLOBAL), anyInt(), anyDouble(), anyInt(), anyLong()))
+            .thenReturn(List.of());
+
+        // when
+        tokenService.activateWaitingTokens();
+
+        // then
+        verify(queueRedisRepository).popAndActivate(eq(QueueScope.GLOBAL), eq(50), eq(5.0), eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("범위별 토큰 활성화 - 범위에 설정된 수용 인원/입장 속도 사용")
+    void activateWaitingTokens_usesScopeLimits() {
+        // given
+        QueueScope concert = QueueScope.ofConcert(1L);
+        QueueAdmissionProperties properties = new QueueAdmissionProperties(100, 20.0, 20, 200L, 10,
+            List.of(new QueueAdmissionProperties.ScopeLimits("concert:1", 300, 50.0, null, null)));
+        tokenService = createTokenService(properties);
+        when(queueRedisRepository.popAndActivate(eq(concert), anyInt(), anyDouble(), anyInt(), anyLong()))
+            .thenReturn(List.of());
+
+        // when
+        tokenService.activateWaitingTokens(concert);
+
+        // then
+        verify(queueRedisRepository).popAndActivate(eq(concert), eq(300), eq(50.0), eq(50), anyLong());
     }
 
     @Test
-    @DisplayName("토큰 활성화 - 대기자 없음")
+    @DisplayName("토큰 활성화 - 빈 슬롯 또는 대기자 없음")
     void activateWaitingTokens_noWaiting() {
         // given
-        when(queueRedisRepository.getActiveUserCount()).thenReturn(50L);
-        when(queueRedisRepository.popAndActivate(anyInt(), anyLong()))
+        when(queueRedisRepository.popAndActivate(eq(QueueScope.GLOBAL), anyInt(), anyDouble(), anyInt(), anyLong()))
             .thenReturn(List.of());
 
         // when
@@ -212,6 +425,7 @@ class TokenServiceTest {
 
         // then
         assertThat(count).isZero();
+        verify(tokenRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -219,38 +433,206 @@ class TokenServiceTest {
     void activateWaitingTokens_rollbackOnRdbFailure() {
         // given
         List<Long> activatedUsers = List.of(1L, 2L, 3L);
-        when(queueRedisRepository.getActiveUserCount()).thenReturn(97L);
-        when(queueRedisRepository.popAndActivate(anyInt(), anyLong()))
+        when(queueRedisRepository.popAndActivate(eq(QueueScope.GLOBAL), anyInt(), anyDouble(), anyInt(), anyLong()))
             .thenReturn(activatedUsers);
-        when(tokenRepository.save(any(Token.class)))
+        when(tokenRepository.saveAll(anyList()))
             .thenThrow(new RuntimeException("DB 저장 실패"));
 
         // when & then
         assertThatThrownBy(() -> tokenService.activateWaitingTokens())
             .isInstanceOf(RuntimeException.class);
-        verify(queueRedisRepository).rollbackActivation(activatedUsers);
+        verify(queueRedisRepository).rollbackActivation(QueueScope.GLOBAL, activatedUsers);
+    }
+
+    @Test
+    @DisplayName("토큰 활성화 일부 RDB 실패 시 실패한 유저만 Redis 롤백")
+    void activateWaitingTokens_partialRollback() {
+        // given
+        when(queueRedisRepository.popAndActivate(eq(QueueScope.GLOBAL), anyInt(), anyDouble(), anyInt(), anyLong()))
+            .thenReturn(List.of(1L, 2L, 3L));
+        when(tokenRepository.saveAll(anyList())).thenReturn(List.of(2L));
+
+        // when
+        int count = tokenService.activateWaitingTokens();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        verify(queueRedisRepository).rollbackActivation(QueueScope.GLOBAL, List.of(2L));
+        verify(queueMetrics).recordActivationWrite(eq(3), anyLong());
     }
 
     @Test
-    @DisplayName("만료된 활성 유저 정리")
+    @DisplayName("만료된 활성 유저 정리 - 청크마다 RDB UPDATE 1회")
     void expireExpiredTokens_success() {
         // given
         List<Long> expiredUserIds = List.of(1L, 2L);
-        Token token1 = Token.issueActive(1L, LocalDateTime.now().minusMinutes(1));
-        Token token2 = Token.issueActive(2L, LocalDateTime.now().minusMinutes(1));
-
-        when(queueRedisRepository.removeExpiredActiveUsers()).thenReturn(expiredUserIds);
-        when(tokenRepository.findActiveTokenByUserId(1L)).thenReturn(Optional.of(token1));
-        when(tokenRepository.findActiveTokenByUserId(2L)).thenReturn(Optional.of(token2));
-        when(tokenRepository.save(any(Token.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(queueRedisRepository.removeExpiredActiveUsers(eq(QueueScope.GLOBAL), anyInt()))
+            .thenReturn(expiredUserIds);
+        when(tokenRepository.expireActiveTokensByUserIds(expiredUserIds)).thenReturn(2);
 
         // when
         int count = tokenService.expireExpiredTokens();
 
         // then
         assertThat(count).isEqualTo(2);
-        verify(queueRedisRepository).removeExpiredActiveUsers();
-        verify(tokenRepository, times(2)).save(any(Token.class));
+        verify(tokenRepository).expireActiveTokensByUserIds(expiredUserIds);
+        verifyNoInteractions(tokenRepository);
+        verify(tokenRepository, never()).save(any(Token.class));
+    }
+
+    @Test
+    @DisplayName("대량 만료 - 빈 청크가 나올 때까지 청크 단위로 반복")
+    void expireExpiredTokens_chunked() {
+        // given - 첫 청크는 가득 참(500명), 두 번째 청크에서 종료
+        List<Long> fullChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+        when(queueRedisRepository.removeExpiredActiveUsers(eq(QueueScope.GLOBAL), anyInt()))
+            .thenReturn(fullChunk)
+            .thenReturn(List.of(501L));
+
+        // when
+        int count = tokenService.expireExpiredTokens();
+
+        // then
+        assertThat(count).isEqualTo(501);
+        verify(tokenRepository, times(2)).expireActiveTokensByUserIds(anyList());
+    }
+
+    @Test
+    @DisplayName("슬롯 반납 - RDB 토큰 만료 + 다음 대기자에게 즉시 인계")
+    void releaseSlot_handsOffToNextWaitingUser() {
+        // given
+        Long userId = 1L;
+        when(tokenRepository.expireActiveTokensByUserIds(List.of(userId))).thenReturn(1);
+        when(tokenRepository.save(any(Token.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(queueRedisRepository.releaseActiveUser(eq(QueueScope.GLOBAL), eq(userId), anyLong()))
+            .thenReturn(new SlotRelease(true, 480_000L, 7L));
+
+        // when
+        long reclaimed = tokenService.releaseSlot(userId);
+
+        // then
+        assertThat(reclaimed).isEqualTo(480_000L);
+        verify(tokenRepository).expireActiveTokensByUserIds(List.of(userId));
+        verify(tokenRepository).save(argThat(token ->
+            token.getUserId().equals(7L) && token.getStatus() == TokenStatus.ACTIVE));
+        verify(queueMetrics).recordSlotRelease(480_000L, true);
+    }
+
+    @Test
+    @DisplayName("슬롯 반납 - 인계 RDB 저장 실패 시 대기열로 복원")
+    void releaseSlot_rollbackHandoffOnRdbFailure() {
+        // given
+        Long userId = 1L;
+        when(tokenRepository.expireActiveTokensByUserIds(List.of(userId))).thenReturn(0);
+        when(queueRedisRepository.releaseActiveUser(eq(QueueScope.GLOBAL), eq(userId), anyLong()))
+            .thenReturn(new SlotRelease(true, 60_000L, 7L));
+        when(tokenRepository.save(any(Token.class))).thenThrow(new RuntimeException("DB 저장 실패"));
+
+        // when
+        tokenService.releaseSlot(userId);
+
+        // then
+        verify(queueRedisRepository).rollbackActivation(QueueScope.GLOBAL, List.of(7L));
+        verify(queueMetrics).recordSlotRelease(60_000L, false);
+    }
+
+    @Test
+    @DisplayName("슬롯 반납 - 후보 범위 중 활성 상태인 범위에서 반납")
+    void releaseSlot_findsScopeAmongCandidates() {
+        // given
+        Long userId = 1L;
+        QueueScope schedule = QueueScope.ofSchedule(10L);
+        when(tokenRepository.expireActiveTokensByUserIds(List.of(userId))).thenReturn(0);
+        when(queueRedisRepository.releaseActiveUser(eq(QueueScope.GLOBAL), eq(userId), anyLong()))
+            .thenReturn(SlotRelease.notActive());
+        when(queueRedisRepository.releaseActiveUser(eq(schedule), eq(userId), anyLong()))
+            .thenReturn(new SlotRelease(true, 30_000L, null));
+
+        // when
+        long reclaimed = tokenService.releaseSlot(List.of(QueueScope.GLOBAL, schedule), userId);
+
+        // then
+        assertThat(reclaimed).isEqualTo(30_000L);
+        verify(queueMetrics).recordSlotRelease(30_000L, false);
+    }
+
+    @Test
+    @DisplayName("대기열 이탈 - 대기 중인 유저는 대기열에서만 제거")
+    void leaveQueue_waitingUser() {
+        // given
+        when(queueRedisRepository.removeFromWaitingQueue(QueueScope.GLOBAL, 1L)).thenReturn(true);
+
+        // when
+        tokenService.leaveQueue(1L);
+
+        // then
+        verify(queueRedisRepository, never()).releaseActiveUser(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 이탈 - 여러 범위에서 입장해 활성 토큰이 여러 건이어도 모두 만료하고 슬롯 반납")
+    void leaveQueue_activeInMultipleScopes() {
+        // given
+        QueueScope concert = QueueScope.ofConcert(1L);
+        when(queueRedisRepository.removeFromWaitingQueue(concert, 1L)).thenReturn(false);
+        when(tokenRepository.expireActiveTokensByUserIds(List.of(1L))).thenReturn(2);
+        when(queueRedisRepository.releaseActiveUser(eq(concert), eq(1L), anyLong()))
+            .thenReturn(new SlotRelease(true, 60_000L, null));
+
+        // when
+        tokenService.leaveQueue(concert, 1L);
+
+        // then
+        verify(tokenRepository).expireActiveTokensByUserIds(List.of(1L));
+        verify(queueRedisRepository).releaseActiveUser(eq(concert), eq(1L), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 이탈 실패 - 어디에도 없는 유저")
+    void leaveQueue_fail_notInQueue() {
+        // given
+        when(queueRedisRepository.removeFromWaitingQueue(QueueScope.GLOBAL, 1L)).thenReturn(false);
+        when(tokenRepository.expireActiveTokensByUserIds(List.of(1L))).thenReturn(0);
+        when(queueRedisRepository.releaseActiveUser(eq(QueueScope.GLOBAL), eq(1L), anyLong())).thenReturn(SlotRelease.notActive());
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.leaveQueue(1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 활성 유저에게 서명 토큰 발급")
+    void getQueueStatus_activeWithSignedToken() {
+        // given
+        Long userId = 1L;
+        long expireAt = System.currentTimeMillis() + 600_000;
+        when(queueRedisRepository.getQueueState(QueueScope.GLOBAL, userId))
+            .thenReturn(new QueueState(expireAt, 0, 0, 0));
+        when(queueTokenIssuer.issue(QueueScope.GLOBAL, userId, expireAt)).thenReturn("v1.payload.signature");
+
+        // when
+        QueueStatusResponse response = tokenService.getQueueStatus(userId);
+
+        // then
+        assertThat(response.status()).isEqualTo("ACTIVE");
+        assertThat(response.token()).isEqualTo("v1.payload.signature");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 서명 토큰은 DB 조회 없이 검증")
+    void validateToken_signedToken_skipsDatabase() {
+        // given
+        String token = "v1.payload.signature";
+        when(queueTokenIssuer.isSignedToken(token)).thenReturn(true);
+        when(queueTokenIssuer.verify(token)).thenReturn(new QueueTokenClaims(1L, QueueScope.GLOBAL, Long.MAX_VALUE));
+
+        // when
+        tokenService.validateToken(token);
+
+        // then
+        verify(queueTokenIssuer).verify(token);
+        verify(tokenRepository, never()).findByTokenValue(any());
+        verify(queueLivenessTracker).confirmActive(QueueScope.GLOBAL, 1L);
     }
 
     @Test
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.token.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueuePositionSnapshot 도메인 단위 테스트
+ * - Spring 없이 순수 Java로 테스트
+ */
+class QueuePositionSnapshotTest {
+
+    // 0번째: 1000ms, 100번째: 2000ms, 200번째: 4000ms 진입
+    private final QueuePositionSnapshot snapshot = new QueuePositionSnapshot(0L, 201L, 10.0, List.of(
+        new QueuePositionSnapshot.Sample(1_000, 0),
+        new QueuePositionSnapshot.Sample(2_000, 100),
+        new QueuePositionSnapshot.Sample(4_000, 200)));
+
+    @Test
+    @DisplayName("샘플과 같은 진입 시각이면 샘플 순번을 그대로 사용한다")
+    void estimatePosition_exactSample() {
+        assertThat(snapshot.estimatePosition(1_000)).isEqualTo(1);
+        assertThat(snapshot.estimatePosition(2_000)).isEqualTo(101);
+        assertThat(snapshot.estimatePosition(4_000)).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("샘플 사이의 진입 시각은 선형 보간으로 추정한다")
+    void estimatePosition_interpolated() {
+        assertThat(snapshot.estimatePosition(1_500)).isEqualTo(51);
+        assertThat(snapshot.estimatePosition(3_000)).isEqualTo(151);
+    }
+
+    @Test
+    @DisplayName("맨 앞보다 먼저 진입했거나 스냅샷 이후 진입한 경우 추정하지 않는다")
+    void estimatePosition_outOfRange() {
+        assertThat(snapshot.estimatePosition(999)).isZero();
+        assertThat(snapshot.estimatePosition(4_001)).isZero();
+        assertThat(new QueuePositionSnapshot(0L, 0L, 0, List.of()).estimatePosition(1_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("생성 후 허용 시간이 지난 스냅샷은 오래된 것으로 본다")
+    void isStale() {
+        assertThat(snapshot.isStale(5_000, 5_000)).isFalse();
+        assertThat(snapshot.isStale(5_001, 5_000)).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.token.infrastructure.redis;
+
+import kr.hhplus.be.server.config.queue.QueueNearCacheProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ActiveUserNearCache 단위 테스트
+ * - Spring/Redis 없이 순수 Java로 테스트
+ */
+class ActiveUserNearCacheTest {
+
+    private final ActiveUserNearCache cache =
+            new ActiveUserNearCache(new QueueNearCacheProperties(true, 60_000L, 100));
+
+    @Test
+    @DisplayName("캐시된 활성 유저는 Redis를 다시 조회하지 않는다")
+    void hit() {
+        // given
+        long expireAt = System.currentTimeMillis() + 60_000L;
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> { loads.incrementAndGet(); return expireAt; });
+        Long cached = cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> { loads.incrementAndGet(); return null; });
+
+        // then
+        assertThat(cached).isEqualTo(expireAt);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("활성 큐 변경 메시지를 받으면 해당 유저만 다시 조회한다")
+    void invalidateByMessage() {
+        // given
+        QueueScope scope = QueueScope.ofConcert(1L);
+        long expireAt = System.currentTimeMillis() + 60_000L;
+        cache.getActiveExpireAt(scope, 1L, () -> null);
+        cache.getActiveExpireAt(scope, 2L, () -> null);
+
+        // when - 1번 유저 활성화 알림
+        String body = ActiveUserNearCache.message(scope, List.of(1L));
+        cache.onMessage(new DefaultMessage(QueueRedisRepository.ACTIVE_CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(cache.getActiveExpireAt(scope, 1L, () -> expireAt)).isEqualTo(expireAt);
+        assertThat(cache.getActiveExpireAt(scope, 2L, () -> expireAt)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 캐시 항목은 사용하지 않는다")
+    void expiredEntry() {
+        // given
+        long expired = System.currentTimeMillis() - 1;
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> expired);
+
+        // when
+        Long result = cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> null);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 조회 중 무효화되면 조회 결과를 캐시에 넣지 않는다")
+    void invalidatedDuringLoad() {
+        // given - 조회(만료 전 값) 도중 활성 큐 변경 알림 도착
+        long expireAt = System.currentTimeMillis() + 60_000L;
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> {
+            cache.invalidate(QueueScope.GLOBAL, List.of(1L));
+            return null;
+        });
+
+        // when
+        Long result = cache.getActiveExpireAt(QueueScope.GLOBAL, 1L, () -> expireAt);
+
+        // then - 오래된 NOT_ACTIVE 대신 다시 조회한 값 사용
+        assertThat(result).isEqualTo(expireAt);
+    }
+
+    @Test
+    @DisplayName("가득 차면 전체를 비우지 않고 오래 전에 적재된 항목부터 제거한다")
+    void evictOldestWhenFull() throws InterruptedException {
+        // given - 최대 100건
+        long expireAt = System.currentTimeMillis() + 60_000L;
+        for (long userId = 1; userId <= 100; userId++) {
+            cache.getActiveExpireAt(QueueScope.GLOBAL, userId, () -> expireAt);
+            if (userId == 50) {
+                Thread.sleep(2); // 앞 50건과 적재 시각 구분
+            }
+        }
+
+        // when
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 101L, () -> expireAt);
+
+        // then - 최근 적재 항목은 그대로 캐시에서 응답
+        AtomicInteger loads = new AtomicInteger();
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 100L, () -> { loads.incrementAndGet(); return expireAt; });
+        cache.getActiveExpireAt(QueueScope.GLOBAL, 101L, () -> { loads.incrementAndGet(); return expireAt; });
+        assertThat(loads).hasValue(0);
+    }
+}
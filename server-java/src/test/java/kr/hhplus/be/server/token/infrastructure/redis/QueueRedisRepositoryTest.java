@@ -1,5 +1,8 @@
 package kr.hhplus.be.server.token.infrastructure.redis;
 
+import kr.hhplus.be.server.config.queue.QueueLivenessProperties;
+import kr.hhplus.be.server.config.queue.QueueShardingProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -91,6 +94,28 @@ class QueueRedisRepositoryTest {
         assertThat(queueRedisRepository.getWaitingPosition(99L)).isEqualTo(0); // 없는 유저
     }
 
+    @Test
+    @DisplayName("상태 조회 한 번으로 활성 만료 시각/대기 순번/전체 대기 인원이 반환된다")
+    void getQueueState_singleRoundTrip() {
+        // given
+        long expireAt = System.currentTimeMillis() + 600_000;
+        redisTemplate.opsForZSet().add("queue:active", "9", expireAt);
+        queueRedisRepository.addToWaitingQueue(1L);
+        queueRedisRepository.addToWaitingQueue(2L);
+
+        // when
+        QueueRedisRepository.QueueState active = queueRedisRepository.getQueueState(QueueScope.GLOBAL, 9L);
+        QueueRedisRepository.QueueState waiting = queueRedisRepository.getQueueState(QueueScope.GLOBAL, 2L);
+        QueueRedisRepository.QueueState absent = queueRedisRepository.getQueueState(QueueScope.GLOBAL, 3L);
+
+        // then
+        assertThat(active.activeExpireAt()).isEqualTo(expireAt);
+        assertThat(waiting.activeExpireAt()).isNull();
+        assertThat(waiting.position()).isEqualTo(2);
+        assertThat(waiting.totalWaiting()).isEqualTo(2);
+        assertThat(absent.position()).isZero();
+    }
+
     @Test
     @DisplayName("대기열에서 활성 큐로 원자적 이동 (Lua 스크립트)")
     void popAndActivate_movesUsersAtomically() {
@@ -118,6 +143,45 @@ class QueueRedisRepositoryTest {
         assertThat(queueRedisRepository.isActiveUser(3L)).isFalse();
     }
 
+    @Test
+    @DisplayName("속도 제어 활성화 - 버킷 잔량(burst)만큼만 활성화된다")
+    void pacedPopAndActivate_limitedByBurst() {
+        // given
+        for (long userId = 1; userId <= 10; userId++) {
+            queueRedisRepository.addToWaitingQueue(userId);
+        }
+        long expireAt = System.currentTimeMillis() + 600_000;
+
+        // when - 수용 인원 100, 초당 1명, 버킷 3
+        List<Long> first = queueRedisRepository.popAndActivate(100, 1.0, 3, expireAt);
+        List<Long> second = queueRedisRepository.popAndActivate(100, 1.0, 3, expireAt);
+
+        // then - 첫 호출은 버킷만큼, 곧바로 이어진 호출은 보충량이 없어 활성화 없음
+        assertThat(first).containsExactly(1L, 2L, 3L);
+        assertThat(second).isEmpty();
+        assertThat(queueRedisRepository.getWaitingUserCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("속도 제어 활성화 - 빈 슬롯을 넘어서 활성화하지 않는다")
+    void pacedPopAndActivate_limitedByCapacity() {
+        // given
+        long expireAt = System.currentTimeMillis() + 600_000;
+        redisTemplate.opsForZSet().add("queue:active", "100", expireAt);
+        redisTemplate.opsForZSet().add("queue:active", "101", expireAt);
+        // 만료된 멤버는 슬롯을 차지하지 않음
+        redisTemplate.opsForZSet().add("queue:active", "102", System.currentTimeMillis() - 1000);
+        for (long userId = 1; userId <= 5; userId++) {
+            queueRedisRepository.addToWaitingQueue(userId);
+        }
+
+        // when - 수용 인원 3 (유효 활성 2명 → 빈 슬롯 1)
+        List<Long> activated = queueRedisRepository.popAndActivate(3, 100.0, 100, expireAt);
+
+        // then
+        assertThat(activated).containsExactly(1L);
+    }
+
     @Test
     @DisplayName("활성 유저 만료 확인")
     void isActiveUser_checksExpiration() {
@@ -179,6 +243,39 @@ class QueueRedisRepositoryTest {
         assertThat(queueRedisRepository.getWaitingPosition(3L)).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("슬롯 반납 시 활성 큐에서 제거되고 대기열 맨 앞 유저가 즉시 활성화된다")
+    void releaseActiveUser_handsOffSlot() {
+        // given
+        long expireAt = System.currentTimeMillis() + 600_000;
+        redisTemplate.opsForZSet().add("queue:active", "1", expireAt);
+        queueRedisRepository.addToWaitingQueue(2L);
+        queueRedisRepository.addToWaitingQueue(3L);
+
+        // when
+        QueueRedisRepository.SlotRelease release =
+            queueRedisRepository.releaseActiveUser(1L, System.currentTimeMillis() + 600_000);
+
+        // then
+        assertThat(release.released()).isTrue();
+        assertThat(release.reclaimedMillis()).isGreaterThan(500_000);
+        assertThat(release.handedOffUserId()).isEqualTo(2L);
+        assertThat(queueRedisRepository.isActiveUser(1L)).isFalse();
+        assertThat(queueRedisRepository.isActiveUser(2L)).isTrue();
+        assertThat(queueRedisRepository.getWaitingPosition(3L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("활성 유저가 아니면 슬롯 반납 없음")
+    void releaseActiveUser_notActive() {
+        // when
+        QueueRedisRepository.SlotRelease release =
+            queueRedisRepository.releaseActiveUser(99L, System.currentTimeMillis() + 600_000);
+
+        // then
+        assertThat(release.released()).isFalse();
+    }
+
     @Test
     @DisplayName("대기열/활성 유저 수 조회")
     void getQueueCounts() {
@@ -193,4 +290,137 @@ class QueueRedisRepositoryTest {
         assertThat(queueRedisRepository.getWaitingUserCount()).isEqualTo(2);
         assertThat(queueRedisRepository.getActiveUserCount()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("만료된 활성 유저는 limit만큼만 제거되고 나머지는 다음 호출에서 제거된다")
+    void removeExpiredActiveUsers_boundedByLimit() {
+        // given
+        long expiredTime = System.currentTimeMillis() - 1000;
+        for (int userId = 1; userId <= 5; userId++) {
+            redisTemplate.opsForZSet().add("queue:active", String.valueOf(userId), expiredTime + userId);
+        }
+
+        // when
+        List<Long> first = queueRedisRepository.removeExpiredActiveUsers(QueueScope.GLOBAL, 3);
+        List<Long> second = queueRedisRepository.removeExpiredActiveUsers(QueueScope.GLOBAL, 3);
+
+        // then
+        assertThat(first).containsExactly(1L, 2L, 3L);
+        assertThat(second).containsExactly(4L, 5L);
+        assertThat(queueRedisRepository.getActiveUserCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("콘서트별 대기열은 전체 대기열과 독립적으로 순번/활성화가 관리된다")
+    void scopedQueue_isolatedFromGlobal() {
+        // given
+        QueueScope concert = QueueScope.ofConcert(1L);
+        queueRedisRepository.addToWaitingQueue(1L);
+        queueRedisRepository.addToWaitingQueue(concert, 2L);
+        long position = queueRedisRepository.addToWaitingQueue(concert, 3L);
+
+        // when
+        List<Long> activated = queueRedisRepository.popAndActivate(
+            concert, 10, 100.0, 10, System.currentTimeMillis() + 600_000);
+
+        // then
+        assertThat(position).isEqualTo(2);
+        assertThat(activated).containsExactly(2L, 3L);
+        assertThat(queueRedisRepository.getWaitingUserCount()).isEqualTo(1);
+        assertThat(queueRedisRepository.isActiveUser(concert, 2L)).isTrue();
+        assertThat(queueRedisRepository.isActiveUser(2L)).isFalse();
+        assertThat(redisTemplate.hasKey("queue:{concert:1}:active")).isTrue();
+        assertThat(queueRedisRepository.getRegisteredScopes()).containsExactly(concert);
+    }
+
+    @Test
+    @DisplayName("한 유저가 여러 범위에 동시에 대기하고 범위마다 따로 입장하며 각 범위의 슬롯을 하나씩 차지한다")
+    void scopedQueue_allowsMembershipAcrossScopes() {
+        // given: 전체 대기열에서 이미 활성화된 유저
+        QueueScope concert = QueueScope.ofConcert(1L);
+        long expireAt = System.currentTimeMillis() + 600_000;
+        queueRedisRepository.addToWaitingQueue(1L);
+        queueRedisRepository.popAndActivate(QueueScope.GLOBAL, 10, 100.0, 10, expireAt);
+
+        // when: 콘서트 범위에도 진입 후 입장
+        long position = queueRedisRepository.addToWaitingQueue(concert, 1L);
+        List<Long> activated = queueRedisRepository.popAndActivate(concert, 10, 100.0, 10, expireAt);
+
+        // then: 같은 범위 안에서만 중복이 막힘
+        assertThat(position).isEqualTo(1);
+        assertThat(activated).containsExactly(1L);
+        assertThat(queueRedisRepository.isActiveUser(1L)).isTrue();
+        assertThat(queueRedisRepository.isActiveUser(concert, 1L)).isTrue();
+        assertThat(queueRedisRepository.getActiveUserCount()).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().zCard("queue:{concert:1}:active")).isEqualTo(1);
+        assertThatThrownBy(() -> queueRedisRepository.addToWaitingQueue(concert, 1L))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("샤딩 모드에서도 먼저 진입한 순서대로 활성화되고 순번은 샤드별 순번의 합이다")
+    void shardedQueue_keepsGlobalOrder() throws InterruptedException {
+        // given - 유저 ID 해시로 4개 샤드에 분산
+        QueueRedisRepository sharded = new QueueRedisRepository(redisTemplate, QueueShardingProperties.of(4));
+        for (long userId = 1; userId <= 6; userId++) {
+            sharded.addToWaitingQueue(userId);
+            Thread.sleep(2); // 진입 시각(score) 구분
+        }
+
+        // when
+        long positionBefore = sharded.getWaitingPosition(5L);
+        List<Long> activated = sharded.popAndActivate(3, 100.0, 100, System.currentTimeMillis() + 600_000);
+
+        // then
+        assertThat(positionBefore).isEqualTo(5);
+        assertThat(activated).containsExactly(1L, 2L, 3L);
+        assertThat(sharded.getWaitingUserCount()).isEqualTo(3);
+        assertThat(sharded.getWaitingPosition(4L)).isEqualTo(1);
+        assertThat(sharded.isActiveUser(1L)).isTrue();
+        assertThat(redisTemplate.hasKey("queue:{global#1}:waiting")).isTrue();
+    }
+
+    @Test
+    @DisplayName("샤딩 모드 상태 일괄 조회 - 활성/대기/미진입 유저의 상태를 단건 조회와 같게 반환한다")
+    void shardedQueue_getQueueStatesMatchesSingleLookups() throws InterruptedException {
+        // given
+        QueueRedisRepository sharded = new QueueRedisRepository(redisTemplate, QueueShardingProperties.of(4));
+        for (long userId = 1; userId <= 6; userId++) {
+            sharded.addToWaitingQueue(userId);
+            Thread.sleep(2);
+        }
+        sharded.popAndActivate(2, 100.0, 100, System.currentTimeMillis() + 600_000);
+
+        // when
+        List<QueueRedisRepository.QueueState> states =
+            sharded.getQueueStates(QueueScope.GLOBAL, List.of(1L, 3L, 6L, 99L));
+
+        // then
+        assertThat(states.get(0).activeExpireAt()).isNotNull();
+        assertThat(states).extracting(QueueRedisRepository.QueueState::position).containsExactly(0L, 1L, 4L, 0L);
+        assertThat(states.get(2).position()).isEqualTo(sharded.getWaitingPosition(6L));
+        assertThat(states).allSatisfy(state -> assertThat(state.totalWaiting()).isEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("하트비트가 끊긴 대기자는 활성화하지 않고 제거하며 빈 자리는 다음 대기자로 채운다")
+    void popAndActivate_skipsStaleWaiters() {
+        // given - 1번 유저는 2분 전 진입 후 상태 조회 없음 (타임아웃 1분)
+        QueueRedisRepository liveness = new QueueRedisRepository(redisTemplate, QueueShardingProperties.disabled(),
+                new QueueLivenessProperties(true, 60_000L, null, null));
+        long now = System.currentTimeMillis();
+        liveness.addToWaitingQueue(QueueScope.GLOBAL, 1L, now - 120_000);
+        liveness.addToWaitingQueue(QueueScope.GLOBAL, 2L, now - 110_000);
+        liveness.addToWaitingQueue(QueueScope.GLOBAL, 3L, now);
+        liveness.recordHeartbeats(QueueScope.GLOBAL, List.of(2L), now);
+
+        // when
+        List<Long> activated = liveness.popAndActivate(2, 100.0, 100, now + 600_000);
+
+        // then
+        assertThat(activated).containsExactly(2L, 3L);
+        assertThat(liveness.isInWaitingQueue(1L)).isFalse();
+        assertThat(liveness.isActiveUser(1L)).isFalse();
+        assertThat(redisTemplate.opsForZSet().zCard("queue:heartbeat")).isZero();
+    }
 }
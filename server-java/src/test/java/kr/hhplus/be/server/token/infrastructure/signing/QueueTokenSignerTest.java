@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.token.infrastructure.signing;
+
+import kr.hhplus.be.server.config.queue.QueueTokenProperties;
+import kr.hhplus.be.server.token.domain.QueueScope;
+import kr.hhplus.be.server.token.domain.QueueTokenClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueTokenSigner 단위 테스트
+ * - Spring 없이 순수 Java로 테스트
+ */
+class QueueTokenSignerTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+
+    private final QueueTokenSigner signer = new QueueTokenSigner(new QueueTokenProperties(true, SECRET, null));
+
+    @Test
+    @DisplayName("서명한 토큰은 같은 정보로 검증된다")
+    void signAndVerify() {
+        // given
+        QueueTokenClaims claims = new QueueTokenClaims(1L, QueueScope.ofConcert(3L), 1_700_000_000_000L);
+
+        // when
+        String token = signer.sign(claims);
+        Optional<QueueTokenClaims> verified = signer.verify(token);
+
+        // then
+        assertThat(signer.isSignedToken(token)).isTrue();
+        assertThat(verified).contains(claims);
+    }
+
+    @Test
+    @DisplayName("내용이 변조된 토큰은 검증에 실패한다")
+    void verify_fail_tampered() {
+        // given
+        String token = signer.sign(new QueueTokenClaims(1L, QueueScope.GLOBAL, 1_700_000_000_000L));
+        String forged = signer.sign(new QueueTokenClaims(2L, QueueScope.GLOBAL, 1_700_000_000_000L));
+        String tampered = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        // when & then
+        assertThat(signer.verify(tampered)).isEmpty();
+        assertThat(signer.verify("v1.not-base64!.abc")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명한 토큰은 검증에 실패한다")
+    void verify_fail_otherSecret() {
+        // given
+        QueueTokenSigner other = new QueueTokenSigner(
+            new QueueTokenProperties(true, "another-secret-another-secret-xx", null));
+        String token = other.sign(new QueueTokenClaims(1L, QueueScope.GLOBAL, 1_700_000_000_000L));
+
+        // when & then
+        assertThat(signer.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 토큰 비활성화 시 UUID 토큰으로 취급한다")
+    void disabled() {
+        // given
+        QueueTokenSigner disabled = new QueueTokenSigner(QueueTokenProperties.disabled());
+
+        // when & then
+        assertThat(disabled.isSignedToken("v1.payload.signature")).isFalse();
+        assertThat(disabled.verify("v1.payload.signature")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비밀키가 짧으면 설정 단계에서 실패한다")
+    void properties_fail_shortSecret() {
+        assertThatThrownBy(() -> new QueueTokenProperties(true, "short", null))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}